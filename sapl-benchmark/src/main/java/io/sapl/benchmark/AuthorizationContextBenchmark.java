@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+import io.sapl.api.interpreter.Val;
+import io.sapl.api.pdp.AuthorizationSubscription;
+import io.sapl.interpreter.context.AuthorizationContext;
+import reactor.util.context.Context;
+
+/**
+ * Measures binding the variables of a single decision in the
+ * {@link AuthorizationContext}: the PDP variables, the subscription and a few
+ * policy-local variables, followed by a lookup. Run with "-prof gc" to see the
+ * allocations per decision.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthorizationContextBenchmark {
+
+    private static final int NUMBER_OF_LOCAL_VARIABLES = 4;
+
+    @Param({ "0", "10", "100" })
+    public int numberOfPdpVariables;
+
+    private Map<String, Val> pdpVariables;
+
+    private AuthorizationSubscription subscription;
+
+    private String[] localVariableNames;
+
+    @Setup
+    public void setUp() {
+        pdpVariables = new HashMap<>();
+        for (var i = 0; i < numberOfPdpVariables; i++) {
+            pdpVariables.put("pdpVariable" + i, Val.of(i));
+        }
+
+        var json = JsonNodeFactory.instance;
+        subscription = AuthorizationSubscription.of(json.textNode("willi"), json.textNode("read"),
+                json.textNode("something"));
+
+        localVariableNames = new String[NUMBER_OF_LOCAL_VARIABLES];
+        for (var i = 0; i < NUMBER_OF_LOCAL_VARIABLES; i++) {
+            localVariableNames[i] = "localVariable" + i;
+        }
+    }
+
+    @Benchmark
+    public Val bindAndLookUpVariables() {
+        var ctx = AuthorizationContext.setVariables(Context.empty(), pdpVariables);
+        ctx = AuthorizationContext.setSubscriptionVariables(ctx, subscription);
+        for (var i = 0; i < NUMBER_OF_LOCAL_VARIABLES; i++) {
+            ctx = AuthorizationContext.setVariable(ctx, localVariableNames[i], Val.of(i));
+        }
+        return AuthorizationContext.getVariable(ctx, "subject");
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.Main;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Launches JMH with a machine-readable JSON result file named after the SAPL
+ * version, so that results of different versions can be compared. Explicit
+ * result options on the command line take precedence.
+ */
+@UtilityClass
+public class BenchmarkRunner {
+
+    private static final String RESULT_FORMAT = "-rf";
+    private static final String RESULT_FILE   = "-rff";
+
+    public static void main(String[] args) throws IOException {
+        var arguments = new ArrayList<>(List.of(args));
+        if (!arguments.contains(RESULT_FORMAT)) {
+            arguments.addAll(List.of(RESULT_FORMAT, "json"));
+        }
+        if (!arguments.contains(RESULT_FILE)) {
+            arguments.addAll(List.of(RESULT_FILE, "sapl-benchmark-" + version() + ".json"));
+        }
+        Main.main(arguments.toArray(String[]::new));
+    }
+
+    private static String version() {
+        var version = BenchmarkRunner.class.getPackage().getImplementationVersion();
+        return version == null ? "unknown" : version;
+    }
+
+}
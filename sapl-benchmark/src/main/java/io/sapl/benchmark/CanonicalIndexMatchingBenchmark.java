@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+import io.sapl.api.pdp.AuthorizationSubscription;
+import io.sapl.grammar.sapl.SAPL;
+import io.sapl.interpreter.DefaultSAPLInterpreter;
+import io.sapl.interpreter.InitializationException;
+import io.sapl.interpreter.context.AuthorizationContext;
+import io.sapl.interpreter.functions.AnnotationFunctionContext;
+import io.sapl.interpreter.pip.AnnotationAttributeContext;
+import io.sapl.prp.PolicyRetrievalResult;
+import io.sapl.prp.index.canonical.CanonicalIndexAlgorithm;
+import io.sapl.prp.index.canonical.CanonicalIndexDataContainer;
+import io.sapl.prp.index.canonical.CanonicalIndexDataCreationStrategy;
+import io.sapl.prp.index.canonical.DisjunctiveFormula;
+import io.sapl.prp.index.canonical.TreeWalker;
+import reactor.util.context.Context;
+
+/**
+ * Compares the synchronous fast path of the canonical index matching with the
+ * purely reactive matching algorithm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CanonicalIndexMatchingBenchmark {
+
+    private static final String POLICY_TEMPLATE = """
+            policy "policy_%1$d"
+            permit subject.role == "role_%2$d" & action.verb == "%3$s" & resource.type == "type_%1$d"
+            """;
+
+    private static final String[] VERBS = { "read", "write", "delete" };
+
+    @Param({ "100", "1000", "4000" })
+    public int numberOfPolicies;
+
+    private CanonicalIndexDataContainer dataContainer;
+
+    private Context subscriptionContext;
+
+    @Setup
+    public void setUp() throws InitializationException {
+        var interpreter = new DefaultSAPLInterpreter();
+        var documents   = new HashMap<String, SAPL>();
+        var targets     = new HashMap<String, DisjunctiveFormula>();
+        for (var i = 0; i < numberOfPolicies; i++) {
+            var name     = "policy_" + i;
+            var document = interpreter.parse(String.format(POLICY_TEMPLATE, i, i % 50, VERBS[i % VERBS.length]));
+            documents.put(name, document);
+            targets.put(name, TreeWalker.walk(document.getImplicitTargetExpression(), Map.of()));
+        }
+        dataContainer = new CanonicalIndexDataCreationStrategy().constructNew(documents, targets);
+
+        var json         = JsonNodeFactory.instance;
+        var subscription = AuthorizationSubscription.of(json.objectNode().put("role", "role_7"),
+                json.objectNode().put("verb", "read"), json.objectNode().put("type", "type_57"));
+
+        var ctx = Context.empty();
+        ctx = AuthorizationContext.setAttributeContext(ctx, new AnnotationAttributeContext());
+        ctx = AuthorizationContext.setFunctionContext(ctx, new AnnotationFunctionContext());
+        ctx = AuthorizationContext.setVariables(ctx, Map.of());
+        ctx = AuthorizationContext.setSubscriptionVariables(ctx, subscription);
+
+        subscriptionContext = ctx;
+    }
+
+    @Benchmark
+    public PolicyRetrievalResult synchronousMatch() {
+        return CanonicalIndexAlgorithm.match(dataContainer).contextWrite(subscriptionContext).block();
+    }
+
+    @Benchmark
+    public PolicyRetrievalResult reactiveMatch() {
+        return CanonicalIndexAlgorithm.matchCollectorNewest(dataContainer).contextWrite(subscriptionContext).block();
+    }
+
+}
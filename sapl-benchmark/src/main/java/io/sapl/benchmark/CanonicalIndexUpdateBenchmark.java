@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.sapl.interpreter.DefaultSAPLInterpreter;
+import io.sapl.interpreter.functions.AnnotationFunctionContext;
+import io.sapl.interpreter.pip.AnnotationAttributeContext;
+import io.sapl.prp.PrpUpdateEvent;
+import io.sapl.prp.PrpUpdateEvent.Type;
+import io.sapl.prp.PrpUpdateEvent.Update;
+import io.sapl.prp.index.ImmutableParsedDocumentIndex;
+import io.sapl.prp.index.canonical.CanonicalImmutableParsedDocumentIndex;
+
+/**
+ * Measures the time to derive a new canonical index after a single policy of
+ * the store has been replaced, compared to building the index of the whole
+ * store from scratch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CanonicalIndexUpdateBenchmark {
+
+    private static final String POLICY_TEMPLATE = """
+            policy "policy_%1$d"
+            permit subject.role == "role_%2$d" & action.verb == "%3$s" & resource.type == "type_%1$d"
+            """;
+
+    private static final String[] VERBS = { "read", "write", "delete" };
+
+    @Param({ "100", "1000", "4000" })
+    public int numberOfPolicies;
+
+    private ImmutableParsedDocumentIndex emptyIndex;
+
+    private ImmutableParsedDocumentIndex index;
+
+    private PrpUpdateEvent publishAll;
+
+    private PrpUpdateEvent replaceOne;
+
+    @Setup
+    public void setUp() {
+        var interpreter = new DefaultSAPLInterpreter();
+        var updates     = new ArrayList<Update>(numberOfPolicies);
+        for (var i = 0; i < numberOfPolicies; i++) {
+            var source = String.format(POLICY_TEMPLATE, i, i % 50, VERBS[i % VERBS.length]);
+            updates.add(new Update(Type.PUBLISH, interpreter.parse(source), source));
+        }
+        publishAll = new PrpUpdateEvent(updates);
+        emptyIndex = new CanonicalImmutableParsedDocumentIndex(new AnnotationAttributeContext(),
+                new AnnotationFunctionContext());
+        index      = emptyIndex.apply(publishAll);
+
+        var original    = updates.get(0);
+        var replacement = String.format(POLICY_TEMPLATE, 0, 51, "execute");
+        replaceOne = new PrpUpdateEvent(
+                List.of(new Update(Type.WITHDRAW, original.getDocument(), original.getRawDocument()),
+                        new Update(Type.PUBLISH, interpreter.parse(replacement), replacement)));
+    }
+
+    @Benchmark
+    public ImmutableParsedDocumentIndex replaceSinglePolicy() {
+        return index.apply(replaceOne);
+    }
+
+    @Benchmark
+    public ImmutableParsedDocumentIndex rebuildWholeStore() {
+        return emptyIndex.apply(publishAll);
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.sapl.api.pdp.AuthorizationDecision;
+import io.sapl.api.pdp.AuthorizationSubscription;
+import io.sapl.interpreter.InitializationException;
+import io.sapl.interpreter.combinators.PolicyDocumentCombiningAlgorithm;
+import io.sapl.pdp.EmbeddedPolicyDecisionPoint;
+
+/**
+ * Measures the decisions of the embedded PDP for each top-level combining
+ * algorithm. All policies of the store match the subscription, so the combining
+ * algorithm has to evaluate the bodies of all of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CombiningAlgorithmBenchmark {
+
+    @Param({ "DENY_OVERRIDES", "PERMIT_OVERRIDES", "ONLY_ONE_APPLICABLE", "DENY_UNLESS_PERMIT", "PERMIT_UNLESS_DENY" })
+    public PolicyDocumentCombiningAlgorithm algorithm;
+
+    @Param({ "10", "100" })
+    public int numberOfPolicies;
+
+    private EmbeddedPolicyDecisionPoint pdp;
+
+    private AuthorizationSubscription subscription;
+
+    @Setup
+    public void setUp() throws InitializationException {
+        pdp          = PolicyDecisionPointBenchmark
+                .embeddedPolicyDecisionPoint(PolicyGenerator.generatePolicies(numberOfPolicies, 1.0D, 0.0D), algorithm);
+        subscription = PolicyGenerator.matchingSubscription();
+    }
+
+    @TearDown
+    public void tearDown() {
+        pdp.destroy();
+    }
+
+    @Benchmark
+    public AuthorizationDecision decide() {
+        return pdp.decide(subscription).blockFirst();
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+import io.sapl.api.interpreter.Val;
+import io.sapl.api.pdp.AuthorizationSubscription;
+import io.sapl.functions.StandardFunctionLibrary;
+import io.sapl.functions.TemporalFunctionLibrary;
+import io.sapl.grammar.sapl.SAPL;
+import io.sapl.interpreter.DefaultSAPLInterpreter;
+import io.sapl.interpreter.DocumentEvaluationResult;
+import io.sapl.interpreter.InitializationException;
+import io.sapl.interpreter.context.AuthorizationContext;
+import io.sapl.interpreter.functions.AnnotationFunctionContext;
+import io.sapl.interpreter.pip.AnnotationAttributeContext;
+import reactor.util.context.Context;
+
+/**
+ * Measures calls of the functions standard.length and time.before, once
+ * directly through the function context and once as part of the evaluation of a
+ * policy body.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FunctionCallBenchmark {
+
+    private static final String POLICY = """
+            policy "functions"
+            permit
+            where
+              standard.length(resource.items) == 3;
+              time.before(resource.from, resource.to);
+            """;
+
+    private AnnotationFunctionContext functionContext;
+
+    private Val items;
+
+    private Val from;
+
+    private Val to;
+
+    private SAPL policy;
+
+    private Context subscriptionContext;
+
+    @Setup
+    public void setUp() throws InitializationException {
+        functionContext = new AnnotationFunctionContext();
+        functionContext.loadLibrary(StandardFunctionLibrary.class);
+        functionContext.loadLibrary(TemporalFunctionLibrary.class);
+
+        var json     = JsonNodeFactory.instance;
+        var resource = json.objectNode();
+        resource.set("items", json.arrayNode().add(1).add(2).add(3));
+        resource.put("from", "2024-01-01T00:00:00Z");
+        resource.put("to", "2024-12-31T00:00:00Z");
+        items = Val.of(resource.get("items"));
+        from  = Val.of(resource.get("from"));
+        to    = Val.of(resource.get("to"));
+
+        policy = new DefaultSAPLInterpreter().parse(POLICY);
+
+        var ctx = Context.empty();
+        ctx = AuthorizationContext.setAttributeContext(ctx, new AnnotationAttributeContext());
+        ctx = AuthorizationContext.setFunctionContext(ctx, functionContext);
+        ctx = AuthorizationContext.setVariables(ctx, Map.of());
+        ctx = AuthorizationContext.setSubscriptionVariables(ctx,
+                AuthorizationSubscription.of(json.textNode("willi"), json.textNode("read"), resource));
+
+        subscriptionContext = ctx;
+    }
+
+    @Benchmark
+    public Val length() {
+        return functionContext.evaluate("standard.length", items);
+    }
+
+    @Benchmark
+    public Val before() {
+        return functionContext.evaluate("time.before", from, to);
+    }
+
+    @Benchmark
+    public DocumentEvaluationResult policyWithFunctionCalls() {
+        return policy.evaluate().contextWrite(subscriptionContext).blockFirst();
+    }
+
+}
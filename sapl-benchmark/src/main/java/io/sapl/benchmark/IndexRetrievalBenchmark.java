@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.sapl.interpreter.DefaultSAPLInterpreter;
+import io.sapl.interpreter.InitializationException;
+import io.sapl.interpreter.context.AuthorizationContext;
+import io.sapl.interpreter.functions.AnnotationFunctionContext;
+import io.sapl.interpreter.pip.AnnotationAttributeContext;
+import io.sapl.prp.PolicyRetrievalResult;
+import io.sapl.prp.index.ImmutableParsedDocumentIndex;
+import io.sapl.prp.index.canonical.CanonicalImmutableParsedDocumentIndex;
+import io.sapl.prp.index.naive.NaiveImmutableParsedDocumentIndex;
+import io.sapl.prp.index.sharded.ShardedImmutableParsedDocumentIndex;
+import reactor.util.context.Context;
+
+/**
+ * Compares the policy retrieval of the canonical index with the naive index,
+ * which evaluates the target expression of every document, each with a single
+ * index and partitioned into parallel shards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IndexRetrievalBenchmark {
+
+    @Param({ "CANONICAL", "NAIVE" })
+    public String index;
+
+    @Param({ "100", "1000", "4000" })
+    public int numberOfPolicies;
+
+    @Param({ "0.01", "0.1" })
+    public double targetSelectivity;
+
+    @Param({ "1", "4" })
+    public int numberOfShards;
+
+    private ImmutableParsedDocumentIndex documentIndex;
+
+    private Context subscriptionContext;
+
+    @Setup
+    public void setUp() throws InitializationException {
+        var                                    attributeContext = new AnnotationAttributeContext();
+        var                                    functionContext  = new AnnotationFunctionContext();
+        Supplier<ImmutableParsedDocumentIndex> seedIndex        = () -> "NAIVE".equals(index)
+                ? new NaiveImmutableParsedDocumentIndex()
+                : new CanonicalImmutableParsedDocumentIndex(attributeContext, functionContext);
+        var                                    emptyIndex       = numberOfShards > 1
+                ? new ShardedImmutableParsedDocumentIndex(numberOfShards, seedIndex)
+                : seedIndex.get();
+        var                                    policies         = PolicyGenerator.generatePolicies(numberOfPolicies,
+                targetSelectivity, 0.0D);
+        documentIndex = emptyIndex.apply(PolicyGenerator.publishAll(new DefaultSAPLInterpreter(), policies));
+
+        var ctx = Context.empty();
+        ctx = AuthorizationContext.setAttributeContext(ctx, attributeContext);
+        ctx = AuthorizationContext.setFunctionContext(ctx, functionContext);
+        ctx = AuthorizationContext.setVariables(ctx, Map.of());
+        ctx = AuthorizationContext.setSubscriptionVariables(ctx, PolicyGenerator.matchingSubscription());
+
+        subscriptionContext = ctx;
+    }
+
+    @Benchmark
+    public PolicyRetrievalResult retrievePolicies() {
+        return documentIndex.retrievePolicies().contextWrite(subscriptionContext).block();
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.sapl.grammar.sapl.SAPL;
+import io.sapl.interpreter.DefaultSAPLInterpreter;
+
+/**
+ * Measures parsing a single policy and a policy set with the
+ * DefaultSAPLInterpreter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark {
+
+    private static final String POLICY_SET = """
+            import filter.blacken
+
+            set "patient records"
+            deny-overrides
+            for resource.type == "patient_record"
+            var department = "cardiology";
+
+            policy "doctors read records of their department"
+            permit action.verb == "read"
+            where
+              subject.role == "doctor";
+              subject.department == department;
+              subject.name.<benchmark.attribute> == "attribute value";
+            obligation { "type" : "log_access", "patient" : resource.patientId }
+
+            policy "nurses read blackened records"
+            permit action.verb == "read"
+            where
+              subject.role == "nurse";
+            transform resource |- { @.diagnosis : blacken(1, 2) }
+
+            policy "nobody writes outside of office hours"
+            deny action.verb == "write"
+            where
+              time.hourOf(<time.now>) < 8 || time.hourOf(<time.now>) > 18;
+            """;
+
+    private DefaultSAPLInterpreter interpreter;
+
+    private String policy;
+
+    @Setup
+    public void setUp() {
+        interpreter = new DefaultSAPLInterpreter();
+        policy      = PolicyGenerator.generatePolicies(1, 1.0D, 1.0D).get(0);
+    }
+
+    @Benchmark
+    public SAPL parsePolicy() {
+        return interpreter.parse(policy);
+    }
+
+    @Benchmark
+    public SAPL parsePolicySet() {
+        return interpreter.parse(POLICY_SET);
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.sapl.api.interpreter.Val;
+import io.sapl.api.pdp.AuthorizationDecision;
+import io.sapl.api.pdp.AuthorizationSubscription;
+import io.sapl.api.pdp.MultiAuthorizationDecision;
+import io.sapl.api.pdp.MultiAuthorizationSubscription;
+import io.sapl.grammar.sapl.CombiningAlgorithm;
+import io.sapl.interpreter.DefaultSAPLInterpreter;
+import io.sapl.interpreter.InitializationException;
+import io.sapl.interpreter.combinators.CombiningAlgorithmFactory;
+import io.sapl.interpreter.combinators.PolicyDocumentCombiningAlgorithm;
+import io.sapl.interpreter.functions.AnnotationFunctionContext;
+import io.sapl.interpreter.pip.AnnotationAttributeContext;
+import io.sapl.pdp.EmbeddedPolicyDecisionPoint;
+import io.sapl.pdp.config.VariablesAndCombinatorSource;
+import io.sapl.pdp.config.fixed.FixedFunctionsAndAttributesPDPConfigurationProvider;
+import io.sapl.prp.GenericInMemoryIndexedPolicyRetrievalPoint;
+import io.sapl.prp.index.canonical.CanonicalImmutableParsedDocumentIndex;
+import reactor.core.publisher.Flux;
+
+/**
+ * Measures end-to-end decisions of the embedded PDP on a synthetic policy store
+ * indexed by the canonical index, for single subscriptions and for
+ * multi-subscriptions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PolicyDecisionPointBenchmark {
+
+    @Param({ "100", "1000" })
+    public int numberOfPolicies;
+
+    @Param({ "0.01", "0.1" })
+    public double targetSelectivity;
+
+    @Param({ "0.0", "0.5" })
+    public double attributeUsage;
+
+    @Param({ "10" })
+    public int numberOfSubscriptions;
+
+    private EmbeddedPolicyDecisionPoint pdp;
+
+    private AuthorizationSubscription subscription;
+
+    private MultiAuthorizationSubscription multiSubscription;
+
+    @Setup
+    public void setUp() throws InitializationException {
+        pdp               = embeddedPolicyDecisionPoint(
+                PolicyGenerator.generatePolicies(numberOfPolicies, targetSelectivity, attributeUsage),
+                PolicyDocumentCombiningAlgorithm.DENY_OVERRIDES);
+        subscription      = PolicyGenerator.matchingSubscription();
+        multiSubscription = PolicyGenerator.multiSubscription(numberOfSubscriptions);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pdp.destroy();
+    }
+
+    @Benchmark
+    public AuthorizationDecision decide() {
+        return pdp.decide(subscription).blockFirst();
+    }
+
+    @Benchmark
+    public MultiAuthorizationDecision decideAll() {
+        return pdp.decideAll(multiSubscription).blockFirst();
+    }
+
+    static EmbeddedPolicyDecisionPoint embeddedPolicyDecisionPoint(List<String> policies,
+            PolicyDocumentCombiningAlgorithm algorithm) throws InitializationException {
+        var attributeContext = new AnnotationAttributeContext(List::of,
+                () -> List.of(PolicyGenerator.BenchmarkPolicyInformationPoint.class));
+        var functionContext  = new AnnotationFunctionContext();
+        var combinator       = CombiningAlgorithmFactory.getCombiningAlgorithm(algorithm);
+        var variablesSource  = new VariablesAndCombinatorSource() {
+                                 @Override
+                                 public Flux<Optional<CombiningAlgorithm>> getCombiningAlgorithm() {
+                                     return Flux.just(Optional.of(combinator));
+                                 }
+
+                                 @Override
+                                 public Flux<Optional<Map<String, Val>>> getVariables() {
+                                     return Flux.just(Optional.of(Map.of()));
+                                 }
+                             };
+        var configuration    = new FixedFunctionsAndAttributesPDPConfigurationProvider(attributeContext,
+                functionContext, variablesSource, List.of(), List.of());
+        var prp              = new GenericInMemoryIndexedPolicyRetrievalPoint(
+                new CanonicalImmutableParsedDocumentIndex(attributeContext, functionContext),
+                PolicyGenerator.staticEventSource(new DefaultSAPLInterpreter(), policies));
+        return new EmbeddedPolicyDecisionPoint(configuration, prp);
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+import io.sapl.api.interpreter.Val;
+import io.sapl.api.pdp.AuthorizationSubscription;
+import io.sapl.api.pdp.MultiAuthorizationSubscription;
+import io.sapl.api.pip.Attribute;
+import io.sapl.api.pip.PolicyInformationPoint;
+import io.sapl.interpreter.SAPLInterpreter;
+import io.sapl.prp.PrpUpdateEvent;
+import io.sapl.prp.PrpUpdateEvent.Type;
+import io.sapl.prp.PrpUpdateEvent.Update;
+import io.sapl.prp.PrpUpdateEventSource;
+import lombok.experimental.UtilityClass;
+import reactor.core.publisher.Flux;
+
+/**
+ * Generates synthetic policy stores for the benchmarks.
+ * <p>
+ * The target selectivity is the fraction of the policies whose target matches
+ * the {@link #matchingSubscription()}. The attribute usage is the fraction of
+ * the policies whose body looks up an attribute of the
+ * {@link BenchmarkPolicyInformationPoint}. All other bodies only compare values
+ * of the subscription. The policies are distributed evenly, so equal parameters
+ * always generate the same store.
+ */
+@UtilityClass
+public class PolicyGenerator {
+
+    static final String MATCHING_ROLE = "benchmark";
+
+    private static final JsonNodeFactory JSON = JsonNodeFactory.instance;
+
+    private static final String POLICY_TEMPLATE = """
+            policy "policy_%d"
+            %s subject.role == "%s" & action.verb == "read"
+            where
+              %s;
+            """;
+
+    private static final String ATTRIBUTE_CONDITION = "subject.name.<benchmark.attribute> == \"attribute value\"";
+
+    private static final String LOCAL_CONDITION = "resource.size < 100";
+
+    /**
+     * Attributes of synthetic policies. Each attribute stream emits a single value
+     * and completes.
+     */
+    @UtilityClass
+    @PolicyInformationPoint(name = "benchmark")
+    public static class BenchmarkPolicyInformationPoint {
+
+        @Attribute(name = "attribute")
+        public static Flux<Val> attribute(Val leftHand) {
+            return Flux.just(Val.of("attribute value"));
+        }
+
+    }
+
+    /**
+     * @param numberOfPolicies  number of generated policies
+     * @param targetSelectivity fraction of policies matching the
+     *                          {@link #matchingSubscription()}
+     * @param attributeUsage    fraction of policies using an attribute in their
+     *                          body
+     * @return the source code of the policies
+     */
+    public static List<String> generatePolicies(int numberOfPolicies, double targetSelectivity, double attributeUsage) {
+        var policies = new ArrayList<String>(numberOfPolicies);
+        for (var i = 0; i < numberOfPolicies; i++) {
+            var entitlement = i % 4 == 3 ? "deny" : "permit";
+            var role        = isSelected(i, targetSelectivity) ? MATCHING_ROLE : "role_" + i;
+            var condition   = isSelected(i, attributeUsage) ? ATTRIBUTE_CONDITION : LOCAL_CONDITION;
+            policies.add(String.format(POLICY_TEMPLATE, i, entitlement, role, condition));
+        }
+        return policies;
+    }
+
+    /*
+     * Selects floor(n * fraction) out of the first n policies, spread evenly over
+     * the store.
+     */
+    private static boolean isSelected(int index, double fraction) {
+        return Math.floor((index + 1) * fraction) > Math.floor(index * fraction);
+    }
+
+    /**
+     * @param interpreter parser for the policies
+     * @param policies    source code of the policies
+     * @return an event publishing all policies
+     */
+    public static PrpUpdateEvent publishAll(SAPLInterpreter interpreter, List<String> policies) {
+        var updates = new ArrayList<Update>(policies.size());
+        for (var policy : policies) {
+            updates.add(new Update(Type.PUBLISH, interpreter.parse(policy), policy));
+        }
+        return new PrpUpdateEvent(updates);
+    }
+
+    /**
+     * @param interpreter parser for the policies
+     * @param policies    source code of the policies
+     * @return a source publishing all policies once
+     */
+    public static PrpUpdateEventSource staticEventSource(SAPLInterpreter interpreter, List<String> policies) {
+        var event = publishAll(interpreter, policies);
+        return new PrpUpdateEventSource() {
+            @Override
+            public Flux<PrpUpdateEvent> getUpdates() {
+                return Flux.just(event);
+            }
+
+            @Override
+            public void dispose() {
+                // NOOP
+            }
+        };
+    }
+
+    /**
+     * @return a subscription matching the targets of the selected policies
+     */
+    public static AuthorizationSubscription matchingSubscription() {
+        return subscription(MATCHING_ROLE);
+    }
+
+    /**
+     * @param numberOfSubscriptions number of subscriptions
+     * @return a multi-subscription in which every second subscription matches the
+     *         targets of the selected policies
+     */
+    public static MultiAuthorizationSubscription multiSubscription(int numberOfSubscriptions) {
+        var multiSubscription = new MultiAuthorizationSubscription();
+        for (var i = 0; i < numberOfSubscriptions; i++) {
+            var role = i % 2 == 0 ? MATCHING_ROLE : "role_" + i;
+            multiSubscription.addAuthorizationSubscription("subscription_" + i, subscription(role));
+        }
+        return multiSubscription;
+    }
+
+    private static AuthorizationSubscription subscription(String role) {
+        var subject = JSON.objectNode();
+        subject.put("name", "willi");
+        subject.put("role", role);
+        var action = JSON.objectNode();
+        action.put("verb", "read");
+        var resource = JSON.objectNode();
+        resource.put("size", 10);
+        return AuthorizationSubscription.of(subject, action, resource);
+    }
+
+}
@@ -93,6 +93,11 @@ public class Val implements Traced {
 
     private static final NumericAwareComparator NUMERIC_AWARE_COMPARATOR = new NumericAwareComparator();
 
+    /**
+     * Marker of untraced values. Never exposed.
+     */
+    private static final Trace NO_TRACE = new Trace(Val.class);
+
     private final JsonNode value;
     private final String   errorMessage;
     /**
@@ -143,7 +148,55 @@ private Val(JsonNode value) {
      * @return marks a value to be a secret.
      */
     public Val asSecret() {
-        return new Val(value, errorMessage, true);
+        return new Val(value, errorMessage, true, isUntraced() ? NO_TRACE : null);
+    }
+
+    /**
+     * Marks the value as untraced. The withTrace methods do not attach traces to
+     * untraced values, or to values derived from an untraced argument. Instead,
+     * they return untraced values. Thus, evaluating policies starting from untraced
+     * values does not allocate any traces.
+     *
+     * @return the value marked as untraced.
+     */
+    public Val asUntraced() {
+        if (isUntraced())
+            return this;
+        return new Val(value, errorMessage, secret, NO_TRACE);
+    }
+
+    /**
+     * @return true, if the value is marked as untraced.
+     */
+    public boolean isUntraced() {
+        return trace == NO_TRACE;
+    }
+
+    private boolean isUntraced(Iterable<Val> arguments) {
+        if (isUntraced())
+            return true;
+        for (var argument : arguments)
+            if (argument.isUntraced())
+                return true;
+        return false;
+    }
+
+    private boolean isUntraced(ExpressionArgument... arguments) {
+        if (isUntraced())
+            return true;
+        for (var argument : arguments)
+            if (argument.value().isUntraced())
+                return true;
+        return false;
+    }
+
+    private boolean isUntraced(Val... arguments) {
+        if (isUntraced())
+            return true;
+        for (var argument : arguments)
+            if (argument.isUntraced())
+                return true;
+        return false;
     }
 
     /**
@@ -161,6 +214,8 @@ private Val withTrace(Trace trace) {
      * @return the Val with attached trace
      */
     public Val withTrace(Class<?> operation) {
+        if (isUntraced())
+            return this;
         return withTrace(new Trace(operation));
     }
 
@@ -174,7 +229,7 @@ public Val withTrace(Class<?> operation) {
      * @return the Val with attached trace
      */
     public Val withTrace(Class<?> operation, boolean inheritsSecretStatusOfTrace, Val... arguments) {
-        var newVal = withTrace(new Trace(operation, arguments));
+        var newVal = isUntraced(arguments) ? asUntraced() : withTrace(new Trace(operation, arguments));
 
         if (!inheritsSecretStatusOfTrace)
             return newVal;
@@ -198,7 +253,7 @@ public Val withTrace(Class<?> operation, boolean inheritsSecretStatusOfTrace, Va
      * @return the Val with attached trace
      */
     public Val withTrace(Class<?> operation, boolean inheritsSecretStatusOfTrace, Map<String, Val> arguments) {
-        var newVal = withTrace(new Trace(operation, arguments));
+        var newVal = isUntraced(arguments.values()) ? asUntraced() : withTrace(new Trace(operation, arguments));
 
         if (!inheritsSecretStatusOfTrace)
             return newVal;
@@ -212,6 +267,46 @@ public Val withTrace(Class<?> operation, boolean inheritsSecretStatusOfTrace, Ma
         return newVal;
     }
 
+    /**
+     * Attaches a trace to the Val including one named argument.
+     *
+     * @param operation                   traced operation
+     * @param inheritsSecretStatusOfTrace if true, and the argument is a secret, the
+     *                                    new value also is a secret.
+     * @param name                        the parameter name of the argument
+     * @param argument                    the argument
+     * @return the Val with attached trace
+     */
+    public Val withTrace(Class<?> operation, boolean inheritsSecretStatusOfTrace, String name, Val argument) {
+        var newVal = isUntraced(argument) ? asUntraced()
+                : withTrace(new Trace(operation, new ExpressionArgument(name, argument)));
+        if (inheritsSecretStatusOfTrace && argument.isSecret())
+            return newVal.asSecret();
+        return newVal;
+    }
+
+    /**
+     * Attaches a trace to the Val including two named arguments.
+     *
+     * @param operation                   traced operation
+     * @param inheritsSecretStatusOfTrace if true, and an argument is a secret, the
+     *                                    new value also is a secret.
+     * @param name1                       the parameter name of the first argument
+     * @param argument1                   the first argument
+     * @param name2                       the parameter name of the second argument
+     * @param argument2                   the second argument
+     * @return the Val with attached trace
+     */
+    public Val withTrace(Class<?> operation, boolean inheritsSecretStatusOfTrace, String name1, Val argument1,
+            String name2, Val argument2) {
+        var newVal = isUntraced(argument1, argument2) ? asUntraced()
+                : withTrace(new Trace(operation, new ExpressionArgument(name1, argument1),
+                        new ExpressionArgument(name2, argument2)));
+        if (inheritsSecretStatusOfTrace && (argument1.isSecret() || argument2.isSecret()))
+            return newVal.asSecret();
+        return newVal;
+    }
+
     /**
      * Attaches a trace to the Val parent value.
      *
@@ -222,7 +317,8 @@ public Val withTrace(Class<?> operation, boolean inheritsSecretStatusOfTrace, Ma
      * @return the Val with attached trace
      */
     public Val withParentTrace(Class<?> operation, boolean inheritsSecretStatusOfTrace, Val parentValue) {
-        var newVal = withTrace(new Trace(operation, new ExpressionArgument(Trace.PARENT_VALUE, parentValue)));
+        var newVal = isUntraced(parentValue) ? asUntraced()
+                : withTrace(new Trace(operation, new ExpressionArgument(Trace.PARENT_VALUE, parentValue)));
         if (inheritsSecretStatusOfTrace && parentValue.isSecret()) {
             return newVal.asSecret();
         }
@@ -239,7 +335,7 @@ public Val withParentTrace(Class<?> operation, boolean inheritsSecretStatusOfTra
      * @return the Val with attached trace
      */
     public Val withTrace(Class<?> operation, boolean inheritsSecretStatusOfTrace, ExpressionArgument... arguments) {
-        var newVal = withTrace(new Trace(operation, arguments));
+        var newVal = isUntraced(arguments) ? asUntraced() : withTrace(new Trace(operation, arguments));
 
         if (!inheritsSecretStatusOfTrace)
             return newVal;
@@ -264,7 +360,8 @@ public Val withTrace(Class<?> operation, boolean inheritsSecretStatusOfTrace, Ex
      * @return the Val with attached trace
      */
     public Val withTrace(Val leftHandValue, Class<?> operation, boolean inheritsSecretStatusOfTrace, Val... arguments) {
-        var newVal = this.withTrace(new Trace(leftHandValue, operation, arguments));
+        var newVal = isUntraced(leftHandValue) || isUntraced(arguments) ? asUntraced()
+                : this.withTrace(new Trace(leftHandValue, operation, arguments));
         if (!inheritsSecretStatusOfTrace)
             return newVal;
 
@@ -1202,7 +1299,7 @@ else if (isError()) {
 
         var traceJson = JSON.objectNode();
         traceJson.set(Trace.VALUE, val);
-        if (trace != null) {
+        if (trace != null && !isUntraced()) {
             traceJson.set(Trace.TRACE_KEY, trace.getTrace());
         }
         return traceJson;
@@ -37,6 +37,17 @@ default Integer getPriority() {
         return 0;
     }
 
+    /**
+     * Interceptors inspecting the trace of decisions must return true. As long as
+     * no interceptor requires traces, the PDP skips their construction for
+     * decisions which are not explicitly requested as traced.
+     *
+     * @return true, if the interceptor inspects the trace of decisions
+     */
+    default boolean requiresTrace() {
+        return true;
+    }
+
     @Override
     default int compareTo(TracedDecisionInterceptor other) {
         return getPriority().compareTo(other.getPriority());
@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.api.pip;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares that the values of an attribute finder annotated with
+ * {@link Attribute} or {@link EnvironmentAttribute} may be cached.
+ * <p>
+ * Intended for attribute finders which do not stream, i.e., which look up a
+ * single value per invocation. The attribute context then remembers the latest
+ * value per combination of left-hand value and arguments and answers repeated
+ * invocations from the cache without calling the attribute finder, until the
+ * value is older than the time to live.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CachedAttribute {
+
+    /**
+     * @return milliseconds for which a cached value is returned without invoking
+     *         the attribute finder again.
+     */
+    long timeToLiveMillis();
+
+    /**
+     * @return maximum number of invocations for which values are cached.
+     */
+    long maximumSize() default 1000L;
+
+    /**
+     * @return milliseconds after the time to live for which the expired value is
+     *         still returned, while the attribute finder is invoked in the
+     *         background to refresh the cache. 0 disables stale values.
+     */
+    long staleWhileRevalidateMillis() default 0L;
+
+    /**
+     * @return true, if error values returned by the attribute finder are cached
+     *         like any other value. Otherwise, the attribute finder is invoked
+     *         again after an error.
+     */
+    boolean cacheErrors() default false;
+}
@@ -1023,4 +1023,30 @@ void filter() {
         sa.assertAll();
     }
 
+    @Test
+    void when_untraced_then_derivedValuesAreUntracedAndTraceHasNoDetails() {
+        var untraced = Val.of(1).asUntraced();
+        var derived  = Val.of(2).withTrace(getClass(), false, "left", untraced, "right", Val.of(3));
+
+        var sa = new SoftAssertions();
+        sa.assertThat(untraced.isUntraced()).isTrue();
+        sa.assertThat(untraced.asUntraced()).isSameAs(untraced);
+        sa.assertThat(untraced).isEqualTo(Val.of(1));
+        sa.assertThat(derived.isUntraced()).isTrue();
+        sa.assertThat(derived).isEqualTo(Val.of(2));
+        sa.assertThat(derived.getTrace().has(Trace.TRACE_KEY)).isFalse();
+        sa.assertThat(Val.of(2).withTrace(getClass(), false, "argument", Val.of(3)).isUntraced()).isFalse();
+        sa.assertAll();
+    }
+
+    @Test
+    void when_untracedSecret_then_secretAndUntracedAreInherited() {
+        var secret  = Val.of("not to be known").asUntraced().asSecret();
+        var derived = Val.of(1).withTrace(getClass(), true, Map.of("secret", secret));
+
+        assertThat(secret.isUntraced()).isTrue();
+        assertThat(derived.isUntraced()).isTrue();
+        assertThat(derived.isSecret()).isTrue();
+    }
+
 }
@@ -17,8 +17,6 @@
  */
 package io.sapl.grammar.sapl.impl;
 
-import java.util.Map;
-
 import io.sapl.api.interpreter.Trace;
 import io.sapl.api.interpreter.Val;
 import io.sapl.grammar.sapl.And;
@@ -45,12 +43,12 @@ public Flux<Val> evaluate() {
         var left = getLeft().evaluate().map(Val::requireBoolean);
         return left.switchMap(leftResult -> {
             if (leftResult.isError()) {
-                return Flux.just(leftResult.withTrace(And.class, false, Map.of(Trace.LEFT, leftResult)));
+                return Flux.just(leftResult.withTrace(And.class, false, Trace.LEFT, leftResult));
             }
             // Lazy evaluation of the right expression
             if (Boolean.TRUE.equals(leftResult.getBoolean())) {
                 return getRight().evaluate().map(Val::requireBoolean).map(rightResult -> rightResult
-                        .withTrace(And.class, false, Map.of(Trace.LEFT, leftResult, Trace.RIGHT, rightResult)));
+                        .withTrace(And.class, false, Trace.LEFT, leftResult, Trace.RIGHT, rightResult));
             }
             return Flux.just(Val.FALSE);
         });
@@ -21,13 +21,11 @@
 import static io.sapl.interpreter.context.AuthorizationContext.getImports;
 import static io.sapl.interpreter.context.AuthorizationContext.getVariables;
 
-import java.util.Map;
-
 import io.sapl.api.interpreter.Trace;
 import io.sapl.api.interpreter.Val;
 import io.sapl.grammar.sapl.AttributeFinderStep;
 import io.sapl.grammar.sapl.FilterStatement;
-import io.sapl.grammar.sapl.impl.util.FunctionUtil;
+import io.sapl.grammar.sapl.impl.util.ImportedName;
 import io.sapl.grammar.sapl.impl.util.TargetExpressionUtil;
 import lombok.NonNull;
 import reactor.core.publisher.Flux;
@@ -44,23 +42,25 @@ public class AttributeFinderStepImplCustom extends AttributeFinderStepImpl {
     private static final String UNDEFINED_VALUE_ERROR                     = "Undefined value handed over as left-hand parameter to policy information point";
     private static final String EXTERNAL_ATTRIBUTE_IN_TARGET_ERROR        = "Attribute resolution error. Attributes are not allowed in target.";
 
+    private final ImportedName importedName = new ImportedName(this::getIdSteps);
+
     @Override
     public Flux<Val> apply(@NonNull Val parentValue) {
 
         return Flux.deferContextual(ctxView -> {
-            var attributeName = FunctionUtil.resolveAbsoluteFunctionName(getIdSteps(), getImports(ctxView));
+            var attributeName = importedName.resolve(getImports(ctxView));
 
             if (parentValue.isError()) {
-                return Flux.just(parentValue.withTrace(AttributeFinderStep.class, false,
-                        Map.of(Trace.PARENT_VALUE, parentValue, Trace.ATTRIBUTE, Val.of(attributeName))));
+                return Flux.just(parentValue.withTrace(AttributeFinderStep.class, false, Trace.PARENT_VALUE,
+                        parentValue, Trace.ATTRIBUTE, Val.of(attributeName)));
             }
             if (TargetExpressionUtil.isInTargetExpression(this)) {
                 return Flux.just(Val.error(EXTERNAL_ATTRIBUTE_IN_TARGET_ERROR).withTrace(AttributeFinderStep.class,
-                        false, Map.of(Trace.PARENT_VALUE, parentValue, Trace.ATTRIBUTE, Val.of(attributeName))));
+                        false, Trace.PARENT_VALUE, parentValue, Trace.ATTRIBUTE, Val.of(attributeName)));
             }
             if (parentValue.isUndefined()) {
                 return Flux.just(Val.error(UNDEFINED_VALUE_ERROR).withTrace(AttributeFinderStep.class, false,
-                        Map.of(Trace.PARENT_VALUE, parentValue, Trace.ATTRIBUTE, Val.of(attributeName))));
+                        Trace.PARENT_VALUE, parentValue, Trace.ATTRIBUTE, Val.of(attributeName)));
             }
 
             var attributeContext = getAttributeContext(ctxView);
@@ -17,12 +17,10 @@
  */
 package io.sapl.grammar.sapl.impl;
 
-import java.util.Map;
-
 import io.sapl.api.interpreter.Trace;
 import io.sapl.api.interpreter.Val;
 import io.sapl.grammar.sapl.AttributeFinderStep;
-import io.sapl.grammar.sapl.impl.util.FunctionUtil;
+import io.sapl.grammar.sapl.impl.util.ImportedName;
 import io.sapl.grammar.sapl.impl.util.TargetExpressionUtil;
 import io.sapl.interpreter.context.AuthorizationContext;
 import reactor.core.publisher.Flux;
@@ -34,15 +32,16 @@ public class BasicEnvironmentHeadAttributeImplCustom extends BasicEnvironmentHea
 
     private static final String EXTERNAL_ATTRIBUTE_IN_TARGET_ERROR = "Attribute resolution error. Attribute '%s' is not allowed in target.";
 
+    private final ImportedName importedName = new ImportedName(this::getIdSteps);
+
     @Override
     public Flux<Val> evaluate() {
         return Flux.deferContextual(ctx -> {
-            var fullyQualifiedName = FunctionUtil.resolveAbsoluteFunctionName(idSteps,
-                    AuthorizationContext.getImports(ctx));
+            var fullyQualifiedName = importedName.resolve(AuthorizationContext.getImports(ctx));
 
             if (TargetExpressionUtil.isInTargetExpression(this))
-                return Flux.just(Val.error(EXTERNAL_ATTRIBUTE_IN_TARGET_ERROR, fullyQualifiedName).withTrace(
-                        AttributeFinderStep.class, false, Map.of(Trace.ATTRIBUTE, Val.of(fullyQualifiedName))));
+                return Flux.just(Val.error(EXTERNAL_ATTRIBUTE_IN_TARGET_ERROR, fullyQualifiedName)
+                        .withTrace(AttributeFinderStep.class, false, Trace.ATTRIBUTE, Val.of(fullyQualifiedName)));
 
             return AuthorizationContext.getAttributeContext(ctx).evaluateEnvironmentAttribute(fullyQualifiedName,
                     getArguments(), AuthorizationContext.getVariables(ctx)).next();
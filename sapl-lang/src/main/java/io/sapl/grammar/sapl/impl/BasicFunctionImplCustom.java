@@ -17,9 +17,17 @@
  */
 package io.sapl.grammar.sapl.impl;
 
+import java.util.Map;
+
 import io.sapl.api.interpreter.Val;
 import io.sapl.grammar.sapl.impl.util.FunctionUtil;
+import io.sapl.grammar.sapl.impl.util.ImportedName;
+import io.sapl.interpreter.context.AuthorizationContext;
+import io.sapl.interpreter.functions.FunctionContext;
+import io.sapl.interpreter.functions.FunctionInvoker;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
 
 /**
  * Implements the evaluation of functions.
@@ -30,11 +38,35 @@
  */
 public class BasicFunctionImplCustom extends BasicFunctionImpl {
 
+    private record LinkedFunction(FunctionContext functionContext, Map<String, String> imports,
+            FunctionInvoker invoker) {
+    }
+
+    // The function last linked by this call. The function context and the linked
+    // imports of the document rarely change, so neither the name nor the function
+    // are looked up again for most evaluations.
+    private volatile LinkedFunction linkedFunction;
+
+    private final ImportedName importedName = new ImportedName(this::getFsteps);
+
     @Override
     public Flux<Val> evaluate() {
         return FunctionUtil.combineArgumentFluxes(arguments)
-                .concatMap(parameters -> FunctionUtil.evaluateFunctionMono(fsteps, parameters))
+                .concatMap(parameters -> Mono.deferContextual(
+                        ctx -> Mono.just(link(ctx).invoke(AuthorizationContext.isTracingEnabled(ctx), parameters))))
                 .switchMap(v -> resolveStepsFiltersAndSubTemplates(steps).apply(v));
     }
 
+    private FunctionInvoker link(ContextView ctx) {
+        var functionContext = AuthorizationContext.functionContext(ctx);
+        var imports         = AuthorizationContext.getImports(ctx);
+        var linked          = linkedFunction;
+        if (linked == null || linked.functionContext() != functionContext || linked.imports() != imports) {
+            var functionName = importedName.resolve(imports);
+            linked         = new LinkedFunction(functionContext, imports, functionContext.link(functionName));
+            linkedFunction = linked;
+        }
+        return linked.invoker();
+    }
+
 }
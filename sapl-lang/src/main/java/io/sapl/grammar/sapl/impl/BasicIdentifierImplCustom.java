@@ -17,8 +17,6 @@
  */
 package io.sapl.grammar.sapl.impl;
 
-import java.util.Map;
-
 import io.sapl.api.interpreter.Trace;
 import io.sapl.api.interpreter.Val;
 import io.sapl.grammar.sapl.BasicIdentifier;
@@ -37,8 +35,8 @@ public Flux<Val> evaluate() {
         return Flux.deferContextual(ctx -> {
             var identifierFlux = Flux.just(AuthorizationContext.getVariable(ctx, getIdentifier()));
             return identifierFlux.switchMap(v -> resolveStepsFiltersAndSubTemplates(steps).apply(v))
-                    .map(val -> val.withTrace(BasicIdentifier.class, true,
-                            Map.of(Trace.IDENTIFIER, Val.of(getIdentifier()), Trace.VALUE, val)));
+                    .map(val -> val.withTrace(BasicIdentifier.class, true, Trace.IDENTIFIER, Val.of(getIdentifier()),
+                            Trace.VALUE, val));
         });
     }
 
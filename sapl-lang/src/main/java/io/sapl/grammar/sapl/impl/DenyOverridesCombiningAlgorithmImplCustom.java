@@ -29,6 +29,7 @@
 import com.fasterxml.jackson.databind.JsonNode;
 
 import io.sapl.api.pdp.AuthorizationDecision;
+import io.sapl.api.pdp.Decision;
 import io.sapl.grammar.sapl.PolicyElement;
 import io.sapl.grammar.sapl.impl.util.CombiningAlgorithmUtil;
 import io.sapl.interpreter.CombinedDecision;
@@ -60,8 +61,8 @@ public class DenyOverridesCombiningAlgorithmImplCustom extends DenyOverridesComb
 
     @Override
     public Flux<CombinedDecision> combinePolicies(List<PolicyElement> policies) {
-        return CombiningAlgorithmUtil.eagerlyCombinePolicyElements(policies, this::combinator, getName(),
-                AuthorizationDecision.NOT_APPLICABLE);
+        return CombiningAlgorithmUtil.combinePolicyElements(policies, this::combinator, getName(),
+                AuthorizationDecision.NOT_APPLICABLE, this::mayChangeDecision);
     }
 
     @Override
@@ -109,4 +110,13 @@ private CombinedDecision combinator(DocumentEvaluationResult[] policyDecisions)
 
     }
 
+    /*
+     * Once the decision is DENY, another policy can only add the obligations and
+     * advice of another DENY or a transformed resource.
+     */
+    private boolean mayChangeDecision(Decision decision, PolicyElement policyElement) {
+        return decision != DENY || CombiningAlgorithmUtil.mayCarryResource(policyElement)
+                || CombiningAlgorithmUtil.mayCarryConstraints(policyElement, DENY);
+    }
+
 }
@@ -27,6 +27,7 @@
 import com.fasterxml.jackson.databind.JsonNode;
 
 import io.sapl.api.pdp.AuthorizationDecision;
+import io.sapl.api.pdp.Decision;
 import io.sapl.grammar.sapl.PolicyElement;
 import io.sapl.grammar.sapl.impl.util.CombiningAlgorithmUtil;
 import io.sapl.interpreter.CombinedDecision;
@@ -50,8 +51,8 @@ public class DenyUnlessPermitCombiningAlgorithmImplCustom extends DenyUnlessPerm
 
     @Override
     public Flux<CombinedDecision> combinePolicies(List<PolicyElement> policies) {
-        return CombiningAlgorithmUtil.eagerlyCombinePolicyElements(policies, this::combinator, getName(),
-                AuthorizationDecision.DENY);
+        return CombiningAlgorithmUtil.combinePolicyElements(policies, this::combinator, getName(),
+                AuthorizationDecision.DENY, this::mayChangeDecision);
     }
 
     @Override
@@ -89,4 +90,13 @@ private CombinedDecision combinator(DocumentEvaluationResult[] policyDecisions)
         return CombinedDecision.of(finalDecision, getName(), decisions);
     }
 
+    /*
+     * Once the decision is PERMIT, another policy can only add the obligations and
+     * advice of another PERMIT or cause a transformation uncertainty.
+     */
+    private boolean mayChangeDecision(Decision decision, PolicyElement policyElement) {
+        return decision != PERMIT || CombiningAlgorithmUtil.mayCarryResource(policyElement)
+                || CombiningAlgorithmUtil.mayCarryConstraints(policyElement, PERMIT);
+    }
+
 }
@@ -19,8 +19,6 @@
 
 import static io.sapl.grammar.sapl.impl.util.OperatorUtil.booleanOperator;
 
-import java.util.Map;
-
 import io.sapl.api.interpreter.Trace;
 import io.sapl.api.interpreter.Val;
 import io.sapl.grammar.sapl.EagerAnd;
@@ -40,8 +38,8 @@ public Flux<Val> evaluate() {
     }
 
     private Val and(Val left, Val right) {
-        return Val.of(left.getBoolean() && right.getBoolean()).withTrace(EagerAnd.class, false,
-                Map.of(Trace.LEFT, left, Trace.RIGHT, right));
+        return Val.of(left.getBoolean() && right.getBoolean()).withTrace(EagerAnd.class, false, Trace.LEFT, left,
+                Trace.RIGHT, right);
     }
 
 }
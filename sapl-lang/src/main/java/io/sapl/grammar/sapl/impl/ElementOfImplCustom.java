@@ -19,8 +19,6 @@
 
 import static io.sapl.grammar.sapl.impl.util.OperatorUtil.operator;
 
-import java.util.Map;
-
 import com.fasterxml.jackson.databind.JsonNode;
 
 import io.sapl.api.interpreter.Trace;
@@ -43,8 +41,8 @@ public Flux<Val> evaluate() {
     }
 
     private Val tracedElementOf(Val needle, Val haystack) {
-        return elementOf(needle, haystack).withTrace(ElementOf.class, false,
-                Map.of(Trace.NEEDLE, needle, Trace.HAYSTACK, haystack));
+        return elementOf(needle, haystack).withTrace(ElementOf.class, false, Trace.NEEDLE, needle, Trace.HAYSTACK,
+                haystack);
     }
 
     private Val elementOf(Val needle, Val haystack) {
@@ -19,8 +19,6 @@
 
 import static io.sapl.grammar.sapl.impl.util.OperatorUtil.operator;
 
-import java.util.Map;
-
 import io.sapl.api.interpreter.Trace;
 import io.sapl.api.interpreter.Val;
 import io.sapl.grammar.sapl.Equals;
@@ -40,7 +38,7 @@ public Flux<Val> evaluate() {
     }
 
     private Val tracedEquals(Val left, Val right) {
-        return equals(left, right).withTrace(Equals.class, false, Map.of(Trace.LEFT, left, Trace.RIGHT, right));
+        return equals(left, right).withTrace(Equals.class, false, Trace.LEFT, left, Trace.RIGHT, right);
     }
 
     private Val equals(Val left, Val right) {
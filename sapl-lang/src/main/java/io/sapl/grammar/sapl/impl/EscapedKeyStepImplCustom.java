@@ -17,8 +17,6 @@
  */
 package io.sapl.grammar.sapl.impl;
 
-import java.util.Map;
-
 import io.sapl.api.interpreter.Trace;
 import io.sapl.api.interpreter.Val;
 import io.sapl.grammar.sapl.EscapedKeyStep;
@@ -37,7 +35,7 @@ public class EscapedKeyStepImplCustom extends EscapedKeyStepImpl {
     @Override
     public Flux<Val> apply(@NonNull Val parentValue) {
         return Flux.just(KeyStepImplCustom.applyToValue(parentValue, id).withTrace(EscapedKeyStep.class, true,
-                Map.of(Trace.PARENT_VALUE, parentValue, Trace.IDENTIFIER, Val.of(id))));
+                Trace.PARENT_VALUE, parentValue, Trace.IDENTIFIER, Val.of(id)));
     }
 
     @Override
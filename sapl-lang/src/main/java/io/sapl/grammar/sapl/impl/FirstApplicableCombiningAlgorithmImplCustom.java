@@ -25,6 +25,7 @@
 import io.sapl.grammar.sapl.PolicyElement;
 import io.sapl.interpreter.CombinedDecision;
 import io.sapl.interpreter.DocumentEvaluationResult;
+import io.sapl.interpreter.context.AuthorizationContext;
 import reactor.core.publisher.Flux;
 
 /**
@@ -57,7 +58,8 @@ public class FirstApplicableCombiningAlgorithmImplCustom extends FirstApplicable
 
     @Override
     public Flux<CombinedDecision> combinePolicies(List<PolicyElement> policies) {
-        return combine(0, policies).apply(CombinedDecision.of(AuthorizationDecision.NOT_APPLICABLE, getName()));
+        return Flux.deferContextual(ctx -> combine(0, policies, AuthorizationContext.isOneShot(ctx))
+                .apply(CombinedDecision.of(AuthorizationDecision.NOT_APPLICABLE, getName())));
     }
 
     @Override
@@ -65,19 +67,31 @@ public String getName() {
         return "FIRST_APPLICABLE";
     }
 
-    private Function<CombinedDecision, Flux<CombinedDecision>> combine(int policyId, List<PolicyElement> policies) {
+    /*
+     * In one-shot mode, only the first result of each policy is taken, so that the
+     * subscriptions of a not applicable policy are cancelled before the next policy
+     * is evaluated.
+     */
+    private Function<CombinedDecision, Flux<CombinedDecision>> combine(int policyId, List<PolicyElement> policies,
+            boolean oneShot) {
         if (policyId == policies.size())
             return Flux::just;
 
-        return combinedDecision -> evaluatePolicy(policies.get(policyId)).switchMap(documentEvaluationResult -> {
-            var authzDecision = documentEvaluationResult.getAuthorizationDecision();
-            if (authzDecision.getDecision() != Decision.NOT_APPLICABLE) // Found first applicable
-                return Flux.just(
-                        combinedDecision.withDecisionAndEvaluationResult(authzDecision, documentEvaluationResult));
+        return combinedDecision -> evaluatePolicy(policies.get(policyId), oneShot)
+                .switchMap(documentEvaluationResult -> {
+                    var authzDecision = documentEvaluationResult.getAuthorizationDecision();
+                    if (authzDecision.getDecision() != Decision.NOT_APPLICABLE) // Found first applicable
+                        return Flux.just(combinedDecision.withDecisionAndEvaluationResult(authzDecision,
+                                documentEvaluationResult));
 
-            return combine(policyId + 1, policies)
-                    .apply(combinedDecision.withEvaluationResult(documentEvaluationResult));
-        });
+                    return combine(policyId + 1, policies, oneShot)
+                            .apply(combinedDecision.withEvaluationResult(documentEvaluationResult));
+                });
+    }
+
+    private Flux<DocumentEvaluationResult> evaluatePolicy(PolicyElement policyElement, boolean oneShot) {
+        var results = evaluatePolicy(policyElement);
+        return oneShot ? results.take(1) : results;
     }
 
     private Flux<DocumentEvaluationResult> evaluatePolicy(PolicyElement policyElement) {
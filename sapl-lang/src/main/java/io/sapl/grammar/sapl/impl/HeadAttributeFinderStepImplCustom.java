@@ -19,13 +19,11 @@
 
 import static io.sapl.interpreter.context.AuthorizationContext.getImports;
 
-import java.util.Map;
-
 import io.sapl.api.interpreter.Trace;
 import io.sapl.api.interpreter.Val;
 import io.sapl.grammar.sapl.FilterStatement;
 import io.sapl.grammar.sapl.HeadAttributeFinderStep;
-import io.sapl.grammar.sapl.impl.util.FunctionUtil;
+import io.sapl.grammar.sapl.impl.util.ImportedName;
 import io.sapl.grammar.sapl.impl.util.TargetExpressionUtil;
 import io.sapl.interpreter.context.AuthorizationContext;
 import lombok.NonNull;
@@ -41,23 +39,25 @@ public class HeadAttributeFinderStepImplCustom extends HeadAttributeFinderStepIm
     private static final String UNDEFINED_VALUE_ERROR                     = "Undefined value handed over as parameter to policy information point";
     private static final String EXTERNAL_ATTRIBUTE_IN_TARGET_ERROR        = "Attribute resolution error. Attributes not allowed in target.";
 
+    private final ImportedName importedName = new ImportedName(this::getIdSteps);
+
     @Override
     public Flux<Val> apply(@NonNull Val parentValue) {
 
         return Flux.deferContextual(ctxView -> {
-            var attributeName = FunctionUtil.resolveAbsoluteFunctionName(getIdSteps(), getImports(ctxView));
+            var attributeName = importedName.resolve(getImports(ctxView));
 
             if (parentValue.isError()) {
-                return Flux.just(parentValue.withTrace(HeadAttributeFinderStep.class, false,
-                        Map.of(Trace.PARENT_VALUE, parentValue, Trace.ATTRIBUTE, Val.of(attributeName))));
+                return Flux.just(parentValue.withTrace(HeadAttributeFinderStep.class, false, Trace.PARENT_VALUE,
+                        parentValue, Trace.ATTRIBUTE, Val.of(attributeName)));
             }
             if (TargetExpressionUtil.isInTargetExpression(this)) {
                 return Flux.just(Val.error(EXTERNAL_ATTRIBUTE_IN_TARGET_ERROR).withTrace(HeadAttributeFinderStep.class,
-                        false, Map.of(Trace.PARENT_VALUE, parentValue, Trace.ATTRIBUTE, Val.of(attributeName))));
+                        false, Trace.PARENT_VALUE, parentValue, Trace.ATTRIBUTE, Val.of(attributeName)));
             }
             if (parentValue.isUndefined()) {
                 return Flux.just(Val.error(UNDEFINED_VALUE_ERROR).withTrace(HeadAttributeFinderStep.class, false,
-                        Map.of(Trace.PARENT_VALUE, parentValue, Trace.ATTRIBUTE, Val.of(attributeName))));
+                        Trace.PARENT_VALUE, parentValue, Trace.ATTRIBUTE, Val.of(attributeName)));
             }
             return AuthorizationContext.getAttributeContext(ctxView).evaluateAttribute(attributeName, parentValue,
                     getArguments(), AuthorizationContext.getVariables(ctxView)).take(1);
@@ -49,8 +49,8 @@ public class IndexStepImplCustom extends IndexStepImpl {
 
     @Override
     public Flux<Val> apply(@NonNull Val parentValue) {
-        return Flux.just(applyToValue(parentValue).withTrace(IndexStep.class, true,
-                Map.of(Trace.PARENT_VALUE, parentValue, Trace.INDEX, Val.of(index))));
+        return Flux.just(applyToValue(parentValue).withTrace(IndexStep.class, true, Trace.PARENT_VALUE, parentValue,
+                Trace.INDEX, Val.of(index)));
     }
 
     public Val applyToValue(@NonNull Val parentValue) {
@@ -83,15 +83,15 @@ public static Flux<Val> doApplyFilterStatement(BigDecimal index, Val parentValue
             FilterStatement statement) {
         if (!parentValue.isArray()) {
             // this means the element does not get selected does not get filtered
-            return Flux.just(parentValue.withTrace(IndexStep.class, true,
-                    Map.of(Trace.PARENT_VALUE, parentValue, Trace.INDEX, Val.of(index))));
+            return Flux.just(parentValue.withTrace(IndexStep.class, true, Trace.PARENT_VALUE, parentValue, Trace.INDEX,
+                    Val.of(index)));
         }
         var array = parentValue.getArrayNode();
         var idx   = normalizeIndex(index, array);
         if (idx < 0 || idx >= array.size()) {
             // this means the element does not get selected does not get filtered
-            return Flux.just(parentValue.withTrace(IndexStep.class, true,
-                    Map.of(Trace.PARENT_VALUE, parentValue, Trace.INDEX, Val.of(index))));
+            return Flux.just(parentValue.withTrace(IndexStep.class, true, Trace.PARENT_VALUE, parentValue, Trace.INDEX,
+                    Val.of(index)));
         }
         var elementFluxes = new ArrayList<Flux<Val>>(array.size());
         for (var i = 0; i < array.size(); i++) {
@@ -18,7 +18,6 @@
 package io.sapl.grammar.sapl.impl;
 
 import java.util.ArrayList;
-import java.util.Map;
 
 import io.sapl.api.interpreter.Trace;
 import io.sapl.api.interpreter.Val;
@@ -42,8 +41,8 @@ public class KeyStepImplCustom extends KeyStepImpl {
 
     @Override
     public Flux<Val> apply(@NonNull Val parentValue) {
-        return Flux.just(applyToValue(parentValue, id).withTrace(KeyStep.class, true,
-                Map.of(Trace.PARENT_VALUE, parentValue, Trace.IDENTIFIER, Val.of(id))));
+        return Flux.just(applyToValue(parentValue, id).withTrace(KeyStep.class, true, Trace.PARENT_VALUE, parentValue,
+                Trace.IDENTIFIER, Val.of(id)));
     }
 
     @Override
@@ -99,8 +98,8 @@ private static Flux<Val> applyFilterStatementToObject(String id, Val unfilteredV
         while (fields.hasNext()) {
             var field = fields.next();
             var key   = field.getKey();
-            var value = Val.of(field.getValue()).withTrace(KeyStep.class, true,
-                    Map.of(Trace.UNFILTERED_VALUE, unfilteredValue, Trace.KEY, Val.of(key)));
+            var value = Val.of(field.getValue()).withTrace(KeyStep.class, true, Trace.UNFILTERED_VALUE, unfilteredValue,
+                    Trace.KEY, Val.of(key));
             if (field.getKey().equals(id)) {
                 if (stepId == statement.getTarget().getSteps().size() - 1) {
                     // this was the final step. apply filter
@@ -127,15 +126,14 @@ private static Flux<Val> applyFilterStatementToArray(String id, Val unfilteredVa
             FilterStatement statement) {
         var array = unfilteredValue.getArrayNode();
         if (array.isEmpty()) {
-            return Flux.just(
-                    unfilteredValue.withTrace(KeyStep.class, true, Map.of(Trace.UNFILTERED_VALUE, unfilteredValue)));
+            return Flux.just(unfilteredValue.withTrace(KeyStep.class, true, Trace.UNFILTERED_VALUE, unfilteredValue));
         }
         var elementFluxes = new ArrayList<Flux<Val>>(array.size());
         var elements      = array.elements();
         var i             = 0;
         while (elements.hasNext()) {
-            var element = Val.of(elements.next()).withTrace(KeyStep.class, true,
-                    Map.of(Trace.UNFILTERED_VALUE, unfilteredValue, Trace.INDEX, Val.of(i++)));
+            var element = Val.of(elements.next()).withTrace(KeyStep.class, true, Trace.UNFILTERED_VALUE,
+                    unfilteredValue, Trace.INDEX, Val.of(i++));
             if (element.isObject()) {
                 // array element is an object. apply this step to the object.
                 elementFluxes.add(applyFilterStatementToObject(id, element, stepId, statement)
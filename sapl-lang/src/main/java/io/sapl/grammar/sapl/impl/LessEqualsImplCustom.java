@@ -19,8 +19,6 @@
 
 import static io.sapl.grammar.sapl.impl.util.OperatorUtil.arithmeticOperator;
 
-import java.util.Map;
-
 import io.sapl.api.interpreter.Trace;
 import io.sapl.api.interpreter.Val;
 import io.sapl.grammar.sapl.LessEquals;
@@ -41,7 +39,7 @@ public Flux<Val> evaluate() {
 
     private Val lessOrEqual(Val left, Val right) {
         return Val.of(left.decimalValue().compareTo(right.decimalValue()) <= 0).withTrace(LessEquals.class, false,
-                Map.of(Trace.LEFT, left, Trace.RIGHT, right));
+                Trace.LEFT, left, Trace.RIGHT, right);
     }
 
 }
@@ -19,8 +19,6 @@
 
 import static io.sapl.grammar.sapl.impl.util.OperatorUtil.arithmeticOperator;
 
-import java.util.Map;
-
 import io.sapl.api.interpreter.Trace;
 import io.sapl.api.interpreter.Val;
 import io.sapl.grammar.sapl.Less;
@@ -40,8 +38,8 @@ public Flux<Val> evaluate() {
     }
 
     private Val lessThan(Val left, Val right) {
-        return Val.of(left.decimalValue().compareTo(right.decimalValue()) < 0).withTrace(Less.class, false,
-                Map.of(Trace.LEFT, left, Trace.RIGHT, right));
+        return Val.of(left.decimalValue().compareTo(right.decimalValue()) < 0).withTrace(Less.class, false, Trace.LEFT,
+                left, Trace.RIGHT, right);
     }
 
 }
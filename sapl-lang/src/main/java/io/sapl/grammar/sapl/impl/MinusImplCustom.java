@@ -19,8 +19,6 @@
 
 import static io.sapl.grammar.sapl.impl.util.OperatorUtil.arithmeticOperator;
 
-import java.util.Map;
-
 import io.sapl.api.interpreter.Trace;
 import io.sapl.api.interpreter.Val;
 import io.sapl.grammar.sapl.Minus;
@@ -35,7 +33,7 @@ public Flux<Val> evaluate() {
 
     private Val subtract(Val minuend, Val subtrahend) {
         return Val.of(minuend.decimalValue().subtract(subtrahend.decimalValue())).withTrace(Minus.class, false,
-                Map.of(Trace.MINUEND, minuend, Trace.SUBTRAHEND, subtrahend));
+                Trace.MINUEND, minuend, Trace.SUBTRAHEND, subtrahend);
     }
 
 }
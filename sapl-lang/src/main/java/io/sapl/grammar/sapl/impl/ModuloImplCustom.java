@@ -20,7 +20,6 @@
 import static io.sapl.grammar.sapl.impl.util.OperatorUtil.arithmeticOperator;
 
 import java.math.BigDecimal;
-import java.util.Map;
 
 import io.sapl.api.interpreter.Trace;
 import io.sapl.api.interpreter.Val;
@@ -41,10 +40,10 @@ public Flux<Val> evaluate() {
 
     private Val divide(Val dividend, Val divisor) {
         if (divisor.decimalValue().compareTo(BigDecimal.ZERO) == 0)
-            return Val.error(DIVISION_BY_ZERO_ERROR).withTrace(Modulo.class, false,
-                    Map.of(Trace.DIVIDEND, dividend, Trace.DIVISOR, divisor));
+            return Val.error(DIVISION_BY_ZERO_ERROR).withTrace(Modulo.class, false, Trace.DIVIDEND, dividend,
+                    Trace.DIVISOR, divisor);
         return Val.of(dividend.decimalValue().remainder(divisor.decimalValue())).withTrace(Modulo.class, false,
-                Map.of(Trace.DIVIDEND, dividend, Trace.DIVISOR, divisor));
+                Trace.DIVIDEND, dividend, Trace.DIVISOR, divisor);
     }
 
 }
@@ -19,8 +19,6 @@
 
 import static io.sapl.grammar.sapl.impl.util.OperatorUtil.arithmeticOperator;
 
-import java.util.Map;
-
 import io.sapl.api.interpreter.Trace;
 import io.sapl.api.interpreter.Val;
 import io.sapl.grammar.sapl.More;
@@ -41,8 +39,8 @@ public Flux<Val> evaluate() {
     }
 
     private Val moreThan(Val left, Val right) {
-        return Val.of(left.decimalValue().compareTo(right.decimalValue()) > 0).withTrace(More.class, false,
-                Map.of(Trace.LEFT, left, Trace.RIGHT, right));
+        return Val.of(left.decimalValue().compareTo(right.decimalValue()) > 0).withTrace(More.class, false, Trace.LEFT,
+                left, Trace.RIGHT, right);
     }
 
 }
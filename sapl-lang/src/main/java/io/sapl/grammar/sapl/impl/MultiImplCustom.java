@@ -19,8 +19,6 @@
 
 import static io.sapl.grammar.sapl.impl.util.OperatorUtil.arithmeticOperator;
 
-import java.util.Map;
-
 import io.sapl.api.interpreter.Trace;
 import io.sapl.api.interpreter.Val;
 import io.sapl.grammar.sapl.Multi;
@@ -34,8 +32,8 @@ public Flux<Val> evaluate() {
     }
 
     private Val multiply(Val left, Val right) {
-        return Val.of(left.decimalValue().multiply(right.decimalValue())).withTrace(Multi.class, false,
-                Map.of(Trace.LEFT, left, Trace.RIGHT, right));
+        return Val.of(left.decimalValue().multiply(right.decimalValue())).withTrace(Multi.class, false, Trace.LEFT,
+                left, Trace.RIGHT, right);
     }
 
 }
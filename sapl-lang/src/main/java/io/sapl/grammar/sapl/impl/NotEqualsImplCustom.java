@@ -19,8 +19,6 @@
 
 import static io.sapl.grammar.sapl.impl.util.OperatorUtil.operator;
 
-import java.util.Map;
-
 import io.sapl.api.interpreter.Trace;
 import io.sapl.api.interpreter.Val;
 import io.sapl.grammar.sapl.NotEquals;
@@ -40,8 +38,7 @@ public Flux<Val> evaluate() {
     }
 
     private Val notEqual(Val left, Val right) {
-        return Val.notEqual(left, right).withTrace(NotEquals.class, false,
-                Map.of(Trace.LEFT, left, Trace.RIGHT, right));
+        return Val.notEqual(left, right).withTrace(NotEquals.class, false, Trace.LEFT, left, Trace.RIGHT, right);
 
     }
 
@@ -53,8 +53,8 @@ public class OnlyOneApplicableCombiningAlgorithmImplCustom extends OnlyOneApplic
 
     @Override
     public Flux<CombinedDecision> combinePolicies(List<PolicyElement> policies) {
-        return CombiningAlgorithmUtil.eagerlyCombinePolicyElements(policies, this::combinator, getName(),
-                AuthorizationDecision.NOT_APPLICABLE);
+        return CombiningAlgorithmUtil.combinePolicyElements(policies, this::combinator, getName(),
+                AuthorizationDecision.NOT_APPLICABLE, this::mayChangeDecision);
     }
 
     @Override
@@ -84,4 +84,11 @@ private CombinedDecision combinator(DocumentEvaluationResult[] evaluationResults
         return CombinedDecision.of(authzDecision, getName(), decisions);
     }
 
+    /*
+     * Once the decision is INDETERMINATE, no other policy can change it.
+     */
+    private boolean mayChangeDecision(Decision decision, PolicyElement policyElement) {
+        return decision != Decision.INDETERMINATE;
+    }
+
 }
@@ -17,8 +17,6 @@
  */
 package io.sapl.grammar.sapl.impl;
 
-import java.util.Map;
-
 import io.sapl.api.interpreter.Trace;
 import io.sapl.api.interpreter.Val;
 import io.sapl.grammar.sapl.Or;
@@ -49,9 +47,9 @@ public Flux<Val> evaluate() {
             // Lazy evaluation of the right expression
             if (!leftResult.getBoolean()) {
                 return getRight().evaluate().map(Val::requireBoolean).map(rightResult -> rightResult.withTrace(Or.class,
-                        false, Map.of(Trace.LEFT, leftResult, Trace.RIGHT, rightResult)));
+                        false, Trace.LEFT, leftResult, Trace.RIGHT, rightResult));
             }
-            return Flux.just(Val.TRUE.withTrace(Or.class, false, Map.of(Trace.LEFT, leftResult)));
+            return Flux.just(Val.TRUE.withTrace(Or.class, false, Trace.LEFT, leftResult));
         });
     }
 
@@ -29,6 +29,7 @@
 import com.fasterxml.jackson.databind.JsonNode;
 
 import io.sapl.api.pdp.AuthorizationDecision;
+import io.sapl.api.pdp.Decision;
 import io.sapl.grammar.sapl.PolicyElement;
 import io.sapl.grammar.sapl.impl.util.CombiningAlgorithmUtil;
 import io.sapl.interpreter.CombinedDecision;
@@ -62,8 +63,8 @@ public class PermitOverridesCombiningAlgorithmImplCustom extends PermitOverrides
 
     @Override
     public Flux<CombinedDecision> combinePolicies(List<PolicyElement> policies) {
-        return CombiningAlgorithmUtil.eagerlyCombinePolicyElements(policies, this::combinator, getName(),
-                AuthorizationDecision.NOT_APPLICABLE);
+        return CombiningAlgorithmUtil.combinePolicyElements(policies, this::combinator, getName(),
+                AuthorizationDecision.NOT_APPLICABLE, this::mayChangeDecision);
     }
 
     @Override
@@ -107,4 +108,13 @@ private CombinedDecision combinator(DocumentEvaluationResult[] policyDecisions)
         return CombinedDecision.of(finalDecision, getName(), decisions);
     }
 
+    /*
+     * Once the decision is PERMIT, another policy can only add the obligations and
+     * advice of another PERMIT or cause a transformation uncertainty.
+     */
+    private boolean mayChangeDecision(Decision decision, PolicyElement policyElement) {
+        return decision != PERMIT || CombiningAlgorithmUtil.mayCarryResource(policyElement)
+                || CombiningAlgorithmUtil.mayCarryConstraints(policyElement, PERMIT);
+    }
+
 }
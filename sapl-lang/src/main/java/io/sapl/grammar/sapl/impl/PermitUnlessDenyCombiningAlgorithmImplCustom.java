@@ -27,6 +27,7 @@
 import com.fasterxml.jackson.databind.JsonNode;
 
 import io.sapl.api.pdp.AuthorizationDecision;
+import io.sapl.api.pdp.Decision;
 import io.sapl.grammar.sapl.PolicyElement;
 import io.sapl.grammar.sapl.impl.util.CombiningAlgorithmUtil;
 import io.sapl.interpreter.CombinedDecision;
@@ -50,8 +51,8 @@ public class PermitUnlessDenyCombiningAlgorithmImplCustom extends PermitUnlessDe
 
     @Override
     public Flux<CombinedDecision> combinePolicies(List<PolicyElement> policies) {
-        return CombiningAlgorithmUtil.eagerlyCombinePolicyElements(policies, this::combinator, getName(),
-                AuthorizationDecision.PERMIT);
+        return CombiningAlgorithmUtil.combinePolicyElements(policies, this::combinator, getName(),
+                AuthorizationDecision.PERMIT, this::mayChangeDecision);
     }
 
     @Override
@@ -89,4 +90,13 @@ private CombinedDecision combinator(DocumentEvaluationResult[] policyDecisions)
         return CombinedDecision.of(finalDecision, getName(), decisions);
     }
 
+    /*
+     * Once the decision is DENY, another policy can only add the obligations and
+     * advice of another DENY or a transformed resource.
+     */
+    private boolean mayChangeDecision(Decision decision, PolicyElement policyElement) {
+        return decision != DENY || CombiningAlgorithmUtil.mayCarryResource(policyElement)
+                || CombiningAlgorithmUtil.mayCarryConstraints(policyElement, DENY);
+    }
+
 }
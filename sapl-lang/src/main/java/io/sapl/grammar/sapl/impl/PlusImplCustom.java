@@ -19,8 +19,6 @@
 
 import static io.sapl.grammar.sapl.impl.util.OperatorUtil.operator;
 
-import java.util.Map;
-
 import com.fasterxml.jackson.databind.node.TextNode;
 
 import io.sapl.api.interpreter.Trace;
@@ -40,11 +38,11 @@ public Flux<Val> evaluate() {
     private Val plus(Val left, Val right) {
         if (left.isNumber() && right.isNumber())
             return Val.of(left.get().decimalValue().add(right.get().decimalValue())).withTrace(Plus.class, false,
-                    Map.of(Trace.LEFT, left, Trace.RIGHT, right));
+                    Trace.LEFT, left, Trace.RIGHT, right);
 
         var lStr = left.orElse(UNDEFINED).asText();
         var rStr = right.orElse(UNDEFINED).asText();
-        return Val.of(lStr.concat(rStr)).withTrace(Plus.class, false, Map.of(Trace.LEFT, left, Trace.RIGHT, right));
+        return Val.of(lStr.concat(rStr)).withTrace(Plus.class, false, Trace.LEFT, left, Trace.RIGHT, right);
     }
 
 }
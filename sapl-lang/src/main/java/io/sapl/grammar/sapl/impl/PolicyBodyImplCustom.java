@@ -17,7 +17,6 @@
  */
 package io.sapl.grammar.sapl.impl;
 
-import java.util.Map;
 import java.util.function.Function;
 
 import io.sapl.api.interpreter.Trace;
@@ -48,8 +47,8 @@ public Flux<Val> evaluate() {
 
     protected Flux<Val> evaluateStatements(Val previousResult, int statementId) {
         if (previousResult.isError() || !previousResult.getBoolean() || statementId == statements.size())
-            return Flux.just(previousResult.withTrace(PolicyBody.class, false,
-                    Map.of(Trace.PREVIOUS_CONDITION_RESULT, previousResult)));
+            return Flux.just(
+                    previousResult.withTrace(PolicyBody.class, false, Trace.PREVIOUS_CONDITION_RESULT, previousResult));
 
         var statement = statements.get(statementId);
 
@@ -61,8 +60,8 @@ protected Flux<Val> evaluateStatements(Val previousResult, int statementId) {
     }
 
     private Flux<Val> evaluateValueStatement(Val previousResult, int statementId, ValueDefinition valueDefinition) {
-        var valueStream = valueDefinition.getEval().evaluate().map(val -> val.withTrace(PolicyBody.class, true,
-                Map.of(Trace.VARIABLE_NAME, Val.of(valueDefinition.getName()))));
+        var valueStream = valueDefinition.getEval().evaluate().map(
+                val -> val.withTrace(PolicyBody.class, true, Trace.VARIABLE_NAME, Val.of(valueDefinition.getName())));
         return valueStream.switchMap(value -> evaluateStatements(previousResult, statementId + 1)
                 .contextWrite(setVariable(valueDefinition.getName(), value)));
     }
@@ -81,7 +80,7 @@ private Val assertConditionResultIsBooleanOrError(Val conditionResult) {
             return conditionResult;
 
         return Val.error(STATEMENT_NOT_BOOLEAN_ERROR, conditionResult).withTrace(PolicyBody.class, false,
-                Map.of(Trace.PREVIOUS_CONDITION_RESULT, conditionResult));
+                Trace.PREVIOUS_CONDITION_RESULT, conditionResult);
     }
 
 }
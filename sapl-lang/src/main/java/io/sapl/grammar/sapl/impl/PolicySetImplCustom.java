@@ -35,6 +35,10 @@ public class PolicySetImplCustom extends PolicySetImpl {
 
     private static final String NAMES_NOT_UNIQUE_ERROR = "Inconsistent policy set. Names of policies in set are not unique.";
 
+    // The policies of a parsed set never change, so their names are checked once
+    // when the set is loaded, see checkPolicyNames.
+    private volatile Boolean policyNamesAreUnique;
+
     /**
      * Evaluates the body of the policy set within the given evaluation context and
      * returns a {@link Flux} of {@link DocumentEvaluationResult} objects.
@@ -76,7 +80,24 @@ public DocumentEvaluationResult importError(String errorMessage) {
         return PolicySetDecision.ofImportError(getSaplName(), errorMessage, this.algorithm.getName());
     }
 
+    /**
+     * Checks whether the names of the policies in the set are unique. Called when
+     * the set is loaded, sets created otherwise are checked on first evaluation.
+     */
+    public void checkPolicyNames() {
+        policyNamesAreUnique = checkPolicyNamesAreUnique();
+    }
+
     private boolean policyNamesAreUnique() {
+        var unique = policyNamesAreUnique;
+        if (unique == null) {
+            unique               = checkPolicyNamesAreUnique();
+            policyNamesAreUnique = unique;
+        }
+        return unique;
+    }
+
+    private boolean checkPolicyNamesAreUnique() {
         var policyNames = new HashSet<String>(policies.size(), 1.0F);
         for (var policy : policies)
             if (!policyNames.add(policy.getSaplName()))
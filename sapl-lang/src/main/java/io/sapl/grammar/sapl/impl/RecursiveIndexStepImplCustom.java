@@ -46,8 +46,8 @@ public class RecursiveIndexStepImplCustom extends RecursiveIndexStepImpl {
 
     @Override
     public Flux<Val> apply(@NonNull Val parentValue) {
-        return Flux.just(applyToValue(parentValue).withTrace(RecursiveIndexStep.class, true,
-                Map.of(Trace.PARENT_VALUE, parentValue, Trace.INDEX, Val.of(index.intValue()))));
+        return Flux.just(applyToValue(parentValue).withTrace(RecursiveIndexStep.class, true, Trace.PARENT_VALUE,
+                parentValue, Trace.INDEX, Val.of(index.intValue())));
     }
 
     public Val applyToValue(@NonNull Val parentValue) {
@@ -95,15 +95,15 @@ private static Flux<Val> doApplyFilterStatement(int index, Val parentValue, int
 
         if (!parentValue.isArray()) {
             // this means the element does not get selected does not get filtered
-            return Flux.just(parentValue.withTrace(RecursiveIndexStep.class, true,
-                    Map.of(Trace.PARENT_VALUE, parentValue, Trace.INDEX, Val.of(index))));
+            return Flux.just(parentValue.withTrace(RecursiveIndexStep.class, true, Trace.PARENT_VALUE, parentValue,
+                    Trace.INDEX, Val.of(index)));
         }
         var array         = parentValue.getArrayNode();
         var idx           = normalizeIndex(index, array.size());
         var elementFluxes = new ArrayList<Flux<Val>>(array.size());
         for (var i = 0; i < array.size(); i++) {
-            var element = Val.of(array.get(i)).withTrace(RecursiveIndexStep.class, true,
-                    Map.of(Trace.PARENT_VALUE, parentValue, Trace.INDEX, Val.of(index)));
+            var element = Val.of(array.get(i)).withTrace(RecursiveIndexStep.class, true, Trace.PARENT_VALUE,
+                    parentValue, Trace.INDEX, Val.of(index));
             if (i == idx) {
                 if (stepId == statement.getTarget().getSteps().size() - 1) {
                     // this was the final step. apply filter
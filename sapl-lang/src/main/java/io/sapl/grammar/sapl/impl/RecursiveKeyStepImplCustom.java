@@ -47,8 +47,8 @@ public class RecursiveKeyStepImplCustom extends RecursiveKeyStepImpl {
 
     @Override
     public Flux<Val> apply(@NonNull Val parentValue) {
-        return Flux.just(applyToValue(parentValue).withTrace(RecursiveKeyStep.class, true,
-                Map.of(Trace.PARENT_VALUE, parentValue, Trace.KEY, Val.of(id))));
+        return Flux.just(applyToValue(parentValue).withTrace(RecursiveKeyStep.class, true, Trace.PARENT_VALUE,
+                parentValue, Trace.KEY, Val.of(id)));
     }
 
     public Val applyToValue(@NonNull Val parentValue) {
@@ -96,8 +96,8 @@ private static Flux<Val> applyKeyStepFilterStatement(String id, Val unfilteredVa
         }
 
         // this means the element does not get selected does not get filtered
-        return Flux.just(unfilteredValue.withTrace(RecursiveKeyStep.class, true,
-                Map.of(Trace.UNFILTERED_VALUE, unfilteredValue, Trace.KEY, Val.of(id))));
+        return Flux.just(unfilteredValue.withTrace(RecursiveKeyStep.class, true, Trace.UNFILTERED_VALUE,
+                unfilteredValue, Trace.KEY, Val.of(id)));
     }
 
     private static Flux<Val> applyFilterStatementToObject(String id, Val unfilteredValue, int stepId,
@@ -142,8 +142,8 @@ private static Flux<Val> applyFilterStatementToArray(String id, Val unfilteredVa
         var array = unfilteredValue.getArrayNode();
 
         if (array.isEmpty()) {
-            return Flux.just(unfilteredValue.withTrace(RecursiveKeyStep.class, true,
-                    Map.of(Trace.UNFILTERED_VALUE, unfilteredValue, Trace.KEY, Val.of(id))));
+            return Flux.just(unfilteredValue.withTrace(RecursiveKeyStep.class, true, Trace.UNFILTERED_VALUE,
+                    unfilteredValue, Trace.KEY, Val.of(id)));
         }
         var elementFluxes = new ArrayList<Flux<Val>>(array.size());
         var elements      = array.elements();
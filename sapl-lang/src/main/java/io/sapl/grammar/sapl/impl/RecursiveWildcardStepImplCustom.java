@@ -17,8 +17,6 @@
  */
 package io.sapl.grammar.sapl.impl;
 
-import java.util.Map;
-
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 
@@ -43,8 +41,8 @@ public class RecursiveWildcardStepImplCustom extends RecursiveWildcardStepImpl {
 
     @Override
     public Flux<Val> apply(@NonNull Val parentValue) {
-        return Flux.just(applyToValue(parentValue).withTrace(RecursiveWildcardStep.class, true,
-                Map.of(Trace.PARENT_VALUE, parentValue)));
+        return Flux.just(applyToValue(parentValue).withTrace(RecursiveWildcardStep.class, true, Trace.PARENT_VALUE,
+                parentValue));
     }
 
     public Val applyToValue(@NonNull Val parentValue) {
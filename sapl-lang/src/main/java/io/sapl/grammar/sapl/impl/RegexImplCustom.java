@@ -17,13 +17,15 @@
  */
 package io.sapl.grammar.sapl.impl;
 
-import java.util.Map;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
+import io.sapl.api.interpreter.PolicyEvaluationException;
 import io.sapl.api.interpreter.Trace;
 import io.sapl.api.interpreter.Val;
 import io.sapl.grammar.sapl.Regex;
+import io.sapl.grammar.sapl.impl.util.RegexUtil;
+import io.sapl.interpreter.context.AuthorizationContext;
 import reactor.core.publisher.Flux;
 
 /**
@@ -36,14 +38,40 @@ public class RegexImplCustom extends RegexImpl {
 
     private static final String REGEX_SYNTAX_ERROR = "Syntax error in regular expression '%s'.";
 
+    // Pattern is null for an invalid regular expression.
+    private record CompiledRegex(String regex, Pattern pattern) {
+    }
+
+    // A string literal on the right is compiled once, when the document is
+    // parsed. Patterns computed during evaluation use the cache of RegexUtil.
+    private volatile CompiledRegex constantRegex;
+
+    /**
+     * Compiles the regular expression, if it is a string literal. Called when the
+     * document is parsed.
+     */
+    public void precompile() {
+        var regex = RegexUtil.constantText(getRight());
+        if (regex != null)
+            constantRegex = new CompiledRegex(regex, compileOrNull(regex, true));
+    }
+
+    Pattern constantPattern() {
+        var constant = constantRegex;
+        return constant == null ? null : constant.pattern();
+    }
+
     @Override
     public Flux<Val> evaluate() {
-        var leftFlux  = getLeft().evaluate();
-        var rightFlux = getRight().evaluate().map(Val::requireText);
-        return Flux.combineLatest(leftFlux, rightFlux, this::matchRegexp);
+        return Flux.deferContextual(ctx -> {
+            var limit     = AuthorizationContext.getRegexMatchingLimit(ctx);
+            var leftFlux  = getLeft().evaluate();
+            var rightFlux = getRight().evaluate().map(Val::requireText);
+            return Flux.combineLatest(leftFlux, rightFlux, (left, right) -> matchRegexp(left, right, limit));
+        });
     }
 
-    private Val matchRegexp(Val left, Val right) {
+    private Val matchRegexp(Val left, Val right, long limit) {
         if (left.isError()) {
             return left;
         }
@@ -51,14 +79,37 @@ private Val matchRegexp(Val left, Val right) {
             return right;
         }
         if (!left.isTextual()) {
-            return Val.FALSE.withTrace(Regex.class, false, Map.of(Trace.LEFT, left, Trace.RIGHT, right));
+            return Val.FALSE.withTrace(Regex.class, false, Trace.LEFT, left, Trace.RIGHT, right);
         }
+        var pattern = compile(right.getText());
+        if (pattern == null) {
+            return Val.error(REGEX_SYNTAX_ERROR, right).withTrace(Regex.class, false, Trace.LEFT, left, Trace.RIGHT,
+                    right);
+        }
+        try {
+            return Val.of(RegexUtil.matches(pattern, left.getText(), limit)).withTrace(Regex.class, false, Trace.LEFT,
+                    left, Trace.RIGHT, right);
+        } catch (PolicyEvaluationException e) {
+            return Val.error(e).withTrace(Regex.class, false, Trace.LEFT, left, Trace.RIGHT, right);
+        }
+    }
+
+    private Pattern compile(String regex) {
+        var constant = constantRegex;
+        if (constant != null && constant.regex().equals(regex))
+            return constant.pattern();
+        return compileOrNull(regex, false);
+    }
+
+    private static Pattern compileOrNull(String regex, boolean isConstant) {
         try {
-            return Val.of(Pattern.matches(right.getText(), left.getText())).withTrace(Regex.class, false,
-                    Map.of(Trace.LEFT, left, Trace.RIGHT, right));
+            // constant patterns stay with this operator and do not occupy the
+            // cache shared by dynamically computed patterns
+            if (isConstant)
+                return Pattern.compile(regex);
+            return RegexUtil.compile(regex);
         } catch (PatternSyntaxException e) {
-            return Val.error(REGEX_SYNTAX_ERROR, right).withTrace(Regex.class, false,
-                    Map.of(Trace.LEFT, left, Trace.RIGHT, right));
+            return null;
         }
     }
 
@@ -33,6 +33,7 @@
 import io.sapl.grammar.sapl.SaplFactory;
 import io.sapl.grammar.sapl.Schema;
 import io.sapl.grammar.sapl.impl.util.ImportsUtil;
+import io.sapl.grammar.sapl.impl.util.ImportsUtil.LinkedImports;
 import io.sapl.grammar.sapl.impl.util.MatchingUtil;
 import io.sapl.interpreter.DocumentEvaluationResult;
 import reactor.core.publisher.Flux;
@@ -41,6 +42,18 @@
 
 public class SAPLImplCustom extends SAPLImpl {
 
+    // The imports of the document, linked when it enters the PRP or the
+    // interpreter, see ImportsUtil.
+    private volatile LinkedImports linkedImports;
+
+    public LinkedImports getLinkedImports() {
+        return linkedImports;
+    }
+
+    public void setLinkedImports(LinkedImports linkedImports) {
+        this.linkedImports = linkedImports;
+    }
+
     @Override
     public Mono<Val> matches() {
         // this does not use the implicit expression to not disrupt hit recording with
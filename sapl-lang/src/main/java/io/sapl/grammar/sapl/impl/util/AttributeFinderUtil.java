@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.grammar.sapl.impl.util;
+
+import org.eclipse.emf.ecore.EObject;
+
+import io.sapl.grammar.sapl.AttributeFinderStep;
+import io.sapl.grammar.sapl.BasicEnvironmentAttribute;
+import io.sapl.grammar.sapl.BasicEnvironmentHeadAttribute;
+import io.sapl.grammar.sapl.HeadAttributeFinderStep;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class AttributeFinderUtil {
+
+    /**
+     * Used to check if the evaluation of a part of the AST may subscribe to policy
+     * information points. Expressions without attribute finders only depend on the
+     * subscription, the variables and the functions.
+     *
+     * @param object an EObject in the AST
+     * @return true, if the object or any of its contents is an attribute finder.
+     */
+    public boolean containsAttributeFinder(EObject object) {
+        if (object instanceof AttributeFinderStep || object instanceof HeadAttributeFinderStep
+                || object instanceof BasicEnvironmentAttribute || object instanceof BasicEnvironmentHeadAttribute) {
+            return true;
+        }
+        for (var child : object.eContents()) {
+            if (containsAttributeFinder(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
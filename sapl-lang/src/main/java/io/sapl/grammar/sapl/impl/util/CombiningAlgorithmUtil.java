@@ -21,20 +21,65 @@
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
 import io.sapl.api.interpreter.Val;
 import io.sapl.api.pdp.AuthorizationDecision;
+import io.sapl.api.pdp.Decision;
 import io.sapl.grammar.sapl.CombiningAlgorithm;
+import io.sapl.grammar.sapl.Policy;
 import io.sapl.grammar.sapl.PolicyElement;
 import io.sapl.interpreter.CombinedDecision;
 import io.sapl.interpreter.DocumentEvaluationResult;
+import io.sapl.interpreter.context.AuthorizationContext;
 import lombok.experimental.UtilityClass;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @UtilityClass
 public class CombiningAlgorithmUtil {
 
+    private static final LoadingCache<PolicyElement, Boolean> ELEMENTS_WITH_ATTRIBUTE_FINDERS = CacheBuilder
+            .newBuilder().weakKeys().build(CacheLoader.from(AttributeFinderUtil::containsAttributeFinder));
+
+    private record IndexedResult(int index, DocumentEvaluationResult result) {
+    }
+
+    /**
+     * Combines the policy elements eagerly, unless the evaluation context is in
+     * one-shot mode. Then only the first decision is consumed and the elements are
+     * combined lazily.
+     *
+     * @param policyElements         the policy elements to combine
+     * @param combinator             combines the results of the elements
+     * @param algorithmName          the name of the combining algorithm
+     * @param defaultDecisionIfEmpty the decision if there are no elements
+     * @param mayChangeDecision      true, if evaluating the element may change the
+     *                               given decision combined from the results of
+     *                               other elements
+     * @return the combined decisions
+     * @see #lazilyCombinePolicyElements(List, Function, String,
+     *      AuthorizationDecision, BiPredicate)
+     */
+    public static Flux<CombinedDecision> combinePolicyElements(List<PolicyElement> policyElements,
+            Function<DocumentEvaluationResult[], CombinedDecision> combinator, String algorithmName,
+            AuthorizationDecision defaultDecisionIfEmpty, BiPredicate<Decision, PolicyElement> mayChangeDecision) {
+        return Flux.deferContextual(ctx -> {
+            if (AuthorizationContext.isOneShot(ctx))
+                return lazilyCombinePolicyElements(policyElements, combinator, algorithmName, defaultDecisionIfEmpty,
+                        mayChangeDecision);
+            return eagerlyCombinePolicyElements(policyElements, combinator, algorithmName, defaultDecisionIfEmpty);
+        });
+    }
+
     public static Flux<CombinedDecision> eagerlyCombinePolicyElements(Collection<PolicyElement> policyElements,
             Function<DocumentEvaluationResult[], CombinedDecision> combinator, String algorithmName,
             AuthorizationDecision defaultDecisionIfEmpty) {
@@ -45,6 +90,208 @@ public static Flux<CombinedDecision> eagerlyCombinePolicyElements(Collection<Pol
                 .apply(Arrays.copyOf(decisionObjects, decisionObjects.length, DocumentEvaluationResult[].class)));
     }
 
+    /**
+     * Combines the first result of each policy element into a single decision.
+     * <p>
+     * Elements without attribute finders are evaluated one after the other first,
+     * as they only depend on the subscription. The remaining elements are evaluated
+     * concurrently. As soon as none of the elements not yet evaluated may change
+     * the decision combined from the results at hand, the evaluation stops and
+     * cancels all outstanding subscriptions, e.g., to policy information points.
+     * <p>
+     * The decision equals the first decision of
+     * {@link #eagerlyCombinePolicyElements(Collection, Function, String, AuthorizationDecision)},
+     * only the results of elements which were skipped are missing from it.
+     *
+     * @param policyElements         the policy elements to combine
+     * @param combinator             combines the results of the elements
+     * @param algorithmName          the name of the combining algorithm
+     * @param defaultDecisionIfEmpty the decision if there are no elements
+     * @param mayChangeDecision      true, if evaluating the element may change the
+     *                               given decision combined from the results of
+     *                               other elements
+     * @return the combined decision
+     */
+    public static Flux<CombinedDecision> lazilyCombinePolicyElements(List<PolicyElement> policyElements,
+            Function<DocumentEvaluationResult[], CombinedDecision> combinator, String algorithmName,
+            AuthorizationDecision defaultDecisionIfEmpty, BiPredicate<Decision, PolicyElement> mayChangeDecision) {
+        if (policyElements.isEmpty())
+            return Flux.just(CombinedDecision.of(defaultDecisionIfEmpty, algorithmName));
+
+        return Flux.defer(() -> {
+            var combination = new LazyCombination(policyElements, combinator, mayChangeDecision);
+            var inexpensive = new ArrayList<Integer>();
+            var expensive   = new ArrayList<Integer>();
+            for (var i = 0; i < policyElements.size(); i++) {
+                if (ELEMENTS_WITH_ATTRIBUTE_FINDERS.getUnchecked(policyElements.get(i)))
+                    expensive.add(i);
+                else
+                    inexpensive.add(i);
+            }
+            var inexpensiveResults = Flux.fromIterable(inexpensive)
+                    .concatMap(index -> firstResult(policyElements, index));
+            var expensiveResults   = Flux
+                    .merge(expensive.stream().map(index -> firstResult(policyElements, index)).toList());
+
+            return Flux.concat(inexpensiveResults, expensiveResults).takeUntil(combination::addAndCheckDecided)
+                    .then(Mono.fromSupplier(combination::combinedIfDecided)).flux();
+        });
+    }
+
+    private static Mono<IndexedResult> firstResult(List<PolicyElement> policyElements, int index) {
+        return evaluatePolicyElementTargetAndPolicyIfApplicable(policyElements.get(index)).next()
+                .map(result -> new IndexedResult(index, result));
+    }
+
+    /*
+     * The state of a lazy combination. For each decision, it counts the elements
+     * without a result which may still change it, and it folds the results at hand
+     * into an accumulated decision without constraints. Both are updated in
+     * constant time per result. The combinator is only applied to all results at
+     * hand, once the accumulated decision can no longer change.
+     */
+    private static class LazyCombination {
+
+        private final Function<DocumentEvaluationResult[], CombinedDecision> combinator;
+        private final DocumentEvaluationResult[]                             results;
+        private final boolean[][]                                            mayChange;
+        private final int[]                                                  pendingMayChange;
+        private AuthorizationDecision                                        accumulated;
+        private CombinedDecision                                             combined;
+        private boolean                                                      decided;
+
+        LazyCombination(List<PolicyElement> policyElements,
+                Function<DocumentEvaluationResult[], CombinedDecision> combinator,
+                BiPredicate<Decision, PolicyElement> mayChangeDecision) {
+            this.combinator  = combinator;
+            results          = new DocumentEvaluationResult[policyElements.size()];
+            mayChange        = new boolean[policyElements.size()][Decision.values().length];
+            pendingMayChange = new int[Decision.values().length];
+            for (var i = 0; i < policyElements.size(); i++) {
+                for (var decision : Decision.values()) {
+                    if (mayChangeDecision.test(decision, policyElements.get(i))) {
+                        mayChange[i][decision.ordinal()] = true;
+                        pendingMayChange[decision.ordinal()]++;
+                    }
+                }
+            }
+        }
+
+        boolean addAndCheckDecided(IndexedResult indexedResult) {
+            var index  = indexedResult.index();
+            var result = indexedResult.result();
+            results[index] = result;
+            for (var decision : Decision.values()) {
+                if (mayChange[index][decision.ordinal()])
+                    pendingMayChange[decision.ordinal()]--;
+            }
+            accumulated = accumulate(result);
+            if (!isDecided(accumulated))
+                return false;
+            /*
+             * Some algorithms depend on the order of the results, which the accumulated
+             * decision does not. Confirm with all results in order.
+             */
+            combined = combinator.apply(availableResults());
+            decided  = isDecided(combined.getAuthorizationDecision());
+            return decided;
+        }
+
+        private AuthorizationDecision accumulate(DocumentEvaluationResult result) {
+            var toCombine = accumulated == null ? new DocumentEvaluationResult[] { result }
+                    : new DocumentEvaluationResult[] { new AccumulatedResult(accumulated), result };
+            var decision  = combinator.apply(toCombine).getAuthorizationDecision();
+            return new AuthorizationDecision(decision.getDecision(), decision.getResource(), Optional.empty(),
+                    Optional.empty());
+        }
+
+        private boolean isDecided(AuthorizationDecision decision) {
+            return pendingMayChange[decision.getDecision().ordinal()] == 0;
+        }
+
+        private DocumentEvaluationResult[] availableResults() {
+            return Arrays.stream(results).filter(Objects::nonNull).toArray(DocumentEvaluationResult[]::new);
+        }
+
+        /*
+         * Like combineLatest in the eager mode, there is no decision if an element
+         * which may change the decision completed without any result.
+         */
+        CombinedDecision combinedIfDecided() {
+            if (decided)
+                return combined;
+            if (accumulated == null)
+                return null;
+            var all = combinator.apply(availableResults());
+            return isDecided(all.getAuthorizationDecision()) ? all : null;
+        }
+
+    }
+
+    /*
+     * The decision accumulated from the results at hand, to be combined with the
+     * next result.
+     */
+    private record AccumulatedResult(AuthorizationDecision authorizationDecision) implements DocumentEvaluationResult {
+
+        @Override
+        public AuthorizationDecision getAuthorizationDecision() {
+            return authorizationDecision;
+        }
+
+        @Override
+        public DocumentEvaluationResult withTargetResult(Val targetResult) {
+            return this;
+        }
+
+        @Override
+        public JsonNode getTrace() {
+            return Val.JSON.nullNode();
+        }
+
+    }
+
+    /**
+     * @param policyElement a policy element
+     * @param decision      a decision
+     * @return true, if the element may evaluate to the decision
+     */
+    public static boolean mayEvaluateTo(PolicyElement policyElement, Decision decision) {
+        if (policyElement instanceof Policy policy)
+            return decision == Decision.INDETERMINATE || decision == Decision.NOT_APPLICABLE
+                    || decision == policy.getEntitlement().getDecision();
+        return true;
+    }
+
+    /**
+     * @param policyElement a policy element
+     * @param decision      a decision
+     * @return true, if the element may evaluate to the decision with obligations or
+     *         advice attached
+     */
+    public static boolean mayCarryConstraints(PolicyElement policyElement, Decision decision) {
+        if (policyElement instanceof Policy policy)
+            return mayEvaluateTo(policy, decision) && decision != Decision.INDETERMINATE
+                    && decision != Decision.NOT_APPLICABLE
+                    && (isNotEmpty(policy.getObligations()) || isNotEmpty(policy.getAdvice()));
+        return true;
+    }
+
+    /**
+     * @param policyElement a policy element
+     * @return true, if the element may evaluate to a decision with a transformed
+     *         resource
+     */
+    public static boolean mayCarryResource(PolicyElement policyElement) {
+        if (policyElement instanceof Policy policy)
+            return policy.getTransformation() != null;
+        return true;
+    }
+
+    private static boolean isNotEmpty(Collection<?> collection) {
+        return collection != null && !collection.isEmpty();
+    }
+
     private static List<Flux<DocumentEvaluationResult>> eagerPolicyElementDecisionFluxes(
             Collection<PolicyElement> policyElements) {
         var policyDecisions = new ArrayList<Flux<DocumentEvaluationResult>>(policyElements.size());
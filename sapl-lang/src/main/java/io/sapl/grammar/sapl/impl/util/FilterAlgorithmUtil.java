@@ -56,26 +56,24 @@ public static Flux<Val> applyFilter(@NonNull Val unfilteredValue, int stepId, Su
         if (unfilteredValue.isObject()) {
             return applyFilterOnObject(unfilteredValue, stepId, selector, statement, operationType);
         }
-        return Flux
-                .just(unfilteredValue.withTrace(ConditionStep.class, true, Map.of(UNFILTERED_VALUE, unfilteredValue)));
+        return Flux.just(unfilteredValue.withTrace(ConditionStep.class, true, UNFILTERED_VALUE, unfilteredValue));
     }
 
     public static Flux<Val> applyFilterOnArray(Val unfilteredValue, int stepId, Supplier<Flux<Val>> selector,
             FilterStatement statement, Class<?> operationType) {
         if (!unfilteredValue.isArray()) {
-            return Flux.just(
-                    unfilteredValue.withTrace(ConditionStep.class, true, Map.of(UNFILTERED_VALUE, unfilteredValue)));
+            return Flux.just(unfilteredValue.withTrace(ConditionStep.class, true, UNFILTERED_VALUE, unfilteredValue));
         }
         var array = unfilteredValue.getArrayNode();
         if (array.isEmpty()) {
-            return Flux.just(unfilteredValue.withTrace(operationType, true, Map.of(UNFILTERED_VALUE, unfilteredValue)));
+            return Flux.just(unfilteredValue.withTrace(operationType, true, UNFILTERED_VALUE, unfilteredValue));
         }
         var elementFluxes = new ArrayList<Flux<Val>>(array.size());
         var iter          = array.elements();
         var elementCount  = 0;
         while (iter.hasNext()) {
             var element       = iter.next();
-            var elementValue  = Val.of(element).withTrace(operationType, true, Map.of("from", unfilteredValue));
+            var elementValue  = Val.of(element).withTrace(operationType, true, "from", unfilteredValue);
             var index         = elementCount++;
             var conditions    = selector.get()
                     .contextWrite(ctx -> AuthorizationContext.setRelativeNodeWithIndex(ctx, elementValue, index));
@@ -89,21 +87,18 @@ public static Flux<Val> applyFilterOnArray(Val unfilteredValue, int stepId, Supp
     public static Flux<Val> applyFilterOnObject(Val unfilteredValue, int stepId, Supplier<Flux<Val>> selector,
             FilterStatement statement, Class<?> operationType) {
         if (!unfilteredValue.isObject()) {
-            return Flux.just(
-                    unfilteredValue.withTrace(ConditionStep.class, true, Map.of(UNFILTERED_VALUE, unfilteredValue)));
+            return Flux.just(unfilteredValue.withTrace(ConditionStep.class, true, UNFILTERED_VALUE, unfilteredValue));
         }
         var object = unfilteredValue.getObjectNode();
         if (object.isEmpty()) {
-            return Flux.just(
-                    unfilteredValue.withTrace(ConditionStep.class, true, Map.of(UNFILTERED_VALUE, unfilteredValue)));
+            return Flux.just(unfilteredValue.withTrace(ConditionStep.class, true, UNFILTERED_VALUE, unfilteredValue));
         }
         var fieldFluxes = new ArrayList<Flux<Tuple2<String, Val>>>(object.size());
         var iter        = object.fields();
         while (iter.hasNext()) {
             var field          = iter.next();
             var key            = field.getKey();
-            var originalValue  = Val.of(field.getValue()).withTrace(operationType, true,
-                    Map.of("from", unfilteredValue));
+            var originalValue  = Val.of(field.getValue()).withTrace(operationType, true, "from", unfilteredValue);
             var conditions     = selector.get()
                     .contextWrite(ctx -> AuthorizationContext.setRelativeNodeWithKey(ctx, originalValue, key));
             var filteredFields = conditions
@@ -159,8 +154,8 @@ public static Flux<Val> applyFilterFunction(Val unfilteredValue, Arguments argum
             return FunctionUtil.combineArgumentFluxes(arguments)
                     .concatMap(parameters -> FunctionUtil.evaluateFunctionWithLeftHandArgumentMono(fsteps,
                             unfilteredValue, parameters))
-                    .map(val -> val.withTrace(FilterComponent.class, true,
-                            Map.of(UNFILTERED_VALUE, unfilteredValue, "filterResult", val)));
+                    .map(val -> val.withTrace(FilterComponent.class, true, UNFILTERED_VALUE, unfilteredValue,
+                            "filterResult", val));
         }
 
         // "|- each" may only be applied to arrays
@@ -175,8 +170,8 @@ public static Flux<Val> applyFilterFunction(Val unfilteredValue, Arguments argum
             var elementsEvaluations = new ArrayList<Mono<Val>>(rootArray.size());
             var index               = 0;
             for (var element : rootArray) {
-                var elementVal = Val.of(element).withTrace(FilterComponent.class, true,
-                        Map.of(UNFILTERED_VALUE, unfilteredValue, "index", Val.of(index++)));
+                var elementVal = Val.of(element).withTrace(FilterComponent.class, true, UNFILTERED_VALUE,
+                        unfilteredValue, "index", Val.of(index++));
                 elementsEvaluations
                         .add(FunctionUtil.evaluateFunctionWithLeftHandArgumentMono(fsteps, elementVal, parameters));
             }
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.grammar.sapl.impl.util;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * The name of a function or attribute as written in a document, together with
+ * the fully qualified name it was last resolved to. Linked imports are shared
+ * by all evaluations of a document against the same contexts, so the name is
+ * only resolved again when the imports map changes.
+ */
+public class ImportedName {
+
+    private record Resolution(Map<String, String> imports, String fullyQualifiedName) {
+    }
+
+    private final Supplier<? extends Iterable<String>> steps;
+
+    private String unresolvedName;
+
+    private volatile Resolution resolution;
+
+    /**
+     * @param steps supplies the steps of the name, e.g., the idSteps of the AST
+     *              node. Only called once, on first resolution.
+     */
+    public ImportedName(Supplier<? extends Iterable<String>> steps) {
+        this.steps = steps;
+    }
+
+    /**
+     * @param imports the imports of the document
+     * @return the fully qualified name
+     */
+    public String resolve(Map<String, String> imports) {
+        var current = resolution;
+        if (current != null && current.imports() == imports)
+            return current.fullyQualifiedName();
+
+        if (unresolvedName == null)
+            unresolvedName = String.join(".", steps.get());
+
+        var fullyQualifiedName = FunctionUtil.resolveAbsoluteFunctionName(unresolvedName, imports);
+        resolution = new Resolution(imports, fullyQualifiedName);
+        return fullyQualifiedName;
+    }
+
+}
@@ -17,6 +17,7 @@
  */
 package io.sapl.grammar.sapl.impl.util;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -25,8 +26,10 @@
 import io.sapl.api.interpreter.PolicyEvaluationException;
 import io.sapl.grammar.sapl.Import;
 import io.sapl.grammar.sapl.LibraryImport;
+import io.sapl.grammar.sapl.PolicySet;
 import io.sapl.grammar.sapl.SAPL;
 import io.sapl.grammar.sapl.WildcardImport;
+import io.sapl.grammar.sapl.impl.SAPLImplCustom;
 import io.sapl.interpreter.context.AuthorizationContext;
 import io.sapl.interpreter.functions.FunctionContext;
 import io.sapl.interpreter.pip.AttributeContext;
@@ -41,21 +44,103 @@ public class ImportsUtil {
     private static final String WILDCARD_IMPORT_EXISTS_ERROR = "Wildcard import of '%s' not possible as an import for name '%s' already exists.";
     private static final String LIBRARY_IMPORT_EXISTS_ERROR  = "Library import of '%s' not possible as an import for name '%s' already exists.";
 
+    /**
+     * The imports of a document, linked against an attribute and a function
+     * context. An import error is kept and reported on evaluation.
+     *
+     * @param attributeContext the attribute context linked against
+     * @param functionContext  the function context linked against
+     * @param imports          a map from the names usable in the document to the
+     *                         fully qualified names, null on error
+     * @param error            the import error, null if linking succeeded
+     */
+    public record LinkedImports(AttributeContext attributeContext, FunctionContext functionContext,
+            Map<String, String> imports, PolicyEvaluationException error) {
+
+        boolean isLinkedTo(AttributeContext attributeContext, FunctionContext functionContext) {
+            return this.attributeContext == attributeContext && this.functionContext == functionContext;
+        }
+
+        Map<String, String> importsOrThrow() {
+            if (error != null)
+                throw new PolicyEvaluationException(error.getMessage(), error);
+            return imports;
+        }
+    }
+
+    /**
+     * Puts the imports of the document of a policy element into the context. A
+     * policy nested in a policy set uses the imports the set put into the context.
+     *
+     * @param startNode a document or its top level policy element
+     * @param ctx       the subscription context
+     * @return the context with the imports of the document
+     * @throws PolicyEvaluationException if the imports are conflicting or cannot be
+     *                                   resolved
+     */
     public static Context loadImportsIntoContext(EObject startNode, Context ctx) {
-        var imports = fetchImportsFromParents(startNode, AuthorizationContext.getAttributeContext(ctx),
+        var container = startNode == null ? null : startNode.eContainer();
+        if (container instanceof PolicySet)
+            return ctx;
+
+        var node = startNode instanceof SAPL ? startNode : container;
+        if (!(node instanceof SAPL document))
+            return AuthorizationContext.setImports(ctx, Map.of());
+
+        var imports = linkImports(document, AuthorizationContext.getAttributeContext(ctx),
                 AuthorizationContext.functionContext(ctx));
         return AuthorizationContext.setImports(ctx, imports);
     }
 
-    private static Map<String, String> fetchImportsFromParents(EObject startNode, AttributeContext attributeContext,
+    /**
+     * Links the imports of the document against the given contexts and stores them
+     * on the document, unless they are already linked to these contexts. Documents
+     * are linked when they enter the PRP or the interpreter, so evaluations read
+     * the stored imports.
+     *
+     * @param document         a SAPL document
+     * @param attributeContext the attribute context
+     * @param functionContext  the function context
+     * @return a map from the names usable in the document to the fully qualified
+     *         names of functions and attributes
+     * @throws PolicyEvaluationException if the imports are conflicting or cannot be
+     *                                   resolved
+     */
+    public static Map<String, String> linkImports(SAPL document, AttributeContext attributeContext,
             FunctionContext functionContext) {
-        if (startNode == null)
-            return Map.of();
+        return link(document, attributeContext, functionContext).importsOrThrow();
+    }
 
-        if (startNode instanceof SAPL sapl)
-            return fetchImports(sapl, attributeContext, functionContext);
+    /**
+     * Like {@link #linkImports(SAPL, AttributeContext, FunctionContext)}, but an
+     * import error is only reported when the document is evaluated.
+     *
+     * @param document         a SAPL document
+     * @param attributeContext the attribute context
+     * @param functionContext  the function context
+     * @return the linked imports
+     */
+    public static LinkedImports link(SAPL document, AttributeContext attributeContext,
+            FunctionContext functionContext) {
+        if (!(document instanceof SAPLImplCustom linkable))
+            return resolve(document, attributeContext, functionContext);
 
-        return fetchImportsFromParents(startNode.eContainer(), attributeContext, functionContext);
+        var linked = linkable.getLinkedImports();
+        if (linked == null || !linked.isLinkedTo(attributeContext, functionContext)) {
+            linked = resolve(document, attributeContext, functionContext);
+            linkable.setLinkedImports(linked);
+        }
+        return linked;
+    }
+
+    private static LinkedImports resolve(SAPL document, AttributeContext attributeContext,
+            FunctionContext functionContext) {
+        try {
+            var imports = fetchImports(document, attributeContext, functionContext);
+            return new LinkedImports(attributeContext, functionContext, Collections.unmodifiableMap(imports), null);
+        } catch (PolicyEvaluationException e) {
+            return new LinkedImports(attributeContext, functionContext, null, e);
+        }
     }
 
     public static Map<String, String> fetchImports(SAPL sapl, AttributeContext attributeContext,
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.grammar.sapl.impl.util;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import io.sapl.api.interpreter.PolicyEvaluationException;
+import io.sapl.grammar.sapl.BasicValue;
+import io.sapl.grammar.sapl.Expression;
+import io.sapl.grammar.sapl.StringLiteral;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class RegexUtil {
+
+    static final String MATCHING_LIMIT_EXCEEDED_ERROR = "Matching of regular expression '%s' exceeded the limit of %d steps per character.";
+
+    static final int MAXIMUM_DYNAMIC_PATTERNS = 1024;
+
+    /**
+     * Patterns computed during evaluation, e.g., from variables or attributes.
+     * Bounded, the least recently used patterns are evicted first.
+     */
+    private static final Cache<String, Pattern> DYNAMIC_PATTERNS = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_DYNAMIC_PATTERNS).build();
+
+    /**
+     * @param expression an expression
+     * @return the text of the expression, if it is a plain string literal, else
+     *         null
+     */
+    public static String constantText(Expression expression) {
+        if (expression instanceof BasicValue basicValue && basicValue.getValue() instanceof StringLiteral literal
+                && basicValue.getSteps().isEmpty() && basicValue.getFilter() == null
+                && basicValue.getSubtemplate() == null)
+            return literal.getString();
+        return null;
+    }
+
+    /**
+     * Compiles a pattern computed during evaluation. Compiled patterns are cached.
+     *
+     * @param regex a regular expression
+     * @return the compiled pattern
+     * @throws PatternSyntaxException if the expression is invalid
+     */
+    public static Pattern compile(String regex) {
+        var pattern = DYNAMIC_PATTERNS.getIfPresent(regex);
+        if (pattern == null) {
+            pattern = Pattern.compile(regex);
+            DYNAMIC_PATTERNS.put(regex, pattern);
+        }
+        return pattern;
+    }
+
+    /**
+     * Matches the complete input against the pattern. With a positive limit, the
+     * matching engine may inspect the characters of the input at most limit times
+     * per character. Catastrophic backtracking then fails in linear time, instead
+     * of blocking the evaluation.
+     *
+     * @param pattern a compiled pattern
+     * @param input   the input
+     * @param limit   the maximum number of inspected characters per character of
+     *                the input, or zero for no limit
+     * @return true, if the pattern matches the input
+     * @throws PolicyEvaluationException if the limit is exceeded
+     */
+    public static boolean matches(Pattern pattern, String input, long limit) {
+        if (limit <= 0L)
+            return pattern.matcher(input).matches();
+
+        try {
+            return pattern.matcher(new BoundedCharSequence(input, limit * (input.length() + 1L))).matches();
+        } catch (MatchingLimitExceededException e) {
+            throw new PolicyEvaluationException(MATCHING_LIMIT_EXCEEDED_ERROR, pattern.pattern(), limit);
+        }
+    }
+
+    private static class MatchingLimitExceededException extends RuntimeException {
+
+        MatchingLimitExceededException() {
+            super(null, null, false, false);
+        }
+
+    }
+
+    private static class BoundedCharSequence implements CharSequence {
+
+        private final String input;
+
+        private long remainingSteps;
+
+        BoundedCharSequence(String input, long steps) {
+            this.input          = input;
+            this.remainingSteps = steps;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (--remainingSteps < 0L)
+                throw new MatchingLimitExceededException();
+            return input.charAt(index);
+        }
+
+        @Override
+        public int length() {
+            return input.length();
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return input.subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return input;
+        }
+
+    }
+
+}
@@ -69,7 +69,7 @@ public static Flux<Val> applyOnArray(Val parentValue, Supplier<Flux<Val>> select
             var elementValue    = Val.of(element);
             var index           = i;
             var condition       = selector.get().contextWrite(ctx -> AuthorizationContext.setRelativeNodeWithIndex(ctx,
-                    elementValue.withTrace(operationType, true, Map.of("from", parentValue)), index));
+                    elementValue.withTrace(operationType, true, "from", parentValue), index));
             var selectedElement = condition.map(applySelectionToElement(elementValue, stepParameters, operationType,
                     parentValue, "array[" + index + "]"));
             results.add(selectedElement);
@@ -100,7 +100,7 @@ public static Flux<Val> applyOnObject(Val parentValue, Supplier<Flux<Val>> selec
             var key       = field.getKey();
             var value     = Val.of(field.getValue());
             var condition = selector.get().contextWrite(ctx -> AuthorizationContext.setRelativeNodeWithKey(ctx,
-                    value.withTrace(operationType, true, Map.of("from", parentValue)), key));
+                    value.withTrace(operationType, true, "from", parentValue), key));
             var selected  = condition
                     .map(applySelectionToElement(value, stepParameters, operationType, parentValue, key));
             results.add(selected);
@@ -114,7 +114,7 @@ private static Function<Val, Val> applySelectionToElement(Val elementValue, Stri
             var trace = new HashMap<String, Val>();
             trace.put("parentValue", parentValue);
             trace.put("stepParameters", Val.of(stepParameters));
-            trace.put(elementIdentifier, elementValue.withTrace(operationType, true, Map.of("from", parentValue)));
+            trace.put(elementIdentifier, elementValue.withTrace(operationType, true, "from", parentValue));
             trace.put("conditionResult", conditionResult);
             if (conditionResult.isError()) {
                 return conditionResult.withTrace(operationType, true, trace);
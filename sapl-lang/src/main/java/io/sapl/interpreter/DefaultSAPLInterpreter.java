@@ -43,6 +43,9 @@
 import io.sapl.grammar.SAPLStandaloneSetup;
 import io.sapl.grammar.sapl.PolicySet;
 import io.sapl.grammar.sapl.SAPL;
+import io.sapl.grammar.sapl.impl.PolicySetImplCustom;
+import io.sapl.grammar.sapl.impl.RegexImplCustom;
+import io.sapl.grammar.sapl.impl.util.ImportsUtil;
 import io.sapl.interpreter.context.AuthorizationContext;
 import io.sapl.interpreter.functions.FunctionContext;
 import io.sapl.interpreter.pip.AttributeContext;
@@ -81,11 +84,22 @@ public SAPL parse(InputStream saplInputStream) {
         var sapl       = loadAsResource(saplInputStream);
         var diagnostic = Diagnostician.INSTANCE.validate(sapl);
         if (diagnostic.getSeverity() == Diagnostic.OK)
-            return sapl;
+            return prepare(sapl);
 
         throw new PolicyEvaluationException(composeReason(diagnostic));
     }
 
+    private static SAPL prepare(SAPL sapl) {
+        // checks and compilations only depending on the document are done once
+        if (sapl.getPolicyElement() instanceof PolicySetImplCustom policySet)
+            policySet.checkPolicyNames();
+        sapl.eAllContents().forEachRemaining(node -> {
+            if (node instanceof RegexImplCustom regex)
+                regex.precompile();
+        });
+        return sapl;
+    }
+
     private String composeReason(String s) {
         return String.format("SAPL Validation Error: [%s]", s);
     }
@@ -110,6 +124,7 @@ public Flux<AuthorizationDecision> evaluate(AuthorizationSubscription authorizat
             log.info("parsing error: {}", e.getMessage(), e);
             return Flux.just(AuthorizationDecision.INDETERMINATE);
         }
+        ImportsUtil.link(saplDocument, attributeContext, functionContext);
         return saplDocument.matches().flux().switchMap(evaluateBodyIfMatching(saplDocument))
                 .contextWrite(ctx -> AuthorizationContext.setVariables(ctx, environmentVariables))
                 .contextWrite(ctx -> AuthorizationContext.setSubscriptionVariables(ctx, authorizationSubscription))
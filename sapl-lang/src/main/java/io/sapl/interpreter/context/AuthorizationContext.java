@@ -20,14 +20,13 @@
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.NoSuchElementException;
-import java.util.Objects;
 
 import io.sapl.api.interpreter.PolicyEvaluationException;
 import io.sapl.api.interpreter.Val;
 import io.sapl.api.pdp.AuthorizationSubscription;
 import io.sapl.interpreter.functions.FunctionContext;
 import io.sapl.interpreter.pip.AttributeContext;
+import io.sapl.interpreter.pip.AttributeFinderGuardSettings;
 import lombok.NonNull;
 import lombok.experimental.UtilityClass;
 import reactor.util.context.Context;
@@ -44,11 +43,11 @@ public class AuthorizationContext {
     private static final String FUNCTION_CTX  = "functionCtx";
     private static final String VARIABLES     = "variables";
     private static final String IMPORTS       = "imports";
-    private static final String SUBJECT       = "subject";
-    private static final String ACTION        = "action";
-    private static final String RESOURCE      = "resource";
-    private static final String ENVIRONMENT   = "environment";
     private static final String RELATIVE_NODE = "relativeNode";
+    private static final String TRACING       = "tracing";
+    private static final String ONE_SHOT      = "oneShot";
+    private static final String PIP_GUARDS    = "pipGuards";
+    private static final String REGEX_LIMIT   = "regexMatchingLimit";
 
     public static Map<String, String> getImports(ContextView ctx) {
         return ctx.getOrDefault(IMPORTS, Collections.emptyMap());
@@ -86,14 +85,34 @@ public Context setAttributeContext(Context ctx, AttributeContext attributeContex
         return ctx.put(ATTRIBUTE_CTX, attributeContext);
     }
 
+    /**
+     * Binds variables. If tracing is disabled in the context, the variables are
+     * bound as untraced values. A map which only contains untraced values is bound
+     * without copying it.
+     *
+     * @param ctx                  the evaluation context
+     * @param environmentVariables the variables
+     * @return the context with the variables bound
+     */
     public static Context setVariables(@NonNull Context ctx, Map<String, Val> environmentVariables) {
-        Map<String, Val> variables = new HashMap<>(ctx.getOrDefault(VARIABLES, new HashMap<>()));
-        for (var variable : environmentVariables.entrySet()) {
-            var name = variable.getKey();
+        for (var name : environmentVariables.keySet()) {
             assertVariableNameNotReserved(name);
-            variables.put(name, variable.getValue());
         }
-        return ctx.put(VARIABLES, variables);
+        var variables = isTracingEnabled(ctx) ? environmentVariables : untraced(environmentVariables);
+        return ctx.put(VARIABLES, getScope(ctx).withAll(variables));
+    }
+
+    /**
+     * @param variables variables
+     * @return the variables marked as untraced, the map itself if all values are
+     *         already untraced
+     */
+    public static Map<String, Val> untraced(Map<String, Val> variables) {
+        if (variables.values().stream().allMatch(Val::isUntraced))
+            return variables;
+        var untracedVariables = new HashMap<String, Val>(variables.size());
+        variables.forEach((name, value) -> untracedVariables.put(name, value.asUntraced()));
+        return untracedVariables;
     }
 
     public Context setVariable(@NonNull Context ctx, String name, Val value) {
@@ -102,53 +121,122 @@ public Context setVariable(@NonNull Context ctx, String name, Val value) {
         if (value.isError())
             throw new PolicyEvaluationException(value.getMessage());
 
-        Map<String, Val> variables = new HashMap<>(ctx.getOrDefault(VARIABLES, new HashMap<>()));
-
-        if (value.isUndefined())
-            variables.remove(name);
-        else
-            variables.put(name, value);
-        return ctx.put(VARIABLES, variables);
+        var variable = isTracingEnabled(ctx) ? value : value.asUntraced();
+        return ctx.put(VARIABLES, getScope(ctx).with(name, variable));
     }
 
     private void assertVariableNameNotReserved(String name) {
-        if (SUBJECT.equals(name) || RESOURCE.equals(name) || ACTION.equals(name) || ENVIRONMENT.equals(name)) {
+        if (VariableScope.isReserved(name)) {
             throw new PolicyEvaluationException(CANNOT_OVERWRITE_REQUEST_VARIABLE_S_ERROR, name);
         }
     }
 
+    /**
+     * Sets the subscription variables. If tracing is disabled in the context, the
+     * variables are marked as untraced, so that all values derived from them skip
+     * the construction of traces.
+     *
+     * @param ctx                       the evaluation context
+     * @param authorizationSubscription the authorization subscription
+     * @return the context with the subscription variables
+     */
     public Context setSubscriptionVariables(@NonNull Context ctx, AuthorizationSubscription authorizationSubscription) {
+        return ctx.put(VARIABLES, getScope(ctx).withSubscription(authorizationSubscription, isTracingEnabled(ctx)));
+    }
+
+    /**
+     * Sets the tracing mode. Variables are marked as untraced when they are bound.
+     * Therefore, the tracing mode has to be set before any variables.
+     *
+     * @param ctx     the evaluation context
+     * @param enabled false, if the values of the evaluation do not need to carry
+     *                traces
+     * @return the context with the tracing mode set
+     */
+    public static Context setTracingEnabled(@NonNull Context ctx, boolean enabled) {
+        return ctx.put(TRACING, enabled);
+    }
 
-        Map<String, Val> variables = new HashMap<>(
-                Objects.requireNonNull(ctx.getOrDefault(VARIABLES, new HashMap<>())));
+    /**
+     * @param ctx the evaluation context
+     * @return true, unless tracing has explicitly been disabled in the context
+     */
+    public static boolean isTracingEnabled(ContextView ctx) {
+        return ctx.getOrDefault(TRACING, Boolean.TRUE);
+    }
+
+    /**
+     * @param ctx     the evaluation context
+     * @param oneShot true, if only the first decision of the evaluation is
+     *                consumed, so that combining algorithms may stop evaluating
+     *                policies once the decision can no longer change
+     * @return the context with the evaluation mode set
+     */
+    public static Context setOneShot(@NonNull Context ctx, boolean oneShot) {
+        return ctx.put(ONE_SHOT, oneShot);
+    }
 
-        variables.put(SUBJECT, Val.of(authorizationSubscription.getSubject()));
-        variables.put(ACTION, Val.of(authorizationSubscription.getAction()));
-        variables.put(RESOURCE, Val.of(authorizationSubscription.getResource()));
-        variables.put(ENVIRONMENT, Val.of(authorizationSubscription.getEnvironment()));
-        return ctx.put(VARIABLES, variables);
+    /**
+     * @param ctx the evaluation context
+     * @return true, if only the first decision of the evaluation is consumed
+     */
+    public static boolean isOneShot(ContextView ctx) {
+        return ctx.getOrDefault(ONE_SHOT, Boolean.FALSE);
     }
 
-    @SuppressWarnings("unchecked")
-    // In this case the catch clause takes care of making it fail-safe and solves
-    // the runtime type erasure problem for this case.
+    private static VariableScope getScope(ContextView ctx) {
+        return ctx.getOrDefault(VARIABLES, VariableScope.EMPTY);
+    }
+
+    /**
+     * @param ctx the evaluation context
+     * @return an unmodifiable map of all variables defined in the context
+     */
     public static Map<String, Val> getVariables(ContextView ctx) {
-        Map<String, Val> result = null;
-        try {
-            result = (Map<String, Val>) ctx.get(VARIABLES);
-        } catch (ClassCastException | NoSuchElementException e) {
-            // NOOP continue with result == null
-        }
-        if (result == null)
-            result = new HashMap<>();
-        return result;
+        return getScope(ctx).asMap();
     }
 
     public static Val getVariable(ContextView ctx, String name) {
-        var value = getVariables(ctx).get(name);
-        if (value == null)
-            return Val.UNDEFINED;
-        return value;
+        return getScope(ctx).get(name);
+    }
+
+    /**
+     * @param ctx      the evaluation context
+     * @param settings the bounds of attribute finder invocations by the name of the
+     *                 policy information point or attribute
+     * @return the context with the bounds set
+     */
+    public static Context setAttributeFinderGuardSettings(@NonNull Context ctx,
+            Map<String, AttributeFinderGuardSettings> settings) {
+        return ctx.put(PIP_GUARDS, settings);
+    }
+
+    /**
+     * @param ctx the evaluation context
+     * @return the bounds of attribute finder invocations, empty if none are
+     *         configured
+     */
+    public static Map<String, AttributeFinderGuardSettings> getAttributeFinderGuardSettings(ContextView ctx) {
+        return ctx.getOrDefault(PIP_GUARDS, Collections.emptyMap());
+    }
+
+    /**
+     * @param ctx   the evaluation context
+     * @param limit the maximum number of characters a regular expression may
+     *              inspect per character of the matched text, zero for no limit
+     * @return the context with the limit set
+     */
+    public static Context setRegexMatchingLimit(@NonNull Context ctx, long limit) {
+        return ctx.put(REGEX_LIMIT, limit);
+    }
+
+    /**
+     * @param ctx the evaluation context
+     * @return the maximum number of characters a regular expression may inspect per
+     *         character of the matched text, zero if not limited
+     */
+    public static long getRegexMatchingLimit(ContextView ctx) {
+        return ctx.getOrDefault(REGEX_LIMIT, 0L);
     }
 
     public static FunctionContext functionContext(ContextView ctx) {
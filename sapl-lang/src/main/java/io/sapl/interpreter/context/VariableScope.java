@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.interpreter.context;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.sapl.api.interpreter.Val;
+import io.sapl.api.pdp.AuthorizationSubscription;
+
+/**
+ * Immutable, persistent scope of the variables visible during an evaluation.
+ * <p>
+ * The four subscription variables are held in fixed slots. All other bindings
+ * form a linked chain of frames, newest first. Binding a variable prepends a
+ * single frame and shares everything else with the previous scope, so no map is
+ * copied per decision or per policy-local variable. A frame is either a single
+ * binding or an un-copied map of variables, e.g., the PDP variables. A binding
+ * to {@link Val#UNDEFINED} hides older bindings of the same name.
+ */
+final class VariableScope {
+
+    static final VariableScope EMPTY = new VariableScope(null, null, null, null, null);
+
+    static final String SUBJECT     = "subject";
+    static final String ACTION      = "action";
+    static final String RESOURCE    = "resource";
+    static final String ENVIRONMENT = "environment";
+
+    private final Val   subject;
+    private final Val   action;
+    private final Val   resource;
+    private final Val   environment;
+    private final Frame frames;
+
+    // Lazily created view for consumers expecting a map, e.g., PIPs.
+    private volatile Map<String, Val> variablesAsMap;
+
+    private record Frame(String name, Val value, Map<String, Val> bindings, Frame next) {
+    }
+
+    private VariableScope(Val subject, Val action, Val resource, Val environment, Frame frames) {
+        this.subject     = subject;
+        this.action      = action;
+        this.resource    = resource;
+        this.environment = environment;
+        this.frames      = frames;
+    }
+
+    static boolean isReserved(String name) {
+        return SUBJECT.equals(name) || ACTION.equals(name) || RESOURCE.equals(name) || ENVIRONMENT.equals(name);
+    }
+
+    /**
+     * @param authorizationSubscription the authorization subscription
+     * @param traced                    false, if the subscription variables should
+     *                                  be marked as untraced
+     * @return a scope with the subscription variables bound
+     */
+    VariableScope withSubscription(AuthorizationSubscription authorizationSubscription, boolean traced) {
+        return new VariableScope(subscriptionValue(authorizationSubscription.getSubject(), traced),
+                subscriptionValue(authorizationSubscription.getAction(), traced),
+                subscriptionValue(authorizationSubscription.getResource(), traced),
+                subscriptionValue(authorizationSubscription.getEnvironment(), traced), frames);
+    }
+
+    private static Val subscriptionValue(JsonNode value, boolean traced) {
+        var val = Val.of(value);
+        return traced ? val : val.asUntraced();
+    }
+
+    /**
+     * @param name  a variable name which is not reserved
+     * @param value the value, {@link Val#UNDEFINED} removes the variable
+     * @return a scope with the variable bound
+     */
+    VariableScope with(String name, Val value) {
+        return new VariableScope(subject, action, resource, environment, new Frame(name, value, null, frames));
+    }
+
+    /**
+     * @param bindings variables with names which are not reserved. The map is not
+     *                 copied and must not be modified afterwards.
+     * @return a scope with all variables bound
+     */
+    VariableScope withAll(Map<String, Val> bindings) {
+        if (bindings.isEmpty())
+            return this;
+        return new VariableScope(subject, action, resource, environment, new Frame(null, null, bindings, frames));
+    }
+
+    Val get(String name) {
+        var reserved = getReserved(name);
+        if (reserved != null)
+            return reserved;
+
+        for (var frame = frames; frame != null; frame = frame.next()) {
+            Val value;
+            if (frame.bindings() != null)
+                value = frame.bindings().get(name);
+            else
+                value = name.equals(frame.name()) ? frame.value() : null;
+            if (value != null)
+                return value;
+        }
+        return Val.UNDEFINED;
+    }
+
+    private Val getReserved(String name) {
+        return switch (name) {
+        case SUBJECT -> subject == null ? Val.UNDEFINED : subject;
+        case ACTION -> action == null ? Val.UNDEFINED : action;
+        case RESOURCE -> resource == null ? Val.UNDEFINED : resource;
+        case ENVIRONMENT -> environment == null ? Val.UNDEFINED : environment;
+        default -> null;
+        };
+    }
+
+    /**
+     * @return an unmodifiable map of all defined variables
+     */
+    Map<String, Val> asMap() {
+        var result = variablesAsMap;
+        if (result == null) {
+            result         = Collections.unmodifiableMap(materialize());
+            variablesAsMap = result;
+        }
+        return result;
+    }
+
+    private Map<String, Val> materialize() {
+        var oldestFirst = new ArrayDeque<Frame>();
+        for (var frame = frames; frame != null; frame = frame.next())
+            oldestFirst.push(frame);
+
+        var variables = new HashMap<String, Val>();
+        for (var frame : oldestFirst) {
+            if (frame.bindings() != null)
+                variables.putAll(frame.bindings());
+            else if (frame.value().isUndefined())
+                variables.remove(frame.name());
+            else
+                variables.put(frame.name(), frame.value());
+        }
+        putIfPresent(variables, SUBJECT, subject);
+        putIfPresent(variables, ACTION, action);
+        putIfPresent(variables, RESOURCE, resource);
+        putIfPresent(variables, ENVIRONMENT, environment);
+        return variables;
+    }
+
+    private static void putIfPresent(Map<String, Val> variables, String name, Val value) {
+        if (value != null)
+            variables.put(name, value);
+    }
+
+}
@@ -19,7 +19,6 @@
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.lang.reflect.Parameter;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -37,13 +36,10 @@
 import io.sapl.api.functions.FunctionLibrary;
 import io.sapl.api.functions.FunctionLibrarySupplier;
 import io.sapl.api.functions.StaticFunctionLibrarySupplier;
-import io.sapl.api.interpreter.ExpressionArgument;
 import io.sapl.api.interpreter.Val;
 import io.sapl.interpreter.InitializationException;
 import io.sapl.interpreter.SchemaLoadingUtil;
 import io.sapl.interpreter.pip.LibraryEntryMetadata;
-import io.sapl.interpreter.validation.IllegalParameterType;
-import io.sapl.interpreter.validation.ParameterTypeValidator;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -56,7 +52,6 @@ public class AnnotationFunctionContext implements FunctionContext {
 
     private static final int    VAR_ARGS                                       = -1;
     private static final String UNKNOWN_FUNCTION_ERROR                         = "Unknown function %s";
-    private static final String ILLEGAL_NUMBER_OF_PARAMETERS_ERROR             = "Illegal number of parameters. Function expected %d but got %d";
     private static final String CLASS_HAS_NO_FUNCTION_LIBRARY_ANNOTATION_ERROR = "Provided class has no @FunctionLibrary annotation.";
     private static final String ILLEGAL_PARAMETER_FOR_IMPORT_ERROR             = "Function has parameters that are not a Val. Cannot be loaded. Type was: %s.";
     private static final String ILLEGAL_RETURN_TYPE_FOR_IMPORT_ERROR           = "Function does not return a Val. Cannot be loaded. Type was: %s.";
@@ -64,6 +59,7 @@ public class AnnotationFunctionContext implements FunctionContext {
 
     private final Collection<LibraryDocumentation> documentation = new ConcurrentLinkedQueue<>();
     private final Map<String, FunctionMetadata>    functions     = new ConcurrentHashMap<>();
+    private final Map<String, CompiledFunction>    invokers      = new ConcurrentHashMap<>();
     private final Map<String, Collection<String>>  libraries     = new ConcurrentHashMap<>();
 
     private List<String> codeTemplateCache;
@@ -110,69 +106,22 @@ public final void loadLibraries(FunctionLibrarySupplier librariesSupplier) throw
 
     @Override
     public Val evaluate(String function, Val... parameters) {
-        var functionTrace = new ExpressionArgument[parameters.length + 1];
-        functionTrace[0] = new ExpressionArgument("functionName", Val.of(function));
-        for (var parameter = 0; parameter < parameters.length; parameter++) {
-            functionTrace[parameter + 1] = new ExpressionArgument("parameter[" + parameter + "]",
-                    parameters[parameter]);
-        }
-        var metadata = functions.get(function);
-        if (metadata == null)
-            return Val.error(UNKNOWN_FUNCTION_ERROR, function).withTrace(FunctionContext.class, false, functionTrace);
-
-        var funParams = metadata.getFunction().getParameters();
-
-        if (metadata.isVarArgsParameters()) {
-            return evaluateVarArgsFunction(metadata, funParams, parameters).withTrace(FunctionContext.class, false,
-                    functionTrace);
-        }
-        if (metadata.getNumberOfParameters() == parameters.length) {
-            return evaluateFixedParametersFunction(metadata, funParams, parameters).withTrace(FunctionContext.class,
-                    false, functionTrace);
-        }
-        return Val.error(ILLEGAL_NUMBER_OF_PARAMETERS_ERROR, metadata.getNumberOfParameters(), parameters.length)
-                .withTrace(FunctionContext.class, false, functionTrace);
-    }
-
-    private Val evaluateFixedParametersFunction(FunctionMetadata metadata, Parameter[] funParams, Val... parameters) {
-        for (int i = 0; i < parameters.length; i++) {
-            try {
-                ParameterTypeValidator.validateType(parameters[i], funParams[i]);
-            } catch (IllegalParameterType e) {
-                return Val.error(e);
-            }
-        }
-        return invokeFunction(metadata, (Object[]) parameters);
+        return link(function).invoke(parameters);
     }
 
-    private Val evaluateVarArgsFunction(FunctionMetadata metadata, Parameter[] funParams, Val... parameters) {
-        for (Val parameter : parameters) {
-            try {
-                ParameterTypeValidator.validateType(parameter, funParams[0]);
-            } catch (IllegalParameterType e) {
-                return Val.error(e);
-            }
-        }
-        return invokeFunction(metadata, (Object[]) new Object[] { parameters });
-    }
-
-    private Val invokeFunction(FunctionMetadata metadata, Object... parameters) {
-        try {
-            return (Val) metadata.getFunction().invoke(metadata.getLibrary(), parameters);
-        } catch (Throwable e) {
-            return invocationExceptionToError(e, metadata, parameters);
-        }
-    }
-
-    private Val invocationExceptionToError(Throwable e, LibraryEntryMetadata metadata, Object... parameters) {
-        var params = new StringBuilder();
-        for (var i = 0; i < parameters.length; i++) {
-            params.append(parameters[i]);
-            if (i < parameters.length - 2)
-                params.append(',');
-        }
-        return Val.error("Error during evaluation of function %s(%s): %s", metadata.getFunctionName(),
-                params.toString(), e.getMessage());
+    @Override
+    public FunctionInvoker link(String function) {
+        var invoker = invokers.get(function);
+        if (invoker != null)
+            return invoker;
+
+        var functionName = Val.of(function);
+        return (traced, parameters) -> {
+            var error = Val.error(UNKNOWN_FUNCTION_ERROR, function);
+            if (!traced)
+                return error.asUntraced();
+            return error.withTrace(FunctionContext.class, false, CompiledFunction.trace(functionName, parameters));
+        };
     }
 
     /**
@@ -252,6 +201,7 @@ private void importFunction(Object library, String libName, LibraryDocumentation
 
         var funMeta = new FunctionMetadata(libName, funName, processedSchemaDefinition, library, parameters, method);
         functions.put(funMeta.fullyQualifiedName(), funMeta);
+        invokers.put(funMeta.fullyQualifiedName(), new CompiledFunction(funMeta));
         libMeta.documentation.put(funMeta.getDocumentationCodeTemplate(), funAnnotation.docs());
 
         libraries.get(libName).add(funName);
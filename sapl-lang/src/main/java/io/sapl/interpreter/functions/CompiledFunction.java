@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.interpreter.functions;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+
+import io.sapl.api.interpreter.ExpressionArgument;
+import io.sapl.api.interpreter.Val;
+import io.sapl.interpreter.functions.AnnotationFunctionContext.FunctionMetadata;
+import io.sapl.interpreter.validation.IllegalParameterType;
+import io.sapl.interpreter.validation.ParameterTypeValidator;
+import io.sapl.interpreter.validation.ParameterValidator;
+
+/**
+ * A function of a library linked for repeated invocation. Everything derived
+ * from the reflective method, i.e., the parameter validators and a method
+ * handle bound to the library instance, is computed once when the library is
+ * loaded.
+ */
+final class CompiledFunction implements FunctionInvoker {
+
+    static final String ILLEGAL_NUMBER_OF_PARAMETERS_ERROR = "Illegal number of parameters. Function expected %d but got %d";
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Val.class, Val[].class);
+
+    private static final String[] PARAMETER_NAMES = new String[16];
+
+    static {
+        for (var i = 0; i < PARAMETER_NAMES.length; i++)
+            PARAMETER_NAMES[i] = parameterName(i);
+    }
+
+    private final FunctionMetadata     metadata;
+    private final Val                  functionName;
+    private final ParameterValidator[] validators;
+    private final MethodHandle         invoker;
+
+    CompiledFunction(FunctionMetadata metadata) {
+        this.metadata = metadata;
+        functionName  = Val.of(metadata.fullyQualifiedName());
+        var parameters = metadata.getFunction().getParameters();
+        validators = new ParameterValidator[parameters.length];
+        for (var i = 0; i < parameters.length; i++)
+            validators[i] = ParameterTypeValidator.validatorFor(parameters[i]);
+        invoker = invokerFor(metadata);
+    }
+
+    /**
+     * @return a handle of the type (Val[])Val invoking the function, or null if the
+     *         method is not accessible through a method handle and must be invoked
+     *         reflectively.
+     */
+    private static MethodHandle invokerFor(FunctionMetadata metadata) {
+        var method = metadata.getFunction();
+        try {
+            var handle = MethodHandles.lookup().unreflect(method).asFixedArity();
+            if (!Modifier.isStatic(method.getModifiers()))
+                handle = handle.bindTo(metadata.getLibrary());
+            if (!metadata.isVarArgsParameters())
+                handle = handle.asSpreader(Val[].class, metadata.getNumberOfParameters());
+            return handle.asType(INVOKER_TYPE);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public Val invoke(boolean traced, Val... parameters) {
+        var result = evaluate(parameters);
+        if (!traced)
+            return result.asUntraced();
+        return result.withTrace(FunctionContext.class, false, trace(functionName, parameters));
+    }
+
+    private Val evaluate(Val... parameters) {
+        if (metadata.isVarArgsParameters()) {
+            for (var parameter : parameters) {
+                var error = validate(validators[0], parameter);
+                if (error != null)
+                    return error;
+            }
+            return invokeFunction(parameters, new Object[] { parameters });
+        }
+
+        if (metadata.getNumberOfParameters() != parameters.length)
+            return Val.error(ILLEGAL_NUMBER_OF_PARAMETERS_ERROR, metadata.getNumberOfParameters(), parameters.length);
+
+        for (var i = 0; i < parameters.length; i++) {
+            var error = validate(validators[i], parameters[i]);
+            if (error != null)
+                return error;
+        }
+        return invokeFunction(parameters, (Object[]) parameters);
+    }
+
+    private static Val validate(ParameterValidator validator, Val parameter) {
+        try {
+            validator.validate(parameter);
+            return null;
+        } catch (IllegalParameterType e) {
+            return Val.error(e);
+        }
+    }
+
+    private Val invokeFunction(Val[] parameters, Object[] reflectiveParameters) {
+        try {
+            if (invoker != null)
+                return (Val) invoker.invokeExact(parameters);
+            return (Val) metadata.getFunction().invoke(metadata.getLibrary(), reflectiveParameters);
+        } catch (InvocationTargetException e) {
+            return invocationExceptionToError(e.getCause(), reflectiveParameters);
+        } catch (Throwable e) {
+            return invocationExceptionToError(e, reflectiveParameters);
+        }
+    }
+
+    private Val invocationExceptionToError(Throwable e, Object... parameters) {
+        var params = new StringBuilder();
+        for (var i = 0; i < parameters.length; i++) {
+            params.append(parameters[i]);
+            if (i < parameters.length - 2)
+                params.append(',');
+        }
+        return Val.error("Error during evaluation of function %s(%s): %s", metadata.getFunctionName(),
+                params.toString(), e.getMessage());
+    }
+
+    static ExpressionArgument[] trace(Val functionName, Val... parameters) {
+        var functionTrace = new ExpressionArgument[parameters.length + 1];
+        functionTrace[0] = new ExpressionArgument("functionName", functionName);
+        for (var parameter = 0; parameter < parameters.length; parameter++) {
+            var name = parameter < PARAMETER_NAMES.length ? PARAMETER_NAMES[parameter] : parameterName(parameter);
+            functionTrace[parameter + 1] = new ExpressionArgument(name, parameters[parameter]);
+        }
+        return functionTrace;
+    }
+
+    private static String parameterName(int index) {
+        return "parameter[" + index + "]";
+    }
+
+}
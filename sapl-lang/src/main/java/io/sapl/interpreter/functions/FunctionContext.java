@@ -30,6 +30,21 @@ public interface FunctionContext extends LibraryFunctionProvider {
 
     Val evaluate(String function, Val... parameters);
 
+    /**
+     * Looks up a function once for repeated invocation. Invoking the result is
+     * equivalent to calling {@link #evaluate(String, Val...)} with the same
+     * function name.
+     *
+     * @param function the fully qualified name of the function
+     * @return an invoker for the function
+     */
+    default FunctionInvoker link(String function) {
+        return (traced, parameters) -> {
+            var result = evaluate(function, parameters);
+            return traced ? result : result.asUntraced();
+        };
+    }
+
     Collection<LibraryDocumentation> getDocumentation();
 
     List<String> getCodeTemplates();
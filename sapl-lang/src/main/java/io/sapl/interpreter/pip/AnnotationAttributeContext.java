@@ -34,6 +34,7 @@
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.reactivestreams.Publisher;
 
@@ -41,6 +42,7 @@
 
 import io.sapl.api.interpreter.Val;
 import io.sapl.api.pip.Attribute;
+import io.sapl.api.pip.CachedAttribute;
 import io.sapl.api.pip.EnvironmentAttribute;
 import io.sapl.api.pip.PolicyInformationPoint;
 import io.sapl.api.pip.PolicyInformationPointSupplier;
@@ -48,15 +50,17 @@
 import io.sapl.grammar.sapl.Arguments;
 import io.sapl.interpreter.InitializationException;
 import io.sapl.interpreter.SchemaLoadingUtil;
+import io.sapl.interpreter.context.AuthorizationContext;
+import io.sapl.interpreter.pip.AttributeStreamBroker.AttributeStreamKey;
 import io.sapl.interpreter.validation.ParameterTypeValidator;
-import lombok.NoArgsConstructor;
+import lombok.Getter;
+import lombok.NonNull;
 import reactor.core.publisher.Flux;
 
 /**
  * This Class holds the different attribute finders and PIPs as a context during
  * evaluation.
  */
-@NoArgsConstructor
 public class AnnotationAttributeContext implements AttributeContext {
 
     static final String FIRST_PARAMETER_NOT_PRESENT_S_ERROR                     = "Argument missing. First parameter of the method '%s' must be a Val for taking in the left-hand argument, but no argument was present.";
@@ -74,12 +78,39 @@ public class AnnotationAttributeContext implements AttributeContext {
 
     private final Collection<PolicyInformationPointDocumentation> pipDocumentations = new LinkedList<>();
 
+    private final Map<Method, AttributeCache> attributeCaches = new HashMap<>();
+
+    private final Map<String, AttributeCache> attributeCachesByCodeTemplate = new HashMap<>();
+
+    private final AttributeFinderGuard attributeFinderGuard = new AttributeFinderGuard();
+
     private List<String> functionsCache;
 
     private List<String> templatesCacheEnvironment;
 
     private List<String> templatesCache;
 
+    @Getter
+    private final AttributeStreamBroker attributeStreamBroker;
+
+    /**
+     * Create an empty context which invokes the attribute finders for each
+     * subscription.
+     */
+    public AnnotationAttributeContext() {
+        this(AttributeStreamBroker.unshared());
+    }
+
+    /**
+     * Create an empty context.
+     *
+     * @param attributeStreamBroker shares the streams of attribute finders between
+     *                              subscriptions
+     */
+    public AnnotationAttributeContext(@NonNull AttributeStreamBroker attributeStreamBroker) {
+        this.attributeStreamBroker = attributeStreamBroker;
+    }
+
     /**
      * Create context from a supplied PIPs.
      *
@@ -90,6 +121,7 @@ public class AnnotationAttributeContext implements AttributeContext {
      */
     public AnnotationAttributeContext(PolicyInformationPointSupplier pipSupplier,
             StaticPolicyInformationPointSupplier staticPipSupplier) throws InitializationException {
+        this();
         loadPolicyInformationPoints(pipSupplier);
         loadPolicyInformationPoints(staticPipSupplier);
     }
@@ -141,10 +173,8 @@ public Flux<Val> evaluateEnvironmentAttribute(String attributeName, Arguments ar
 
     private Flux<Val> evaluateEnvironmentAttribute(String attributeName, AttributeFinderMetadata attributeMetadata,
             Arguments arguments, Map<String, Val> variables) {
-        var pip    = attributeMetadata.getPolicyInformationPoint();
-        var method = attributeMetadata.getFunction();
         return attributeFinderArguments(attributeMetadata, arguments, variables)
-                .switchMap(invokeAttributeFinderMethod(attributeName, pip, method));
+                .switchMap(invokeAttributeFinderMethod(attributeName, attributeMetadata));
     }
 
     private AttributeFinderMetadata lookupAttribute(String attributeName, int numberOfParameters,
@@ -166,38 +196,49 @@ else if (candidate.numberOfParameters == numberOfParameters)
 
     private Flux<Val> evaluateAttribute(String attributeName, AttributeFinderMetadata attributeMetadata,
             Val leftHandValue, Arguments arguments, Map<String, Val> variables) {
-
-        var pip    = attributeMetadata.getPolicyInformationPoint();
-        var method = attributeMetadata.getFunction();
-
         return attributeFinderArguments(attributeMetadata, leftHandValue, arguments, variables)
-                .switchMap(invokeAttributeFinderMethod(attributeName, pip, method));
+                .switchMap(invokeAttributeFinderMethod(attributeName, attributeMetadata));
     }
 
-    @SuppressWarnings("unchecked")
-    private Function<Object[], Publisher<? extends Val>> invokeAttributeFinderMethod(String attributeName, Object pip,
-            Method method) {
+    private Function<Object[], Publisher<? extends Val>> invokeAttributeFinderMethod(String attributeName,
+            AttributeFinderMetadata attributeMetadata) {
+        var pip            = attributeMetadata.getPolicyInformationPoint();
+        var method         = attributeMetadata.getFunction();
+        var attributeCache = attributeCaches.get(method);
         return invocationParameters -> {
-            try {
-                return ((Flux<Val>) method.invoke(pip, invocationParameters)).map(val -> {
-                    var trace = new HashMap<String, Val>();
-                    trace.put("attribute", Val.of(attributeName));
-                    for (int i = 0; i < invocationParameters.length; i++) {
-                        if (invocationParameters[i] instanceof Val)
-                            trace.put("argument[" + i + "]", (Val) (invocationParameters[i]));
-                        if (invocationParameters[i] instanceof Map) {
-                            trace.put("argument[" + i + "]", Val.of("VARIABLES OMITTED"));
-                        }
-                    }
-                    trace.put("timestamp", Val.of(Instant.now().toString()));
-                    return val.withTrace(AttributeContext.class, false, trace);
-                });
-            } catch (InvocationTargetException | IllegalAccessException | IllegalArgumentException e) {
-                return Flux.just(ErrorUtil.causeOrMessage(e));
-            }
+            var                 key        = AttributeStreamKey.of(attributeName, method, invocationParameters);
+            Supplier<Flux<Val>> invocation = () -> attributeStreamBroker.attributeStream(key,
+                    () -> Flux.deferContextual(ctx -> attributeFinderGuard.guard(attributeMetadata,
+                            AuthorizationContext.getAttributeFinderGuardSettings(ctx),
+                            () -> invokeAttributeFinderMethod(attributeName, pip, method, invocationParameters))));
+            if (attributeCache == null)
+                return invocation.get();
+            return attributeCache.attributeStream(key, invocation);
         };
     }
 
+    @SuppressWarnings("unchecked")
+    private Flux<Val> invokeAttributeFinderMethod(String attributeName, Object pip, Method method,
+            Object[] invocationParameters) {
+        try {
+            return ((Flux<Val>) method.invoke(pip, invocationParameters)).map(val -> {
+                var trace = new HashMap<String, Val>();
+                trace.put("attribute", Val.of(attributeName));
+                for (int i = 0; i < invocationParameters.length; i++) {
+                    if (invocationParameters[i] instanceof Val)
+                        trace.put("argument[" + i + "]", (Val) (invocationParameters[i]));
+                    if (invocationParameters[i] instanceof Map) {
+                        trace.put("argument[" + i + "]", Val.of("VARIABLES OMITTED"));
+                    }
+                }
+                trace.put("timestamp", Val.of(Instant.now().toString()));
+                return val.withTrace(AttributeContext.class, false, trace);
+            });
+        } catch (InvocationTargetException | IllegalAccessException | IllegalArgumentException e) {
+            return Flux.just(ErrorUtil.causeOrMessage(e));
+        }
+    }
+
     private List<Flux<Val>> validatedArguments(AttributeFinderMetadata attributeMetadata, Arguments arguments) {
         var argumentFluxes                   = new ArrayList<Flux<Val>>(arguments.getArgs().size());
         var indexOfArgumentParameterOfMethod = 0;
@@ -415,6 +456,24 @@ private void importAttribute(Object policyInformationPoint, String pipName,
         namedAttributes.add(metadata);
         attributeNamesByPipName.get(pipName).add(attributeName);
         pipDocumentation.documentation.put(metadata.getDocumentationCodeTemplate(), documentation);
+
+        var cacheSettings = method.getAnnotation(CachedAttribute.class);
+        if (cacheSettings != null) {
+            var attributeCache = AttributeCache.of(name, cacheSettings);
+            attributeCaches.put(method, attributeCache);
+            attributeCachesByCodeTemplate.put(metadata.getDocumentationCodeTemplate(), attributeCache);
+        }
+    }
+
+    /**
+     * @return the counters of the caches of all attribute finders declaring
+     *         {@link CachedAttribute}, by the code template of the attribute
+     */
+    public Map<String, AttributeCache.Statistics> getAttributeCacheStatistics() {
+        var statistics = new HashMap<String, AttributeCache.Statistics>();
+        attributeCachesByCodeTemplate
+                .forEach((codeTemplate, cache) -> statistics.put(codeTemplate, cache.getStatistics()));
+        return Collections.unmodifiableMap(statistics);
     }
 
     private void assertMethodIsStatic(Method method) throws InitializationException {
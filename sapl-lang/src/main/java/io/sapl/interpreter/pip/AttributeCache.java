@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.interpreter.pip;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import io.sapl.api.interpreter.Val;
+import io.sapl.api.pip.CachedAttribute;
+import io.sapl.interpreter.InitializationException;
+import io.sapl.interpreter.pip.AttributeStreamBroker.AttributeStreamKey;
+import reactor.core.publisher.Flux;
+
+/**
+ * Caches the values of an attribute finder declaring {@link CachedAttribute}.
+ * <p>
+ * The latest value of each invocation is returned for the time to live without
+ * invoking the attribute finder. Afterwards, the value may still be returned
+ * for the stale-while-revalidate period, while a single background invocation
+ * refreshes the cache. The number of cached invocations is bounded, the least
+ * recently used invocations are evicted first. Concurrent lookups missing the
+ * cache for the same invocation share a single invocation of the attribute
+ * finder.
+ */
+public final class AttributeCache {
+
+    static final String INVALID_TIME_TO_LIVE_S_ERROR           = "Cached attribute %s must declare a positive time to live.";
+    static final String INVALID_MAXIMUM_SIZE_S_ERROR           = "Cached attribute %s must declare a positive maximum size.";
+    static final String INVALID_STALE_WHILE_REVALIDATE_S_ERROR = "Cached attribute %s must not declare a negative stale-while-revalidate period.";
+
+    /**
+     * Counters of a cache.
+     *
+     * @param hits      lookups answered with a fresh value
+     * @param staleHits lookups answered with a stale value while revalidating
+     * @param misses    lookups which invoked the attribute finder, concurrent
+     *                  lookups sharing an invocation count once
+     * @param evictions values removed due to the size bound or their age
+     */
+    public record Statistics(long hits, long staleHits, long misses, long evictions) {
+    }
+
+    private record CachedValue(Val value, long writeTime) {
+    }
+
+    private final Cache<AttributeStreamKey, CachedValue> values;
+
+    private final Set<AttributeStreamKey> revalidations = ConcurrentHashMap.newKeySet();
+
+    private final SharedStreams<AttributeStreamKey, Val> invocationsInFlight = new SharedStreams<>(Duration.ZERO);
+
+    private final Ticker ticker;
+
+    private final long timeToLive;
+
+    private final boolean cacheErrors;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong staleHits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    AttributeCache(Duration timeToLive, Duration staleWhileRevalidate, long maximumSize, boolean cacheErrors,
+            Ticker ticker) {
+        this.ticker      = ticker;
+        this.timeToLive  = timeToLive.toNanos();
+        this.cacheErrors = cacheErrors;
+        this.values      = CacheBuilder.newBuilder().ticker(ticker).maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive.plus(staleWhileRevalidate)).recordStats().build();
+    }
+
+    /**
+     * @param attributeName the name of the attribute
+     * @param settings      the caching settings declared by the attribute finder
+     * @return a cache applying the settings
+     * @throws InitializationException if the settings are invalid
+     */
+    static AttributeCache of(String attributeName, CachedAttribute settings) throws InitializationException {
+        if (settings.timeToLiveMillis() <= 0L)
+            throw new InitializationException(INVALID_TIME_TO_LIVE_S_ERROR, attributeName);
+        if (settings.maximumSize() <= 0L)
+            throw new InitializationException(INVALID_MAXIMUM_SIZE_S_ERROR, attributeName);
+        if (settings.staleWhileRevalidateMillis() < 0L)
+            throw new InitializationException(INVALID_STALE_WHILE_REVALIDATE_S_ERROR, attributeName);
+        return new AttributeCache(Duration.ofMillis(settings.timeToLiveMillis()),
+                Duration.ofMillis(settings.staleWhileRevalidateMillis()), settings.maximumSize(),
+                settings.cacheErrors(), Ticker.systemTicker());
+    }
+
+    Flux<Val> attributeStream(AttributeStreamKey key, Supplier<Flux<Val>> attributeFinderInvocation) {
+        return Flux.defer(() -> {
+            var cachedValue = values.getIfPresent(key);
+            if (cachedValue != null) {
+                if (ticker.read() - cachedValue.writeTime() < timeToLive) {
+                    hits.incrementAndGet();
+                } else {
+                    staleHits.incrementAndGet();
+                    revalidate(key, attributeFinderInvocation);
+                }
+                return Flux.just(cachedValue.value());
+            }
+            return invocationsInFlight.share(key, () -> invoke(key, attributeFinderInvocation));
+        });
+    }
+
+    private Flux<Val> invoke(AttributeStreamKey key, Supplier<Flux<Val>> attributeFinderInvocation) {
+        misses.incrementAndGet();
+        return attributeFinderInvocation.get().doOnNext(value -> store(key, value));
+    }
+
+    private void revalidate(AttributeStreamKey key, Supplier<Flux<Val>> attributeFinderInvocation) {
+        if (!revalidations.add(key))
+            return;
+        Flux.defer(attributeFinderInvocation).next().doFinally(signal -> revalidations.remove(key)).onErrorComplete()
+                .subscribe(value -> store(key, value));
+    }
+
+    private void store(AttributeStreamKey key, Val value) {
+        if (value.isError() && !cacheErrors)
+            return;
+        values.put(key, new CachedValue(value, ticker.read()));
+    }
+
+    /**
+     * @return the current counters of the cache
+     */
+    public Statistics getStatistics() {
+        return new Statistics(hits.get(), staleHits.get(), misses.get(), values.stats().evictionCount());
+    }
+
+}
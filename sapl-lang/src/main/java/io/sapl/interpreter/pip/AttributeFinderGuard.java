@@ -0,0 +1,221 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.interpreter.pip;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import io.sapl.api.interpreter.Val;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Applies timeouts, bulkheads and circuit breakers to attribute finder
+ * invocations.
+ * <p>
+ * The settings of an attribute take precedence over the settings of its policy
+ * information point. The state of bulkheads and circuit breakers is kept per
+ * settings name, i.e., all attributes of a policy information point configured
+ * as a whole share one bulkhead and one circuit breaker. Only the first value
+ * of an invocation is supervised, so streaming attribute finders are not
+ * limited once they delivered their first value.
+ */
+@Slf4j
+class AttributeFinderGuard {
+
+    static final String TIMEOUT_S_ERROR              = "Attribute %s did not return a value within %s.";
+    static final String TOO_MANY_INVOCATIONS_S_ERROR = "Too many concurrent invocations of attribute %s.";
+    static final String OPEN_CIRCUIT_S_ERROR         = "Attribute %s is temporarily unavailable.";
+
+    private enum Admission {
+        ADMITTED, TRIAL, REJECTED
+    }
+
+    private final Map<String, AtomicInteger> activeInvocations = new ConcurrentHashMap<>();
+
+    private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    private final LongSupplier nanoClock;
+
+    AttributeFinderGuard() {
+        this(System::nanoTime);
+    }
+
+    AttributeFinderGuard(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    Flux<Val> guard(AttributeFinderMetadata attribute, Map<String, AttributeFinderGuardSettings> settingsByName,
+            Supplier<Flux<Val>> attributeFinderInvocation) {
+        var attributeName = attribute.fullyQualifiedName();
+        var settingsName  = settingsByName.containsKey(attributeName) ? attributeName : attribute.getLibraryName();
+        var settings      = settingsByName.get(settingsName);
+        if (settings == null)
+            return attributeFinderInvocation.get();
+        return Flux.defer(() -> guard(attributeName, settingsName, settings, attributeFinderInvocation));
+    }
+
+    private Flux<Val> guard(String attributeName, String settingsName, AttributeFinderGuardSettings settings,
+            Supplier<Flux<Val>> attributeFinderInvocation) {
+        var circuitBreaker = settings.hasCircuitBreaker()
+                ? circuitBreakers.computeIfAbsent(settingsName, name -> new CircuitBreaker())
+                : null;
+        var admission      = circuitBreaker == null ? Admission.ADMITTED
+                : circuitBreaker.admit(nanoClock.getAsLong(), settings);
+        if (admission == Admission.REJECTED)
+            return Flux.just(openCircuitError(attributeName, settings));
+
+        var active = activeInvocations.computeIfAbsent(settingsName, name -> new AtomicInteger());
+        if (settings.hasBulkhead() && active.incrementAndGet() > settings.maxConcurrentInvocations()) {
+            active.decrementAndGet();
+            if (admission == Admission.TRIAL)
+                circuitBreaker.abandonTrial();
+            return Flux.just(Val.error(TOO_MANY_INVOCATIONS_S_ERROR, attributeName));
+        }
+
+        var invocation = new SupervisedInvocation(settingsName, settings, circuitBreaker, admission, active);
+        var values     = attributeFinderInvocation.get();
+        if (settings.hasTimeout()) {
+            values = values.timeout(Mono.delay(settings.timeout()), value -> Mono.never()).onErrorResume(
+                    TimeoutException.class,
+                    error -> Flux.just(Val.error(TIMEOUT_S_ERROR, attributeName, settings.timeout())));
+        }
+        return values.doOnNext(value -> invocation.settle(value.isError())).doOnError(error -> invocation.settle(true))
+                .doFinally(signal -> invocation.abandon());
+    }
+
+    private static Val openCircuitError(String attributeName, AttributeFinderGuardSettings settings) {
+        if (settings.openCircuitError() != null)
+            return Val.error(settings.openCircuitError());
+        return Val.error(OPEN_CIRCUIT_S_ERROR, attributeName);
+    }
+
+    /**
+     * Tracks one invocation until its first value, error or cancellation.
+     */
+    private final class SupervisedInvocation {
+
+        private final AtomicBoolean settled = new AtomicBoolean();
+
+        private final String settingsName;
+
+        private final AttributeFinderGuardSettings settings;
+
+        private final CircuitBreaker circuitBreaker;
+
+        private final Admission admission;
+
+        private final AtomicInteger active;
+
+        private SupervisedInvocation(String settingsName, AttributeFinderGuardSettings settings,
+                CircuitBreaker circuitBreaker, Admission admission, AtomicInteger active) {
+            this.settingsName   = settingsName;
+            this.settings       = settings;
+            this.circuitBreaker = circuitBreaker;
+            this.admission      = admission;
+            this.active         = active;
+        }
+
+        void settle(boolean failed) {
+            if (!release())
+                return;
+            if (circuitBreaker == null)
+                return;
+            if (!failed)
+                circuitBreaker.onSuccess();
+            else if (circuitBreaker.onFailure(nanoClock.getAsLong(), settings.failureThreshold()))
+                log.warn("Circuit breaker of '{}' opened for {}.", settingsName, settings.openDuration());
+        }
+
+        void abandon() {
+            if (release() && admission == Admission.TRIAL)
+                circuitBreaker.abandonTrial();
+        }
+
+        private boolean release() {
+            if (!settled.compareAndSet(false, true))
+                return false;
+            if (settings.hasBulkhead())
+                active.decrementAndGet();
+            return true;
+        }
+
+    }
+
+    /**
+     * Opens after a number of consecutive failures. Once the open duration elapsed,
+     * a single trial invocation decides whether the circuit closes or opens again.
+     */
+    private static final class CircuitBreaker {
+
+        private int consecutiveFailures;
+
+        private boolean open;
+
+        private boolean trialInProgress;
+
+        private long openedAt;
+
+        synchronized Admission admit(long now, AttributeFinderGuardSettings settings) {
+            if (!open)
+                return Admission.ADMITTED;
+            if (trialInProgress || now - openedAt < settings.openDuration().toNanos())
+                return Admission.REJECTED;
+            trialInProgress = true;
+            return Admission.TRIAL;
+        }
+
+        synchronized void onSuccess() {
+            consecutiveFailures = 0;
+            open                = false;
+            trialInProgress     = false;
+        }
+
+        /**
+         * A failure while open, i.e., of a trial invocation, restarts the open
+         * duration.
+         *
+         * @return true, if the circuit breaker opened
+         */
+        synchronized boolean onFailure(long now, int failureThreshold) {
+            trialInProgress = false;
+            consecutiveFailures++;
+            if (open) {
+                openedAt = now;
+                return false;
+            }
+            if (consecutiveFailures < failureThreshold)
+                return false;
+            open     = true;
+            openedAt = now;
+            return true;
+        }
+
+        synchronized void abandonTrial() {
+            trialInProgress = false;
+        }
+
+    }
+
+}
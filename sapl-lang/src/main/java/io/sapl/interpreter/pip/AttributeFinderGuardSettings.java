@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.interpreter.pip;
+
+import java.time.Duration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Bounds the invocations of the attribute finders of a policy information point
+ * or of a single attribute. All limits are disabled if not positive.
+ *
+ * @param timeout                  time in which an attribute finder has to
+ *                                 return its first value
+ * @param maxConcurrentInvocations maximum number of invocations waiting for
+ *                                 their first value at the same time
+ * @param failureThreshold         number of consecutive failed invocations
+ *                                 after which the circuit breaker opens
+ * @param openDuration             time for which an open circuit breaker
+ *                                 rejects invocations before admitting a trial
+ *                                 invocation
+ * @param openCircuitError         message of the error returned while the
+ *                                 circuit breaker is open, null for a default
+ *                                 message
+ */
+public record AttributeFinderGuardSettings(Duration timeout, int maxConcurrentInvocations, int failureThreshold,
+        Duration openDuration, String openCircuitError) {
+
+    /**
+     * Default time for which an open circuit breaker rejects invocations.
+     */
+    public static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30L);
+
+    /**
+     * Reads the settings from their representation in pdp.json, e.g.:
+     *
+     * <pre>
+     * { "timeoutMillis": 500, "maxConcurrentInvocations": 100,
+     *   "failureThreshold": 5, "openMillis": 30000,
+     *   "openCircuitError": "The HTTP PIP is unavailable." }
+     * </pre>
+     *
+     * @param json the settings
+     * @return the settings with omitted fields disabled
+     */
+    public static AttributeFinderGuardSettings of(JsonNode json) {
+        var openMillis = json.path("openMillis").asLong(0L);
+        return new AttributeFinderGuardSettings(Duration.ofMillis(json.path("timeoutMillis").asLong(0L)),
+                json.path("maxConcurrentInvocations").asInt(0), json.path("failureThreshold").asInt(0),
+                openMillis > 0L ? Duration.ofMillis(openMillis) : DEFAULT_OPEN_DURATION,
+                json.hasNonNull("openCircuitError") ? json.get("openCircuitError").asText() : null);
+    }
+
+    boolean hasTimeout() {
+        return timeout != null && !timeout.isZero() && !timeout.isNegative();
+    }
+
+    boolean hasBulkhead() {
+        return maxConcurrentInvocations > 0;
+    }
+
+    boolean hasCircuitBreaker() {
+        return failureThreshold > 0;
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.interpreter.pip;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import io.sapl.api.interpreter.Val;
+import lombok.NonNull;
+import reactor.core.publisher.Flux;
+
+/**
+ * Shares the streams of attribute finder invocations between all subscriptions
+ * of the PDP.
+ * <p>
+ * Invocations of the same attribute finder with equal left-hand values and
+ * arguments are multicast from one upstream subscription. Late subscribers
+ * immediately receive the latest value. Once the last subscriber left, the
+ * upstream subscription is kept for a grace period, so that a subscription
+ * re-evaluating the attribute shortly after does not invoke the attribute
+ * finder again.
+ */
+public class AttributeStreamBroker {
+
+    private static final AttributeStreamBroker UNSHARED = new AttributeStreamBroker();
+
+    /**
+     * Identifies an invocation of an attribute finder. Arrays of variable arguments
+     * are compared by their elements.
+     */
+    record AttributeStreamKey(String attributeName, Method attributeFinder, List<Object> invocationParameters) {
+
+        static AttributeStreamKey of(String attributeName, Method attributeFinder, Object[] invocationParameters) {
+            var parameters = Arrays.stream(invocationParameters)
+                    .map(parameter -> parameter instanceof Val[] varArgs ? List.of(varArgs) : parameter).toList();
+            return new AttributeStreamKey(attributeName, attributeFinder, parameters);
+        }
+
+        @Override
+        public String toString() {
+            return attributeName + invocationParameters.stream()
+                    .map(parameter -> parameter instanceof Map ? "VARIABLES" : String.valueOf(parameter)).toList();
+        }
+
+    }
+
+    private final SharedStreams<AttributeStreamKey, Val> sharedStreams;
+
+    /**
+     * @param gracePeriod time for which an attribute stream without subscribers is
+     *                    kept alive
+     */
+    public AttributeStreamBroker(@NonNull Duration gracePeriod) {
+        this.sharedStreams = new SharedStreams<>(gracePeriod);
+    }
+
+    private AttributeStreamBroker() {
+        this.sharedStreams = null;
+    }
+
+    /**
+     * @return a broker which invokes the attribute finder for each subscription
+     */
+    public static AttributeStreamBroker unshared() {
+        return UNSHARED;
+    }
+
+    Flux<Val> attributeStream(AttributeStreamKey key, Supplier<Flux<Val>> attributeFinderInvocation) {
+        if (sharedStreams == null)
+            return attributeFinderInvocation.get();
+        return sharedStreams.share(key, attributeFinderInvocation);
+    }
+
+    /**
+     * @return the number of subscribers of each shared attribute stream
+     */
+    public Map<String, Integer> getSubscriberCounts() {
+        if (sharedStreams == null)
+            return Map.of();
+        var subscriberCounts = new HashMap<String, Integer>();
+        sharedStreams.getSubscriberCounts()
+                .forEach((key, subscribers) -> subscriberCounts.merge(key.toString(), subscribers, Integer::sum));
+        return Collections.unmodifiableMap(subscriberCounts);
+    }
+
+}
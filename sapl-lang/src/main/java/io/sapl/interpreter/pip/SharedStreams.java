@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.interpreter.pip;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import lombok.NonNull;
+import reactor.core.publisher.Flux;
+
+/**
+ * Multicasts streams with equal keys from one upstream subscription. Late
+ * subscribers immediately receive the latest value. Once the last subscriber
+ * left, the upstream subscription is kept for a grace period.
+ * <p>
+ * A shared stream is only forgotten if it has neither subscribers nor an
+ * upstream connection. Thus, subscribers joining while the upstream
+ * disconnects, e.g., when the grace period expires, still share the reconnected
+ * upstream.
+ *
+ * @param <K> the type of the keys identifying equal streams
+ * @param <T> the type of the elements of the streams
+ */
+public class SharedStreams<K, T> {
+
+    private record SharedStream<T>(Flux<T> stream, AtomicInteger subscribers, AtomicReference<Object> connection) {
+
+        boolean isUnused() {
+            return subscribers.get() == 0 && connection.get() == null;
+        }
+
+    }
+
+    private final Duration gracePeriod;
+
+    private final Map<K, SharedStream<T>> sharedStreams = new ConcurrentHashMap<>();
+
+    /**
+     * @param gracePeriod time for which a stream without subscribers is kept alive
+     */
+    public SharedStreams(@NonNull Duration gracePeriod) {
+        this.gracePeriod = gracePeriod;
+    }
+
+    /**
+     * @param key      the key identifying equal streams
+     * @param upstream creates the upstream, if no stream with an equal key is
+     *                 shared yet
+     * @return the shared stream
+     */
+    public Flux<T> share(K key, Supplier<Flux<T>> upstream) {
+        return Flux.defer(() -> {
+            // subscribers are counted within the map operation, so that a stream is not
+            // removed concurrently between looking it up and subscribing to it
+            var sharedStream = sharedStreams.compute(key, (k, existing) -> {
+                var stream = existing == null ? sharedStream(k, upstream) : existing;
+                stream.subscribers().incrementAndGet();
+                return stream;
+            });
+            // the subscriber has to be uncounted before its cancellation reaches the
+            // shared stream, which may disconnect immediately
+            var unsubscribed = new AtomicBoolean();
+            return sharedStream.stream().doOnCancel(() -> unsubscribe(key, sharedStream, unsubscribed))
+                    .doFinally(signal -> unsubscribe(key, sharedStream, unsubscribed));
+        });
+    }
+
+    private SharedStream<T> sharedStream(K key, Supplier<Flux<T>> upstream) {
+        var self       = new AtomicReference<SharedStream<T>>();
+        var connection = Flux.defer(() -> connect(key, self.get(), upstream));
+        var stream     = connection.replay(1).refCount(1, gracePeriod);
+        self.set(new SharedStream<>(stream, new AtomicInteger(), new AtomicReference<>()));
+        return self.get();
+    }
+
+    private Flux<T> connect(K key, SharedStream<T> sharedStream, Supplier<Flux<T>> upstream) {
+        var connection = new Object();
+        sharedStream.connection().set(connection);
+        return upstream.get().doFinally(signal -> {
+            sharedStream.connection().compareAndSet(connection, null);
+            removeIfUnused(key, sharedStream);
+        });
+    }
+
+    private void unsubscribe(K key, SharedStream<T> sharedStream, AtomicBoolean unsubscribed) {
+        if (unsubscribed.compareAndSet(false, true) && sharedStream.subscribers().decrementAndGet() == 0)
+            removeIfUnused(key, sharedStream);
+    }
+
+    private void removeIfUnused(K key, SharedStream<T> sharedStream) {
+        sharedStreams.computeIfPresent(key,
+                (k, current) -> current == sharedStream && current.isUnused() ? null : current);
+    }
+
+    /**
+     * @return the number of subscribers of each shared stream
+     */
+    public Map<K, Integer> getSubscriberCounts() {
+        var subscriberCounts = new HashMap<K, Integer>();
+        sharedStreams.forEach((key, stream) -> subscriberCounts.put(key, stream.subscribers().get()));
+        return Collections.unmodifiableMap(subscriberCounts);
+    }
+
+}
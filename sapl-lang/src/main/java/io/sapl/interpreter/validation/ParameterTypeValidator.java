@@ -49,31 +49,36 @@ public class ParameterTypeValidator {
     private static final Set<Class<?>> VALIDATION_ANNOTATIONS = Set.of(Number.class, Int.class, Long.class, Bool.class,
             Text.class, Array.class, JsonObject.class, Schema.class);
 
-    public static void validateType(Val parameterValue, Parameter parameterType) throws IllegalParameterType {
-        if (hasNoValidationAnnotations(parameterType))
-            return;
+    private static final ParameterValidator NO_VALIDATION = parameterValue -> {
+    };
 
-        if (parameterValue.isError())
-            throw new IllegalParameterType(String.format(ILLEGAL_PARAMETER_TYPE_ERROR, "error",
-                    listAllowedTypes(parameterType.getAnnotations())));
-
-        if (parameterValue.isUndefined())
-            throw new IllegalParameterType(String.format(ILLEGAL_PARAMETER_TYPE_ERROR, "undefined",
-                    listAllowedTypes(parameterType.getAnnotations())));
-
-        validateJsonNodeType(parameterValue.get(), parameterType);
+    public static void validateType(Val parameterValue, Parameter parameterType) throws IllegalParameterType {
+        validatorFor(parameterType).validate(parameterValue);
     }
 
     public static Flux<Val> validateType(Flux<Val> parameterFlux, Parameter parameterType) {
         if (hasNoValidationAnnotations(parameterType))
             return parameterFlux;
-        return parameterFlux.map(mapInvalidToError(parameterType));
+        return parameterFlux.map(mapInvalidToError(validatorFor(parameterType)));
     }
 
-    private static Function<Val, Val> mapInvalidToError(Parameter parameterType) {
+    /**
+     * Evaluates the validation annotations of a parameter once. Use the returned
+     * validator when values are validated repeatedly for the same parameter.
+     *
+     * @param parameterType a parameter of a function or attribute finder
+     * @return a validator for values of the parameter
+     */
+    public static ParameterValidator validatorFor(Parameter parameterType) {
+        if (hasNoValidationAnnotations(parameterType))
+            return NO_VALIDATION;
+        return new AnnotationValidator(parameterType.getAnnotations());
+    }
+
+    private static Function<Val, Val> mapInvalidToError(ParameterValidator validator) {
         return val -> {
             try {
-                validateType(val, parameterType);
+                validator.validate(val);
             } catch (IllegalParameterType e) {
                 return Val.error(e);
             }
@@ -81,29 +86,59 @@ private static Function<Val, Val> mapInvalidToError(Parameter parameterType) {
         };
     }
 
-    private static void validateJsonNodeType(JsonNode node, Parameter parameterType) throws IllegalParameterType {
-        Annotation[] annotations = parameterType.getAnnotations();
-        String       errorText;
-        moveSchemaAnnotationToTheEndIfItExists(annotations);
+    private static final class AnnotationValidator implements ParameterValidator {
+
+        private final String       allowedTypes;
+        private final Annotation[] annotations;
+        private final String       allowedTypesInValidationOrder;
+        private final Val[]        schemas;
+
+        private AnnotationValidator(Annotation[] declaredAnnotations) {
+            allowedTypes = listAllowedTypes(declaredAnnotations);
+            annotations  = declaredAnnotations.clone();
+            moveSchemaAnnotationToTheEndIfItExists(annotations);
+            allowedTypesInValidationOrder = listAllowedTypes(annotations);
+            schemas                       = new Val[annotations.length];
+            for (var i = 0; i < annotations.length; i++) {
+                if (annotations[i] instanceof Schema schemaAnnotation && !"".equals(schemaAnnotation.value()))
+                    schemas[i] = parseSchema(schemaAnnotation);
+            }
+        }
+
+        @Override
+        public void validate(Val parameterValue) throws IllegalParameterType {
+            if (parameterValue.isError())
+                throw new IllegalParameterType(String.format(ILLEGAL_PARAMETER_TYPE_ERROR, "error", allowedTypes));
+
+            if (parameterValue.isUndefined())
+                throw new IllegalParameterType(String.format(ILLEGAL_PARAMETER_TYPE_ERROR, "undefined", allowedTypes));
+
+            validateJsonNodeType(parameterValue.get());
+        }
 
-        for (Annotation annotation : annotations) {
-            if (nodeContentsMatchesTypeGivenByAnnotation(node, annotation))
-                return;
-            if (annotation instanceof Schema schemaAnnotation) {
-                if (nodeCompliantWithSchema(node, schemaAnnotation)) {
+        private void validateJsonNodeType(JsonNode node) throws IllegalParameterType {
+            String errorText;
+            for (var i = 0; i < annotations.length; i++) {
+                var annotation = annotations[i];
+                if (nodeContentsMatchesTypeGivenByAnnotation(node, annotation))
                     return;
-                } else {
-                    errorText = schemaAnnotation.errorText();
-                    if (!"".equals(errorText))
-                        throw new IllegalParameterType(errorText);
-                    throw new IllegalParameterType(
-                            String.format(NON_COMPLIANT_WITH_SCHEMA_ERROR, node.toString(), schemaAnnotation.value()));
+                if (annotation instanceof Schema schemaAnnotation) {
+                    if (nodeCompliantWithSchema(node, schemaAnnotation, schemas[i])) {
+                        return;
+                    } else {
+                        errorText = schemaAnnotation.errorText();
+                        if (!"".equals(errorText))
+                            throw new IllegalParameterType(errorText);
+                        throw new IllegalParameterType(String.format(NON_COMPLIANT_WITH_SCHEMA_ERROR, node.toString(),
+                                schemaAnnotation.value()));
+                    }
                 }
             }
+
+            throw new IllegalParameterType(String.format(ILLEGAL_PARAMETER_TYPE_ERROR, node.getNodeType().toString(),
+                    allowedTypesInValidationOrder));
         }
 
-        throw new IllegalParameterType(String.format(ILLEGAL_PARAMETER_TYPE_ERROR, node.getNodeType().toString(),
-                listAllowedTypes(annotations)));
     }
 
     private static boolean nodeContentsMatchesTypeGivenByAnnotation(JsonNode node, Annotation annotation) {
@@ -116,17 +151,22 @@ private static boolean nodeContentsMatchesTypeGivenByAnnotation(JsonNode node, A
                 || (JsonObject.class.isAssignableFrom(annotation.getClass()) && node.isObject());
     }
 
-    private static boolean nodeCompliantWithSchema(JsonNode node, Schema schemaAnnotation) {
-        var schema = schemaAnnotation.value();
-        if ("".equals(schema))
-            return true;
+    private static Val parseSchema(Schema schemaAnnotation) {
         try {
-            return SchemaValidationLibrary.isCompliant(Val.of(node), Val.ofJson(schema)).getBoolean();
+            return Val.ofJson(schemaAnnotation.value());
         } catch (JsonProcessingException e) {
-            return false;
+            return null;
         }
     }
 
+    private static boolean nodeCompliantWithSchema(JsonNode node, Schema schemaAnnotation, Val schema) {
+        if ("".equals(schemaAnnotation.value()))
+            return true;
+        if (schema == null)
+            return false;
+        return SchemaValidationLibrary.isCompliant(Val.of(node), schema).getBoolean();
+    }
+
     private static boolean hasNoValidationAnnotations(Parameter parameterType) {
         for (var annotation : parameterType.getAnnotations())
             if (isTypeValidationAnnotation(annotation))
@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.interpreter.validation;
+
+import io.sapl.api.interpreter.Val;
+
+/**
+ * Validates values against the validation annotations of one parameter. Obtain
+ * instances from {@link ParameterTypeValidator#validatorFor}, which evaluates
+ * the annotations once, so that validating a value does not use reflection.
+ */
+@FunctionalInterface
+public interface ParameterValidator {
+
+    /**
+     * @param parameterValue a value passed as the parameter
+     * @throws IllegalParameterType if the value is not valid for the parameter
+     */
+    void validate(Val parameterValue) throws IllegalParameterType;
+
+}
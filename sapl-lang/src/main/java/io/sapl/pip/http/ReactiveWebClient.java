@@ -22,6 +22,7 @@
 import java.util.ArrayList;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.springframework.core.ParameterizedTypeReference;
@@ -29,6 +30,7 @@
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClient.RequestHeadersSpec;
@@ -47,14 +49,23 @@
 
 import io.sapl.api.interpreter.PolicyEvaluationException;
 import io.sapl.api.interpreter.Val;
-import lombok.RequiredArgsConstructor;
+import io.sapl.interpreter.pip.SharedStreams;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Sinks;
 import reactor.core.publisher.Sinks.Many;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 import reactor.retry.Repeat;
 
-@RequiredArgsConstructor
+/**
+ * Executes the HTTP and WebSocket requests of the HTTP policy information
+ * point.
+ * <p>
+ * All requests share one pool of connections, and one WebClient is kept per
+ * base URL. Concurrent subscriptions to identical requests share a single
+ * upstream request, poll, or stream. Late subscribers receive the last value.
+ */
 public class ReactiveWebClient {
 
     static final String NO_BASE_URL_SPECIFIED_FOR_WEB_REQUEST_ERROR = "No base URL specified for web request.";
@@ -69,12 +80,59 @@ public class ReactiveWebClient {
     static final String CONTENT_MEDIATYPE                           = "contentType";
     static final long   DEFAULT_POLLING_INTERVALL_MS                = 1000L;
     static final long   DEFAULT_REPETITIONS                         = Long.MAX_VALUE;
+    static final int    DEFAULT_MAX_CONNECTIONS                     = 500;
+    static final long   DEFAULT_MAX_IDLE_TIME_MS                    = 30_000L;
 
     private static final JsonNodeFactory JSON             = JsonNodeFactory.instance;
     private static final TextNode        APPLICATION_JSON = JSON.textNode(MediaType.APPLICATION_JSON.toString());
 
+    private record SharedRequestKey(String method, JsonNode requestSettings) {
+    }
+
     private final ObjectMapper mapper;
 
+    private final HttpClient httpClient;
+
+    private final ReactorNettyWebSocketClient webSocketClient;
+
+    private final Map<String, WebClient> webClientsByBaseUrl = new ConcurrentHashMap<>();
+
+    private final SharedStreams<SharedRequestKey, Val> sharedRequests = new SharedStreams<>(Duration.ZERO);
+
+    /**
+     * Creates a client with a connection pool of default size.
+     *
+     * @param mapper the ObjectMapper for converting request settings
+     */
+    public ReactiveWebClient(ObjectMapper mapper) {
+        this(mapper, connectionPool(DEFAULT_MAX_CONNECTIONS, Duration.ofMillis(DEFAULT_MAX_IDLE_TIME_MS)));
+    }
+
+    /**
+     * Creates a client using the given pool of connections for all requests.
+     *
+     * @param mapper             the ObjectMapper for converting request settings
+     * @param connectionProvider the connection pool
+     */
+    public ReactiveWebClient(ObjectMapper mapper, ConnectionProvider connectionProvider) {
+        this.mapper          = mapper;
+        this.httpClient      = HttpClient.create(connectionProvider);
+        this.webSocketClient = new ReactorNettyWebSocketClient(httpClient);
+    }
+
+    /**
+     * Creates a pool of connections. The pool has to be disposed by its owner once
+     * it is no longer used.
+     *
+     * @param maxConnections the maximum number of connections per remote host
+     * @param maxIdleTime    the time after which idle connections are closed
+     * @return a connection pool for HTTP requests
+     */
+    public static ConnectionProvider connectionPool(int maxConnections, Duration maxIdleTime) {
+        return ConnectionProvider.builder("sapl-http-pip").maxConnections(maxConnections).maxIdleTime(maxIdleTime)
+                .build();
+    }
+
     /**
      * <p>
      * Connects to an HTTP service and produces a Flux&lt;Val&gt;
@@ -86,6 +144,15 @@ public class ReactiveWebClient {
      * @return a @see Flux&lt;@see Val&gt;
      */
     public Flux<Val> httpRequest(HttpMethod method, Val requestSettings) {
+        baseUrl(requestSettings);
+        longOrDefault(requestSettings, POLLING_INTERVAL, DEFAULT_POLLING_INTERVALL_MS);
+        longOrDefault(requestSettings, REPEAT_TIMES, DEFAULT_REPETITIONS);
+        // the request is only built if no identical request is shared yet
+        return sharedRequests.share(new SharedRequestKey(method.name(), requestSettings.get()),
+                () -> unsharedHttpRequest(method, requestSettings));
+    }
+
+    private Flux<Val> unsharedHttpRequest(HttpMethod method, Val requestSettings) {
         var baseUrl            = baseUrl(requestSettings);
         var path               = requestSettings.fieldValOrElse(PATH, Val.of("")).get().asText();
         var urlParameters      = toStringMap(requestSettings.fieldJsonNodeOrElse(URL_PARAMS, JSON::objectNode));
@@ -97,8 +164,7 @@ public Flux<Val> httpRequest(HttpMethod method, Val requestSettings) {
         var body               = requestSettings.fieldJsonNodeOrElse(BODY, (JsonNode) null);
 
         // @formatter:off
-        var spec = WebClient.builder()
-                            .baseUrl(baseUrl).build()
+        var spec = webClient(baseUrl)
                             .method(method)
                             .uri(u -> setUrlParams(u, urlParameters).path(path).build())
                             .headers(h -> setHeaders(h,requestHeaders))
@@ -127,19 +193,25 @@ public Flux<Val> httpRequest(HttpMethod method, Val requestSettings) {
      * @return a Flux of incoming messages
      */
     public Flux<Val> consumeWebSocket(Val requestSettings) {
+        baseUrl(requestSettings);
+        // the connection is only established upon subscription
+        return sharedRequests.share(new SharedRequestKey("WEBSOCKET", requestSettings.get()),
+                () -> unsharedWebSocket(requestSettings));
+    }
+
+    private Flux<Val> unsharedWebSocket(Val requestSettings) {
         var baseUrl        = baseUrl(requestSettings);
         var path           = requestSettings.fieldValOrElse(PATH, Val.of("")).get().asText();
         var requestHeaders = requestSettings.fieldJsonNodeOrElse(HEADERS, JSON::objectNode);
         var uri            = URI.create(baseUrl + path);
         var body           = requestSettings.fieldJsonNodeOrElse(BODY, (JsonNode) null);
-        var client         = new ReactorNettyWebSocketClient();
 
         var headers = new HttpHeaders();
         setHeaders(headers, requestHeaders);
 
         var             sessionReference = new AtomicReference<WebSocketSession>();
         Sinks.Many<Val> receiveBuffer    = Sinks.many().unicast().onBackpressureBuffer();
-        client.execute(uri, headers, session -> {
+        webSocketClient.execute(uri, headers, session -> {
             sessionReference.set(session);
             return sendAndListen(session, body, receiveBuffer);
         }).subscribe();
@@ -150,6 +222,11 @@ public Flux<Val> consumeWebSocket(Val requestSettings) {
         // @formatter:on
     }
 
+    private WebClient webClient(String baseUrl) {
+        return webClientsByBaseUrl.computeIfAbsent(baseUrl, url -> WebClient.builder().baseUrl(url)
+                .clientConnector(new ReactorClientHttpConnector(httpClient)).build());
+    }
+
     private void setHeaders(HttpHeaders headers, JsonNode requestHeaders) {
         requestHeaders.fields().forEachRemaining(field -> {
             var key   = field.getKey();
@@ -43,6 +43,14 @@ public Flux<PolicyRetrievalResult> retrievePolicies() {
         return Flux.from(index).flatMap(ImmutableParsedDocumentIndex::retrievePolicies);
     }
 
+    /*
+     * Every index built from an update event is a new generation.
+     */
+    @Override
+    public Flux<?> generations() {
+        return index;
+    }
+
     @Override
     public void dispose() {
         indexSubscription.dispose();
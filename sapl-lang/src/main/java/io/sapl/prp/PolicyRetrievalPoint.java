@@ -25,6 +25,8 @@
  */
 public interface PolicyRetrievalPoint {
 
+    String GENERATIONS_UNSUPPORTED_ERROR = "The policy retrieval point does not signal new generations of documents.";
+
     /**
      * Returns a {@link Flux} of policy retrieval results containing all the
      * policies or policy sets having a target expression that matches the given
@@ -37,6 +39,20 @@ public interface PolicyRetrievalPoint {
      */
     Flux<PolicyRetrievalResult> retrievePolicies();
 
+    /**
+     * Returns a {@link Flux} emitting whenever a new generation of the policy
+     * documents becomes available, starting with the current generation. Results
+     * derived from an earlier generation may no longer be valid. The elements
+     * emitted carry no further meaning.
+     * <p>
+     * By default, the generations cannot be observed and the {@link Flux} fails.
+     *
+     * @return a {@link Flux} signaling new generations of the policy documents.
+     */
+    default Flux<?> generations() {
+        return Flux.error(new UnsupportedOperationException(GENERATIONS_UNSUPPORTED_ERROR));
+    }
+
     /**
      * Release all claimed resources
      */
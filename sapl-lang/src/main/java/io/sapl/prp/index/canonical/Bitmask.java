@@ -17,76 +17,212 @@
  */
 package io.sapl.prp.index.canonical;
 
-import java.util.BitSet;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.Consumer;
+import java.util.Arrays;
+import java.util.StringJoiner;
+import java.util.function.IntConsumer;
 
 import com.google.common.base.Preconditions;
 
+/**
+ * A set of non-negative integers backed by an array of longs. In contrast to
+ * {@link java.util.BitSet}, the mask can be overwritten in place by
+ * {@link #copyFrom(Bitmask)}, which allows to reuse instances as scratch
+ * buffers, and the set bits are iterated without boxing.
+ */
 public class Bitmask {
 
-    private final BitSet impl;
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+
+    private static final int BITS_PER_WORD = 1 << ADDRESS_BITS_PER_WORD;
+
+    private static final long WORD_MASK = 0xFFFFFFFFFFFFFFFFL;
+
+    private static final String NEGATIVE_INDEX_ERROR = "Bit index must not be negative: %s";
+
+    private static final String ILLEGAL_RANGE_ERROR = "Illegal bit range: [%s, %s)";
+
+    private long[] words;
 
-    // force initial capacity?
     public Bitmask() {
-        impl = new BitSet();
+        words = new long[1];
+    }
+
+    /**
+     * Creates an empty mask with sufficient capacity for the given number of bits.
+     *
+     * @param numberOfBits the number of bits the mask can hold without growing
+     */
+    public Bitmask(int numberOfBits) {
+        Preconditions.checkArgument(numberOfBits >= 0, NEGATIVE_INDEX_ERROR, numberOfBits);
+        words = new long[wordIndex(numberOfBits + BITS_PER_WORD - 1)];
     }
 
     public Bitmask(final Bitmask mask) {
-        impl = (BitSet) mask.impl.clone();
+        words = mask.words.clone();
     }
 
     public void and(Bitmask mask) {
-        impl.and(mask.impl);
+        var other         = mask.words;
+        var wordsInCommon = Math.min(words.length, other.length);
+        for (var i = 0; i < wordsInCommon; i++) {
+            words[i] &= other[i];
+        }
+        Arrays.fill(words, wordsInCommon, words.length, 0L);
     }
 
     public void andNot(Bitmask mask) {
-        impl.andNot(mask.impl);
+        var other         = mask.words;
+        var wordsInCommon = Math.min(words.length, other.length);
+        for (var i = 0; i < wordsInCommon; i++) {
+            words[i] &= ~other[i];
+        }
+    }
+
+    public void or(Bitmask mask) {
+        var other = mask.words;
+        ensureCapacity(other.length);
+        for (var i = 0; i < other.length; i++) {
+            words[i] |= other[i];
+        }
+    }
+
+    /**
+     * Overwrites this mask with the content of another one. The storage of this
+     * mask is only reallocated if it is too small.
+     *
+     * @param mask the mask to copy
+     */
+    public void copyFrom(Bitmask mask) {
+        var other = mask.words;
+        ensureCapacity(other.length);
+        System.arraycopy(other, 0, words, 0, other.length);
+        Arrays.fill(words, other.length, words.length, 0L);
+    }
+
+    public void clear() {
+        Arrays.fill(words, 0L);
     }
 
     public void clear(int bitIndex) {
-        impl.clear(bitIndex);
+        assertNotNegative(bitIndex);
+        var wordIndex = wordIndex(bitIndex);
+        if (wordIndex < words.length) {
+            words[wordIndex] &= ~(1L << bitIndex);
+        }
     }
 
     public void flip(int fromIndex, int toIndex) {
-        impl.flip(fromIndex, toIndex);
+        assertValidRange(fromIndex, toIndex);
+        if (fromIndex == toIndex) {
+            return;
+        }
+        var startWordIndex = wordIndex(fromIndex);
+        var endWordIndex   = wordIndex(toIndex - 1);
+        ensureCapacity(endWordIndex + 1);
+
+        var firstWordMask = WORD_MASK << fromIndex;
+        var lastWordMask  = WORD_MASK >>> -toIndex;
+        if (startWordIndex == endWordIndex) {
+            words[startWordIndex] ^= firstWordMask & lastWordMask;
+        } else {
+            words[startWordIndex] ^= firstWordMask;
+            for (var i = startWordIndex + 1; i < endWordIndex; i++) {
+                words[i] ^= WORD_MASK;
+            }
+            words[endWordIndex] ^= lastWordMask;
+        }
     }
 
     public boolean intersects(Bitmask mask) {
-        return impl.intersects(mask.impl);
-    }
-
-    public void or(Bitmask mask) {
-        impl.or(mask.impl);
+        var other         = mask.words;
+        var wordsInCommon = Math.min(words.length, other.length);
+        for (var i = 0; i < wordsInCommon; i++) {
+            if ((words[i] & other[i]) != 0L) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public void set(int bitIndex) {
-        impl.set(bitIndex);
+        assertNotNegative(bitIndex);
+        var wordIndex = wordIndex(bitIndex);
+        ensureCapacity(wordIndex + 1);
+        words[wordIndex] |= 1L << bitIndex;
     }
 
     public void set(int fromIndex, int toIndex) {
-        impl.set(fromIndex, toIndex);
+        assertValidRange(fromIndex, toIndex);
+        if (fromIndex == toIndex) {
+            return;
+        }
+        var startWordIndex = wordIndex(fromIndex);
+        var endWordIndex   = wordIndex(toIndex - 1);
+        ensureCapacity(endWordIndex + 1);
+
+        var firstWordMask = WORD_MASK << fromIndex;
+        var lastWordMask  = WORD_MASK >>> -toIndex;
+        if (startWordIndex == endWordIndex) {
+            words[startWordIndex] |= firstWordMask & lastWordMask;
+        } else {
+            words[startWordIndex] |= firstWordMask;
+            Arrays.fill(words, startWordIndex + 1, endWordIndex, WORD_MASK);
+            words[endWordIndex] |= lastWordMask;
+        }
     }
 
     public int numberOfBitsSet() {
-        AtomicInteger numberOfBitsSets = new AtomicInteger();
-        forEachSetBit(index -> numberOfBitsSets.getAndIncrement());
-
-        return numberOfBitsSets.get();
+        var numberOfBitsSet = 0;
+        for (var word : words) {
+            numberOfBitsSet += Long.bitCount(word);
+        }
+        return numberOfBitsSet;
     }
 
-    public void forEachSetBit(final Consumer<Integer> action) {
+    public void forEachSetBit(final IntConsumer action) {
         Preconditions.checkNotNull(action);
-        impl.stream().forEach(action::accept);
+        for (var wordIndex = 0; wordIndex < words.length; wordIndex++) {
+            var word = words[wordIndex];
+            while (word != 0L) {
+                action.accept(wordIndex * BITS_PER_WORD + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
     }
 
     public boolean isSet(int bitIndex) {
-        return impl.get(bitIndex);
+        assertNotNegative(bitIndex);
+        var wordIndex = wordIndex(bitIndex);
+        return wordIndex < words.length && (words[wordIndex] & (1L << bitIndex)) != 0L;
+    }
+
+    private void ensureCapacity(int wordsRequired) {
+        if (words.length < wordsRequired) {
+            words = Arrays.copyOf(words, Math.max(2 * words.length, wordsRequired));
+        }
+    }
+
+    private static int wordIndex(int bitIndex) {
+        return bitIndex >> ADDRESS_BITS_PER_WORD;
+    }
+
+    private static void assertNotNegative(int bitIndex) {
+        if (bitIndex < 0) {
+            throw new IndexOutOfBoundsException(String.format(NEGATIVE_INDEX_ERROR, bitIndex));
+        }
+    }
+
+    private static void assertValidRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex < 0 || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(String.format(ILLEGAL_RANGE_ERROR, fromIndex, toIndex));
+        }
     }
 
     @Override
     public String toString() {
-        return String.valueOf(impl.toString());
+        var result = new StringJoiner(", ", "{", "}");
+        forEachSetBit(index -> result.add(String.valueOf(index)));
+        return result.toString();
     }
 
 }
@@ -19,19 +19,30 @@
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+
+import org.reactivestreams.Subscription;
 
 import com.google.common.base.Preconditions;
 
 import io.sapl.api.interpreter.Val;
 import io.sapl.grammar.sapl.Expression;
+import io.sapl.grammar.sapl.impl.util.AttributeFinderUtil;
 import io.sapl.interpreter.context.AuthorizationContext;
+import reactor.core.CoreSubscriber;
+import reactor.core.Exceptions;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
 
 public class Bool {
 
     static final String BOOL_NOT_IMMUTABLE = "Unable to evaluate volatile Bool in static context.";
 
+    static final String EXPRESSION_NOT_BOOLEAN = "expression not boolean";
+
     private boolean constant;
 
     private Expression expression;
@@ -44,6 +55,8 @@ public class Bool {
 
     private boolean isConstantExpression;
 
+    private Boolean hasStreamingDependencies;
+
     public Bool(boolean value) {
         isConstantExpression = true;
         constant             = value;
@@ -64,9 +77,55 @@ public boolean evaluate() {
     public Mono<Val> evaluateExpression() {
         Flux<Val> resultFlux = isConstantExpression ? Flux.just(Val.of(constant))
                 : expression.evaluate().contextWrite(ctx -> AuthorizationContext.setImports(ctx, imports));
-        return resultFlux
-                .map(result -> result.isError() || result.isBoolean() ? result : Val.error("expression not boolean"))
-                .next();
+        return resultFlux.map(Bool::requireBoolean).next();
+    }
+
+    /**
+     * Evaluates the expression on the calling thread without assembling a reactive
+     * pipeline around it. This is only possible if the expression has no streaming
+     * dependencies, i.e., it does not access attributes, and if its evaluation
+     * completes synchronously. Otherwise, the evaluation started is not repeated
+     * but handed over to the caller as a pending result.
+     *
+     * @param ctx the context holding the subscription variables, functions and
+     *            attributes
+     * @return the first result of the expression, if available synchronously, or
+     *         the pending evaluation of the expression.
+     */
+    public SynchronousEvaluation evaluateExpressionSynchronously(ContextView ctx) {
+        if (isConstantExpression) {
+            return SynchronousEvaluation.of(Val.of(constant));
+        }
+        if (hasStreamingDependencies()) {
+            return SynchronousEvaluation.pending(evaluateExpression().contextWrite(ctx));
+        }
+        var subscriber = new SynchronousResultSubscriber(AuthorizationContext.setImports(Context.of(ctx), imports));
+        var handedOver = false;
+        try {
+            expression.evaluate().subscribe(subscriber);
+            var result = subscriber.getResult();
+            if (result.isPresent())
+                return SynchronousEvaluation.of(requireBoolean(result.get()));
+
+            handedOver = true;
+            return SynchronousEvaluation.pending(subscriber.pendingResult().map(Bool::requireBoolean));
+        } finally {
+            // the probe must not keep the expression subscribed, unless the caller
+            // took over the evaluation still running
+            if (!handedOver)
+                subscriber.cancel();
+        }
+    }
+
+    public boolean hasStreamingDependencies() {
+        if (hasStreamingDependencies == null) {
+            hasStreamingDependencies = !isConstantExpression && AttributeFinderUtil.containsAttributeFinder(expression);
+        }
+        return hasStreamingDependencies;
+    }
+
+    private static Val requireBoolean(Val result) {
+        return result.isError() || result.isBoolean() ? result : Val.error(EXPRESSION_NOT_BOOLEAN);
     }
 
     public boolean isImmutable() {
@@ -114,4 +173,99 @@ public boolean equals(Object obj) {
         }
     }
 
+    /**
+     * The outcome of {@link Bool#evaluateExpressionSynchronously(ContextView)}.
+     * Either the result was available synchronously, or the evaluation is still
+     * running and {@code pending} emits its result once subscribed.
+     *
+     * @param result  the result, if available synchronously
+     * @param pending the pending evaluation, if the result is not available
+     */
+    public record SynchronousEvaluation(Val result, Mono<Val> pending) {
+
+        static SynchronousEvaluation of(Val result) {
+            return new SynchronousEvaluation(result, null);
+        }
+
+        static SynchronousEvaluation pending(Mono<Val> pending) {
+            return new SynchronousEvaluation(null, pending);
+        }
+
+        public boolean isComplete() {
+            return result != null;
+        }
+
+    }
+
+    /**
+     * Captures the first value of a publisher, if the publisher emits it during
+     * subscription. A value emitted later is handed over to the
+     * {@link #pendingResult() pending result}.
+     */
+    private static final class SynchronousResultSubscriber implements CoreSubscriber<Val> {
+
+        private final Context context;
+
+        private final Sinks.One<Val> lateResult = Sinks.one();
+
+        private volatile Subscription subscription;
+
+        private volatile Val result;
+
+        private volatile Throwable error;
+
+        SynchronousResultSubscriber(Context context) {
+            this.context = context;
+        }
+
+        @Override
+        public Context currentContext() {
+            return context;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1L);
+        }
+
+        @Override
+        public void onNext(Val value) {
+            if (result == null) {
+                result = value;
+                subscription.cancel();
+                lateResult.tryEmitValue(value);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            lateResult.tryEmitError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            lateResult.tryEmitEmpty();
+        }
+
+        void cancel() {
+            var current = subscription;
+            if (current != null)
+                current.cancel();
+        }
+
+        Mono<Val> pendingResult() {
+            return lateResult.asMono().doOnCancel(this::cancel);
+        }
+
+        Optional<Val> getResult() {
+            if (error != null) {
+                throw Exceptions.propagate(error);
+            }
+            return Optional.ofNullable(result);
+        }
+
+    }
+
 }
@@ -44,6 +44,8 @@ public class CanonicalImmutableParsedDocumentIndex implements ImmutableParsedDoc
 
     private final Map<String, SAPL> documents;
 
+    private final Map<String, DisjunctiveFormula> targets;
+
     private final PredicateOrderStrategy predicateOrderStrategy;
 
     private final boolean consistent;
@@ -70,16 +72,53 @@ private CanonicalImmutableParsedDocumentIndex(Map<String, SAPL> updatedDocuments
         this.attributeCtx           = attributeCtx;
         this.functionCtx            = functionCtx;
 
-        Map<String, DisjunctiveFormula> targets = this.documents.entrySet().stream()
+        this.targets = this.documents.entrySet().stream()
                 .collect(Collectors.toMap(Entry::getKey, entry -> retainTarget(entry.getValue())));
 
         this.indexDataContainer = new CanonicalIndexDataCreationStrategy(predicateOrderStrategy).constructNew(documents,
                 targets);
     }
 
+    private CanonicalImmutableParsedDocumentIndex(CanonicalImmutableParsedDocumentIndex previous,
+            Map<String, SAPL> updatedDocuments, boolean consistent) {
+        this.documents              = updatedDocuments;
+        this.predicateOrderStrategy = previous.predicateOrderStrategy;
+        this.consistent             = consistent;
+        this.attributeCtx           = previous.attributeCtx;
+        this.functionCtx            = previous.functionCtx;
+
+        // only the targets of added or replaced documents are walked
+        Map<String, DisjunctiveFormula> updatedTargets = new HashMap<>(previous.targets);
+        Map<SAPL, DisjunctiveFormula>   withdrawn      = new HashMap<>();
+        Map<SAPL, DisjunctiveFormula>   published      = new HashMap<>();
+        previous.documents.forEach((name, document) -> {
+            if (updatedDocuments.get(name) != document) {
+                withdrawn.put(document, updatedTargets.remove(name));
+            }
+        });
+        updatedDocuments.forEach((name, document) -> {
+            if (previous.documents.get(name) != document) {
+                var target = retainTarget(document);
+                published.put(document, target);
+                updatedTargets.put(name, target);
+            }
+        });
+        this.targets = updatedTargets;
+
+        if (withdrawn.isEmpty() && published.isEmpty()) {
+            this.indexDataContainer = previous.indexDataContainer;
+        } else {
+            this.indexDataContainer = new CanonicalIndexDataCreationStrategy(predicateOrderStrategy)
+                    .constructUpdated(previous.indexDataContainer, withdrawn, published);
+        }
+    }
+
     CanonicalImmutableParsedDocumentIndex recreateIndex(Map<String, SAPL> updatedDocuments, boolean consistent) {
-        return new CanonicalImmutableParsedDocumentIndex(updatedDocuments, predicateOrderStrategy, consistent,
-                attributeCtx, functionCtx);
+        if (documents.isEmpty() || updatedDocuments.isEmpty()) {
+            return new CanonicalImmutableParsedDocumentIndex(updatedDocuments, predicateOrderStrategy, consistent,
+                    attributeCtx, functionCtx);
+        }
+        return new CanonicalImmutableParsedDocumentIndex(this, updatedDocuments, consistent);
     }
 
     @Override
@@ -128,9 +167,10 @@ private DisjunctiveFormula retainTarget(SAPL sapl) {
         var                targetExpression = sapl.getImplicitTargetExpression();
         DisjunctiveFormula targetFormula;
         if (targetExpression == null) {
+            ImportsUtil.link(sapl, attributeCtx, functionCtx);
             targetFormula = new DisjunctiveFormula(new ConjunctiveClause(new Literal(new Bool(true))));
         } else {
-            var imports = ImportsUtil.fetchImports(sapl, attributeCtx, functionCtx);
+            var imports = ImportsUtil.linkImports(sapl, attributeCtx, functionCtx);
             targetFormula = TreeWalker.walk(targetExpression, imports);
         }
 
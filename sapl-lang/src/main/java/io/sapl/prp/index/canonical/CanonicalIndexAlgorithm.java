@@ -31,17 +31,61 @@
 import lombok.experimental.UtilityClass;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
 
 @UtilityClass
 public class CanonicalIndexAlgorithm {
 
     public Mono<PolicyRetrievalResult> match(CanonicalIndexDataContainer dataContainer) {
-        return matchCollectorNewest(dataContainer);
+        return Mono.deferContextual(ctx -> matchSynchronously(dataContainer, ctx));
+    }
+
+    /**
+     * Evaluates the predicates on the calling thread as long as their results are
+     * available synchronously. Only if a predicate depends on a stream, its pending
+     * evaluation and the remaining predicates are matched by the reactive
+     * algorithm.
+     *
+     * @param dataContainer the index
+     * @param ctx           the context holding the subscription variables,
+     *                      functions and attributes
+     * @return the result of the policy retrieval
+     */
+    Mono<PolicyRetrievalResult> matchSynchronously(CanonicalIndexDataContainer dataContainer, ContextView ctx) {
+        var matchingCtx    = new CanonicalIndexMatchingContext(dataContainer.getNumberOfConjunctions());
+        var predicateOrder = dataContainer.getPredicateOrder();
+        try {
+            for (var i = 0; i < predicateOrder.size(); i++) {
+                var predicate = predicateOrder.get(i);
+                if (!matchingCtx.isPredicateReferencedInCandidates(predicate))
+                    continue;
+
+                var evaluation = predicate.evaluateSynchronously(ctx);
+                if (!evaluation.isComplete()) {
+                    var matchingCtxMono = evaluation.pending()
+                            .map(evaluationResult -> handleEvaluationResult(dataContainer, predicate, matchingCtx,
+                                    evaluationResult));
+                    return matchReactively(dataContainer, predicateOrder.subList(i + 1, predicateOrder.size()),
+                            matchingCtxMono);
+                }
+
+                handleEvaluationResult(dataContainer, predicate, matchingCtx, evaluation.result());
+            }
+            return Mono.just(retrievalResult(matchingCtx, dataContainer));
+        } catch (RuntimeException e) {
+            return Mono.just(new PolicyRetrievalResult(Collections.emptyList(), true, true));
+        }
     }
 
     public Mono<PolicyRetrievalResult> matchCollectorNewest(CanonicalIndexDataContainer dataContainer) {
-        var matchingCtxMono = Flux.fromIterable(dataContainer.getPredicateOrder())
-                .reduce(Mono.just(new CanonicalIndexMatchingContext(dataContainer.getNumberOfConjunctions())),
+        return matchReactively(dataContainer, dataContainer.getPredicateOrder(),
+                Mono.just(new CanonicalIndexMatchingContext(dataContainer.getNumberOfConjunctions())));
+    }
+
+    private Mono<PolicyRetrievalResult> matchReactively(CanonicalIndexDataContainer dataContainer,
+            List<Predicate> predicates, Mono<CanonicalIndexMatchingContext> initialMatchingCtx) {
+        var matchingCtxMono = Flux.fromIterable(predicates)
+                .reduce(initialMatchingCtx,
                         (previousCtxMono, predicate) -> previousCtxMono
                                 .flatMap(previousCtx -> previousCtx.isPredicateReferencedInCandidates(predicate)
                                         // if referenced by an active candidate ->
@@ -56,13 +100,17 @@ public Mono<PolicyRetrievalResult> matchCollectorNewest(CanonicalIndexDataContai
                                                                       // result)
                 ).flatMap(Function.identity()); // mono of mono is flattened
 
-        return matchingCtxMono.map(matchingCtx -> {
-            var matching = matchingCtx.getMatchingCandidatesMask();
-            var formulas = fetchFormulas(matching, dataContainer);
-            var policies = fetchPolicies(formulas, dataContainer);
+        return matchingCtxMono.map(matchingCtx -> retrievalResult(matchingCtx, dataContainer))
+                .onErrorReturn(new PolicyRetrievalResult(Collections.emptyList(), true, true));
+    }
 
-            return new PolicyRetrievalResult(policies, matchingCtx.isErrorsInTargets(), true);
-        }).onErrorReturn(new PolicyRetrievalResult(Collections.emptyList(), true, true));
+    private PolicyRetrievalResult retrievalResult(CanonicalIndexMatchingContext matchingCtx,
+            CanonicalIndexDataContainer dataContainer) {
+        var matching = matchingCtx.getMatchingCandidatesMask();
+        var formulas = fetchFormulas(matching, dataContainer);
+        var policies = fetchPolicies(formulas, dataContainer);
+
+        return new PolicyRetrievalResult(policies, matchingCtx.isErrorsInTargets(), true);
     }
 
     Mono<CanonicalIndexMatchingContext> skipPredicate(CanonicalIndexMatchingContext previousCtx) {
@@ -113,7 +161,8 @@ void handleErrorEvaluationResult(final Predicate predicate, CanonicalIndexMatchi
 
     Bitmask findOrphanedCandidates(final Bitmask satisfiableCandidates, CanonicalIndexMatchingContext matchingCtx,
             CanonicalIndexDataContainer dataContainer) {
-        var result = new Bitmask();
+        var result = matchingCtx.getOrphanedCandidates();
+        result.clear();
 
         satisfiableCandidates.forEachSetBit(index -> {
             var cTuples = dataContainer.getConjunctionsInFormulasReferencingConjunction(index);
@@ -151,9 +200,11 @@ Set<DisjunctiveFormula> fetchFormulas(final Bitmask satisfiableCandidates,
 
     Bitmask findSatisfiableCandidates(final Predicate predicate, final boolean evaluationResult,
             CanonicalIndexMatchingContext matchingCtx, CanonicalIndexDataContainer dataContainer) {
-        var result = new Bitmask();
+        var result = matchingCtx.getSatisfiedCandidates();
+        result.clear();
         // calling method with negated evaluation result will return satisfied clauses
-        var satisfiableCandidates = findUnsatisfiableCandidates(matchingCtx, predicate, !evaluationResult);
+        var satisfiableCandidates = findUnsatisfiableCandidates(matchingCtx, predicate, !evaluationResult,
+                matchingCtx.getTrueLiteralCandidates());
 
         satisfiableCandidates.forEachSetBit(index -> {
             // increment number of true literals
@@ -169,13 +220,19 @@ Bitmask findSatisfiableCandidates(final Predicate predicate, final boolean evalu
 
     private List<SAPL> fetchPolicies(final Set<DisjunctiveFormula> formulas,
             CanonicalIndexDataContainer dataContainer) {
-        return formulas.parallelStream().map(dataContainer::getPoliciesIncludingFormula)
-                .flatMap(Collection::parallelStream).distinct().toList();
+        return formulas.stream().map(dataContainer::getPoliciesIncludingFormula).flatMap(Collection::stream).distinct()
+                .toList();
     }
 
     Bitmask findUnsatisfiableCandidates(final CanonicalIndexMatchingContext matchingCtx, final Predicate predicate,
             final boolean predicateEvaluationResult) {
-        var result = matchingCtx.getCopyOfCandidates();
+        return findUnsatisfiableCandidates(matchingCtx, predicate, predicateEvaluationResult,
+                matchingCtx.getUnsatisfiedCandidates());
+    }
+
+    private Bitmask findUnsatisfiableCandidates(final CanonicalIndexMatchingContext matchingCtx,
+            final Predicate predicate, final boolean predicateEvaluationResult, final Bitmask result) {
+        matchingCtx.copyCandidatesTo(result);
 
         if (predicateEvaluationResult)
             result.and(predicate.getFalseForTruePredicate());
@@ -18,6 +18,7 @@
 package io.sapl.prp.index.canonical;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -54,6 +55,16 @@ public class CanonicalIndexDataContainer {
     @Getter
     private final int numberOfConjunctions;
 
+    /* bookkeeping required to derive the next index generation incrementally */
+    @EqualsAndHashCode.Exclude
+    private final Map<ConjunctiveClause, Integer> clauseToIndex;
+
+    @EqualsAndHashCode.Exclude
+    private final Map<Bool, PredicateInfo> boolToPredicateInfo;
+
+    @EqualsAndHashCode.Exclude
+    private final List<Integer> unusedConjunctionIndices;
+
     public CanonicalIndexDataContainer(Map<DisjunctiveFormula, Set<SAPL>> formulaToDocuments,
             Map<ConjunctiveClause, Set<DisjunctiveFormula>> clauseToFormulas, Collection<Predicate> predicateOrder,
             List<Set<DisjunctiveFormula>> relatedFormulas, Map<DisjunctiveFormula, Bitmask> relatedCandidates,
@@ -70,6 +81,19 @@ public CanonicalIndexDataContainer(Map<DisjunctiveFormula, Set<SAPL>> formulaToD
             List<Set<DisjunctiveFormula>> relatedFormulas, Map<DisjunctiveFormula, Bitmask> relatedCandidates,
             Map<Integer, Set<CTuple>> conjunctionsInFormulasReferencingConjunction, int[] numberOfLiteralsInConjunction,
             int[] numberOfFormulasWithConjunction, int numberOfConjunctions) {
+        this(formulaToDocuments, clauseToFormulas, predicateOrder, relatedFormulas, relatedCandidates,
+                conjunctionsInFormulasReferencingConjunction, numberOfLiteralsInConjunction,
+                numberOfFormulasWithConjunction, numberOfConjunctions, Collections.emptyMap(), Collections.emptyMap(),
+                Collections.emptyList());
+    }
+
+    CanonicalIndexDataContainer(Map<DisjunctiveFormula, Set<SAPL>> formulaToDocuments,
+            Map<ConjunctiveClause, Set<DisjunctiveFormula>> clauseToFormulas, ImmutableList<Predicate> predicateOrder,
+            List<Set<DisjunctiveFormula>> relatedFormulas, Map<DisjunctiveFormula, Bitmask> relatedCandidates,
+            Map<Integer, Set<CTuple>> conjunctionsInFormulasReferencingConjunction, int[] numberOfLiteralsInConjunction,
+            int[] numberOfFormulasWithConjunction, int numberOfConjunctions,
+            Map<ConjunctiveClause, Integer> clauseToIndex, Map<Bool, PredicateInfo> boolToPredicateInfo,
+            List<Integer> unusedConjunctionIndices) {
         this.formulaToDocuments                           = formulaToDocuments;
         this.clauseToFormulas                             = clauseToFormulas;
         this.predicateOrder                               = predicateOrder;
@@ -79,6 +103,9 @@ public CanonicalIndexDataContainer(Map<DisjunctiveFormula, Set<SAPL>> formulaToD
         this.numberOfLiteralsInConjunction                = numberOfLiteralsInConjunction.clone();
         this.numberOfFormulasWithConjunction              = numberOfFormulasWithConjunction.clone();
         this.numberOfConjunctions                         = numberOfConjunctions;
+        this.clauseToIndex                                = clauseToIndex;
+        this.boolToPredicateInfo                          = boolToPredicateInfo;
+        this.unusedConjunctionIndices                     = List.copyOf(unusedConjunctionIndices);
     }
 
     public int getNumberOfLiteralsInConjunction(int conjunctionIndex) {
@@ -101,4 +128,44 @@ Set<SAPL> getPoliciesIncludingFormula(DisjunctiveFormula formula) {
         return formulaToDocuments.get(formula);
     }
 
+    Map<DisjunctiveFormula, Set<SAPL>> getFormulaToDocuments() {
+        return Collections.unmodifiableMap(formulaToDocuments);
+    }
+
+    Map<ConjunctiveClause, Set<DisjunctiveFormula>> getClauseToFormulas() {
+        return Collections.unmodifiableMap(clauseToFormulas);
+    }
+
+    List<Set<DisjunctiveFormula>> getRelatedFormulas() {
+        return Collections.unmodifiableList(relatedFormulas);
+    }
+
+    Map<DisjunctiveFormula, Bitmask> getRelatedCandidates() {
+        return Collections.unmodifiableMap(relatedCandidates);
+    }
+
+    Map<Integer, Set<CTuple>> getConjunctionsInFormulasReferencingConjunction() {
+        return Collections.unmodifiableMap(conjunctionsInFormulasReferencingConjunction);
+    }
+
+    int[] copyOfNumberOfLiteralsInConjunction() {
+        return numberOfLiteralsInConjunction.clone();
+    }
+
+    int[] copyOfNumberOfFormulasWithConjunction() {
+        return numberOfFormulasWithConjunction.clone();
+    }
+
+    Map<ConjunctiveClause, Integer> getClauseToIndex() {
+        return Collections.unmodifiableMap(clauseToIndex);
+    }
+
+    Map<Bool, PredicateInfo> getBoolToPredicateInfo() {
+        return Collections.unmodifiableMap(boolToPredicateInfo);
+    }
+
+    List<Integer> getUnusedConjunctionIndices() {
+        return unusedConjunctionIndices;
+    }
+
 }
@@ -30,6 +30,7 @@
 
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
+import com.google.common.collect.ImmutableList;
 
 import io.sapl.grammar.sapl.SAPL;
 import io.sapl.prp.index.canonical.ordering.DefaultPredicateOrderStrategy;
@@ -58,11 +59,31 @@ public CanonicalIndexDataContainer constructNew(final Map<String, SAPL> document
         return constructContainerWithOrder(formulaToDocuments, clauseToFormulas);
     }
 
+    /**
+     * Derives a new index generation from a previous one. Only the formulas,
+     * conjunctions and predicates of the withdrawn and published documents are
+     * processed. Unchanged parts are shared with the previous generation, which
+     * stays valid and is not modified.
+     *
+     * @param previous  an index generation created by this strategy
+     * @param withdrawn the documents to remove, mapped to their target formulas
+     * @param published the documents to add, mapped to their target formulas
+     * @return the updated index
+     */
+    public CanonicalIndexDataContainer constructUpdated(final CanonicalIndexDataContainer previous,
+            final Map<SAPL, DisjunctiveFormula> withdrawn, final Map<SAPL, DisjunctiveFormula> published) {
+        var update = new CanonicalIndexDataUpdate(previous);
+        withdrawn.forEach(update::removeDocument);
+        published.forEach(update::addDocument);
+        return update.toContainer(predicateOrderStrategy);
+    }
+
     private CanonicalIndexDataContainer constructContainerWithOrder(
             Map<DisjunctiveFormula, Set<SAPL>> formulaToDocuments,
             Map<ConjunctiveClause, Set<DisjunctiveFormula>> clauseToFormulas) {
 
-        Collection<PredicateInfo> predicateInfos = collectPredicateInfos(formulaToDocuments.keySet());
+        Map<Bool, PredicateInfo>  boolToPredicateInfo = collectPredicateInfos(formulaToDocuments.keySet());
+        Collection<PredicateInfo> predicateInfos      = boolToPredicateInfo.values();
 
         // manipulates Bitmask of Predicates stored in PredicateInfo as a side effect
         BiMap<ConjunctiveClause, Integer> clauseToIndex = createCandidateIndex(predicateInfos);
@@ -84,9 +105,11 @@ private CanonicalIndexDataContainer constructContainerWithOrder(
 
         List<Set<DisjunctiveFormula>> relatedFormulas = flattenIndexMap(indexToTargets);
 
-        return new CanonicalIndexDataContainer(formulaToDocuments, clauseToFormulas, predicateOrder, relatedFormulas,
-                relatedCandidates, conjunctionsInFormulasReferencingConjunction, numberOfLiteralsInConjunction,
-                numberOfFormulasWithConjunction);
+        return new CanonicalIndexDataContainer(formulaToDocuments, clauseToFormulas,
+                ImmutableList.copyOf(predicateOrder), relatedFormulas, relatedCandidates,
+                conjunctionsInFormulasReferencingConjunction, numberOfLiteralsInConjunction,
+                numberOfFormulasWithConjunction, numberOfLiteralsInConjunction.length, clauseToIndex,
+                boolToPredicateInfo, Collections.emptyList());
     }
 
     private void addNewFormulasToClauseMapping(final Collection<DisjunctiveFormula> formulas,
@@ -119,28 +142,32 @@ private Map<Integer, Set<CTuple>> getConjunctionReferenceMap(
 
         for (Entry<ConjunctiveClause, Set<DisjunctiveFormula>> clauseToFormulaEntry : clauseToFormulas.entrySet()) {
 
-            Integer                 clauseIndex              = clauseToIndex.get(clauseToFormulaEntry.getKey());
-            Set<DisjunctiveFormula> formulasContainingClause = clauseToFormulaEntry.getValue();
-            Bitmask                 clausesInSameFormulas    = new Bitmask();
+            Integer clauseIndex = clauseToIndex.get(clauseToFormulaEntry.getKey());
+            conjunctionsInFormulasReferencingConjunction.put(clauseIndex,
+                    getConjunctionReferences(clauseIndex, clauseToFormulaEntry.getValue(), formulaToClauses));
+        }
+        return conjunctionsInFormulasReferencingConjunction;
+    }
 
-            formulasContainingClause.forEach(
-                    formulaContainingClause -> clausesInSameFormulas.or(formulaToClauses.get(formulaContainingClause)));
-            clausesInSameFormulas.clear(clauseIndex);
+    static Set<CTuple> getConjunctionReferences(int clauseIndex, Set<DisjunctiveFormula> formulasContainingClause,
+            Map<DisjunctiveFormula, Bitmask> formulaToClauses) {
+        Bitmask clausesInSameFormulas = new Bitmask();
 
-            Set<CTuple> cTupleSet = new HashSet<>(clausesInSameFormulas.numberOfBitsSet());
-            clausesInSameFormulas.forEachSetBit(relatedClauseIndex -> {
-                long numberOfSharedFormulas = formulasContainingClause.stream().map(formulaToClauses::get)
-                        .filter(bitmask -> bitmask.isSet(relatedClauseIndex)).count();
+        formulasContainingClause.forEach(
+                formulaContainingClause -> clausesInSameFormulas.or(formulaToClauses.get(formulaContainingClause)));
+        clausesInSameFormulas.clear(clauseIndex);
 
-                cTupleSet.add(new CTuple(relatedClauseIndex, numberOfSharedFormulas));
-            });
+        Set<CTuple> cTupleSet = new HashSet<>(clausesInSameFormulas.numberOfBitsSet());
+        clausesInSameFormulas.forEachSetBit(relatedClauseIndex -> {
+            long numberOfSharedFormulas = formulasContainingClause.stream().map(formulaToClauses::get)
+                    .filter(bitmask -> bitmask.isSet(relatedClauseIndex)).count();
 
-            conjunctionsInFormulasReferencingConjunction.put(clauseIndex, cTupleSet);
-        }
-        return conjunctionsInFormulasReferencingConjunction;
+            cTupleSet.add(new CTuple(relatedClauseIndex, numberOfSharedFormulas));
+        });
+        return cTupleSet;
     }
 
-    private Collection<PredicateInfo> collectPredicateInfos(Set<DisjunctiveFormula> formulas) {
+    private Map<Bool, PredicateInfo> collectPredicateInfos(Set<DisjunctiveFormula> formulas) {
         Map<Bool, PredicateInfo> boolToPredicateInfo       = new HashMap<>();
         Set<Bool>                negativesGroupedByFormula = new HashSet<>();
         Set<Bool>                positivesGroupedByFormula = new HashSet<>();
@@ -159,12 +186,16 @@ private Collection<PredicateInfo> collectPredicateInfos(Set<DisjunctiveFormula>
         }
 
         for (PredicateInfo predicateInfo : boolToPredicateInfo.values()) {
-            double sum = predicateInfo.getClauseRelevanceList().stream().mapToDouble(Double::doubleValue).sum();
-            sum /= predicateInfo.getNumberOfPositives() + predicateInfo.getNumberOfNegatives();
-            predicateInfo.setRelevance(sum);
+            updateRelevance(predicateInfo);
         }
 
-        return boolToPredicateInfo.values();
+        return boolToPredicateInfo;
+    }
+
+    static void updateRelevance(PredicateInfo predicateInfo) {
+        double sum = predicateInfo.getClauseRelevanceList().stream().mapToDouble(Double::doubleValue).sum();
+        sum /= predicateInfo.getNumberOfPositives() + predicateInfo.getNumberOfNegatives();
+        predicateInfo.setRelevance(sum);
     }
 
     void createPredicateInfo(final Literal literal, final ConjunctiveClause clause,
@@ -0,0 +1,308 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.prp.index.canonical;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableList;
+
+import io.sapl.grammar.sapl.SAPL;
+import io.sapl.prp.index.canonical.ordering.PredicateOrderStrategy;
+
+/**
+ * Derives a new generation of the canonical index from a previous one by adding
+ * and removing single documents.
+ * <p>
+ * The maps and lists of the previous generation are copied shallowly. Every
+ * set, predicate or predicate info which has to be modified is copied on first
+ * write, so the previous generation can still be used for matching while the
+ * update is in progress. Conjunction indices are stable between generations.
+ * Indices of removed conjunctions are reused for new conjunctions.
+ */
+final class CanonicalIndexDataUpdate {
+
+    private final Map<DisjunctiveFormula, Set<SAPL>> formulaToDocuments;
+
+    private final Map<ConjunctiveClause, Set<DisjunctiveFormula>> clauseToFormulas;
+
+    private final Map<ConjunctiveClause, Integer> clauseToIndex;
+
+    private final Map<Bool, PredicateInfo> boolToPredicateInfo;
+
+    private final Deque<Integer> unusedConjunctionIndices;
+
+    private final List<Set<DisjunctiveFormula>> relatedFormulas;
+
+    private final Map<DisjunctiveFormula, Bitmask> relatedCandidates;
+
+    private final Map<Integer, Set<CTuple>> conjunctionsInFormulasReferencingConjunction;
+
+    private int[] numberOfLiteralsInConjunction;
+
+    private int[] numberOfFormulasWithConjunction;
+
+    private int numberOfConjunctions;
+
+    /* objects created during this update, which may be modified in place */
+    private final Set<Object> ownedObjects = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private final Set<ConjunctiveClause> modifiedClauses = new HashSet<>();
+
+    private final Set<Bool> modifiedBools = new HashSet<>();
+
+    CanonicalIndexDataUpdate(CanonicalIndexDataContainer previous) {
+        formulaToDocuments                           = new HashMap<>(previous.getFormulaToDocuments());
+        clauseToFormulas                             = new HashMap<>(previous.getClauseToFormulas());
+        clauseToIndex                                = new HashMap<>(previous.getClauseToIndex());
+        boolToPredicateInfo                          = new HashMap<>(previous.getBoolToPredicateInfo());
+        unusedConjunctionIndices                     = new ArrayDeque<>(previous.getUnusedConjunctionIndices());
+        relatedFormulas                              = new ArrayList<>(previous.getRelatedFormulas());
+        relatedCandidates                            = new HashMap<>(previous.getRelatedCandidates());
+        conjunctionsInFormulasReferencingConjunction = new HashMap<>(
+                previous.getConjunctionsInFormulasReferencingConjunction());
+        numberOfLiteralsInConjunction                = previous.copyOfNumberOfLiteralsInConjunction();
+        numberOfFormulasWithConjunction              = previous.copyOfNumberOfFormulasWithConjunction();
+        numberOfConjunctions                         = previous.getNumberOfConjunctions();
+    }
+
+    void addDocument(SAPL document, DisjunctiveFormula formula) {
+        var documents = formulaToDocuments.get(formula);
+        if (documents != null) {
+            ownedValue(formulaToDocuments, formula).add(document);
+            return;
+        }
+        formulaToDocuments.put(formula, own(new HashSet<>(Set.of(document))));
+        addFormula(formula);
+    }
+
+    void removeDocument(SAPL document, DisjunctiveFormula formula) {
+        var documents = formulaToDocuments.get(formula);
+        if (documents == null || !documents.contains(document))
+            return;
+
+        if (documents.size() > 1) {
+            ownedValue(formulaToDocuments, formula).remove(document);
+            return;
+        }
+        formulaToDocuments.remove(formula);
+        removeFormula(formula);
+    }
+
+    CanonicalIndexDataContainer toContainer(PredicateOrderStrategy predicateOrderStrategy) {
+        for (Bool bool : modifiedBools) {
+            var predicateInfo = boolToPredicateInfo.get(bool);
+            if (predicateInfo.getNumberOfPositives() + predicateInfo.getNumberOfNegatives() == 0) {
+                boolToPredicateInfo.remove(bool);
+            } else {
+                CanonicalIndexDataCreationStrategy.updateRelevance(predicateInfo);
+            }
+        }
+
+        for (ConjunctiveClause clause : modifiedClauses) {
+            int index    = clauseToIndex.get(clause);
+            var formulas = clauseToFormulas.get(clause);
+            relatedFormulas.set(index, formulas);
+            numberOfFormulasWithConjunction[index] = formulas.size();
+            conjunctionsInFormulasReferencingConjunction.put(index,
+                    CanonicalIndexDataCreationStrategy.getConjunctionReferences(index, formulas, relatedCandidates));
+        }
+
+        var predicateOrder = predicateOrderStrategy.createPredicateOrder(boolToPredicateInfo.values());
+
+        return new CanonicalIndexDataContainer(formulaToDocuments, clauseToFormulas,
+                ImmutableList.copyOf(predicateOrder), relatedFormulas, relatedCandidates,
+                conjunctionsInFormulasReferencingConjunction, numberOfLiteralsInConjunction,
+                numberOfFormulasWithConjunction, numberOfConjunctions, clauseToIndex, boolToPredicateInfo,
+                List.copyOf(unusedConjunctionIndices));
+    }
+
+    private void addFormula(DisjunctiveFormula formula) {
+        var clauses = new Bitmask();
+        for (ConjunctiveClause clause : formula.getClauses()) {
+            if (!clauseToFormulas.containsKey(clause)) {
+                clauseToFormulas.put(clause, own(new HashSet<>()));
+                addClause(clause);
+            }
+            ownedValue(clauseToFormulas, clause).add(formula);
+            modifiedClauses.add(clause);
+            clauses.set(clauseToIndex.get(clause));
+        }
+        relatedCandidates.put(formula, clauses);
+        updateStatistics(formula, true);
+    }
+
+    private void removeFormula(DisjunctiveFormula formula) {
+        updateStatistics(formula, false);
+        for (ConjunctiveClause clause : new HashSet<>(formula.getClauses())) {
+            var formulas = clauseToFormulas.get(clause);
+            if (formulas.size() > 1) {
+                ownedValue(clauseToFormulas, clause).remove(formula);
+                modifiedClauses.add(clause);
+            } else {
+                clauseToFormulas.remove(clause);
+                removeClause(clause);
+            }
+        }
+        relatedCandidates.remove(formula);
+    }
+
+    private void addClause(ConjunctiveClause clause) {
+        int index = nextConjunctionIndex();
+        clauseToIndex.put(clause, index);
+        numberOfLiteralsInConjunction[index] = clause.size();
+
+        for (Literal literal : clause.getLiterals()) {
+            var predicateInfo = predicateInfoWithOwnedPredicate(literal.getBool());
+            var predicate     = predicateInfo.getPredicate();
+            if (literal.isNegated()) {
+                predicateInfo.addUnsatisfiableConjunctionIfTrue(clause);
+                predicate.getFalseForTruePredicate().set(index);
+            } else {
+                predicateInfo.addUnsatisfiableConjunctionIfFalse(clause);
+                predicate.getFalseForFalsePredicate().set(index);
+            }
+            predicate.getConjunctions().set(index);
+        }
+    }
+
+    private void removeClause(ConjunctiveClause clause) {
+        int index = clauseToIndex.remove(clause);
+        modifiedClauses.remove(clause);
+        unusedConjunctionIndices.push(index);
+        numberOfLiteralsInConjunction[index]   = 0;
+        numberOfFormulasWithConjunction[index] = 0;
+        relatedFormulas.set(index, Collections.emptySet());
+        conjunctionsInFormulasReferencingConjunction.remove(index);
+
+        for (Literal literal : clause.getLiterals()) {
+            var predicateInfo = predicateInfoWithOwnedPredicate(literal.getBool());
+            var predicate     = predicateInfo.getPredicate();
+            predicateInfo.removeUnsatisfiableConjunction(clause);
+            predicate.getConjunctions().clear(index);
+            predicate.getFalseForTruePredicate().clear(index);
+            predicate.getFalseForFalsePredicate().clear(index);
+        }
+    }
+
+    private int nextConjunctionIndex() {
+        if (!unusedConjunctionIndices.isEmpty())
+            return unusedConjunctionIndices.pop();
+
+        int index = numberOfConjunctions++;
+        if (index == numberOfLiteralsInConjunction.length) {
+            int capacity = Math.max(16, index * 2);
+            numberOfLiteralsInConjunction   = Arrays.copyOf(numberOfLiteralsInConjunction, capacity);
+            numberOfFormulasWithConjunction = Arrays.copyOf(numberOfFormulasWithConjunction, capacity);
+        }
+        relatedFormulas.add(Collections.emptySet());
+        return index;
+    }
+
+    /*
+     * Mirrors CanonicalIndexDataCreationStrategy#createPredicateInfo for a single
+     * formula, either adding or subtracting its contribution.
+     */
+    private void updateStatistics(DisjunctiveFormula formula, boolean add) {
+        Set<Bool> negativesGroupedByFormula = new HashSet<>();
+        Set<Bool> positivesGroupedByFormula = new HashSet<>();
+        for (ConjunctiveClause clause : formula.getClauses()) {
+            double relevanceForClause = 1.0 / clause.size();
+            for (Literal literal : clause.getLiterals()) {
+                var bool          = literal.getBool();
+                var predicateInfo = ownedPredicateInfo(bool);
+                if (literal.isNegated()) {
+                    var firstInFormula = negativesGroupedByFormula.add(bool);
+                    if (add) {
+                        predicateInfo.incNumberOfNegatives();
+                        if (firstInFormula)
+                            predicateInfo.incGroupedNumberOfNegatives();
+                    } else {
+                        predicateInfo.decNumberOfNegatives();
+                        if (firstInFormula)
+                            predicateInfo.decGroupedNumberOfNegatives();
+                    }
+                } else {
+                    var firstInFormula = positivesGroupedByFormula.add(bool);
+                    if (add) {
+                        predicateInfo.incNumberOfPositives();
+                        if (firstInFormula)
+                            predicateInfo.incGroupedNumberOfPositives();
+                    } else {
+                        predicateInfo.decNumberOfPositives();
+                        if (firstInFormula)
+                            predicateInfo.decGroupedNumberOfPositives();
+                    }
+                }
+                if (add)
+                    predicateInfo.addToClauseRelevanceList(relevanceForClause);
+                else
+                    predicateInfo.removeFromClauseRelevanceList(relevanceForClause);
+            }
+        }
+    }
+
+    private PredicateInfo ownedPredicateInfo(Bool bool) {
+        modifiedBools.add(bool);
+        var predicateInfo = boolToPredicateInfo.get(bool);
+        if (predicateInfo == null) {
+            predicateInfo = own(new PredicateInfo(own(new Predicate(bool))));
+        } else if (!ownedObjects.contains(predicateInfo)) {
+            predicateInfo = own(new PredicateInfo(predicateInfo, predicateInfo.getPredicate()));
+        } else {
+            return predicateInfo;
+        }
+        boolToPredicateInfo.put(bool, predicateInfo);
+        return predicateInfo;
+    }
+
+    private PredicateInfo predicateInfoWithOwnedPredicate(Bool bool) {
+        var predicateInfo = ownedPredicateInfo(bool);
+        if (ownedObjects.contains(predicateInfo.getPredicate()))
+            return predicateInfo;
+
+        predicateInfo = own(new PredicateInfo(predicateInfo, own(new Predicate(predicateInfo.getPredicate()))));
+        boolToPredicateInfo.put(bool, predicateInfo);
+        return predicateInfo;
+    }
+
+    private <K, V> Set<V> ownedValue(Map<K, Set<V>> map, K key) {
+        var value = map.get(key);
+        if (ownedObjects.contains(value))
+            return value;
+
+        var copy = own(new HashSet<>(value));
+        map.put(key, copy);
+        return copy;
+    }
+
+    private <T> T own(T object) {
+        ownedObjects.add(object);
+        return object;
+    }
+
+}
@@ -17,6 +17,7 @@
  */
 package io.sapl.prp.index.canonical;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -27,6 +28,19 @@ public class CanonicalIndexMatchingContext {
     @Getter
     private final Bitmask matchingCandidatesMask;
 
+    // scratch buffers reused for each predicate evaluated during matching
+    @Getter(AccessLevel.PACKAGE)
+    private final Bitmask trueLiteralCandidates;
+
+    @Getter(AccessLevel.PACKAGE)
+    private final Bitmask satisfiedCandidates;
+
+    @Getter(AccessLevel.PACKAGE)
+    private final Bitmask unsatisfiedCandidates;
+
+    @Getter(AccessLevel.PACKAGE)
+    private final Bitmask orphanedCandidates;
+
     private final int[] trueLiteralsOfConjunction;
 
     private final int[] eliminatedFormulasWithConjunction;
@@ -36,10 +50,15 @@ public class CanonicalIndexMatchingContext {
     private boolean errorsInTargets = false;
 
     public CanonicalIndexMatchingContext(int numberOfConjunctions) {
-        candidatesMask = new Bitmask();
+        candidatesMask = new Bitmask(numberOfConjunctions);
         candidatesMask.set(0, numberOfConjunctions);
 
-        matchingCandidatesMask = new Bitmask();
+        matchingCandidatesMask = new Bitmask(numberOfConjunctions);
+
+        trueLiteralCandidates = new Bitmask(numberOfConjunctions);
+        satisfiedCandidates   = new Bitmask(numberOfConjunctions);
+        unsatisfiedCandidates = new Bitmask(numberOfConjunctions);
+        orphanedCandidates    = new Bitmask(numberOfConjunctions);
 
         trueLiteralsOfConjunction         = new int[numberOfConjunctions];
         eliminatedFormulasWithConjunction = new int[numberOfConjunctions];
@@ -49,6 +68,10 @@ Bitmask getCopyOfCandidates() {
         return new Bitmask(candidatesMask);
     }
 
+    void copyCandidatesTo(Bitmask target) {
+        target.copyFrom(candidatesMask);
+    }
+
     boolean isRemainingCandidate(int candidateIndex) {
         return candidatesMask.isSet(candidateIndex);
     }
@@ -22,6 +22,7 @@
 import io.sapl.api.interpreter.Val;
 import lombok.Getter;
 import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
 
 @Getter
 public class Predicate {
@@ -38,8 +39,24 @@ public Predicate(final Bool bool) {
         this.bool = Preconditions.checkNotNull(bool);
     }
 
+    /**
+     * Creates a copy of a predicate with independent bitmasks.
+     *
+     * @param other the predicate to copy
+     */
+    public Predicate(final Predicate other) {
+        this(other.bool);
+        conjunctions.or(other.conjunctions);
+        falseForTruePredicate.or(other.falseForTruePredicate);
+        falseForFalsePredicate.or(other.falseForFalsePredicate);
+    }
+
     public Mono<Val> evaluate() {
         return getBool().evaluateExpression();
     }
 
+    public Bool.SynchronousEvaluation evaluateSynchronously(ContextView ctx) {
+        return getBool().evaluateExpressionSynchronously(ctx);
+    }
+
 }
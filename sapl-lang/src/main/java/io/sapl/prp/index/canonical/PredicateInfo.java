@@ -68,6 +68,27 @@ public PredicateInfo(final Predicate predicate) {
         this.predicate = Preconditions.checkNotNull(predicate);
     }
 
+    /**
+     * Creates a copy of the statistics of another PredicateInfo, which refers to
+     * the given predicate. Used to derive a new index generation without modifying
+     * the PredicateInfo of the previous one.
+     *
+     * @param other     the PredicateInfo to copy
+     * @param predicate the predicate of the copy
+     */
+    public PredicateInfo(final PredicateInfo other, final Predicate predicate) {
+        this(predicate);
+        unsatisfiableConjunctionsIfFalse.addAll(other.unsatisfiableConjunctionsIfFalse);
+        unsatisfiableConjunctionsIfTrue.addAll(other.unsatisfiableConjunctionsIfTrue);
+        groupedNumberOfNegatives = other.groupedNumberOfNegatives;
+        groupedNumberOfPositives = other.groupedNumberOfPositives;
+        numberOfNegatives        = other.numberOfNegatives;
+        numberOfPositives        = other.numberOfPositives;
+        relevance                = other.relevance;
+        score                    = other.score;
+        relevanceList.addAll(other.relevanceList);
+    }
+
     public Set<ConjunctiveClause> getUnsatisfiableConjunctionsIfFalse() {
         return Collections.unmodifiableSet(unsatisfiableConjunctionsIfFalse);
     }
@@ -84,6 +105,11 @@ public void addUnsatisfiableConjunctionIfTrue(ConjunctiveClause clause) {
         unsatisfiableConjunctionsIfTrue.add(clause);
     }
 
+    public void removeUnsatisfiableConjunction(ConjunctiveClause clause) {
+        unsatisfiableConjunctionsIfFalse.remove(clause);
+        unsatisfiableConjunctionsIfTrue.remove(clause);
+    }
+
     public List<Double> getClauseRelevanceList() {
         return Collections.unmodifiableList(relevanceList);
     }
@@ -92,6 +118,10 @@ public void addToClauseRelevanceList(double relevanceForClause) {
         relevanceList.add(relevanceForClause);
     }
 
+    public void removeFromClauseRelevanceList(double relevanceForClause) {
+        relevanceList.remove(Double.valueOf(relevanceForClause));
+    }
+
     public void incGroupedNumberOfNegatives() {
         ++groupedNumberOfNegatives;
     }
@@ -108,6 +138,22 @@ public void incNumberOfPositives() {
         ++numberOfPositives;
     }
 
+    public void decGroupedNumberOfNegatives() {
+        --groupedNumberOfNegatives;
+    }
+
+    public void decGroupedNumberOfPositives() {
+        --groupedNumberOfPositives;
+    }
+
+    public void decNumberOfNegatives() {
+        --numberOfNegatives;
+    }
+
+    public void decNumberOfPositives() {
+        --numberOfPositives;
+    }
+
     @Override
     public int compareTo(PredicateInfo o) {
         double lhs = getScore();
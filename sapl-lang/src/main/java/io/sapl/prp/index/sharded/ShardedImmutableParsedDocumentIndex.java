@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.prp.index.sharded;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import io.sapl.grammar.sapl.SAPL;
+import io.sapl.prp.PolicyRetrievalResult;
+import io.sapl.prp.PrpUpdateEvent;
+import io.sapl.prp.PrpUpdateEvent.Type;
+import io.sapl.prp.PrpUpdateEvent.Update;
+import io.sapl.prp.index.ImmutableParsedDocumentIndex;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Partitions the documents into a fixed number of shards, each of which is an
+ * independent index. A document is always assigned to the same shard based on
+ * its name. The shards are matched in parallel and the matching documents are
+ * merged in the order of their names, so that the result does not depend on the
+ * number of shards or on thread scheduling.
+ * <p>
+ * Changes of the consistency state are applied to all shards. The index is only
+ * in a valid state if all shards are.
+ */
+public class ShardedImmutableParsedDocumentIndex implements ImmutableParsedDocumentIndex {
+
+    private static final Comparator<SAPL> BY_NAME = Comparator
+            .comparing(document -> document.getPolicyElement().getSaplName());
+
+    private final ImmutableParsedDocumentIndex[] shards;
+
+    private final Scheduler scheduler;
+
+    /**
+     * Creates an index matching the shards on the parallel scheduler.
+     *
+     * @param numberOfShards the number of shards, at least 1
+     * @param seedIndex      creates the empty index of a shard
+     */
+    public ShardedImmutableParsedDocumentIndex(int numberOfShards, Supplier<ImmutableParsedDocumentIndex> seedIndex) {
+        this(numberOfShards, seedIndex, Schedulers.parallel());
+    }
+
+    /**
+     * @param numberOfShards the number of shards, at least 1
+     * @param seedIndex      creates the empty index of a shard
+     * @param scheduler      the scheduler the shards are matched on
+     */
+    public ShardedImmutableParsedDocumentIndex(int numberOfShards, Supplier<ImmutableParsedDocumentIndex> seedIndex,
+            Scheduler scheduler) {
+        if (numberOfShards < 1) {
+            throw new IllegalArgumentException("The number of shards must be at least 1, was: " + numberOfShards);
+        }
+        this.shards    = new ImmutableParsedDocumentIndex[numberOfShards];
+        this.scheduler = scheduler;
+        for (var i = 0; i < numberOfShards; i++) {
+            shards[i] = seedIndex.get();
+        }
+    }
+
+    private ShardedImmutableParsedDocumentIndex(ImmutableParsedDocumentIndex[] shards, Scheduler scheduler) {
+        this.shards    = shards;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public Mono<PolicyRetrievalResult> retrievePolicies() {
+        if (shards.length == 1) {
+            return shards[0].retrievePolicies();
+        }
+        var shardResults = Arrays.stream(shards).map(shard -> shard.retrievePolicies().subscribeOn(scheduler)).toList();
+        return Mono.zip(shardResults, ShardedImmutableParsedDocumentIndex::merge);
+    }
+
+    private static PolicyRetrievalResult merge(Object[] shardResults) {
+        var matchingDocuments = new ArrayList<SAPL>();
+        var errorsInTarget    = false;
+        var prpValidState     = true;
+        for (var shardResult : shardResults) {
+            var result = (PolicyRetrievalResult) shardResult;
+            matchingDocuments.addAll(result.getMatchingDocuments());
+            errorsInTarget |= result.isErrorsInTarget();
+            prpValidState  &= result.isPrpValidState();
+        }
+        matchingDocuments.sort(BY_NAME);
+        return new PolicyRetrievalResult(matchingDocuments, errorsInTarget, prpValidState);
+    }
+
+    @Override
+    public ImmutableParsedDocumentIndex apply(PrpUpdateEvent event) {
+        var updatesOfShards = new ArrayList<List<Update>>(shards.length);
+        for (var i = 0; i < shards.length; i++) {
+            updatesOfShards.add(new ArrayList<>());
+        }
+        for (var update : event.getUpdates()) {
+            if (update.getType() == Type.CONSISTENT || update.getType() == Type.INCONSISTENT) {
+                updatesOfShards.forEach(updatesOfShard -> updatesOfShard.add(update));
+            } else {
+                updatesOfShards.get(shardOf(update)).add(update);
+            }
+        }
+
+        // Indexing the documents is CPU-bound, hence the shards are updated in
+        // parallel, too. Shards without updates are shared with this index.
+        var updatedShards = new ImmutableParsedDocumentIndex[shards.length];
+        IntStream.range(0, shards.length).parallel().forEach(i -> {
+            var updatesOfShard = updatesOfShards.get(i);
+            updatedShards[i] = updatesOfShard.isEmpty() ? shards[i]
+                    : shards[i].apply(new PrpUpdateEvent(updatesOfShard));
+        });
+        return new ShardedImmutableParsedDocumentIndex(updatedShards, scheduler);
+    }
+
+    private int shardOf(Update update) {
+        return Math.floorMod(update.getDocument().getPolicyElement().getSaplName().hashCode(), shards.length);
+    }
+
+}
@@ -659,6 +659,16 @@ void evaluateRegExFalse() {
         assertExpressionEvaluatesTo("\"test\"=~\".\"", "false");
     }
 
+    @Test
+    void evaluateRegExDynamicPattern() {
+        assertExpressionEvaluatesTo("\"test\" =~ [\"t.*\", \".\"][0]", "true");
+    }
+
+    @Test
+    void evaluateRegExDynamicPatternError() {
+        assertExpressionReturnsErrors("\"test\" =~ [\"***\"][0]");
+    }
+
     @Test
     void evaluateRegExPatternError() {
         assertExpressionReturnsErrors("\"test\"=~\"***\"");
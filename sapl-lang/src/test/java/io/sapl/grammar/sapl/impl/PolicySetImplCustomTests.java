@@ -38,6 +38,7 @@
 import io.sapl.api.interpreter.Val;
 import io.sapl.api.pdp.AuthorizationDecision;
 import io.sapl.api.pdp.Decision;
+import io.sapl.grammar.sapl.PolicySet;
 import io.sapl.interpreter.DefaultSAPLInterpreter;
 import io.sapl.testutil.MockUtil;
 import reactor.test.StepVerifier;
@@ -193,6 +194,25 @@ void documentEvaluatesToExpectedValue(String policySource, AuthorizationDecision
                 .expectNextMatches(hasDecision(expected)).verifyComplete();
     }
 
+    @Test
+    void duplicatePolicyNamesAreIndeterminateOnEveryEvaluation() {
+        var policy = INTERPRETER
+                .parse("set \"set\" deny-unless-permit policy \"permits\" permit policy \"permits\" permit");
+        for (var i = 0; i < 2; i++) {
+            StepVerifier.create(policy.evaluate().contextWrite(MockUtil::setUpAuthorizationContext))
+                    .expectNextMatches(hasDecision(INDETERMINATE)).verifyComplete();
+        }
+    }
+
+    @Test
+    void policyNamesAreCheckedWhenTheSetIsParsed() {
+        var policy = INTERPRETER
+                .parse("set \"set\" deny-unless-permit policy \"permits\" permit policy \"permits\" permit");
+        ((PolicySet) policy.getPolicyElement()).getPolicies().get(1).setSaplName("renamed");
+        StepVerifier.create(policy.evaluate().contextWrite(MockUtil::setUpAuthorizationContext))
+                .expectNextMatches(hasDecision(INDETERMINATE)).verifyComplete();
+    }
+
     @Test
     void testTargetResult() {
         var policy = INTERPRETER
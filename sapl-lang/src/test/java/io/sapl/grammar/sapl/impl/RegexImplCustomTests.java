@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.grammar.sapl.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.emf.ecore.EObject;
+import org.junit.jupiter.api.Test;
+
+import io.sapl.grammar.sapl.SAPL;
+import io.sapl.interpreter.DefaultSAPLInterpreter;
+
+class RegexImplCustomTests {
+
+    private static final DefaultSAPLInterpreter INTERPRETER = new DefaultSAPLInterpreter();
+
+    @Test
+    void constantPatternsAreCompiledWhenParsed() {
+        var regex = regexOf(INTERPRETER.parse("policy \"p\" permit where subject =~ \"a+\";"));
+        assertThat(regex.constantPattern()).isNotNull().hasToString("a+");
+    }
+
+    @Test
+    void computedPatternsAreNotCompiledWhenParsed() {
+        var regex = regexOf(INTERPRETER.parse("policy \"p\" permit where subject =~ resource.pattern;"));
+        assertThat(regex.constantPattern()).isNull();
+    }
+
+    @Test
+    void invalidConstantPatternsAreNotCompiled() {
+        var regex = regexOf(INTERPRETER.parse("policy \"p\" permit where subject =~ \"***\";"));
+        assertThat(regex.constantPattern()).isNull();
+    }
+
+    private static RegexImplCustom regexOf(SAPL document) {
+        var nodes = document.eAllContents();
+        while (nodes.hasNext()) {
+            EObject node = nodes.next();
+            if (node instanceof RegexImplCustom regex)
+                return regex;
+        }
+        throw new AssertionError("no regular expression in document");
+    }
+
+}
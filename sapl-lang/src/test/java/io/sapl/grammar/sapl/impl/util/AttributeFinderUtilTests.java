@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.grammar.sapl.impl.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import io.sapl.interpreter.DefaultSAPLInterpreter;
+
+class AttributeFinderUtilTests {
+
+    private static final DefaultSAPLInterpreter INTERPRETER = new DefaultSAPLInterpreter();
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '#', value = { "policy \"p\" permit subject == \"a\"# false",
+            "policy \"p\" permit where subject.<pip.attr> == 1;# true",
+            "policy \"p\" permit where |<pip.attr> == 1;# true", "policy \"p\" permit where <pip.attr> == 1;# true",
+            "policy \"p\" permit where subject.|<pip.attr> == 1;# true",
+            "policy \"p\" permit obligation subject.<pip.attr># true",
+            "set \"s\" deny-overrides policy \"p\" permit where true;# false" })
+    void detectsAttributeFindersAnywhereInDocument(String document, boolean expected) {
+        assertThat(AttributeFinderUtil.containsAttributeFinder(INTERPRETER.parse(document))).isEqualTo(expected);
+    }
+
+}
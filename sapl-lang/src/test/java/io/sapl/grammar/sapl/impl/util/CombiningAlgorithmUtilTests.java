@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.grammar.sapl.impl.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+import io.sapl.api.interpreter.Val;
+import io.sapl.api.pdp.AuthorizationDecision;
+import io.sapl.api.pdp.AuthorizationSubscription;
+import io.sapl.api.pdp.Decision;
+import io.sapl.api.pip.EnvironmentAttribute;
+import io.sapl.api.pip.PolicyInformationPoint;
+import io.sapl.grammar.sapl.PolicySet;
+import io.sapl.interpreter.CombinedDecision;
+import io.sapl.interpreter.DefaultSAPLInterpreter;
+import io.sapl.interpreter.InitializationException;
+import io.sapl.interpreter.context.AuthorizationContext;
+import io.sapl.interpreter.functions.AnnotationFunctionContext;
+import io.sapl.interpreter.pip.AnnotationAttributeContext;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+class CombiningAlgorithmUtilTests {
+
+    private static final DefaultSAPLInterpreter    INTERPRETER  = new DefaultSAPLInterpreter();
+    private static final AuthorizationSubscription SUBSCRIPTION = AuthorizationSubscription.of("willi", "read",
+            "something");
+
+    private final AtomicInteger subscriptions = new AtomicInteger();
+    private final AtomicInteger cancellations = new AtomicInteger();
+
+    private AnnotationAttributeContext attributeContext;
+
+    @PolicyInformationPoint(name = "test")
+    public class TestPIP {
+
+        @EnvironmentAttribute
+        public Flux<Val> slow() {
+            return Flux.<Val>never().doOnSubscribe(s -> subscriptions.incrementAndGet())
+                    .doOnCancel(cancellations::incrementAndGet);
+        }
+
+        @EnvironmentAttribute
+        public Flux<Val> fast(Val value) {
+            return Flux.just(value).concatWith(Flux.never()).doOnSubscribe(s -> subscriptions.incrementAndGet())
+                    .doOnCancel(cancellations::incrementAndGet);
+        }
+
+    }
+
+    @BeforeEach
+    void setUp() throws InitializationException {
+        attributeContext = new AnnotationAttributeContext();
+        attributeContext.loadPolicyInformationPoint(new TestPIP());
+    }
+
+    @Test
+    void when_oneShotAndDenyCannotChange_then_remainingPoliciesAreNotEvaluated() {
+        var policySet = "set \"tests\" deny-overrides policy \"p1\" permit where <test.slow>; policy \"p2\" deny";
+
+        StepVerifier.create(evaluate(policySet, true)).expectNext(AuthorizationDecision.DENY).verifyComplete();
+
+        assertThat(subscriptions.get()).isZero();
+    }
+
+    @Test
+    void when_oneShotAndDecisionIsFound_then_outstandingAttributeSubscriptionsAreCancelled() {
+        var policySet = "set \"tests\" permit-overrides policy \"p1\" permit where <test.fast(true)>;"
+                + " policy \"p2\" deny where <test.slow>;";
+
+        StepVerifier.create(evaluate(policySet, true)).expectNext(AuthorizationDecision.PERMIT).verifyComplete();
+
+        assertThat(subscriptions.get()).isPositive();
+        assertThat(cancellations.get()).isEqualTo(subscriptions.get());
+    }
+
+    @Test
+    void when_notOneShot_then_allPoliciesAreAwaited() {
+        var policySet = "set \"tests\" deny-overrides policy \"p1\" permit where <test.slow>; policy \"p2\" deny";
+
+        StepVerifier.create(evaluate(policySet, false)).expectSubscription().expectNoEvent(Duration.ofMillis(100L))
+                .thenCancel().verify();
+
+        assertThat(subscriptions.get()).isEqualTo(1);
+    }
+
+    @Test
+    void when_oneShotAndPoliciesMayAddObligations_then_decisionEqualsEagerDecision() {
+        var policySet = "set \"tests\" deny-overrides policy \"p1\" deny obligation \"o1\""
+                + " policy \"p2\" deny where <test.fast(true)>; obligation \"o2\""
+                + " policy \"p3\" permit where <test.fast(true)>; obligation \"o3\"";
+
+        var oneShot = evaluate(policySet, true).blockFirst();
+        var eager   = evaluate(policySet, false).blockFirst();
+
+        assertThat(oneShot).isEqualTo(eager);
+        assertThat(oneShot.getDecision()).isEqualTo(Decision.DENY);
+        assertThat(oneShot.getObligations()).contains(JsonNodeFactory.instance.arrayNode().add("o1").add("o2"));
+    }
+
+    @Test
+    void when_oneShotAndOnlyOneApplicableIsIndeterminate_then_remainingPoliciesAreNotEvaluated() {
+        var policySet = "set \"tests\" only-one-applicable policy \"p1\" permit policy \"p2\" deny"
+                + " policy \"p3\" permit where <test.slow>;";
+
+        StepVerifier.create(evaluate(policySet, true)).expectNext(AuthorizationDecision.INDETERMINATE).verifyComplete();
+
+        assertThat(subscriptions.get()).isZero();
+    }
+
+    @Test
+    void when_oneShotAndFirstApplicable_then_notApplicablePoliciesAreCancelled() {
+        var policySet = "set \"tests\" first-applicable policy \"p1\" permit where <test.fast(false)>;"
+                + " policy \"p2\" deny";
+
+        StepVerifier.create(evaluate(policySet, true)).expectNext(AuthorizationDecision.DENY).verifyComplete();
+
+        assertThat(subscriptions.get()).isEqualTo(1);
+        assertThat(cancellations.get()).isEqualTo(1);
+    }
+
+    @Test
+    void when_oneShotAndManyPolicies_then_resultsAreNotRecombinedForEachResult() {
+        var policySet = new StringBuilder("set \"tests\" deny-overrides");
+        for (var i = 0; i < 100; i++)
+            policySet.append(" policy \"p").append(i).append("\" deny where false;");
+        var policies         = ((PolicySet) INTERPRETER.parse(policySet.toString()).getPolicyElement()).getPolicies();
+        var combinedResults  = new AtomicInteger();
+        var notApplicable    = CombinedDecision.of(AuthorizationDecision.NOT_APPLICABLE, "test");
+        var combinePolicies  = CombiningAlgorithmUtil.lazilyCombinePolicyElements(List.copyOf(policies), results -> {
+                                 combinedResults.addAndGet(results.length);
+                                 return notApplicable;
+                             }, "test", AuthorizationDecision.NOT_APPLICABLE, (decision, policy) -> true);
+        var combinedDecision = combinePolicies.contextWrite(ctx -> AuthorizationContext.setVariables(ctx, Map.of()))
+                .contextWrite(ctx -> AuthorizationContext.setSubscriptionVariables(ctx, SUBSCRIPTION))
+                .contextWrite(ctx -> AuthorizationContext.setAttributeContext(ctx, attributeContext))
+                .contextWrite(ctx -> AuthorizationContext.setFunctionContext(ctx, new AnnotationFunctionContext()));
+
+        StepVerifier.create(combinedDecision).expectNext(notApplicable).verifyComplete();
+
+        assertThat(combinedResults.get()).isLessThan(4 * policies.size());
+    }
+
+    private Flux<AuthorizationDecision> evaluate(String policySet, boolean oneShot) {
+        return INTERPRETER
+                .evaluate(SUBSCRIPTION, policySet, attributeContext, new AnnotationFunctionContext(), Map.of())
+                .contextWrite(ctx -> AuthorizationContext.setOneShot(ctx, oneShot));
+    }
+
+}
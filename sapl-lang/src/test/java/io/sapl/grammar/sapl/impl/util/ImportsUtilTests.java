@@ -18,18 +18,28 @@
 package io.sapl.grammar.sapl.impl.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import io.sapl.api.interpreter.PolicyEvaluationException;
+import io.sapl.grammar.sapl.PolicySet;
+import io.sapl.grammar.sapl.impl.SAPLImplCustom;
+import io.sapl.interpreter.DefaultSAPLInterpreter;
 import io.sapl.interpreter.functions.FunctionContext;
 import io.sapl.interpreter.pip.AttributeContext;
 import reactor.util.context.Context;
 
 class ImportsUtilTests {
 
+    private static final DefaultSAPLInterpreter INTERPRETER = new DefaultSAPLInterpreter();
+
     @Test
     @SuppressWarnings("unchecked")
     void nullReturnsEmptyImportMap() {
@@ -37,4 +47,70 @@ void nullReturnsEmptyImportMap() {
         assertThat((Map<String, Object>) ImportsUtil.loadImportsIntoContext(null, ctx).get("imports")).isEmpty();
     }
 
+    @Test
+    void importsAreLinkedOncePerDocumentAndContexts() {
+        var document         = INTERPRETER.parse("import filter.blacken policy \"p\" permit");
+        var attributeContext = mock(AttributeContext.class);
+        var functionContext  = mock(FunctionContext.class);
+        when(functionContext.isProvidedFunction("filter.blacken")).thenReturn(Boolean.TRUE);
+
+        var imports = ImportsUtil.linkImports(document, attributeContext, functionContext);
+
+        assertThat(imports).containsExactly(Map.entry("blacken", "filter.blacken"));
+        assertThat(ImportsUtil.linkImports(document, attributeContext, functionContext)).isSameAs(imports);
+        verify(functionContext, times(1)).isProvidedFunction("filter.blacken");
+    }
+
+    @Test
+    void importsAreLinkedAgainForOtherContexts() {
+        var document         = INTERPRETER.parse("import filter.blacken policy \"p\" permit");
+        var attributeContext = mock(AttributeContext.class);
+        var functionContext  = mock(FunctionContext.class);
+        when(functionContext.isProvidedFunction("filter.blacken")).thenReturn(Boolean.TRUE);
+        var otherFunctionContext = mock(FunctionContext.class);
+
+        ImportsUtil.linkImports(document, attributeContext, functionContext);
+
+        assertThatThrownBy(() -> ImportsUtil.linkImports(document, attributeContext, otherFunctionContext))
+                .isInstanceOf(PolicyEvaluationException.class).hasMessage("Import 'filter.blacken' was not found.");
+    }
+
+    @Test
+    void importErrorsAreRememberedForDocumentAndContexts() {
+        var document         = INTERPRETER.parse("import filter.blacken policy \"p\" permit");
+        var attributeContext = mock(AttributeContext.class);
+        var functionContext  = mock(FunctionContext.class);
+
+        for (var i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> ImportsUtil.linkImports(document, attributeContext, functionContext))
+                    .isInstanceOf(PolicyEvaluationException.class).hasMessage("Import 'filter.blacken' was not found.");
+        }
+        verify(functionContext, times(1)).isProvidedFunction("filter.blacken");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void linkedImportsAreStoredOnTheDocument() {
+        var document         = INTERPRETER.parse("import filter.blacken policy \"p\" permit");
+        var attributeContext = mock(AttributeContext.class);
+        var functionContext  = mock(FunctionContext.class);
+        when(functionContext.isProvidedFunction("filter.blacken")).thenReturn(Boolean.TRUE);
+
+        var linked = ImportsUtil.link(document, attributeContext, functionContext);
+
+        assertThat(((SAPLImplCustom) document).getLinkedImports()).isSameAs(linked);
+        var ctx = Context.of("attributeCtx", attributeContext, "functionCtx", functionContext);
+        assertThat((Map<String, Object>) ImportsUtil.loadImportsIntoContext(document.getPolicyElement(), ctx)
+                .get("imports")).isSameAs(linked.imports());
+    }
+
+    @Test
+    void policiesInSetsUseTheImportsOfTheSet() {
+        var document = INTERPRETER.parse("import filter.blacken set \"s\" deny-overrides policy \"p\" permit");
+        var policy   = ((PolicySet) document.getPolicyElement()).getPolicies().get(0);
+        var ctx      = Context.of("imports", Map.of("blacken", "filter.blacken"));
+
+        assertThat(ImportsUtil.loadImportsIntoContext(policy, ctx)).isSameAs(ctx);
+    }
+
 }
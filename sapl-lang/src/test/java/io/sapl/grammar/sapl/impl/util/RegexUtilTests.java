@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.grammar.sapl.impl.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import io.sapl.api.interpreter.PolicyEvaluationException;
+import io.sapl.testutil.ParserUtil;
+
+class RegexUtilTests {
+
+    private static final String CATASTROPHIC_REGEX = "(a+)+b";
+
+    private static final String CATASTROPHIC_INPUT = "a".repeat(40);
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '#', value = { "\"a.*\"# a.*", "[\"a.*\"][0]#", "\"a\" + \".*\"#", "subject#",
+            "\"a.*\" |- filter.remove#" })
+    void onlyPlainStringLiteralsAreConstant(String expression, String expected) throws IOException {
+        assertThat(RegexUtil.constantText(ParserUtil.expression(expression))).isEqualTo(expected);
+    }
+
+    @Test
+    void compiledPatternsAreCached() {
+        assertThat(RegexUtil.compile("[a-z]+")).isSameAs(RegexUtil.compile("[a-z]+"));
+    }
+
+    @Test
+    void invalidPatternsAreNotCompiled() {
+        assertThatThrownBy(() -> RegexUtil.compile("***")).isInstanceOf(PatternSyntaxException.class);
+    }
+
+    @Test
+    void matchesWithAndWithoutLimit() {
+        var pattern = RegexUtil.compile("a+b");
+        assertThat(RegexUtil.matches(pattern, "aaab", 0L)).isTrue();
+        assertThat(RegexUtil.matches(pattern, "aaab", 10L)).isTrue();
+        assertThat(RegexUtil.matches(pattern, "aaac", 10L)).isFalse();
+    }
+
+    @Test
+    void catastrophicBacktrackingFailsWhenLimited() {
+        var pattern = RegexUtil.compile(CATASTROPHIC_REGEX);
+        assertThatThrownBy(() -> RegexUtil.matches(pattern, CATASTROPHIC_INPUT, 2L))
+                .isInstanceOf(PolicyEvaluationException.class)
+                .hasMessage("Matching of regular expression '(a+)+b' exceeded the limit of 2 steps per character.");
+    }
+
+}
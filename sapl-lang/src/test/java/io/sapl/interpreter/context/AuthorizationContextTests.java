@@ -17,11 +17,18 @@
  */
 package io.sapl.interpreter.context;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
 import io.sapl.api.interpreter.Val;
+import io.sapl.api.pdp.AuthorizationSubscription;
 import reactor.util.context.Context;
 
 class AuthorizationContextTests {
@@ -38,4 +45,104 @@ void when_setReservedVariableName_then_throw() {
         assertThatThrownBy(() -> AuthorizationContext.setVariable(ctx, "environment", Val.NULL)).hasMessage(
                 String.format(AuthorizationContext.CANNOT_OVERWRITE_REQUEST_VARIABLE_S_ERROR, "environment"));
     }
+
+    @Test
+    void when_setVariablesWithReservedName_then_throw() {
+        var ctx       = Context.empty();
+        var variables = Map.of("subject", Val.NULL);
+        assertThatThrownBy(() -> AuthorizationContext.setVariables(ctx, variables))
+                .hasMessage(String.format(AuthorizationContext.CANNOT_OVERWRITE_REQUEST_VARIABLE_S_ERROR, "subject"));
+    }
+
+    @Test
+    void when_setVariableToError_then_throw() {
+        var ctx   = Context.empty();
+        var error = Val.error("broken");
+        assertThatThrownBy(() -> AuthorizationContext.setVariable(ctx, "a", error)).hasMessage("broken");
+    }
+
+    @Test
+    void when_noVariablesInContext_then_variablesAreEmptyAndUndefined() {
+        var ctx = Context.empty();
+        assertThat(AuthorizationContext.getVariables(ctx)).isEmpty();
+        assertThat(AuthorizationContext.getVariable(ctx, "a").isUndefined()).isTrue();
+        assertThat(AuthorizationContext.getVariable(ctx, "subject").isUndefined()).isTrue();
+    }
+
+    @Test
+    void when_variablesAreBound_then_newestBindingWins() {
+        var     json         = JsonNodeFactory.instance;
+        var     subscription = AuthorizationSubscription.of(json.textNode("willi"), json.textNode("read"),
+                json.textNode("something"));
+        Context ctx          = Context.empty();
+        ctx = AuthorizationContext.setVariables(ctx, Map.of("a", Val.of(1), "b", Val.of(2)));
+        ctx = AuthorizationContext.setSubscriptionVariables(ctx, subscription);
+        ctx = AuthorizationContext.setVariable(ctx, "a", Val.of(3));
+        ctx = AuthorizationContext.setVariable(ctx, "c", Val.of(4));
+
+        assertThat(AuthorizationContext.getVariable(ctx, "a")).isEqualTo(Val.of(3));
+        assertThat(AuthorizationContext.getVariable(ctx, "b")).isEqualTo(Val.of(2));
+        assertThat(AuthorizationContext.getVariable(ctx, "c")).isEqualTo(Val.of(4));
+        assertThat(AuthorizationContext.getVariable(ctx, "subject")).isEqualTo(Val.of("willi"));
+        assertThat(AuthorizationContext.getVariable(ctx, "environment").isUndefined()).isTrue();
+        assertThat(AuthorizationContext.getVariables(ctx)).containsEntry("a", Val.of(3)).containsEntry("b", Val.of(2))
+                .containsEntry("c", Val.of(4)).containsEntry("subject", Val.of("willi"))
+                .containsEntry("action", Val.of("read")).containsEntry("resource", Val.of("something"))
+                .containsKey("environment").hasSize(7);
+    }
+
+    @Test
+    void when_variableIsSetToUndefined_then_olderBindingIsHidden() {
+        var variables = new HashMap<String, Val>();
+        variables.put("a", Val.of(1));
+        var ctx       = AuthorizationContext.setVariables(Context.empty(), variables);
+        var undefined = AuthorizationContext.setVariable(ctx, "a", Val.UNDEFINED);
+
+        assertThat(AuthorizationContext.getVariable(undefined, "a").isUndefined()).isTrue();
+        assertThat(AuthorizationContext.getVariables(undefined)).doesNotContainKey("a");
+        assertThat(AuthorizationContext.getVariable(ctx, "a")).isEqualTo(Val.of(1));
+    }
+
+    @Test
+    void when_variableIsBound_then_previousContextIsUnchanged() {
+        var ctx     = AuthorizationContext.setVariable(Context.empty(), "a", Val.of(1));
+        var updated = AuthorizationContext.setVariable(ctx, "a", Val.of(2));
+
+        assertThat(AuthorizationContext.getVariable(ctx, "a")).isEqualTo(Val.of(1));
+        assertThat(AuthorizationContext.getVariable(updated, "a")).isEqualTo(Val.of(2));
+        assertThat(AuthorizationContext.getVariables(ctx)).containsExactlyEntriesOf(Map.of("a", Val.of(1)));
+    }
+
+    @Test
+    void when_tracingIsDisabled_then_variablesAreUntraced() {
+        var subscription = AuthorizationSubscription.of(JsonNodeFactory.instance.textNode("willi"),
+                JsonNodeFactory.instance.textNode("read"), JsonNodeFactory.instance.textNode("something"));
+        var variables    = Map.of("a", Val.of(1));
+        var traced       = AuthorizationContext
+                .setSubscriptionVariables(AuthorizationContext.setVariables(Context.empty(), variables), subscription);
+        var untraced     = AuthorizationContext.setSubscriptionVariables(AuthorizationContext
+                .setVariables(AuthorizationContext.setTracingEnabled(Context.empty(), false), variables), subscription);
+
+        assertThat(AuthorizationContext.isTracingEnabled(traced)).isTrue();
+        assertThat(AuthorizationContext.isTracingEnabled(untraced)).isFalse();
+        assertThat(AuthorizationContext.getVariable(traced, "subject").isUntraced()).isFalse();
+        assertThat(AuthorizationContext.getVariable(traced, "a").isUntraced()).isFalse();
+        assertThat(AuthorizationContext.getVariable(untraced, "subject").isUntraced()).isTrue();
+        assertThat(AuthorizationContext.getVariable(untraced, "subject")).isEqualTo(Val.of("willi"));
+        assertThat(AuthorizationContext.getVariable(untraced, "a").isUntraced()).isTrue();
+        assertThat(AuthorizationContext.getVariable(untraced, "a")).isEqualTo(Val.of(1));
+    }
+
+    @Test
+    void when_tracingIsDisabled_then_untracedVariablesAreBoundOnce() {
+        var ctx      = AuthorizationContext.setTracingEnabled(Context.empty(), false);
+        var untraced = Map.of("a", Val.of(1).asUntraced());
+        ctx = AuthorizationContext.setVariables(ctx, untraced);
+        ctx = AuthorizationContext.setVariable(ctx, "b", Val.of(2));
+
+        assertThat(AuthorizationContext.getVariable(ctx, "a")).isSameAs(untraced.get("a"));
+        assertThat(AuthorizationContext.getVariable(ctx, "b").isUntraced()).isTrue();
+        assertThat(AuthorizationContext.getVariable(ctx, "b")).isSameAs(AuthorizationContext.getVariable(ctx, "b"));
+    }
+
 }
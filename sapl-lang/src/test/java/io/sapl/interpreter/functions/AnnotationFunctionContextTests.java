@@ -111,6 +111,36 @@ void simpleFunctionCallWithVarArgsParameters() throws InitializationException {
                 is(MockLibrary.RETURN_VALUE));
     }
 
+    @Test
+    void linkedFunctionCanBeInvokedRepeatedly() throws InitializationException {
+        var context = new AnnotationFunctionContext(() -> List.of(new MockLibrary()), List::of);
+        var twoArgs = context.link(MockLibrary.LIBRARY_NAME + ".helloTwoArgs");
+        var varArgs = context.link(MockLibrary.LIBRARY_NAME + ".helloVarArgs");
+        assertAll(() -> assertThat(twoArgs.invoke(Val.TRUE, Val.FALSE), is(MockLibrary.RETURN_VALUE)),
+                () -> assertThat(twoArgs.invoke(Val.FALSE, Val.TRUE), is(MockLibrary.RETURN_VALUE)),
+                () -> assertThat(twoArgs.invoke(Val.TRUE), valError()),
+                () -> assertThat(varArgs.invoke(), is(MockLibrary.RETURN_VALUE)),
+                () -> assertThat(varArgs.invoke(Val.TRUE, Val.FALSE, Val.UNDEFINED), is(MockLibrary.RETURN_VALUE)));
+    }
+
+    @Test
+    void linkedFunctionIsOnlyTracedWhenTracingIsEnabled() throws InitializationException {
+        var context = new AnnotationFunctionContext(() -> List.of(new MockLibrary()), List::of);
+        var twoArgs = context.link(MockLibrary.LIBRARY_NAME + ".helloTwoArgs");
+        var unknown = context.link("i.am.not.a.function");
+        assertAll(() -> assertThat(twoArgs.invoke(true, Val.TRUE, Val.FALSE).isUntraced(), is(false)),
+                () -> assertThat(twoArgs.invoke(false, Val.TRUE, Val.FALSE).isUntraced(), is(true)),
+                () -> assertThat(twoArgs.invoke(false, Val.TRUE, Val.FALSE), is(MockLibrary.RETURN_VALUE)),
+                () -> assertThat(unknown.invoke(true, Val.TRUE).isUntraced(), is(false)),
+                () -> assertThat(unknown.invoke(false, Val.TRUE).isUntraced(), is(true)));
+    }
+
+    @Test
+    void linkingUnknownFunctionReturnsErrorOnInvocation() {
+        var invoker = new AnnotationFunctionContext().link("i.am.not.a.function");
+        assertThat(invoker.invoke(Val.TRUE), valError("Unknown function i.am.not.a.function"));
+    }
+
     @Test
     void validationForFixedParametersFailsOnWrongInput() throws InitializationException {
         var context = new AnnotationFunctionContext(() -> List.of(new ValidationLibrary()), List::of);
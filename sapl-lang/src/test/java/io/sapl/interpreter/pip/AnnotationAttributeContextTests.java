@@ -26,9 +26,11 @@
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -39,6 +41,7 @@
 
 import io.sapl.api.interpreter.Val;
 import io.sapl.api.pip.Attribute;
+import io.sapl.api.pip.CachedAttribute;
 import io.sapl.api.pip.EnvironmentAttribute;
 import io.sapl.api.pip.PolicyInformationPoint;
 import io.sapl.api.pip.PolicyInformationPointSupplier;
@@ -1016,6 +1019,103 @@ public Flux<Val> attribute(Val leftHand, Map<String, Val> variables, @Text Val..
                 .expectNextMatches(valErrorText("Unknown attribute test.attribute")).verifyComplete();
     }
 
+    @Test
+    void when_attributeStreamsAreShared_then_equalInvocationsInvokeAttributeFinderOnce()
+            throws InitializationException, IOException {
+        var invocations = new AtomicInteger();
+        @PolicyInformationPoint(name = "test")
+        class PIP {
+
+            @EnvironmentAttribute
+            public Flux<Val> envAttribute(Val parameter) {
+                invocations.incrementAndGet();
+                return Flux.just(parameter).concatWith(Flux.never());
+            }
+
+        }
+
+        var attributeCtx = new AnnotationAttributeContext(new AttributeStreamBroker(Duration.ZERO));
+        attributeCtx.loadPolicyInformationPoint(new PIP());
+        var variables  = Map.<String, Val>of();
+        var expression = ParserUtil.expression("<test.envAttribute(\"a\")>");
+        var other      = ParserUtil.expression("<test.envAttribute(\"b\")>");
+        var streams    = Flux.merge(expression.evaluate(), expression.evaluate(), other.evaluate())
+                .contextWrite(this.constructContext(attributeCtx, variables));
+        StepVerifier.create(streams).expectNextCount(3L).thenCancel().verify();
+        assertThat(invocations.get(), is(2));
+    }
+
+    @Test
+    void when_attributeIsCached_then_repeatedInvocationsAreAnsweredFromCache()
+            throws InitializationException, IOException {
+        var invocations = new AtomicInteger();
+        @PolicyInformationPoint(name = "test")
+        class PIP {
+
+            @EnvironmentAttribute
+            @CachedAttribute(timeToLiveMillis = 60_000L)
+            public Flux<Val> envAttribute(Val parameter) {
+                invocations.incrementAndGet();
+                return Flux.just(parameter);
+            }
+
+        }
+
+        var attributeCtx = new AnnotationAttributeContext();
+        attributeCtx.loadPolicyInformationPoint(new PIP());
+        var variables  = Map.<String, Val>of();
+        var expression = ParserUtil.expression("<test.envAttribute(\"a\")>");
+        var other      = ParserUtil.expression("<test.envAttribute(\"b\")>");
+        var streams    = Flux.concat(expression.evaluate(), expression.evaluate(), other.evaluate())
+                .contextWrite(this.constructContext(attributeCtx, variables));
+        StepVerifier.create(streams).expectNext(Val.of("a"), Val.of("a"), Val.of("b")).verifyComplete();
+        assertThat(invocations.get(), is(2));
+        assertThat(attributeCtx.getAttributeCacheStatistics(),
+                hasEntry("<test.envAttribute(parameter)>", new AttributeCache.Statistics(1L, 0L, 2L, 0L)));
+    }
+
+    @Test
+    void when_guardSettingsAreInContext_then_attributeFinderInvocationIsBounded()
+            throws InitializationException, IOException {
+        @PolicyInformationPoint(name = "test")
+        class PIP {
+
+            @EnvironmentAttribute
+            public Flux<Val> envAttribute() {
+                return Flux.never();
+            }
+
+        }
+
+        var attributeCtx = new AnnotationAttributeContext();
+        attributeCtx.loadPolicyInformationPoint(new PIP());
+        var settings   = Map.of("test",
+                new AttributeFinderGuardSettings(Duration.ofSeconds(1L), 0, 0, Duration.ZERO, null));
+        var expression = ParserUtil.expression("<test.envAttribute>");
+        StepVerifier
+                .withVirtualTime(() -> expression.evaluate().contextWrite(this.constructContext(attributeCtx, Map.of()))
+                        .contextWrite(ctx -> AuthorizationContext.setAttributeFinderGuardSettings(ctx, settings)))
+                .thenAwait(Duration.ofSeconds(1L)).expectNextMatches(Val::isError).thenCancel().verify();
+    }
+
+    @Test
+    void when_cachedAttributeDeclaresNoTimeToLive_then_fail() {
+        @PolicyInformationPoint(name = "test")
+        class PIP {
+
+            @EnvironmentAttribute
+            @CachedAttribute(timeToLiveMillis = 0L)
+            public Flux<Val> envAttribute() {
+                return Flux.empty();
+            }
+
+        }
+
+        var attributeCtx = new AnnotationAttributeContext();
+        var pip          = new PIP();
+        assertThrows(InitializationException.class, () -> attributeCtx.loadPolicyInformationPoint(pip));
+    }
+
     private Function<Context, Context> constructContext(AttributeContext attributeCtx, Map<String, Val> variables) {
         return ctx -> {
             ctx = AuthorizationContext.setAttributeContext(ctx, attributeCtx);
@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.interpreter.pip;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.base.Ticker;
+
+import io.sapl.api.interpreter.Val;
+import io.sapl.interpreter.pip.AttributeCache.Statistics;
+import io.sapl.interpreter.pip.AttributeStreamBroker.AttributeStreamKey;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class AttributeCacheTests {
+
+    private static final Method FINDER = finder();
+
+    private static final Duration TIME_TO_LIVE = Duration.ofSeconds(10L);
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    };
+
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    private final Supplier<Flux<Val>> invocation = () -> Flux.just(Val.of(invocations.incrementAndGet()));
+
+    @Test
+    void when_valueIsFresh_then_attributeFinderIsNotInvokedAgain() {
+        var cache = new AttributeCache(TIME_TO_LIVE, Duration.ZERO, 10L, false, ticker);
+
+        StepVerifier.create(cache.attributeStream(key("a"), invocation)).expectNext(Val.of(1)).verifyComplete();
+        advance(TIME_TO_LIVE.minusMillis(1L));
+        StepVerifier.create(cache.attributeStream(key("a"), invocation)).expectNext(Val.of(1)).verifyComplete();
+
+        assertThat(invocations.get()).isEqualTo(1);
+        assertThat(cache.getStatistics()).isEqualTo(new Statistics(1L, 0L, 1L, 0L));
+    }
+
+    @Test
+    void when_lookupsMissConcurrently_then_attributeFinderIsInvokedOnce() {
+        var cache    = new AttributeCache(TIME_TO_LIVE, Duration.ZERO, 10L, false, ticker);
+        var upstream = Sinks.many().replay().<Val>latest();
+        var lookups  = Flux.merge(cache.attributeStream(key("a"), () -> pending(upstream)),
+                cache.attributeStream(key("a"), () -> pending(upstream)));
+
+        StepVerifier.create(lookups).then(() -> upstream.tryEmitNext(Val.of(1))).expectNext(Val.of(1), Val.of(1))
+                .thenCancel().verify();
+
+        assertThat(invocations.get()).isEqualTo(1);
+        assertThat(cache.getStatistics()).isEqualTo(new Statistics(0L, 0L, 1L, 0L));
+    }
+
+    @Test
+    void when_valueIsExpired_then_attributeFinderIsInvokedAgain() {
+        var cache = new AttributeCache(TIME_TO_LIVE, Duration.ZERO, 10L, false, ticker);
+
+        StepVerifier.create(cache.attributeStream(key("a"), invocation)).expectNext(Val.of(1)).verifyComplete();
+        advance(TIME_TO_LIVE);
+        StepVerifier.create(cache.attributeStream(key("a"), invocation)).expectNext(Val.of(2)).verifyComplete();
+
+        assertThat(cache.getStatistics()).isEqualTo(new Statistics(0L, 0L, 2L, 1L));
+    }
+
+    @Test
+    void when_valueIsStale_then_staleValueIsReturnedAndRevalidatedInBackground() {
+        var cache = new AttributeCache(TIME_TO_LIVE, TIME_TO_LIVE, 10L, false, ticker);
+
+        StepVerifier.create(cache.attributeStream(key("a"), invocation)).expectNext(Val.of(1)).verifyComplete();
+        advance(TIME_TO_LIVE.plusSeconds(1L));
+        StepVerifier.create(cache.attributeStream(key("a"), invocation)).expectNext(Val.of(1)).verifyComplete();
+        StepVerifier.create(cache.attributeStream(key("a"), invocation)).expectNext(Val.of(2)).verifyComplete();
+
+        assertThat(invocations.get()).isEqualTo(2);
+        assertThat(cache.getStatistics()).isEqualTo(new Statistics(1L, 1L, 1L, 0L));
+    }
+
+    @Test
+    void when_errorsAreNotCached_then_attributeFinderIsInvokedAgainAfterError() {
+        var cache  = new AttributeCache(TIME_TO_LIVE, Duration.ZERO, 10L, false, ticker);
+        var errors = errors();
+
+        StepVerifier.create(cache.attributeStream(key("a"), errors)).expectNextMatches(Val::isError).verifyComplete();
+        StepVerifier.create(cache.attributeStream(key("a"), errors)).expectNextMatches(Val::isError).verifyComplete();
+
+        assertThat(invocations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void when_errorsAreCached_then_errorIsReturnedFromCache() {
+        var cache  = new AttributeCache(TIME_TO_LIVE, Duration.ZERO, 10L, true, ticker);
+        var errors = errors();
+
+        StepVerifier.create(cache.attributeStream(key("a"), errors)).expectNextMatches(Val::isError).verifyComplete();
+        StepVerifier.create(cache.attributeStream(key("a"), errors)).expectNextMatches(Val::isError).verifyComplete();
+
+        assertThat(invocations.get()).isEqualTo(1);
+    }
+
+    @Test
+    void when_maximumSizeIsExceeded_then_valuesAreEvicted() {
+        var cache = new AttributeCache(TIME_TO_LIVE, Duration.ZERO, 1L, false, ticker);
+
+        StepVerifier.create(cache.attributeStream(key("a"), invocation)).expectNext(Val.of(1)).verifyComplete();
+        StepVerifier.create(cache.attributeStream(key("b"), invocation)).expectNext(Val.of(2)).verifyComplete();
+        StepVerifier.create(cache.attributeStream(key("a"), invocation)).expectNext(Val.of(3)).verifyComplete();
+
+        assertThat(cache.getStatistics().evictions()).isEqualTo(2L);
+        assertThat(cache.getStatistics().misses()).isEqualTo(3L);
+    }
+
+    private Supplier<Flux<Val>> errors() {
+        return () -> {
+            invocations.incrementAndGet();
+            return Flux.just(Val.error("unavailable"));
+        };
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private Flux<Val> pending(Sinks.Many<Val> upstream) {
+        invocations.incrementAndGet();
+        return upstream.asFlux();
+    }
+
+    private static AttributeStreamKey key(String argument) {
+        return AttributeStreamKey.of("test.attribute", FINDER, new Object[] { Val.of(argument) });
+    }
+
+    private static Method finder() {
+        try {
+            return AttributeCacheTests.class.getDeclaredMethod("finder");
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.interpreter.pip;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.sapl.api.interpreter.Val;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+class AttributeFinderGuardTests {
+
+    private static final AttributeFinderMetadata ATTRIBUTE = new AttributeFinderMetadata(null, null, "test",
+            "attribute", null, true, false, false, 0);
+
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(10L);
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final AttributeFinderGuard guard = new AttributeFinderGuard(nanos::get);
+
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    private final Supplier<Flux<Val>> never = () -> {
+        invocations.incrementAndGet();
+        return Flux.never();
+    };
+
+    private final Supplier<Flux<Val>> failing = () -> {
+        invocations.incrementAndGet();
+        return Flux.just(Val.error("unavailable"));
+    };
+
+    private final Supplier<Flux<Val>> succeeding = () -> {
+        invocations.incrementAndGet();
+        return Flux.just(Val.of(1));
+    };
+
+    @Test
+    void when_noSettingsApply_then_invocationIsUnchanged() {
+        var settings = Map.of("other", settings(Duration.ZERO, 1, 0));
+        StepVerifier.create(guard.guard(ATTRIBUTE, settings, succeeding)).expectNext(Val.of(1)).verifyComplete();
+    }
+
+    @Test
+    void when_firstValueTakesTooLong_then_timeoutError() {
+        var settings = Map.of("test", settings(Duration.ofMillis(500L), 0, 0));
+        StepVerifier.withVirtualTime(() -> guard.guard(ATTRIBUTE, settings, never)).thenAwait(Duration.ofMillis(500L))
+                .expectNextMatches(value -> value.isError() && value.getMessage().equals(
+                        String.format(AttributeFinderGuard.TIMEOUT_S_ERROR, "test.attribute", Duration.ofMillis(500L))))
+                .verifyComplete();
+    }
+
+    @Test
+    void when_firstValueArrivedInTime_then_laterValuesAreNotLimited() {
+        var settings = Map.of("test", settings(Duration.ofMillis(500L), 0, 0));
+        StepVerifier
+                .withVirtualTime(() -> guard.guard(ATTRIBUTE, settings,
+                        () -> Flux.interval(Duration.ofMillis(100L), Duration.ofSeconds(1L)).map(Val::of).take(3L)))
+                .thenAwait(Duration.ofSeconds(3L)).expectNext(Val.of(0L), Val.of(1L), Val.of(2L)).verifyComplete();
+    }
+
+    @Test
+    void when_tooManyConcurrentInvocations_then_furtherInvocationsAreRejectedUntilOneCompletes() {
+        var settings = Map.of("test", settings(Duration.ZERO, 1, 0));
+        var first    = guard.guard(ATTRIBUTE, settings, never).subscribe();
+
+        StepVerifier.create(guard.guard(ATTRIBUTE, settings, succeeding))
+                .expectNextMatches(value -> value.isError() && value.getMessage()
+                        .equals(String.format(AttributeFinderGuard.TOO_MANY_INVOCATIONS_S_ERROR, "test.attribute")))
+                .verifyComplete();
+        first.dispose();
+        StepVerifier.create(guard.guard(ATTRIBUTE, settings, succeeding)).expectNext(Val.of(1)).verifyComplete();
+        assertThat(invocations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void when_failureThresholdIsReached_then_circuitOpensAndClosesAfterSuccessfulTrial() {
+        var settings = Map.of("test", new AttributeFinderGuardSettings(Duration.ZERO, 0, 2, OPEN_DURATION, "open"));
+
+        StepVerifier.create(guard.guard(ATTRIBUTE, settings, failing)).expectNextMatches(Val::isError).verifyComplete();
+        StepVerifier.create(guard.guard(ATTRIBUTE, settings, failing)).expectNextMatches(Val::isError).verifyComplete();
+        StepVerifier.create(guard.guard(ATTRIBUTE, settings, succeeding))
+                .expectNextMatches(value -> value.isError() && "open".equals(value.getMessage())).verifyComplete();
+        assertThat(invocations.get()).isEqualTo(2);
+
+        nanos.addAndGet(OPEN_DURATION.toNanos());
+        StepVerifier.create(guard.guard(ATTRIBUTE, settings, succeeding)).expectNext(Val.of(1)).verifyComplete();
+        StepVerifier.create(guard.guard(ATTRIBUTE, settings, succeeding)).expectNext(Val.of(1)).verifyComplete();
+        assertThat(invocations.get()).isEqualTo(4);
+    }
+
+    @Test
+    void when_trialFails_then_circuitOpensAgain() {
+        var settings = Map.of("test", settings(Duration.ZERO, 0, 1));
+
+        StepVerifier.create(guard.guard(ATTRIBUTE, settings, failing)).expectNextMatches(Val::isError).verifyComplete();
+        nanos.addAndGet(OPEN_DURATION.toNanos());
+        StepVerifier.create(guard.guard(ATTRIBUTE, settings, failing)).expectNextMatches(Val::isError).verifyComplete();
+        StepVerifier.create(guard.guard(ATTRIBUTE, settings, succeeding))
+                .expectNextMatches(value -> value.isError() && value.getMessage()
+                        .equals(String.format(AttributeFinderGuard.OPEN_CIRCUIT_S_ERROR, "test.attribute")))
+                .verifyComplete();
+        assertThat(invocations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void when_attributeIsConfigured_then_attributeSettingsTakePrecedence() {
+        var settings = Map.of("test", settings(Duration.ZERO, 0, 1), "test.attribute", settings(Duration.ZERO, 0, 2));
+
+        StepVerifier.create(guard.guard(ATTRIBUTE, settings, failing)).expectNextMatches(Val::isError).verifyComplete();
+        StepVerifier.create(guard.guard(ATTRIBUTE, settings, failing)).expectNextMatches(Val::isError).verifyComplete();
+        assertThat(invocations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void when_settingsAreReadFromJson_then_omittedLimitsAreDisabled() throws Exception {
+        var json     = new ObjectMapper().readTree("{ \"timeoutMillis\": 250, \"failureThreshold\": 3 }");
+        var settings = AttributeFinderGuardSettings.of(json);
+
+        assertThat(settings).isEqualTo(new AttributeFinderGuardSettings(Duration.ofMillis(250L), 0, 3,
+                AttributeFinderGuardSettings.DEFAULT_OPEN_DURATION, null));
+    }
+
+    private static AttributeFinderGuardSettings settings(Duration timeout, int maxConcurrentInvocations,
+            int failureThreshold) {
+        return new AttributeFinderGuardSettings(timeout, maxConcurrentInvocations, failureThreshold, OPEN_DURATION,
+                null);
+    }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.interpreter.pip;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import io.sapl.api.interpreter.Val;
+import io.sapl.interpreter.pip.AttributeStreamBroker.AttributeStreamKey;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+class AttributeStreamBrokerTests {
+
+    private static final Method FINDER = finder();
+
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    private final AtomicInteger cancellations = new AtomicInteger();
+
+    private final Sinks.Many<Val> upstream = Sinks.many().replay().latest();
+
+    private final Supplier<Flux<Val>> invocation = () -> {
+        invocations.incrementAndGet();
+        return upstream.asFlux().doOnCancel(cancellations::incrementAndGet);
+    };
+
+    @Test
+    void when_equalInvocationsAreSubscribed_then_upstreamIsSharedAndLatestValueIsReplayed() {
+        var broker = new AttributeStreamBroker(Duration.ZERO);
+        var first  = broker.attributeStream(key("a", Val.of(1)), invocation);
+        var second = broker.attributeStream(key("a", Val.of(1)), invocation);
+
+        StepVerifier.create(first).then(() -> upstream.tryEmitNext(Val.of("x"))).expectNext(Val.of("x"))
+                .then(() -> StepVerifier.create(second).expectNext(Val.of("x"))
+                        .then(() -> assertThat(broker.getSubscriberCounts()).containsValue(2)).thenCancel().verify())
+                .thenCancel().verify();
+
+        assertThat(invocations.get()).isEqualTo(1);
+        assertThat(cancellations.get()).isEqualTo(1);
+        assertThat(broker.getSubscriberCounts()).isEmpty();
+    }
+
+    @Test
+    void when_argumentsDiffer_then_upstreamIsNotShared() {
+        var broker = new AttributeStreamBroker(Duration.ZERO);
+        var first  = broker.attributeStream(key("a", Val.of(1)), invocation);
+        var second = broker.attributeStream(key("a", Val.of(2)), invocation);
+
+        StepVerifier.create(Flux.merge(first, second)).then(() -> upstream.tryEmitNext(Val.of("x")))
+                .expectNext(Val.of("x"), Val.of("x")).thenCancel().verify();
+
+        assertThat(invocations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void when_varArgsAreEqual_then_keysAreEqual() {
+        var first  = AttributeStreamKey.of("a", FINDER, new Object[] { new Val[] { Val.of(1), Val.of(2) } });
+        var second = AttributeStreamKey.of("a", FINDER, new Object[] { new Val[] { Val.of(1), Val.of(2) } });
+        assertThat(first).isEqualTo(second).hasSameHashCodeAs(second);
+    }
+
+    @Test
+    void when_resubscribedWithinGracePeriod_then_upstreamIsKept() {
+        var broker = new AttributeStreamBroker(Duration.ofSeconds(10L));
+        var stream = broker.attributeStream(key("a", Val.of(1)), invocation);
+
+        upstream.tryEmitNext(Val.of("x"));
+        StepVerifier.create(stream).expectNext(Val.of("x")).thenCancel().verify();
+        StepVerifier.create(stream).expectNext(Val.of("x")).thenCancel().verify();
+
+        assertThat(invocations.get()).isEqualTo(1);
+        assertThat(cancellations.get()).isZero();
+        assertThat(broker.getSubscriberCounts()).containsValue(0);
+    }
+
+    @Test
+    void when_gracePeriodExpired_then_upstreamIsCancelled() {
+        var broker = new AttributeStreamBroker(Duration.ofMillis(50L));
+        var stream = broker.attributeStream(key("a", Val.of(1)), invocation);
+
+        upstream.tryEmitNext(Val.of("x"));
+        StepVerifier.create(stream).expectNext(Val.of("x")).thenCancel().verify();
+        StepVerifier
+                .create(Flux.defer(() -> Flux.just(cancellations.get())).repeat().skipWhile(count -> count == 0).next())
+                .expectNext(1).verifyComplete();
+        StepVerifier.create(stream).expectNext(Val.of("x")).thenCancel().verify();
+
+        assertThat(invocations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void when_resubscribedWithinGracePeriod_then_streamIsRemovedOnceTheLastConnectionEnded() {
+        var broker = new AttributeStreamBroker(Duration.ofMillis(100L));
+        var stream = broker.attributeStream(key("a", Val.of(1)), invocation);
+
+        upstream.tryEmitNext(Val.of("x"));
+        StepVerifier.create(stream).expectNext(Val.of("x")).thenCancel().verify();
+        StepVerifier.create(stream).expectNext(Val.of("x"))
+                .then(() -> assertThat(broker.getSubscriberCounts()).containsValue(1)).thenCancel().verify();
+        StepVerifier
+                .create(Flux.defer(() -> Flux.just(cancellations.get())).repeat().skipWhile(count -> count == 0).next())
+                .expectNext(1).verifyComplete();
+
+        assertThat(broker.getSubscriberCounts()).isEmpty();
+        StepVerifier.create(stream).expectNext(Val.of("x"))
+                .then(() -> assertThat(broker.getSubscriberCounts()).containsValue(1)).thenCancel().verify();
+        assertThat(invocations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void when_subscribedWhileGracePeriodExpires_then_noStreamIsLeft() {
+        var broker                  = new AttributeStreamBroker(Duration.ofMillis(50L));
+        var resubscription          = new AtomicReference<Disposable>();
+        var resubscribingInvocation = new Supplier<Flux<Val>>() {
+                                        @Override
+                                        public Flux<Val> get() {
+                                            invocations.incrementAndGet();
+                                            return upstream.asFlux().doOnCancel(() -> {
+                                                                            if (cancellations.getAndIncrement() == 0)
+                                                                                resubscription
+                                                                                        .set(resubscribe(broker, this));
+                                                                        });
+                                        }
+                                    };
+
+        upstream.tryEmitNext(Val.of("x"));
+        StepVerifier.create(broker.attributeStream(key("a", Val.of(1)), resubscribingInvocation))
+                .expectNext(Val.of("x")).thenCancel().verify();
+        StepVerifier.create(Flux.defer(() -> Flux.just(resubscription.get() != null)).repeat()
+                .skipWhile(resubscribed -> !resubscribed).next()).expectNext(true).verifyComplete();
+        resubscription.get().dispose();
+        StepVerifier.create(Flux.defer(() -> Flux.just(broker.getSubscriberCounts().isEmpty())).repeat()
+                .skipWhile(empty -> !empty).next()).expectNext(true).verifyComplete();
+    }
+
+    @Test
+    void when_unshared_then_everySubscriptionInvokesTheAttributeFinder() {
+        var broker = AttributeStreamBroker.unshared();
+        upstream.tryEmitNext(Val.of("x"));
+        StepVerifier.create(broker.attributeStream(key("a", Val.of(1)), invocation)).expectNext(Val.of("x"))
+                .thenCancel().verify();
+        StepVerifier.create(broker.attributeStream(key("a", Val.of(1)), invocation)).expectNext(Val.of("x"))
+                .thenCancel().verify();
+
+        assertThat(invocations.get()).isEqualTo(2);
+        assertThat(broker.getSubscriberCounts()).isEmpty();
+    }
+
+    /*
+     * Subscribes from another thread while the expired upstream connection is being
+     * cancelled.
+     */
+    private static Disposable resubscribe(AttributeStreamBroker broker, Supplier<Flux<Val>> invocation) {
+        var received     = new CountDownLatch(1);
+        var subscription = broker.attributeStream(key("a", Val.of(1)), invocation)
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(value -> received.countDown(), error -> received.countDown());
+        try {
+            assertThat(received.await(5L, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return subscription;
+    }
+
+    private static AttributeStreamKey key(String attributeName, Val leftHandValue) {
+        return AttributeStreamKey.of(attributeName, FINDER, new Object[] { leftHandValue });
+    }
+
+    private static Method finder() {
+        try {
+            return AttributeStreamBrokerTests.class.getDeclaredMethod("finder");
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
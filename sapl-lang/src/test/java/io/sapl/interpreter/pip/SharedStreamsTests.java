@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.interpreter.pip;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+class SharedStreamsTests {
+
+    private final AtomicInteger connections = new AtomicInteger();
+
+    @Test
+    void when_upstreamCompleted_then_streamIsRemovedAndNextSubscriptionConnectsAgain() {
+        var sharedStreams = new SharedStreams<String, Integer>(Duration.ofSeconds(10L));
+
+        StepVerifier.create(sharedStreams.share("key", this::upstream)).expectNext(1).verifyComplete();
+        assertThat(sharedStreams.getSubscriberCounts()).isEmpty();
+        StepVerifier.create(sharedStreams.share("key", this::upstream)).expectNext(2).verifyComplete();
+
+        assertThat(connections.get()).isEqualTo(2);
+        assertThat(sharedStreams.getSubscriberCounts()).isEmpty();
+    }
+
+    @Test
+    void when_subscriberCancelsWithoutGracePeriod_then_streamIsRemovedImmediately() {
+        var sharedStreams = new SharedStreams<String, Integer>(Duration.ZERO);
+
+        StepVerifier.create(sharedStreams.share("key", () -> Flux.<Integer>never()))
+                .then(() -> assertThat(sharedStreams.getSubscriberCounts()).containsEntry("key", 1)).thenCancel()
+                .verify();
+
+        assertThat(sharedStreams.getSubscriberCounts()).isEmpty();
+    }
+
+    private Flux<Integer> upstream() {
+        return Flux.just(connections.incrementAndGet());
+    }
+
+}
@@ -17,6 +17,7 @@
  */
 package io.sapl.pip.http;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.IOException;
@@ -36,6 +37,7 @@
 import io.sapl.api.interpreter.Val;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
 class ReactiveWebClientTests {
@@ -218,6 +220,50 @@ void testPostWithBody() throws JsonProcessingException {
         StepVerifier.create(response).expectNext(DEFAULT_BODY).expectNext(DEFAULT_BODY).expectComplete().verify();
     }
 
+    @Test
+    void when_identicalRequestsAreSubscribedConcurrently_then_oneUpstreamRequestIsShared()
+            throws JsonProcessingException {
+        mockBackEnd.enqueue(DEFAULT_RESPONSE.clone().setBodyDelay(200L, TimeUnit.MILLISECONDS));
+        var httpTestRequest = oneShotRequest("shared");
+        var response        = Flux.merge(clientUnderTest.httpRequest(HttpMethod.GET, httpTestRequest),
+                clientUnderTest.httpRequest(HttpMethod.GET, httpTestRequest)).map(Val::toString);
+        StepVerifier.create(response).expectNext(DEFAULT_BODY, DEFAULT_BODY).expectComplete().verify();
+        assertThat(mockBackEnd.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void when_differentRequestsAreSubscribedConcurrently_then_theyAreNotShared() throws JsonProcessingException {
+        mockBackEnd.enqueue(DEFAULT_RESPONSE.clone().setBodyDelay(200L, TimeUnit.MILLISECONDS));
+        mockBackEnd.enqueue(DEFAULT_RESPONSE.clone().setBodyDelay(200L, TimeUnit.MILLISECONDS));
+        var response = Flux.merge(clientUnderTest.httpRequest(HttpMethod.GET, oneShotRequest("a")),
+                clientUnderTest.httpRequest(HttpMethod.GET, oneShotRequest("b"))).map(Val::toString);
+        StepVerifier.create(response).expectNext(DEFAULT_BODY, DEFAULT_BODY).expectComplete().verify();
+        assertThat(mockBackEnd.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void when_sharedRequestCompleted_then_nextSubscriptionRequestsAgain() throws JsonProcessingException {
+        mockBackEnd.enqueue(DEFAULT_RESPONSE);
+        mockBackEnd.enqueue(DEFAULT_RESPONSE);
+        var httpTestRequest = oneShotRequest("again");
+        var request         = clientUnderTest.httpRequest(HttpMethod.GET, httpTestRequest).map(Val::toString);
+        StepVerifier.create(request).expectNext(DEFAULT_BODY).expectComplete().verify();
+        StepVerifier.create(request).expectNext(DEFAULT_BODY).expectComplete().verify();
+        assertThat(mockBackEnd.getRequestCount()).isEqualTo(2);
+    }
+
+    private Val oneShotRequest(String path) throws JsonProcessingException {
+        var template = """
+                {
+                    "baseUrl" : "%s",
+                    "path" : "%s",
+                    "accept" : "application/json",
+                    "repetitions" : 1
+                }
+                """;
+        return Val.ofJson(String.format(template, baseUrl, path));
+    }
+
     @Test
     void when_intervallNotANumber_then_error() throws JsonProcessingException {
         var template        = """
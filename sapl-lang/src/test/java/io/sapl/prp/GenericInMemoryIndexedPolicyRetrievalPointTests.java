@@ -34,6 +34,8 @@
 import io.sapl.prp.index.ImmutableParsedDocumentIndex;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
 
 class GenericInMemoryIndexedPolicyRetrievalPointTests {
 
@@ -131,4 +133,18 @@ void testConstructAndRetrieveWithNonSAPLResult() {
 
     }
 
+    @Test
+    void when_updatesArrive_then_everyIndexIsNewGeneration() {
+        var updates = Sinks.many().multicast().<PrpUpdateEvent>directBestEffort();
+        when(sourceMock.getUpdates()).thenReturn(updates.asFlux());
+
+        var prp = new GenericInMemoryIndexedPolicyRetrievalPoint(indexMock, sourceMock);
+        StepVerifier.create(prp.generations()).then(() -> updates.tryEmitNext(mock(PrpUpdateEvent.class)))
+                .expectNextCount(1L).then(() -> updates.tryEmitNext(mock(PrpUpdateEvent.class))).expectNextCount(1L)
+                .thenCancel().verify();
+        prp.dispose();
+
+        verify(indexMock, times(2)).apply(any());
+    }
+
 }
@@ -22,6 +22,7 @@
 import org.junit.jupiter.api.Test;
 
 import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
 
 class PolicyRetrievalPointTests {
 
@@ -39,4 +40,10 @@ void when_destroy_then_nothingThrown() {
         var sut = new TestPRP();
         assertDoesNotThrow(sut::destroy);
     }
+
+    @Test
+    void when_generationsNotSupported_then_generationsFail() {
+        var sut = new TestPRP();
+        StepVerifier.create(sut.generations()).expectError(UnsupportedOperationException.class).verify();
+    }
 }
@@ -19,6 +19,7 @@
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -57,4 +58,74 @@ void forEachSetBitTest() {
         verify(listMock, times(2)).add(anyInt());
     }
 
+    @Test
+    void numberOfBitsSetTest() {
+        assertThat(bitmask.numberOfBitsSet(), is(2));
+
+        bitmask.set(63, 130);
+        assertThat(bitmask.numberOfBitsSet(), is(69));
+        assertThat(bitmask.isSet(129), is(true));
+        assertThat(bitmask.isSet(130), is(false));
+        assertThat(bitmask.isSet(10_000), is(false));
+    }
+
+    @Test
+    void bitwiseOperationsTest() {
+        var other = new Bitmask();
+        other.set(3);
+        other.set(200);
+
+        var and = new Bitmask(bitmask);
+        and.and(other);
+        assertThat(and.toString(), is("{3}"));
+
+        var andNot = new Bitmask(bitmask);
+        andNot.andNot(other);
+        assertThat(andNot.toString(), is("{2}"));
+
+        var or = new Bitmask(bitmask);
+        or.or(other);
+        assertThat(or.toString(), is("{2, 3, 200}"));
+
+        assertThat(bitmask.intersects(other), is(true));
+        assertThat(andNot.intersects(other), is(false));
+    }
+
+    @Test
+    void copyFromTest() {
+        var scratch = new Bitmask(256);
+        scratch.set(100, 256);
+
+        scratch.copyFrom(bitmask);
+        assertThat(scratch.toString(), is("{2, 3}"));
+
+        var large = new Bitmask();
+        large.set(300);
+        scratch.copyFrom(large);
+        assertThat(scratch.toString(), is("{300}"));
+
+        scratch.clear();
+        assertThat(scratch.numberOfBitsSet(), is(0));
+    }
+
+    @Test
+    void flipAndClearAcrossWordsTest() {
+        var mask = new Bitmask();
+        mask.flip(60, 70);
+        assertThat(mask.numberOfBitsSet(), is(10));
+
+        mask.clear(64);
+        mask.clear(1_000);
+        assertThat(mask.isSet(64), is(false));
+        assertThat(mask.numberOfBitsSet(), is(9));
+    }
+
+    @Test
+    void negativeIndicesTest() {
+        assertThrows(IndexOutOfBoundsException.class, () -> bitmask.set(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> bitmask.isSet(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> bitmask.set(4, 2));
+        assertThrows(IllegalArgumentException.class, () -> new Bitmask(-1));
+    }
+
 }
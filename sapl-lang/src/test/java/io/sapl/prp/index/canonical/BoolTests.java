@@ -26,17 +26,25 @@
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.eclipse.emf.common.util.ECollections;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
 import io.sapl.api.interpreter.Val;
+import io.sapl.grammar.sapl.AttributeFinderStep;
 import io.sapl.grammar.sapl.Expression;
 import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
 
 class BoolTests {
 
@@ -151,4 +159,102 @@ void evaluating_bool_with_impossible_expression_should_return_impossible_value()
         assertThat(result.isBoolean(), is(true));
     }
 
+    @Test
+    void evaluating_constant_bool_synchronously_should_return_constant() {
+        var result = constantBool.evaluateExpressionSynchronously(Context.empty());
+
+        assertThat(result.isComplete(), is(true));
+        assertThat(result.result().getBoolean(), is(false));
+    }
+
+    @Test
+    void evaluating_bool_synchronously_should_return_first_value() {
+        var expressionMock = mock(Expression.class, RETURNS_DEEP_STUBS);
+        when(expressionMock.evaluate()).thenReturn(Flux.just(Val.FALSE, Val.TRUE));
+
+        var bool   = new Bool(expressionMock, Collections.emptyMap());
+        var result = bool.evaluateExpressionSynchronously(Context.empty());
+
+        assertThat(result.isComplete(), is(true));
+        assertThat(result.result().getBoolean(), is(false));
+    }
+
+    @Test
+    void evaluating_bool_with_long_expression_synchronously_should_return_error() {
+        var expressionMock = mock(Expression.class, RETURNS_DEEP_STUBS);
+        when(expressionMock.evaluate()).thenReturn(Flux.just(Val.of(0L)));
+
+        var bool   = new Bool(expressionMock, Collections.emptyMap());
+        var result = bool.evaluateExpressionSynchronously(Context.empty());
+
+        assertThat(result.isComplete(), is(true));
+        assertThat(result.result().isError(), is(true));
+    }
+
+    @Test
+    void evaluating_bool_with_asynchronous_expression_synchronously_should_hand_over_pending_evaluation() {
+        var expressionMock = mock(Expression.class, RETURNS_DEEP_STUBS);
+        when(expressionMock.evaluate()).thenReturn(Flux.just(Val.TRUE).delayElements(Duration.ofMillis(50L)));
+
+        var bool   = new Bool(expressionMock, Collections.emptyMap());
+        var result = bool.evaluateExpressionSynchronously(Context.empty());
+
+        assertThat(bool.hasStreamingDependencies(), is(false));
+        assertThat(result.isComplete(), is(false));
+        StepVerifier.create(result.pending()).expectNext(Val.TRUE).verifyComplete();
+        verify(expressionMock, times(1)).evaluate();
+    }
+
+    @Test
+    void cancelling_pending_evaluation_should_cancel_expression() {
+        var cancelled      = new AtomicBoolean();
+        var expressionMock = mock(Expression.class, RETURNS_DEEP_STUBS);
+        when(expressionMock.evaluate()).thenReturn(Flux.<Val>never().doOnCancel(() -> cancelled.set(true)));
+
+        var bool   = new Bool(expressionMock, Collections.emptyMap());
+        var result = bool.evaluateExpressionSynchronously(Context.empty());
+
+        assertThat(cancelled.get(), is(false));
+        StepVerifier.create(result.pending()).expectSubscription().thenCancel().verify();
+        assertThat(cancelled.get(), is(true));
+    }
+
+    @Test
+    void synchronous_result_should_cancel_expression() {
+        var cancelled      = new AtomicBoolean();
+        var expressionMock = mock(Expression.class, RETURNS_DEEP_STUBS);
+        when(expressionMock.evaluate())
+                .thenReturn(Flux.concat(Flux.just(Val.TRUE), Flux.<Val>never()).doOnCancel(() -> cancelled.set(true)));
+
+        var bool   = new Bool(expressionMock, Collections.emptyMap());
+        var result = bool.evaluateExpressionSynchronously(Context.empty());
+
+        assertThat(result.isComplete(), is(true));
+        assertThat(cancelled.get(), is(true));
+    }
+
+    @Test
+    void evaluating_bool_with_failing_expression_synchronously_should_throw() {
+        var expressionMock = mock(Expression.class, RETURNS_DEEP_STUBS);
+        when(expressionMock.evaluate()).thenReturn(Flux.error(new IllegalStateException("failure")));
+
+        var bool = new Bool(expressionMock, Collections.emptyMap());
+        var ctx  = Context.empty();
+
+        assertThrows(IllegalStateException.class, () -> bool.evaluateExpressionSynchronously(ctx));
+    }
+
+    @Test
+    void bool_with_attribute_access_has_streaming_dependencies() {
+        var attributeStep  = mock(AttributeFinderStep.class);
+        var expressionMock = mock(Expression.class, RETURNS_DEEP_STUBS);
+        when(expressionMock.eContents()).thenReturn(ECollections.asEList(attributeStep));
+
+        var bool = new Bool(expressionMock, Collections.emptyMap());
+
+        assertThat(bool.hasStreamingDependencies(), is(true));
+        assertThat(bool.evaluateExpressionSynchronously(Context.empty()).isComplete(), is(false));
+        assertThat(constantBool.hasStreamingDependencies(), is(false));
+    }
+
 }
@@ -18,6 +18,8 @@
 package io.sapl.prp.index.canonical;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -430,6 +432,79 @@ void throw_exception_on_name_collision() {
         assertThrows(RuntimeException.class, () -> emptyIndex.applyUpdate(saplMap, updateMock));
     }
 
+    @Test
+    void incremental_update_matches_full_rebuild() {
+        var definitions = new String[] { "policy \"p_0\" permit resource.x0 & resource.x1",
+                "policy \"p_1\" permit resource.x0 | !resource.x2", "policy \"p_2\" permit !resource.x1",
+                "policy \"p_3\" permit (resource.x0 & resource.x1) | resource.x3",
+                "policy \"p_4\" permit resource.x2 & !resource.x3", "policy \"p_5\" permit resource.x1 & resource.x0",
+                "policy \"p_6\" permit !resource.x2 | resource.x3", "policy \"p_7\" permit true" };
+        var documents   = new SAPL[definitions.length];
+        for (var i = 0; i < definitions.length; i++) {
+            documents[i] = interpreter.parse(definitions[i]);
+        }
+
+        var updates = new ArrayList<Update>();
+        for (var i = 0; i < 6; i++) {
+            updates.add(new Update(Type.PUBLISH, documents[i], definitions[i]));
+        }
+        var index = emptyIndex.apply(new PrpUpdateEvent(updates));
+
+        updates.clear();
+        updates.add(new Update(Type.WITHDRAW, documents[0], definitions[0]));
+        updates.add(new Update(Type.WITHDRAW, documents[3], definitions[3]));
+        updates.add(new Update(Type.PUBLISH, documents[6], definitions[6]));
+        updates.add(new Update(Type.PUBLISH, documents[7], definitions[7]));
+        var updatedIndex = index.apply(new PrpUpdateEvent(updates));
+
+        updates.clear();
+        for (var i : new int[] { 1, 2, 4, 5, 6, 7 }) {
+            updates.add(new Update(Type.PUBLISH, documents[i], definitions[i]));
+        }
+        var rebuiltIndex = emptyIndex.apply(new PrpUpdateEvent(updates));
+
+        for (var assignment = 0; assignment < 16; assignment++) {
+            for (var variable = 0; variable < 4; variable++) {
+                bindings.put("x" + variable, (assignment & 1 << variable) != 0);
+            }
+            assertThat(retrieve(updatedIndex).getMatchingDocuments(),
+                    containsInAnyOrder(retrieve(rebuiltIndex).getMatchingDocuments().toArray()));
+        }
+    }
+
+    @Test
+    void previous_generation_is_not_modified_by_update() {
+        var definition = "policy \"p_0\" permit resource.x0 & resource.x1";
+        var document   = interpreter.parse(definition);
+        var index      = emptyIndex.apply(new PrpUpdateEvent(new Update(Type.PUBLISH, document, definition)));
+
+        var otherDefinition = "policy \"p_1\" permit resource.x0 & !resource.x1";
+        var otherDocument   = interpreter.parse(otherDefinition);
+        var updatedIndex    = index.apply(new PrpUpdateEvent(new Update(Type.WITHDRAW, document, definition),
+                new Update(Type.PUBLISH, otherDocument, otherDefinition)));
+
+        bindings.put("x0", Boolean.TRUE);
+        bindings.put("x1", Boolean.TRUE);
+
+        assertThat(retrieve(index).getMatchingDocuments(), contains(document));
+        assertTrue(retrieve(updatedIndex).getMatchingDocuments().isEmpty());
+
+        bindings.put("x1", Boolean.FALSE);
+
+        assertTrue(retrieve(index).getMatchingDocuments().isEmpty());
+        assertThat(retrieve(updatedIndex).getMatchingDocuments(), contains(otherDocument));
+    }
+
+    private PolicyRetrievalResult retrieve(ImmutableParsedDocumentIndex index) {
+        return index.retrievePolicies().contextWrite(ctx -> {
+            ctx = AuthorizationContext.setAttributeContext(ctx, new AnnotationAttributeContext());
+            ctx = AuthorizationContext.setFunctionContext(ctx, new AnnotationFunctionContext());
+            ctx = AuthorizationContext.setVariables(ctx, variables);
+            ctx = AuthorizationContext.setSubscriptionVariables(ctx, createRequestObject());
+            return ctx;
+        }).block();
+    }
+
     private AuthorizationSubscription createRequestObject() {
 
         ObjectNode resource = json.objectNode();
@@ -23,6 +23,7 @@
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.hamcrest.collection.IsEmptyCollection.empty;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -32,12 +33,15 @@
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -52,6 +56,11 @@
 
 import com.google.common.collect.ImmutableList;
 
+import io.sapl.api.interpreter.Val;
+import io.sapl.grammar.sapl.Expression;
+import io.sapl.grammar.sapl.SAPL;
+import reactor.core.publisher.Flux;
+
 class CanonicalIndexAlgorithmTests {
 
     @Test
@@ -89,7 +98,7 @@ void skip_predicates_without_candidate_references() {
                             .thenAnswer(invocation -> matchingCtx
                                     .isPredicateReferencedInCandidates(invocation.getArgument(0, Predicate.class))))) {
 
-                var result = CanonicalIndexAlgorithm.match(dataContainer).block();
+                var result = CanonicalIndexAlgorithm.matchCollectorNewest(dataContainer).block();
 
                 assertThat(result, notNullValue());
 
@@ -103,6 +112,75 @@ void skip_predicates_without_candidate_references() {
         }
     }
 
+    @Test
+    void skip_predicates_without_candidate_references_when_matching_synchronously() {
+        var unreferencedExpression = mock(Expression.class, RETURNS_DEEP_STUBS);
+        var unreferenced           = new Predicate(new Bool(unreferencedExpression, Collections.emptyMap()));
+        var referenced             = new Predicate(new Bool(true));
+        referenced.getConjunctions().set(0);
+        referenced.getFalseForFalsePredicate().set(0);
+
+        var formula       = mock(DisjunctiveFormula.class);
+        var document      = mock(SAPL.class);
+        var dataContainer = mock(CanonicalIndexDataContainer.class);
+        when(dataContainer.getPredicateOrder()).thenReturn(ImmutableList.of(unreferenced, referenced));
+        when(dataContainer.getNumberOfConjunctions()).thenReturn(1);
+        when(dataContainer.getNumberOfLiteralsInConjunction(0)).thenReturn(1);
+        when(dataContainer.getConjunctionsInFormulasReferencingConjunction(0)).thenReturn(Collections.emptySet());
+        when(dataContainer.getRelatedFormulas(0)).thenReturn(Set.of(formula));
+        when(dataContainer.getPoliciesIncludingFormula(formula)).thenReturn(Set.of(document));
+
+        var result = CanonicalIndexAlgorithm.match(dataContainer).block();
+
+        assertThat(result, notNullValue());
+        assertThat(result.isErrorsInTarget(), is(false));
+        assertThat(result.getMatchingDocuments(), contains(document));
+        verify(unreferencedExpression, never()).evaluate();
+    }
+
+    @Test
+    void fall_back_to_reactive_matching_when_predicate_is_not_synchronous() {
+        var expression = mock(Expression.class, RETURNS_DEEP_STUBS);
+        when(expression.evaluate()).thenReturn(Flux.just(Val.TRUE).delayElements(Duration.ofMillis(10L)));
+
+        var p1 = new Predicate(new Bool(true));
+        var p2 = new Predicate(new Bool(expression, Collections.emptyMap()));
+        p1.getConjunctions().set(0);
+        p2.getConjunctions().set(0);
+
+        var dataContainer = mock(CanonicalIndexDataContainer.class);
+        when(dataContainer.getPredicateOrder()).thenReturn(ImmutableList.copyOf(Arrays.asList(p1, p2)));
+        when(dataContainer.getNumberOfConjunctions()).thenReturn(1);
+        when(dataContainer.getNumberOfLiteralsInConjunction(0)).thenReturn(2);
+        when(dataContainer.getConjunctionsInFormulasReferencingConjunction(0)).thenReturn(Collections.emptySet());
+        when(dataContainer.getRelatedFormulas(0)).thenReturn(Collections.emptySet());
+
+        var result = CanonicalIndexAlgorithm.match(dataContainer).block();
+
+        assertThat(result, notNullValue());
+        assertThat(result.isErrorsInTarget(), is(false));
+        // the reactive fallback continues the evaluation started synchronously
+        verify(expression, times(1)).evaluate();
+    }
+
+    @Test
+    void return_error_result_when_synchronous_predicate_evaluation_fails() {
+        var expression = mock(Expression.class, RETURNS_DEEP_STUBS);
+        when(expression.evaluate()).thenReturn(Flux.error(new IllegalStateException("failure")));
+
+        var predicate     = new Predicate(new Bool(expression, Collections.emptyMap()));
+        var dataContainer = mock(CanonicalIndexDataContainer.class);
+        when(dataContainer.getPredicateOrder()).thenReturn(ImmutableList.of(predicate));
+        when(dataContainer.getNumberOfConjunctions()).thenReturn(1);
+        predicate.getConjunctions().set(0);
+
+        var result = CanonicalIndexAlgorithm.match(dataContainer).block();
+
+        assertThat(result, notNullValue());
+        assertThat(result.isErrorsInTarget(), is(true));
+        assertThat(result.getMatchingDocuments(), empty());
+    }
+
     @Test
     void test_or_bitmask() {
         var b1 = new Bitmask();
@@ -323,6 +401,7 @@ void testOrphanedCandidates() {
                 .thenReturn(new HashSet<>(Arrays.asList(c1, c2, c3)));
 
         var matchingCtx = mock(CanonicalIndexMatchingContext.class);
+        when(matchingCtx.getOrphanedCandidates()).thenReturn(new Bitmask());
         when(matchingCtx.isRemainingCandidate(0)).thenReturn(Boolean.TRUE);
         when(matchingCtx.isRemainingCandidate(1)).thenReturn(Boolean.TRUE);
         when(matchingCtx.isRemainingCandidate(2)).thenReturn(Boolean.FALSE);
@@ -19,7 +19,10 @@
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
 
 import java.util.HashMap;
 import java.util.HashSet;
@@ -29,6 +32,8 @@
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 
+import io.sapl.grammar.sapl.SAPL;
+
 class CanonicalIndexDataCreationStrategyTests {
 
     @Test
@@ -74,4 +79,27 @@ void testCreatePredicateInfo() {
         assertThat(boolToPredicateInfo.get(bool).getGroupedNumberOfNegatives(), is(1));
     }
 
+    @Test
+    void updateReusesIndexOfRemovedConjunction() {
+        var strategy = new CanonicalIndexDataCreationStrategy();
+
+        var first         = mock(SAPL.class);
+        var second        = mock(SAPL.class);
+        var firstFormula  = new DisjunctiveFormula(new ConjunctiveClause(new Literal(new Bool(true))));
+        var secondFormula = new DisjunctiveFormula(new ConjunctiveClause(new Literal(new Bool(false))));
+
+        var previous = strategy.constructNew(Map.of("first", first), Map.of("first", firstFormula));
+        var updated  = strategy.constructUpdated(previous, Map.of(first, firstFormula), Map.of(second, secondFormula));
+
+        assertThat(updated.getNumberOfConjunctions(), is(1));
+        assertThat(updated.getPredicateOrder(), hasSize(1));
+        assertThat(updated.getPredicateOrder().get(0).getBool(), is(new Bool(false)));
+        assertThat(updated.getPoliciesIncludingFormula(secondFormula), Matchers.contains(second));
+        assertThat(updated.getPoliciesIncludingFormula(firstFormula), nullValue());
+
+        assertThat(previous.getPredicateOrder().get(0).getBool(), is(new Bool(true)));
+        assertThat(previous.getPredicateOrder().get(0).getConjunctions().isSet(0), is(true));
+        assertThat(previous.getPoliciesIncludingFormula(firstFormula), Matchers.contains(first));
+    }
+
 }
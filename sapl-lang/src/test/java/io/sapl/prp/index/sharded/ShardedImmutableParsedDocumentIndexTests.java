@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.prp.index.sharded;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+import io.sapl.api.pdp.AuthorizationSubscription;
+import io.sapl.grammar.sapl.PolicyElement;
+import io.sapl.grammar.sapl.SAPL;
+import io.sapl.interpreter.DefaultSAPLInterpreter;
+import io.sapl.interpreter.context.AuthorizationContext;
+import io.sapl.interpreter.functions.AnnotationFunctionContext;
+import io.sapl.interpreter.pip.AnnotationAttributeContext;
+import io.sapl.prp.PolicyRetrievalResult;
+import io.sapl.prp.PrpUpdateEvent;
+import io.sapl.prp.PrpUpdateEvent.Type;
+import io.sapl.prp.PrpUpdateEvent.Update;
+import io.sapl.prp.index.ImmutableParsedDocumentIndex;
+import io.sapl.prp.index.canonical.CanonicalImmutableParsedDocumentIndex;
+import io.sapl.prp.index.naive.NaiveImmutableParsedDocumentIndex;
+import reactor.util.context.Context;
+
+class ShardedImmutableParsedDocumentIndexTests {
+
+    private static final DefaultSAPLInterpreter INTERPRETER = new DefaultSAPLInterpreter();
+
+    private static final JsonNodeFactory JSON = JsonNodeFactory.instance;
+
+    @Test
+    void when_numberOfShardsIsLessThanOne_then_throw() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ShardedImmutableParsedDocumentIndex(0, NaiveImmutableParsedDocumentIndex::new));
+    }
+
+    @Test
+    void when_documentsArePublished_then_matchingDocumentsAreMergedInOrderOfTheirNames() {
+        var sharded = new ShardedImmutableParsedDocumentIndex(4,
+                () -> new CanonicalImmutableParsedDocumentIndex(new AnnotationAttributeContext(),
+                        new AnnotationFunctionContext()))
+                .apply(publish(20));
+
+        var result = retrieve(sharded, "read");
+
+        assertThat(names(result),
+                contains("policy_00", "policy_03", "policy_06", "policy_09", "policy_12", "policy_15", "policy_18"));
+        assertThat(result.isErrorsInTarget(), is(false));
+        assertThat(result.isPrpValidState(), is(true));
+    }
+
+    @Test
+    void when_comparedToSingleIndex_then_sameDocumentsMatch() {
+        var single  = new NaiveImmutableParsedDocumentIndex().apply(publish(30));
+        var sharded = new ShardedImmutableParsedDocumentIndex(3, NaiveImmutableParsedDocumentIndex::new)
+                .apply(publish(30));
+
+        for (var action : List.of("read", "write", "delete", "unknown")) {
+            var expected = names(retrieve(single, action)).stream().sorted().toList();
+            assertThat(names(retrieve(sharded, action)), is(expected));
+        }
+    }
+
+    @Test
+    void when_documentIsWithdrawn_then_itNoLongerMatches() {
+        var published = publish(6);
+        var sharded   = new ShardedImmutableParsedDocumentIndex(4, NaiveImmutableParsedDocumentIndex::new)
+                .apply(published);
+        var withdrawn = published.getUpdates()[3].getDocument();
+
+        var updated = sharded.apply(new PrpUpdateEvent(new Update(Type.WITHDRAW, withdrawn, "")));
+
+        assertThat(names(retrieve(updated, "read")), contains("policy_00"));
+        assertThat(names(retrieve(sharded, "read")), contains("policy_00", "policy_03"));
+    }
+
+    @Test
+    void when_inconsistent_then_resultIsInvalidUntilConsistentAgain() {
+        var sharded = new ShardedImmutableParsedDocumentIndex(4, NaiveImmutableParsedDocumentIndex::new)
+                .apply(publish(6));
+
+        var inconsistent = sharded.apply(new PrpUpdateEvent(new Update(Type.INCONSISTENT, null, null)));
+        var consistent   = inconsistent.apply(new PrpUpdateEvent(new Update(Type.CONSISTENT, null, null)));
+
+        var inconsistentResult = retrieve(inconsistent, "read");
+        assertThat(inconsistentResult.isPrpValidState(), is(false));
+        assertThat(inconsistentResult.getMatchingDocuments(), is(empty()));
+        assertThat(retrieve(consistent, "read").isPrpValidState(), is(true));
+    }
+
+    private static PrpUpdateEvent publish(int numberOfPolicies) {
+        var actions = new String[] { "read", "write", "delete" };
+        var updates = new ArrayList<Update>();
+        for (var i = 0; i < numberOfPolicies; i++) {
+            var source = String.format("policy \"policy_%02d\" permit action == \"%s\"", i, actions[i % 3]);
+            updates.add(new Update(Type.PUBLISH, INTERPRETER.parse(source), source));
+        }
+        return new PrpUpdateEvent(updates);
+    }
+
+    private static PolicyRetrievalResult retrieve(ImmutableParsedDocumentIndex index, String action) {
+        var ctx = Context.empty();
+        ctx = AuthorizationContext.setAttributeContext(ctx, new AnnotationAttributeContext());
+        ctx = AuthorizationContext.setFunctionContext(ctx, new AnnotationFunctionContext());
+        ctx = AuthorizationContext.setVariables(ctx, Map.of());
+        ctx = AuthorizationContext.setSubscriptionVariables(ctx,
+                AuthorizationSubscription.of(JSON.textNode("willi"), JSON.textNode(action), JSON.textNode("file")));
+        return index.retrievePolicies().contextWrite(ctx).block();
+    }
+
+    private static List<String> names(PolicyRetrievalResult result) {
+        return result.getMatchingDocuments().stream().map(SAPL::getPolicyElement).map(PolicyElement::getSaplName)
+                .toList();
+    }
+
+}
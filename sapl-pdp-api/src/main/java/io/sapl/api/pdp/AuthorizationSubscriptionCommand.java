@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.api.pdp;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.NonNull;
+
+/**
+ * A command changing the set of authorization subscriptions of a long-running
+ * multi-subscription channel. An {@link Type#ADD ADD} command starts the
+ * evaluation of the given {@link AuthorizationSubscription SAPL authorization
+ * subscription} under the given ID, replacing any subscription previously added
+ * with the same ID. A {@link Type#REMOVE REMOVE} command stops the evaluation
+ * of the subscription with the given ID. The evaluations of all other
+ * subscriptions are not affected by either command.
+ *
+ * @see IdentifiableAuthorizationSubscription
+ * @see IdentifiableAuthorizationDecision
+ */
+@JsonInclude(NON_NULL)
+public record AuthorizationSubscriptionCommand(@NonNull Type type, @NonNull String authorizationSubscriptionId,
+        AuthorizationSubscription authorizationSubscription) {
+
+    static final String MISSING_SUBSCRIPTION_ERROR = "An ADD command requires an authorization subscription.";
+
+    /**
+     * The kind of change a command applies to the channel.
+     */
+    public enum Type {
+        ADD, REMOVE
+    }
+
+    public AuthorizationSubscriptionCommand {
+        if (type == Type.ADD && authorizationSubscription == null)
+            throw new IllegalArgumentException(MISSING_SUBSCRIPTION_ERROR);
+    }
+
+    /**
+     * Creates a command adding or replacing a subscription.
+     *
+     * @param authorizationSubscriptionId the id identifying the authorization
+     *                                    subscription.
+     * @param authorizationSubscription   the authorization subscription to be
+     *                                    evaluated.
+     * @return an ADD command
+     */
+    public static AuthorizationSubscriptionCommand add(String authorizationSubscriptionId,
+            AuthorizationSubscription authorizationSubscription) {
+        return new AuthorizationSubscriptionCommand(Type.ADD, authorizationSubscriptionId, authorizationSubscription);
+    }
+
+    /**
+     * Creates a command adding or replacing a subscription.
+     *
+     * @param subscription the identifiable authorization subscription to be
+     *                     evaluated.
+     * @return an ADD command
+     */
+    public static AuthorizationSubscriptionCommand add(IdentifiableAuthorizationSubscription subscription) {
+        return add(subscription.authorizationSubscriptionId(), subscription.authorizationSubscription());
+    }
+
+    /**
+     * Creates a command removing a subscription.
+     *
+     * @param authorizationSubscriptionId the id identifying the authorization
+     *                                    subscription to be removed.
+     * @return a REMOVE command
+     */
+    public static AuthorizationSubscriptionCommand remove(String authorizationSubscriptionId) {
+        return new AuthorizationSubscriptionCommand(Type.REMOVE, authorizationSubscriptionId, null);
+    }
+
+}
@@ -17,6 +17,7 @@
  */
 package io.sapl.api.pdp;
 
+import jakarta.validation.Valid;
 import lombok.NonNull;
 
 /**
@@ -29,5 +30,5 @@
  * @see IdentifiableAuthorizationDecision
  */
 public record IdentifiableAuthorizationSubscription(@NonNull String authorizationSubscriptionId,
-        @NonNull AuthorizationSubscription authorizationSubscription) {
+        @NonNull @Valid AuthorizationSubscription authorizationSubscription) {
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.api.pdp;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+
+class AuthorizationSubscriptionCommandTests {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new Jdk8Module());
+
+    @Test
+    void addWrapsIdentifiableSubscription() {
+        var subscription = AuthorizationSubscription.of("subject", "action", "resource");
+        var command      = AuthorizationSubscriptionCommand
+                .add(new IdentifiableAuthorizationSubscription("id", subscription));
+
+        assertAll(() -> assertThat(command.type(), is(AuthorizationSubscriptionCommand.Type.ADD)),
+                () -> assertThat(command.authorizationSubscriptionId(), is("id")),
+                () -> assertThat(command.authorizationSubscription(), is(subscription)));
+    }
+
+    @Test
+    void removeHasNoSubscription() {
+        var command = AuthorizationSubscriptionCommand.remove("id");
+
+        assertAll(() -> assertThat(command.type(), is(AuthorizationSubscriptionCommand.Type.REMOVE)),
+                () -> assertThat(command.authorizationSubscription(), is(nullValue())));
+    }
+
+    @Test
+    void addWithoutSubscriptionIsRejected() {
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> AuthorizationSubscriptionCommand.add("id", null));
+        assertThat(exception.getMessage(), is(AuthorizationSubscriptionCommand.MISSING_SUBSCRIPTION_ERROR));
+    }
+
+    @Test
+    void commandsRoundTripThroughJson() {
+        var add    = AuthorizationSubscriptionCommand.add("id",
+                AuthorizationSubscription.of("subject", "action", "resource"));
+        var remove = AuthorizationSubscriptionCommand.remove("id");
+
+        assertAll(() -> assertThat(
+                MAPPER.readValue(MAPPER.writeValueAsString(add), AuthorizationSubscriptionCommand.class), is(add)),
+                () -> assertThat(
+                        MAPPER.readValue(MAPPER.writeValueAsString(remove), AuthorizationSubscriptionCommand.class),
+                        is(remove)));
+    }
+
+}
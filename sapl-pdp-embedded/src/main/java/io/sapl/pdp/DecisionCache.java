@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.pdp;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+import io.sapl.api.pdp.AuthorizationDecision;
+import io.sapl.api.pdp.AuthorizationSubscription;
+import io.sapl.api.pdp.Decision;
+import io.sapl.api.pdp.TracedDecision;
+import io.sapl.grammar.sapl.SAPL;
+import io.sapl.grammar.sapl.impl.util.AttributeFinderUtil;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Shares decision streams of equal authorization subscriptions and caches
+ * decideOnce results which do not depend on attribute finders.
+ * <p>
+ * Every emission of the generations publisher marks a new generation of the PDP
+ * configuration or the policies. Cached decisions are stamped with the
+ * generation they were computed in and are only returned as long as no newer
+ * generation has been observed.
+ */
+class DecisionCache {
+
+    private record CachedDecision(long generation, AuthorizationDecision decision) {
+    }
+
+    private record SharedDecisionsKey(AuthorizationSubscription authorizationSubscription, boolean traced) {
+    }
+
+    private final DecisionCacheConfiguration configuration;
+
+    private final Supplier<Flux<?>> generations;
+
+    private final Map<SharedDecisionsKey, Flux<TracedDecision>> sharedDecisions = new ConcurrentHashMap<>();
+
+    private final Cache<AuthorizationSubscription, CachedDecision> decisions;
+
+    private final LoadingCache<SAPL, Boolean> documentsWithoutAttributeFinders = CacheBuilder.newBuilder().weakKeys()
+            .build(CacheLoader.from(document -> !AttributeFinderUtil.containsAttributeFinder(document)));
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicReference<Disposable> generationSubscription = new AtomicReference<>();
+
+    private volatile boolean generationsLost;
+
+    DecisionCache(DecisionCacheConfiguration configuration, Supplier<Flux<?>> generations) {
+        this.configuration = configuration;
+        this.generations   = generations;
+        if (configuration.isCacheEnabled()) {
+            decisions = CacheBuilder.newBuilder().maximumSize(configuration.maximumCacheSize())
+                    .expireAfterWrite(configuration.timeToLive()).build();
+        } else {
+            decisions = null;
+        }
+    }
+
+    /*
+     * Traced and untraced decision streams are shared separately, so that
+     * subscribers of traced decisions never receive decisions without traces.
+     */
+    Flux<TracedDecision> share(AuthorizationSubscription authorizationSubscription, boolean traced,
+            Function<AuthorizationSubscription, Flux<TracedDecision>> decide) {
+        if (!configuration.shareDecisionStreams()) {
+            return decide.apply(authorizationSubscription);
+        }
+        var sharedDecisionsKey = new SharedDecisionsKey(authorizationSubscription, traced);
+        return Flux.defer(() -> sharedDecisions.computeIfAbsent(sharedDecisionsKey, key -> sharedFlux(key, decide)));
+    }
+
+    private Flux<TracedDecision> sharedFlux(SharedDecisionsKey sharedDecisionsKey,
+            Function<AuthorizationSubscription, Flux<TracedDecision>> decide) {
+        var self   = new AtomicReference<Flux<TracedDecision>>();
+        var shared = decide.apply(sharedDecisionsKey.authorizationSubscription())
+                .doFinally(signal -> sharedDecisions.remove(sharedDecisionsKey, self.get())).replay(1).refCount();
+        self.set(shared);
+        return shared;
+    }
+
+    /*
+     * A one-shot evaluation joins a running shared untraced decision stream of an
+     * equal subscription, as its latest decision is already at hand. Otherwise, the
+     * subscription is evaluated on its own.
+     */
+    Flux<TracedDecision> joinOrDecide(AuthorizationSubscription authorizationSubscription,
+            Function<AuthorizationSubscription, Flux<TracedDecision>> decide) {
+        if (!configuration.shareDecisionStreams()) {
+            return decide.apply(authorizationSubscription);
+        }
+        return Flux.defer(() -> {
+            var runningDecisions = sharedDecisions.get(new SharedDecisionsKey(authorizationSubscription, false));
+            return runningDecisions != null ? runningDecisions : decide.apply(authorizationSubscription);
+        });
+    }
+
+    Mono<AuthorizationDecision> decideOnce(AuthorizationSubscription authorizationSubscription,
+            Function<AuthorizationSubscription, Flux<TracedDecision>> decide) {
+        if (decisions == null) {
+            return decideUncached(authorizationSubscription, decide);
+        }
+        return Mono.defer(() -> {
+            trackGenerations();
+            if (generationsLost) {
+                return decideUncached(authorizationSubscription, decide);
+            }
+            var currentGeneration = generation.get();
+            var cachedDecision    = decisions.getIfPresent(authorizationSubscription);
+            if (cachedDecision != null && cachedDecision.generation() == currentGeneration) {
+                return Mono.just(cachedDecision.decision());
+            }
+            return Mono.from(decide.apply(authorizationSubscription))
+                    .doOnNext(decision -> cacheIfPossible(authorizationSubscription, currentGeneration, decision))
+                    .map(TracedDecision::getAuthorizationDecision);
+        });
+    }
+
+    private static Mono<AuthorizationDecision> decideUncached(AuthorizationSubscription authorizationSubscription,
+            Function<AuthorizationSubscription, Flux<TracedDecision>> decide) {
+        return Mono.from(decide.apply(authorizationSubscription)).map(TracedDecision::getAuthorizationDecision);
+    }
+
+    private void cacheIfPossible(AuthorizationSubscription authorizationSubscription, long generationOfDecision,
+            TracedDecision decision) {
+        if (generationOfDecision == generation.get() && isCacheable(decision)) {
+            decisions.put(authorizationSubscription,
+                    new CachedDecision(generationOfDecision, decision.getAuthorizationDecision()));
+        }
+    }
+
+    private boolean isCacheable(TracedDecision decision) {
+        if (!(decision instanceof PDPDecision pdpDecision)
+                || decision.getAuthorizationDecision().getDecision() == Decision.INDETERMINATE) {
+            return false;
+        }
+        return pdpDecision.getMatchingDocuments().stream().allMatch(documentsWithoutAttributeFinders::getUnchecked);
+    }
+
+    private void trackGenerations() {
+        if (generationSubscription.get() != null) {
+            return;
+        }
+        var subscription = generations.get().subscribe(nextGeneration -> newGeneration(), error -> {
+            // generations can no longer be observed, stop caching
+            generationsLost = true;
+            newGeneration();
+        });
+        if (!generationSubscription.compareAndSet(null, subscription)) {
+            subscription.dispose();
+        }
+    }
+
+    private void newGeneration() {
+        generation.incrementAndGet();
+        decisions.invalidateAll();
+    }
+
+    void dispose() {
+        var subscription = generationSubscription.getAndSet(Disposables.disposed());
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+}
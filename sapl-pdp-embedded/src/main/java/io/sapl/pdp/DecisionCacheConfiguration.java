@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.pdp;
+
+import java.time.Duration;
+
+/**
+ * Opt-in settings for sharing and caching decisions of equal authorization
+ * subscriptions in the {@link EmbeddedPolicyDecisionPoint}.
+ * <p>
+ * If shareDecisionStreams is set, all concurrent subscribers with equal
+ * authorization subscriptions share one decision stream. If the cache size and
+ * time to live are positive, results of decideOnce are cached, as long as all
+ * documents contributing to the decision are free of attribute finders. Cached
+ * decisions are dropped whenever the PDP configuration or the policy retrieval
+ * point emit a new generation. The cache assumes that all functions are side
+ * effect free.
+ *
+ * @param shareDecisionStreams share decision streams of equal subscriptions
+ * @param maximumCacheSize     maximum number of cached decisions
+ * @param timeToLive           time after which a cached decision is evicted
+ */
+public record DecisionCacheConfiguration(boolean shareDecisionStreams, long maximumCacheSize, Duration timeToLive) {
+
+    public static final DecisionCacheConfiguration DISABLED = new DecisionCacheConfiguration(false, 0L, Duration.ZERO);
+
+    public boolean isCacheEnabled() {
+        return maximumCacheSize > 0L && timeToLive != null && !timeToLive.isNegative() && !timeToLive.isZero();
+    }
+
+}
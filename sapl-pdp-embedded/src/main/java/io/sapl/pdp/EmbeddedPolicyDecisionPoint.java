@@ -19,10 +19,12 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 
 import org.reactivestreams.Publisher;
 
+import io.sapl.api.interpreter.Val;
 import io.sapl.api.pdp.AuthorizationDecision;
 import io.sapl.api.pdp.AuthorizationSubscription;
 import io.sapl.api.pdp.IdentifiableAuthorizationDecision;
@@ -39,35 +41,94 @@
 import io.sapl.pdp.config.PDPConfigurationProvider;
 import io.sapl.prp.PolicyRetrievalPoint;
 import io.sapl.prp.PolicyRetrievalResult;
-import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.util.context.Context;
 
-@RequiredArgsConstructor
 public class EmbeddedPolicyDecisionPoint implements PolicyDecisionPoint {
 
     private final PDPConfigurationProvider configurationProvider;
     private final PolicyRetrievalPoint     policyRetrievalPoint;
+    private final DecisionCache            decisionCache;
+
+    // The PDP variables of the latest configuration, marked as untraced once for
+    // all evaluations without traces.
+    private volatile UntracedVariables untracedVariables;
+
+    private record UntracedVariables(Map<String, Val> variables, Map<String, Val> untraced) {
+    }
+
+    public EmbeddedPolicyDecisionPoint(PDPConfigurationProvider configurationProvider,
+            PolicyRetrievalPoint policyRetrievalPoint) {
+        this(configurationProvider, policyRetrievalPoint, DecisionCacheConfiguration.DISABLED);
+    }
+
+    public EmbeddedPolicyDecisionPoint(PDPConfigurationProvider configurationProvider,
+            PolicyRetrievalPoint policyRetrievalPoint, DecisionCacheConfiguration decisionCacheConfiguration) {
+        this.configurationProvider = configurationProvider;
+        this.policyRetrievalPoint  = policyRetrievalPoint;
+        this.decisionCache         = new DecisionCache(decisionCacheConfiguration, this::generations);
+    }
 
     @Override
     public Flux<AuthorizationDecision> decide(AuthorizationSubscription authorizationSubscription) {
-        return decideTraced(authorizationSubscription).map(TracedDecision::getAuthorizationDecision)
+        return decideUntraced(authorizationSubscription).map(TracedDecision::getAuthorizationDecision)
                 .distinctUntilChanged();
     }
 
+    @Override
+    public Mono<AuthorizationDecision> decideOnce(AuthorizationSubscription authorizationSubscription) {
+        return decisionCache.decideOnce(authorizationSubscription, this::decideOneShot);
+    }
+
     public Flux<TracedDecision> decideTraced(AuthorizationSubscription authorizationSubscription) {
-        return configurationProvider.pdpConfiguration().switchMap(decideSubscription(authorizationSubscription));
+        return decisionCache.share(authorizationSubscription, true,
+                subscription -> decideUnshared(subscription, true, false));
+    }
+
+    /*
+     * Decisions only carry full traces if a decision interceptor requires them.
+     * Otherwise, the evaluation skips the construction of traces.
+     */
+    private Flux<TracedDecision> decideUntraced(AuthorizationSubscription authorizationSubscription) {
+        return decisionCache.share(authorizationSubscription, false,
+                subscription -> decideUnshared(subscription, false, false));
+    }
+
+    /*
+     * Only the first decision of decideOnce is consumed. Hence, the combining
+     * algorithms may stop evaluating policies as soon as the decision can no longer
+     * change.
+     */
+    private Flux<TracedDecision> decideOneShot(AuthorizationSubscription authorizationSubscription) {
+        return decisionCache.joinOrDecide(authorizationSubscription,
+                subscription -> decideUnshared(subscription, false, true));
+    }
+
+    private Flux<TracedDecision> decideUnshared(AuthorizationSubscription authorizationSubscription, boolean traced,
+            boolean oneShot) {
+        return configurationProvider.pdpConfiguration()
+                .switchMap(decideSubscription(authorizationSubscription, traced, oneShot));
+    }
+
+    /*
+     * Emits whenever the PDP configuration or the policies change, as signaled by
+     * the configuration provider and the policy retrieval point.
+     */
+    private Flux<?> generations() {
+        return Flux.merge(configurationProvider.generations(), policyRetrievalPoint.generations());
     }
 
     private Function<? super PDPConfiguration, Publisher<? extends TracedDecision>> decideSubscription(
-            AuthorizationSubscription authorizationSubscription) {
+            AuthorizationSubscription authorizationSubscription, boolean traced, boolean oneShot) {
         return pdpConfiguration -> {
             var combiningAlgorithm = pdpConfiguration.documentsCombinator();
             if (pdpConfiguration.isValid()) {
                 var subscription = pdpConfiguration.subscriptionInterceptorChain().apply(authorizationSubscription);
                 return retrieveAndCombineDocuments(pdpConfiguration.documentsCombinator(), subscription)
                         .map(pdpConfiguration.decisionInterceptorChain())
-                        .contextWrite(buildSubscriptionScopedContext(pdpConfiguration, authorizationSubscription));
+                        .contextWrite(buildSubscriptionScopedContext(pdpConfiguration, authorizationSubscription,
+                                traced || pdpConfiguration.evaluationSettings().tracingRequired(), oneShot));
             } else {
                 var decision = CombinedDecision.error(
                         combiningAlgorithm == null ? "Misconfigured PDP." : combiningAlgorithm.getName(),
@@ -78,16 +139,34 @@ private Function<? super PDPConfiguration, Publisher<? extends TracedDecision>>
     }
 
     private Function<Context, Context> buildSubscriptionScopedContext(PDPConfiguration pdpConfiguration,
-            AuthorizationSubscription authorizationSubscription) {
+            AuthorizationSubscription authorizationSubscription, boolean traced, boolean oneShot) {
         return ctx -> {
             ctx = AuthorizationContext.setAttributeContext(ctx, pdpConfiguration.attributeContext());
             ctx = AuthorizationContext.setFunctionContext(ctx, pdpConfiguration.functionContext());
-            ctx = AuthorizationContext.setVariables(ctx, pdpConfiguration.variables());
+            ctx = AuthorizationContext.setTracingEnabled(ctx, traced);
+            ctx = AuthorizationContext.setVariables(ctx, variables(pdpConfiguration, traced));
+            ctx = AuthorizationContext.setAttributeFinderGuardSettings(ctx,
+                    pdpConfiguration.evaluationSettings().attributeFinderGuardSettings());
+            ctx = AuthorizationContext.setRegexMatchingLimit(ctx,
+                    pdpConfiguration.evaluationSettings().regexMatchingLimit());
+            ctx = AuthorizationContext.setOneShot(ctx, oneShot);
             ctx = AuthorizationContext.setSubscriptionVariables(ctx, authorizationSubscription);
             return ctx;
         };
     }
 
+    private Map<String, Val> variables(PDPConfiguration pdpConfiguration, boolean traced) {
+        var variables = pdpConfiguration.variables();
+        if (traced)
+            return variables;
+        var cached = untracedVariables;
+        if (cached == null || cached.variables() != variables) {
+            cached            = new UntracedVariables(variables, AuthorizationContext.untraced(variables));
+            untracedVariables = cached;
+        }
+        return cached.untraced();
+    }
+
     private Flux<PDPDecision> retrieveAndCombineDocuments(CombiningAlgorithm documentsCombinator,
             AuthorizationSubscription authorizationSubscription) {
         return policyRetrievalPoint.retrievePolicies()
@@ -159,6 +238,7 @@ private MultiAuthorizationDecision collectAuthorizationDecisions(Object[] values
     }
 
     public void destroy() {
+        decisionCache.dispose();
         configurationProvider.destroy();
         policyRetrievalPoint.destroy();
     }
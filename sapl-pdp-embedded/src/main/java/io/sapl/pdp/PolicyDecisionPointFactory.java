@@ -53,6 +53,7 @@
 import io.sapl.prp.filesystem.FileSystemPrpUpdateEventSource;
 import io.sapl.prp.index.ImmutableParsedDocumentIndex;
 import io.sapl.prp.index.naive.NaiveImmutableParsedDocumentIndex;
+import io.sapl.prp.index.sharded.ShardedImmutableParsedDocumentIndex;
 import io.sapl.prp.resources.ResourcesPrpUpdateEventSource;
 import lombok.experimental.UtilityClass;
 
@@ -92,10 +93,26 @@ public static EmbeddedPolicyDecisionPoint filesystemPolicyDecisionPoint(String p
             Collection<AuthorizationSubscriptionInterceptor> subscriptionInterceptors,
             Collection<TracedDecisionInterceptor> authorizationSubscriptionInterceptors)
             throws InitializationException {
+        return filesystemPolicyDecisionPoint(path, pips, staticPips, functionLibraries, staticFunctionLibraries,
+                subscriptionInterceptors, authorizationSubscriptionInterceptors, 1);
+    }
+
+    /**
+     * If numberOfIndexShards is greater than 1, the documents are partitioned into
+     * this number of index shards, which are matched against subscriptions in
+     * parallel. This reduces the latency of the policy retrieval for large numbers
+     * of documents on multi-core machines.
+     */
+    public static EmbeddedPolicyDecisionPoint filesystemPolicyDecisionPoint(String path,
+            PolicyInformationPointSupplier pips, StaticPolicyInformationPointSupplier staticPips,
+            FunctionLibrarySupplier functionLibraries, StaticFunctionLibrarySupplier staticFunctionLibraries,
+            Collection<AuthorizationSubscriptionInterceptor> subscriptionInterceptors,
+            Collection<TracedDecisionInterceptor> authorizationSubscriptionInterceptors, int numberOfIndexShards)
+            throws InitializationException {
         var fileSource            = new FileSystemVariablesAndCombinatorSource(path);
         var configurationProvider = constructConfigurationProvider(fileSource, pips, staticPips, functionLibraries,
                 staticFunctionLibraries, subscriptionInterceptors, authorizationSubscriptionInterceptors);
-        var policyRetrievalPoint  = constructFilesystemPolicyRetrievalPoint(path);
+        var policyRetrievalPoint  = constructFilesystemPolicyRetrievalPoint(path, numberOfIndexShards);
         return new EmbeddedPolicyDecisionPoint(configurationProvider, policyRetrievalPoint);
     }
 
@@ -120,10 +137,26 @@ public static EmbeddedPolicyDecisionPoint resourcesPolicyDecisionPoint(String pa
             Collection<AuthorizationSubscriptionInterceptor> subscriptionInterceptors,
             Collection<TracedDecisionInterceptor> authorizationSubscriptionInterceptors)
             throws InitializationException {
+        return resourcesPolicyDecisionPoint(path, pips, staticPips, functionLibraries, staticFunctionLibraries,
+                subscriptionInterceptors, authorizationSubscriptionInterceptors, 1);
+    }
+
+    /**
+     * If numberOfIndexShards is greater than 1, the documents are partitioned into
+     * this number of index shards, which are matched against subscriptions in
+     * parallel. This reduces the latency of the policy retrieval for large numbers
+     * of documents on multi-core machines.
+     */
+    public static EmbeddedPolicyDecisionPoint resourcesPolicyDecisionPoint(String path,
+            PolicyInformationPointSupplier pips, StaticPolicyInformationPointSupplier staticPips,
+            FunctionLibrarySupplier functionLibraries, StaticFunctionLibrarySupplier staticFunctionLibraries,
+            Collection<AuthorizationSubscriptionInterceptor> subscriptionInterceptors,
+            Collection<TracedDecisionInterceptor> authorizationSubscriptionInterceptors, int numberOfIndexShards)
+            throws InitializationException {
         var resourcesSource       = new ResourcesVariablesAndCombinatorSource(path, new ObjectMapper());
         var configurationProvider = constructConfigurationProvider(resourcesSource, pips, staticPips, functionLibraries,
                 staticFunctionLibraries, subscriptionInterceptors, authorizationSubscriptionInterceptors);
-        var policyRetrievalPoint  = constructResourcesPolicyRetrievalPoint(path);
+        var policyRetrievalPoint  = constructResourcesPolicyRetrievalPoint(path, numberOfIndexShards);
         return new EmbeddedPolicyDecisionPoint(configurationProvider, policyRetrievalPoint);
     }
 
@@ -162,19 +195,24 @@ private static AttributeContext constructAttributeContext(PolicyInformationPoint
         return attributeCtx;
     }
 
-    private static PolicyRetrievalPoint constructResourcesPolicyRetrievalPoint(String resourcePath) {
-        var seedIndex = constructDocumentIndex();
+    private static PolicyRetrievalPoint constructResourcesPolicyRetrievalPoint(String resourcePath,
+            int numberOfIndexShards) {
+        var seedIndex = constructDocumentIndex(numberOfIndexShards);
         var source    = new ResourcesPrpUpdateEventSource(resourcePath, new DefaultSAPLInterpreter());
         return new GenericInMemoryIndexedPolicyRetrievalPoint(seedIndex, source);
     }
 
-    private static PolicyRetrievalPoint constructFilesystemPolicyRetrievalPoint(String policiesFolder) {
-        var seedIndex = constructDocumentIndex();
+    private static PolicyRetrievalPoint constructFilesystemPolicyRetrievalPoint(String policiesFolder,
+            int numberOfIndexShards) {
+        var seedIndex = constructDocumentIndex(numberOfIndexShards);
         var source    = new FileSystemPrpUpdateEventSource(policiesFolder, new DefaultSAPLInterpreter());
         return new GenericInMemoryIndexedPolicyRetrievalPoint(seedIndex, source);
     }
 
-    private static ImmutableParsedDocumentIndex constructDocumentIndex() {
+    private static ImmutableParsedDocumentIndex constructDocumentIndex(int numberOfIndexShards) {
+        if (numberOfIndexShards > 1) {
+            return new ShardedImmutableParsedDocumentIndex(numberOfIndexShards, NaiveImmutableParsedDocumentIndex::new);
+        }
         return new NaiveImmutableParsedDocumentIndex();
     }
 
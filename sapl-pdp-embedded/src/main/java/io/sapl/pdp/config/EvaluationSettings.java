@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.pdp.config;
+
+import java.util.Map;
+
+import io.sapl.interpreter.pip.AttributeFinderGuardSettings;
+
+/**
+ * Settings applied to the evaluation of each authorization subscription.
+ *
+ * @param tracingRequired              true, if decisions must carry traces
+ * @param attributeFinderGuardSettings the bounds of attribute finder
+ *                                     invocations by policy information point
+ *                                     or attribute name
+ * @param regexMatchingLimit           the limit for matching regular
+ *                                     expressions, 0 for no limit
+ */
+public record EvaluationSettings(boolean tracingRequired,
+        Map<String, AttributeFinderGuardSettings> attributeFinderGuardSettings, long regexMatchingLimit) {
+
+    /**
+     * Full traces, no bounds for attribute finder invocations and no limit for
+     * matching regular expressions.
+     */
+    public static final EvaluationSettings DEFAULT = new EvaluationSettings(true, Map.of(), 0L);
+
+    public EvaluationSettings {
+        if (attributeFinderGuardSettings == null)
+            attributeFinderGuardSettings = Map.of();
+    }
+
+}
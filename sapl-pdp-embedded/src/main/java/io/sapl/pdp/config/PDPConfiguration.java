@@ -30,7 +30,30 @@
 public record PDPConfiguration(AttributeContext attributeContext, FunctionContext functionContext,
         Map<String, Val> variables, CombiningAlgorithm documentsCombinator,
         UnaryOperator<TracedDecision> decisionInterceptorChain,
-        UnaryOperator<AuthorizationSubscription> subscriptionInterceptorChain) {
+        UnaryOperator<AuthorizationSubscription> subscriptionInterceptorChain, EvaluationSettings evaluationSettings) {
+
+    public PDPConfiguration {
+        if (evaluationSettings == null)
+            evaluationSettings = EvaluationSettings.DEFAULT;
+    }
+
+    /**
+     * Creates a configuration with the default evaluation settings.
+     *
+     * @param attributeContext             the attribute context
+     * @param functionContext              the function context
+     * @param variables                    the PDP variables
+     * @param documentsCombinator          the top level combining algorithm
+     * @param decisionInterceptorChain     the decision interceptors
+     * @param subscriptionInterceptorChain the subscription interceptors
+     */
+    public PDPConfiguration(AttributeContext attributeContext, FunctionContext functionContext,
+            Map<String, Val> variables, CombiningAlgorithm documentsCombinator,
+            UnaryOperator<TracedDecision> decisionInterceptorChain,
+            UnaryOperator<AuthorizationSubscription> subscriptionInterceptorChain) {
+        this(attributeContext, functionContext, variables, documentsCombinator, decisionInterceptorChain,
+                subscriptionInterceptorChain, EvaluationSettings.DEFAULT);
+    }
 
     public boolean isValid() {
         return attributeContext != null && functionContext != null && variables != null && documentsCombinator != null
@@ -23,6 +23,20 @@ public interface PDPConfigurationProvider {
 
     Flux<PDPConfiguration> pdpConfiguration();
 
+    /**
+     * Returns a {@link Flux} emitting whenever a new generation of the PDP
+     * configuration becomes available, starting with the current generation. The
+     * elements emitted carry no further meaning.
+     * <p>
+     * By default, every configuration emitted by {@link #pdpConfiguration()} is a
+     * new generation.
+     *
+     * @return a {@link Flux} signaling new generations of the PDP configuration.
+     */
+    default Flux<?> generations() {
+        return pdpConfiguration();
+    }
+
     default void destroy() {
         // NOOP
     }
@@ -20,15 +20,20 @@
 import java.util.HashMap;
 import java.util.Map;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import io.sapl.api.interpreter.Val;
 import io.sapl.interpreter.combinators.PolicyDocumentCombiningAlgorithm;
+import io.sapl.interpreter.pip.AttributeFinderGuardSettings;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 /**
  * Data structure holding the configured algorithm to be used to combine SAPL
- * documents and configured system variables to be available in all policies.
+ * documents, configured system variables to be available in all policies, the
+ * bounds of attribute finder invocations by policy information point or
+ * attribute name and the limit for matching regular expressions.
  */
 @Data
 @NoArgsConstructor
@@ -39,4 +44,38 @@ public class PolicyDecisionPointConfiguration {
 
     private Map<String, Val> variables = new HashMap<>();
 
+    private Map<String, AttributeFinderGuardSettings> policyInformationPoints = new HashMap<>();
+
+    private long regexMatchingLimit = 0L;
+
+    /**
+     * Reads a configuration from the contents of a pdp.json file. Absent entries
+     * keep their defaults.
+     *
+     * @param jsonNode the contents of a pdp.json file
+     * @return the configuration
+     */
+    public static PolicyDecisionPointConfiguration of(JsonNode jsonNode) {
+        var config = new PolicyDecisionPointConfiguration();
+        if (jsonNode.has("algorithm")) {
+            config.setAlgorithm(PolicyDocumentCombiningAlgorithm.valueOf(jsonNode.get("algorithm").asText()));
+        }
+        var variables = new HashMap<String, Val>();
+        if (jsonNode.has("variables")) {
+            jsonNode.get("variables").fields().forEachRemaining(field -> variables.put(field.getKey(),
+                    Val.of(field.getValue()).withTrace(VariablesAndCombinatorSource.class)));
+        }
+        config.setVariables(variables);
+        var policyInformationPoints = new HashMap<String, AttributeFinderGuardSettings>();
+        if (jsonNode.has("policyInformationPoints")) {
+            jsonNode.get("policyInformationPoints").fields().forEachRemaining(field -> policyInformationPoints
+                    .put(field.getKey(), AttributeFinderGuardSettings.of(field.getValue())));
+        }
+        config.setPolicyInformationPoints(policyInformationPoints);
+        if (jsonNode.has("regexMatchingLimit")) {
+            config.setRegexMatchingLimit(jsonNode.get("regexMatchingLimit").asLong());
+        }
+        return config;
+    }
+
 }
@@ -22,6 +22,7 @@
 
 import io.sapl.api.interpreter.Val;
 import io.sapl.grammar.sapl.CombiningAlgorithm;
+import io.sapl.interpreter.pip.AttributeFinderGuardSettings;
 import reactor.core.publisher.Flux;
 
 public interface VariablesAndCombinatorSource {
@@ -30,6 +31,22 @@ public interface VariablesAndCombinatorSource {
 
     Flux<Optional<Map<String, Val>>> getVariables();
 
+    /**
+     * @return the bounds of attribute finder invocations by policy information
+     *         point or attribute name
+     */
+    default Flux<Map<String, AttributeFinderGuardSettings>> getAttributeFinderGuardSettings() {
+        return Flux.just(Map.of());
+    }
+
+    /**
+     * @return the maximum number of characters a regular expression may inspect per
+     *         character of the matched text, zero for no limit
+     */
+    default Flux<Long> getRegexMatchingLimit() {
+        return Flux.just(0L);
+    }
+
     default void destroy() {
         // NOOP
     }
@@ -25,7 +25,6 @@
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -35,7 +34,7 @@
 import io.sapl.api.interpreter.Val;
 import io.sapl.grammar.sapl.CombiningAlgorithm;
 import io.sapl.interpreter.combinators.CombiningAlgorithmFactory;
-import io.sapl.interpreter.combinators.PolicyDocumentCombiningAlgorithm;
+import io.sapl.interpreter.pip.AttributeFinderGuardSettings;
 import io.sapl.pdp.config.PolicyDecisionPointConfiguration;
 import io.sapl.pdp.config.VariablesAndCombinatorSource;
 import io.sapl.util.filemonitoring.FileDeletedEvent;
@@ -78,21 +77,10 @@ private Optional<PolicyDecisionPointConfiguration> loadConfig() {
         try {
             var jsonNode = MAPPER.readValue(configurationFile.toFile(), JsonNode.class);
 
-            var config = new PolicyDecisionPointConfiguration();
-
             if (jsonNode == null)
                 return Optional.empty();
 
-            if (jsonNode.has("algorithm")) {
-                config.setAlgorithm(PolicyDocumentCombiningAlgorithm.valueOf(jsonNode.get("algorithm").asText()));
-            }
-            var variables = new HashMap<String, Val>();
-            if (jsonNode.has("variables")) {
-                jsonNode.get("variables").fields().forEachRemaining(field -> variables.put(field.getKey(),
-                        Val.of(field.getValue()).withTrace(VariablesAndCombinatorSource.class)));
-            }
-            config.setVariables(variables);
-            return Optional.of(config);
+            return Optional.of(PolicyDecisionPointConfiguration.of(jsonNode));
         } catch (IOException e) {
             log.info("Error reading PDP configuration file. No configuration available.", e);
             return Optional.empty();
@@ -117,6 +105,18 @@ public Flux<Optional<Map<String, Val>>> getVariables() {
                         .orElseGet(() -> Flux.just(Optional.empty())));
     }
 
+    @Override
+    public Flux<Map<String, AttributeFinderGuardSettings>> getAttributeFinderGuardSettings() {
+        return Flux.from(configFlux).map(
+                config -> config.map(PolicyDecisionPointConfiguration::getPolicyInformationPoints).orElseGet(Map::of));
+    }
+
+    @Override
+    public Flux<Long> getRegexMatchingLimit() {
+        return Flux.from(configFlux)
+                .map(config -> config.map(PolicyDecisionPointConfiguration::getRegexMatchingLimit).orElse(0L));
+    }
+
     private Optional<PolicyDecisionPointConfiguration> processWatcherEvent(FileEvent fileEvent) {
         if (fileEvent instanceof FileDeletedEvent) {
             log.info("Configuration file deleted. Reverting to default config.");
@@ -32,6 +32,8 @@
 import io.sapl.grammar.sapl.CombiningAlgorithm;
 import io.sapl.interpreter.functions.FunctionContext;
 import io.sapl.interpreter.pip.AttributeContext;
+import io.sapl.interpreter.pip.AttributeFinderGuardSettings;
+import io.sapl.pdp.config.EvaluationSettings;
 import io.sapl.pdp.config.PDPConfiguration;
 import io.sapl.pdp.config.PDPConfigurationProvider;
 import io.sapl.pdp.config.VariablesAndCombinatorSource;
@@ -63,14 +65,24 @@ public FixedFunctionsAndAttributesPDPConfigurationProvider(AttributeContext attr
 
     @Override
     public Flux<PDPConfiguration> pdpConfiguration() {
-        return Flux.combineLatest(variablesAndCombinatorSource.getCombiningAlgorithm(),
-                variablesAndCombinatorSource.getVariables(), this::createConfiguration);
+        var combinatorAndVariables = Flux.combineLatest(variablesAndCombinatorSource.getCombiningAlgorithm(),
+                variablesAndCombinatorSource.getVariables(), CombinatorAndVariables::new);
+        var evaluationSettings     = Flux.combineLatest(variablesAndCombinatorSource.getAttributeFinderGuardSettings(),
+                variablesAndCombinatorSource.getRegexMatchingLimit(), this::createEvaluationSettings);
+        return Flux.combineLatest(combinatorAndVariables, evaluationSettings, this::createConfiguration);
     }
 
-    private PDPConfiguration createConfiguration(Optional<CombiningAlgorithm> combinator,
-            Optional<Map<String, Val>> variables) {
-        return new PDPConfiguration(attributeCtx, functionCtx, variables.orElse(null), combinator.orElse(null),
-                decisionInterceptorChain(), subscriptionInterceptorChain());
+    private EvaluationSettings createEvaluationSettings(
+            Map<String, AttributeFinderGuardSettings> attributeFinderGuardSettings, long regexMatchingLimit) {
+        return new EvaluationSettings(decisionInterceptors.stream().anyMatch(TracedDecisionInterceptor::requiresTrace),
+                attributeFinderGuardSettings, regexMatchingLimit);
+    }
+
+    private PDPConfiguration createConfiguration(CombinatorAndVariables combinatorAndVariables,
+            EvaluationSettings evaluationSettings) {
+        return new PDPConfiguration(attributeCtx, functionCtx, combinatorAndVariables.variables().orElse(null),
+                combinatorAndVariables.combinator().orElse(null), decisionInterceptorChain(),
+                subscriptionInterceptorChain(), evaluationSettings);
     }
 
     private UnaryOperator<AuthorizationSubscription> subscriptionInterceptorChain() {
@@ -95,4 +107,9 @@ private UnaryOperator<TracedDecision> decisionInterceptorChain() {
     public void destroy() {
         variablesAndCombinatorSource.destroy();
     }
+
+    private record CombinatorAndVariables(Optional<CombiningAlgorithm> combinator,
+            Optional<Map<String, Val>> variables) {
+    }
+
 }
@@ -32,7 +32,7 @@
 import io.sapl.grammar.sapl.CombiningAlgorithm;
 import io.sapl.interpreter.InitializationException;
 import io.sapl.interpreter.combinators.CombiningAlgorithmFactory;
-import io.sapl.interpreter.combinators.PolicyDocumentCombiningAlgorithm;
+import io.sapl.interpreter.pip.AttributeFinderGuardSettings;
 import io.sapl.pdp.config.PolicyDecisionPointConfiguration;
 import io.sapl.pdp.config.VariablesAndCombinatorSource;
 import lombok.NonNull;
@@ -71,17 +71,7 @@ public ResourcesVariablesAndCombinatorSource(@NonNull String configPath, @NonNul
                 log.debug("Loading configuration {}", res.getPath());
                 var jsonDocument = new String(rawDocument, StandardCharsets.UTF_8);
                 var jsonNode     = mapper.readValue(jsonDocument, JsonNode.class);
-                this.config = new PolicyDecisionPointConfiguration();
-                if (jsonNode.has("algorithm")) {
-                    this.config
-                            .setAlgorithm(PolicyDocumentCombiningAlgorithm.valueOf(jsonNode.get("algorithm").asText()));
-                }
-                var variables = new HashMap<String, Val>();
-                if (jsonNode.has("variables")) {
-                    jsonNode.get("variables").fields().forEachRemaining(field -> variables.put(field.getKey(),
-                            Val.of(field.getValue()).withTrace(VariablesAndCombinatorSource.class)));
-                }
-                this.config.setVariables(variables);
+                this.config = PolicyDecisionPointConfiguration.of(jsonNode);
             });
         } catch (IOException e) {
             throw new InitializationException(e,
@@ -99,4 +89,14 @@ public Flux<Optional<Map<String, Val>>> getVariables() {
         return Flux.just(config.getVariables()).map(HashMap::new).map(Optional::of);
     }
 
+    @Override
+    public Flux<Map<String, AttributeFinderGuardSettings>> getAttributeFinderGuardSettings() {
+        return Flux.just(config.getPolicyInformationPoints());
+    }
+
+    @Override
+    public Flux<Long> getRegexMatchingLimit() {
+        return Flux.just(config.getRegexMatchingLimit());
+    }
+
 }
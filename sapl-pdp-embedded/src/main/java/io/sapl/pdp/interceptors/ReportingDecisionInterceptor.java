@@ -42,8 +42,16 @@ public Integer getPriority() {
         return Integer.MIN_VALUE;
     }
 
+    @Override
+    public boolean requiresTrace() {
+        return printTrace || printJsonReport || printTextReport;
+    }
+
     @Override
     public TracedDecision apply(TracedDecision tracedDecision) {
+        if (!requiresTrace()) {
+            return tracedDecision;
+        }
         var trace = tracedDecision.getTrace();
         if (printTrace) {
             prettyLog("New Decision (trace) : ", trace);
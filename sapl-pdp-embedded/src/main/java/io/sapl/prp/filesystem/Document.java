@@ -42,6 +42,10 @@ class Document {
     boolean published;
 
     public Document(Path path, SAPLInterpreter interpreter) {
+        this(path, interpreter, DocumentSnapshot.disabled());
+    }
+
+    public Document(Path path, SAPLInterpreter interpreter, DocumentSnapshot snapshot) {
         this.path = path;
         try {
             rawDocument = Files.readString(path);
@@ -51,7 +55,7 @@ public Document(Path path, SAPLInterpreter interpreter) {
         }
         try {
             if (rawDocument != null) {
-                parsedDocument = interpreter.parse(rawDocument);
+                parsedDocument = snapshot.parse(rawDocument, interpreter);
                 documentName   = parsedDocument.getPolicyElement().getSaplName();
             }
         } catch (PolicyEvaluationException e) {
@@ -0,0 +1,270 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.prp.filesystem;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+import io.sapl.grammar.sapl.SAPL;
+import io.sapl.grammar.sapl.SaplPackage;
+import io.sapl.interpreter.SAPLInterpreter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Persists the parsed and validated SAPL documents in a file, so that a restart
+ * of the PDP does not have to parse unchanged documents again. Each document is
+ * stored in the binary EMF format and keyed by the SHA-256 hash of its source.
+ * On startup the snapshot file is read sequentially into memory and only
+ * documents whose source is not contained in it are parsed.
+ * <p>
+ * The snapshot is only used if it has been written for the same version of the
+ * SAPL metamodel. A missing, outdated or corrupted snapshot is ignored and
+ * replaced with the next save.
+ */
+@Slf4j
+public final class DocumentSnapshot {
+
+    private static final int MAGIC = 0x5341504C; // "SAPL"
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int HASH_LENGTH = 32;
+
+    private static final byte[] SNAPSHOT_VERSION = metamodelFingerprint();
+
+    private static final DocumentSnapshot DISABLED = new DocumentSnapshot(null);
+
+    private final Path file;
+
+    private final Map<String, byte[]> compiledDocuments = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean modified = new AtomicBoolean(false);
+
+    private DocumentSnapshot(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * @return a snapshot that parses all documents and never persists them
+     */
+    public static DocumentSnapshot disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Loads the snapshot from a file. If the file does not exist or cannot be used,
+     * the snapshot starts empty and creates the file on the next save.
+     *
+     * @param file the snapshot file
+     * @return the snapshot
+     */
+    public static DocumentSnapshot load(@NonNull Path file) {
+        var snapshot = new DocumentSnapshot(file.toAbsolutePath());
+        if (!Files.isRegularFile(file)) {
+            log.info("No snapshot of compiled SAPL documents found at {}. It will be created.", file);
+            return snapshot;
+        }
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            snapshot.read(in, Files.size(file));
+            log.info("Loaded snapshot of {} compiled SAPL documents from {}", snapshot.compiledDocuments.size(), file);
+        } catch (IOException e) {
+            log.warn("Ignoring unusable snapshot of compiled SAPL documents {}: {}", file, e.getMessage());
+            snapshot.compiledDocuments.clear();
+        }
+        return snapshot;
+    }
+
+    private void read(DataInputStream in, long fileSize) throws IOException {
+        if (in.readInt() != MAGIC)
+            throw new IOException("Not a snapshot of compiled SAPL documents.");
+        var version = new byte[readLength(in, fileSize)];
+        in.readFully(version);
+        if (!Arrays.equals(version, snapshotVersion())) {
+            throw new IOException("Snapshot was written for a different version of the SAPL language.");
+        }
+        var numberOfDocuments = in.readInt();
+        for (var i = 0; i < numberOfDocuments; i++) {
+            var hash = new byte[HASH_LENGTH];
+            in.readFully(hash);
+            var compiledDocument = new byte[readLength(in, fileSize)];
+            in.readFully(compiledDocument);
+            compiledDocuments.put(HexFormat.of().formatHex(hash), compiledDocument);
+        }
+    }
+
+    /*
+     * A corrupted length must not allocate more memory than the file could ever
+     * fill.
+     */
+    private static int readLength(DataInputStream in, long fileSize) throws IOException {
+        var length = in.readInt();
+        if (length < 0 || length > fileSize)
+            throw new IOException("Snapshot contains an invalid length of " + length + " bytes.");
+        return length;
+    }
+
+    /**
+     * Returns the document from the snapshot, or parses the document if it is not
+     * contained in the snapshot yet. This method may be called concurrently.
+     *
+     * @param rawDocument the source of the document
+     * @param interpreter the interpreter used if the document has to be parsed
+     * @return the parsed document
+     * @throws io.sapl.api.interpreter.PolicyEvaluationException if the document is
+     *                                                           invalid
+     */
+    public SAPL parse(String rawDocument, SAPLInterpreter interpreter) {
+        if (file == null)
+            return interpreter.parse(rawDocument);
+
+        var hash             = hash(rawDocument);
+        var compiledDocument = compiledDocuments.get(hash);
+        if (compiledDocument != null) {
+            try {
+                return fromBytes(compiledDocument);
+            } catch (IOException | RuntimeException e) {
+                log.warn("Unable to restore compiled SAPL document from snapshot. Parsing it again: {}",
+                        e.getMessage());
+            }
+        }
+
+        var sapl = interpreter.parse(rawDocument);
+        try {
+            compiledDocuments.put(hash, toBytes(sapl));
+            modified.set(true);
+        } catch (IOException e) {
+            log.warn("Unable to add compiled SAPL document to snapshot: {}", e.getMessage());
+        }
+        return sapl;
+    }
+
+    /**
+     * Writes the snapshot file, if documents have been added or removed since the
+     * last save. Only the given documents are kept in the snapshot.
+     *
+     * @param rawDocuments the sources of the documents currently in use
+     */
+    public void save(Collection<String> rawDocuments) {
+        if (file == null)
+            return;
+
+        var hashesInUse = new HashSet<String>();
+        rawDocuments.forEach(rawDocument -> hashesInUse.add(hash(rawDocument)));
+        if (compiledDocuments.keySet().retainAll(hashesInUse))
+            modified.set(true);
+        if (!modified.getAndSet(false))
+            return;
+
+        try {
+            write();
+            log.debug("Saved snapshot of {} compiled SAPL documents to {}", compiledDocuments.size(), file);
+        } catch (IOException e) {
+            log.warn("Unable to save snapshot of compiled SAPL documents to {}: {}", file, e.getMessage());
+        }
+    }
+
+    private synchronized void write() throws IOException {
+        var temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (var out = new DataOutputStream(Files.newOutputStream(temporaryFile))) {
+            out.writeInt(MAGIC);
+            var version = snapshotVersion();
+            out.writeInt(version.length);
+            out.write(version);
+            var documents = Map.copyOf(compiledDocuments);
+            out.writeInt(documents.size());
+            for (var entry : documents.entrySet()) {
+                out.write(HexFormat.of().parseHex(entry.getKey()));
+                out.writeInt(entry.getValue().length);
+                out.write(entry.getValue());
+            }
+        }
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static byte[] snapshotVersion() {
+        return SNAPSHOT_VERSION;
+    }
+
+    /*
+     * The binary format refers to classes and features by their position in the
+     * metamodel. Thus, the snapshot is only compatible with the metamodel it has
+     * been written with.
+     */
+    private static byte[] metamodelFingerprint() {
+        var metamodel = new StringBuilder().append(FORMAT_VERSION);
+        for (var classifier : SaplPackage.eINSTANCE.getEClassifiers()) {
+            metamodel.append(';').append(classifier.getName());
+            if (classifier instanceof EClass eClass) {
+                eClass.getESuperTypes().forEach(superType -> metamodel.append('<').append(superType.getName()));
+                eClass.getEStructuralFeatures().forEach(feature -> metamodel.append(',').append(feature.getName())
+                        .append(':').append(feature.getEType().getName()).append(feature.getUpperBound()));
+            }
+        }
+        return hash(metamodel.toString()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] toBytes(SAPL sapl) throws IOException {
+        var resource = new BinaryResourceImpl(URI.createURI("snapshot:/document.sapl"));
+        // copy the document, as adding it to the resource would remove it from its
+        // original resource
+        resource.getContents().add(EcoreUtil.copy(sapl));
+        var out = new ByteArrayOutputStream();
+        resource.save(out, null);
+        return out.toByteArray();
+    }
+
+    private static SAPL fromBytes(byte[] compiledDocument) throws IOException {
+        var resource = new BinaryResourceImpl(URI.createURI("snapshot:/document.sapl"));
+        resource.load(new ByteArrayInputStream(compiledDocument), null);
+        return (SAPL) resource.getContents().get(0);
+    }
+
+    private static String hash(String rawDocument) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawDocument.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -19,6 +19,8 @@
 
 import static io.sapl.util.filemonitoring.FileMonitorUtil.resolveHomeFolderIfPresent;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 
 import io.sapl.interpreter.SAPLInterpreter;
@@ -26,6 +28,7 @@
 import io.sapl.prp.PrpUpdateEventSource;
 import io.sapl.util.filemonitoring.FileEvent;
 import io.sapl.util.filemonitoring.FileMonitorUtil;
+import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -35,15 +38,134 @@
 @Slf4j
 public class FileSystemPrpUpdateEventSource implements PrpUpdateEventSource {
 
+    /**
+     * Default time without further file events after which a batch of file events
+     * is published as one update event.
+     */
+    public static final Duration DEFAULT_QUIET_PERIOD = Duration.ofMillis(250L);
+
+    /**
+     * Default maximum time a batch of file events is held back while file events
+     * keep occurring within the quiet period.
+     */
+    public static final Duration DEFAULT_MAX_WAIT = Duration.ofSeconds(5L);
+
+    /**
+     * Default maximum number of file events published as one update event.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 1000;
+
+    /**
+     * Default number of threads parsing documents in parallel, i.e., the number of
+     * available processors.
+     */
+    public static final int DEFAULT_PARSING_PARALLELISM = ImmutableFileIndex.DEFAULT_PARSING_PARALLELISM;
+
     private static final String SAPL_SUFFIX = ".sapl";
 
     private final SAPLInterpreter interpreter;
 
     private final String watchDir;
 
+    private final Duration quietPeriod;
+
+    private final Duration maxWait;
+
+    private final int maxBatchSize;
+
+    private final int parsingParallelism;
+
+    private final DocumentSnapshot snapshot;
+
     public FileSystemPrpUpdateEventSource(String policyPath, SAPLInterpreter interpreter) {
-        this.interpreter = interpreter;
-        watchDir         = resolveHomeFolderIfPresent(policyPath);
+        this(policyPath, interpreter, DEFAULT_QUIET_PERIOD);
+    }
+
+    /**
+     * Creates an update event source monitoring a directory. File events are
+     * collected until no further event occurred for the quiet period. Then the
+     * whole batch is applied to the index at once and published as a single update
+     * event. Thus, bulk deployments, e.g., a git checkout, only cause one rebuild
+     * of the policy index.
+     *
+     * @param policyPath  the directory containing the SAPL documents
+     * @param interpreter the interpreter for parsing the documents
+     * @param quietPeriod the time without file events after which a batch is
+     *                    published. With a zero duration each file event is
+     *                    published individually.
+     */
+    public FileSystemPrpUpdateEventSource(String policyPath, SAPLInterpreter interpreter,
+            @NonNull Duration quietPeriod) {
+        this(policyPath, interpreter, quietPeriod, DocumentSnapshot.disabled());
+    }
+
+    /**
+     * Creates an update event source monitoring a directory, which restores
+     * unchanged documents from a snapshot instead of parsing them.
+     *
+     * @param policyPath  the directory containing the SAPL documents
+     * @param interpreter the interpreter for parsing the documents
+     * @param quietPeriod the time without file events after which a batch is
+     *                    published
+     * @param snapshot    the snapshot of compiled documents
+     */
+    public FileSystemPrpUpdateEventSource(String policyPath, SAPLInterpreter interpreter, @NonNull Duration quietPeriod,
+            @NonNull DocumentSnapshot snapshot) {
+        this(policyPath, interpreter, quietPeriod, DEFAULT_MAX_WAIT, DEFAULT_MAX_BATCH_SIZE, snapshot);
+    }
+
+    /**
+     * Creates an update event source monitoring a directory, which restores
+     * unchanged documents from a snapshot instead of parsing them. If file events
+     * keep occurring within the quiet period, e.g., because a file is written
+     * continuously, a batch is published at the latest after the maximum wait or as
+     * soon as it contains the maximum number of file events.
+     *
+     * @param policyPath   the directory containing the SAPL documents
+     * @param interpreter  the interpreter for parsing the documents
+     * @param quietPeriod  the time without file events after which a batch is
+     *                     published
+     * @param maxWait      the maximum time a batch is held back
+     * @param maxBatchSize the maximum number of file events in a batch
+     * @param snapshot     the snapshot of compiled documents
+     */
+    public FileSystemPrpUpdateEventSource(String policyPath, SAPLInterpreter interpreter, @NonNull Duration quietPeriod,
+            @NonNull Duration maxWait, int maxBatchSize, @NonNull DocumentSnapshot snapshot) {
+        this(policyPath, interpreter, quietPeriod, maxWait, maxBatchSize, DEFAULT_PARSING_PARALLELISM, snapshot);
+    }
+
+    /**
+     * Creates an update event source monitoring a directory, which restores
+     * unchanged documents from a snapshot instead of parsing them. Many documents
+     * are parsed in parallel by a dedicated pool of at most the given number of
+     * threads.
+     *
+     * @param policyPath         the directory containing the SAPL documents
+     * @param interpreter        the interpreter for parsing the documents
+     * @param quietPeriod        the time without file events after which a batch is
+     *                           published
+     * @param maxWait            the maximum time a batch is held back
+     * @param maxBatchSize       the maximum number of file events in a batch
+     * @param parsingParallelism the number of threads parsing documents in parallel
+     * @param snapshot           the snapshot of compiled documents
+     */
+    public FileSystemPrpUpdateEventSource(String policyPath, SAPLInterpreter interpreter, @NonNull Duration quietPeriod,
+            @NonNull Duration maxWait, int maxBatchSize, int parsingParallelism, @NonNull DocumentSnapshot snapshot) {
+        if (quietPeriod.isNegative())
+            throw new IllegalArgumentException("The quiet period must not be negative.");
+        if (maxWait.isNegative() || maxWait.isZero())
+            throw new IllegalArgumentException("The maximum wait must be positive.");
+        if (maxBatchSize < 1)
+            throw new IllegalArgumentException("The maximum batch size must be positive.");
+        if (parsingParallelism < 1)
+            throw new IllegalArgumentException("The parsing parallelism must be positive.");
+        this.interpreter        = interpreter;
+        this.quietPeriod        = quietPeriod;
+        this.maxWait            = maxWait;
+        this.maxBatchSize       = maxBatchSize;
+        this.parsingParallelism = parsingParallelism;
+        this.snapshot           = snapshot;
+        watchDir                = resolveHomeFolderIfPresent(policyPath);
         log.info("Monitoring for SAPL documents: {}", watchDir);
     }
 
@@ -54,7 +176,7 @@ public void dispose() {
 
     @Override
     public Flux<PrpUpdateEvent> getUpdates() {
-        var seedIndex    = new ImmutableFileIndex(this.watchDir, interpreter);
+        var seedIndex    = new ImmutableFileIndex(this.watchDir, interpreter, snapshot, parsingParallelism);
         var initialEvent = seedIndex.getUpdateEvent();
         // If the predicate filters inside the monitorDirectory by suffix, then no
         // sub-folders are monitored.
@@ -68,18 +190,31 @@ public Flux<PrpUpdateEvent> getUpdates() {
     }
 
     private Flux<PrpUpdateEvent> directoryMonitor(Flux<FileEvent> fileEvents, ImmutableFileIndex seedIndex) {
-        return fileEvents.scan(createInitialTuple(seedIndex), this::processFileEvent)
+        return coalesce(fileEvents).scan(createInitialTuple(seedIndex), this::processFileEvents)
                 .filter(tuple -> tuple.getT1().isPresent()).map(Tuple2::getT1).map(Optional::get);
     }
 
+    private Flux<List<FileEvent>> coalesce(Flux<FileEvent> fileEvents) {
+        if (quietPeriod.isZero())
+            return fileEvents.map(List::of);
+        // Batches end after the quiet period. As continuous writes may never leave a
+        // quiet period, batches are also bounded by the windows of maximum size and
+        // duration.
+        return fileEvents.windowTimeout(maxBatchSize, maxWait)
+                .concatMap(window -> window
+                        .publish(events -> events.buffer(events.sampleTimeout(event -> Mono.delay(quietPeriod)))))
+                .filter(batch -> !batch.isEmpty());
+    }
+
     private Tuple2<Optional<PrpUpdateEvent>, ImmutableFileIndex> createInitialTuple(ImmutableFileIndex seedIndex) {
         return Tuples.of(Optional.empty(), seedIndex);
     }
 
-    private Tuple2<Optional<PrpUpdateEvent>, ImmutableFileIndex> processFileEvent(
-            Tuple2<Optional<PrpUpdateEvent>, ImmutableFileIndex> tuple, FileEvent fileEvent) {
+    private Tuple2<Optional<PrpUpdateEvent>, ImmutableFileIndex> processFileEvents(
+            Tuple2<Optional<PrpUpdateEvent>, ImmutableFileIndex> tuple, List<FileEvent> fileEvents) {
+        log.debug("Applying {} file events to the index", fileEvents.size());
         var index    = tuple.getT2();
-        var newIndex = index.afterFileEvent(fileEvent);
+        var newIndex = index.afterFileEvents(fileEvents);
         log.debug("Update event: {}", newIndex.getUpdateEvent());
         return Tuples.of(Optional.of(newIndex.getUpdateEvent()), newIndex);
     }
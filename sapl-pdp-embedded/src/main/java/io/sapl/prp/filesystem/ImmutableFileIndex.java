@@ -19,10 +19,13 @@
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import com.google.common.collect.Maps;
 
@@ -40,8 +43,19 @@
 @Slf4j
 class ImmutableFileIndex {
 
+    static final int PARALLEL_PARSING_THRESHOLD = 16;
+
+    /**
+     * Default number of threads parsing documents in parallel.
+     */
+    static final int DEFAULT_PARSING_PARALLELISM = Runtime.getRuntime().availableProcessors();
+
     private final SAPLInterpreter interpreter;
 
+    private final int parsingParallelism;
+
+    private final DocumentSnapshot snapshot;
+
     private int numberOfInvalidDocuments = 0;
 
     private int numberOfNameCollisions = 0;
@@ -56,17 +70,30 @@ class ImmutableFileIndex {
     final Map<String, List<Document>> namesToDocuments;
 
     public ImmutableFileIndex(String watchDir, SAPLInterpreter interpreter) {
+        this(watchDir, interpreter, DocumentSnapshot.disabled());
+    }
+
+    public ImmutableFileIndex(String watchDir, SAPLInterpreter interpreter, DocumentSnapshot snapshot) {
+        this(watchDir, interpreter, snapshot, DEFAULT_PARSING_PARALLELISM);
+    }
+
+    public ImmutableFileIndex(String watchDir, SAPLInterpreter interpreter, DocumentSnapshot snapshot,
+            int parsingParallelism) {
         log.info("Initializing file index for {}", watchDir);
 
-        this.interpreter      = interpreter;
-        this.documentsByPath  = new HashMap<>();
-        this.namesToDocuments = new HashMap<>();
+        this.interpreter        = interpreter;
+        this.snapshot           = snapshot;
+        this.parsingParallelism = parsingParallelism;
+        this.documentsByPath    = new HashMap<>();
+        this.namesToDocuments   = new HashMap<>();
 
+        var startTime = System.nanoTime();
         try {
-            FileMonitorUtil.findSaplDocuments(watchDir).forEach(file -> {
-                log.debug("loading SAPL document: {}", file);
-                load(file);
-            });
+            var documents = parseDocuments(FileMonitorUtil.findSaplDocuments(watchDir));
+            documents.values().forEach(this::load);
+            saveSnapshot();
+            log.info("Loaded {} SAPL documents from {} in {} ms", documents.size(), watchDir,
+                    Duration.ofNanos(System.nanoTime() - startTime).toMillis());
         } catch (IOException e) {
             log.error("Unable to open the directory containing policies: {}", watchDir);
             updates.add(new Update(Type.INCONSISTENT, null, null));
@@ -86,6 +113,8 @@ private ImmutableFileIndex(ImmutableFileIndex oldIndex) {
         this.documentsByPath          = Maps.newHashMapWithExpectedSize(oldIndex.documentsByPath.size());
         this.namesToDocuments         = Maps.newHashMapWithExpectedSize(oldIndex.namesToDocuments.size());
         this.interpreter              = oldIndex.interpreter;
+        this.snapshot                 = oldIndex.snapshot;
+        this.parsingParallelism       = oldIndex.parsingParallelism;
         this.numberOfInvalidDocuments = oldIndex.numberOfInvalidDocuments;
         this.numberOfNameCollisions   = oldIndex.numberOfNameCollisions;
         for (var entry : oldIndex.documentsByPath.entrySet()) {
@@ -119,20 +148,49 @@ void addWithdrawUpdate(Document oldDocument) {
     }
 
     public ImmutableFileIndex afterFileEvent(FileEvent event) {
-        var fileName = event.file().getName();
-        var path     = event.file().toPath().toAbsolutePath();
-        var newIndex = new ImmutableFileIndex(this);
-        if (event instanceof FileDeletedEvent) {
-            log.info("Unloading deleted SAPL document: {}", fileName);
-            newIndex.unload(path);
-        } else if (event instanceof FileCreatedEvent) {
-            log.info("Loading new SAPL document: {}", fileName);
-            newIndex.load(path);
-        } else { // FileChangedEvent
-            log.info("Loading updated SAPL document: {}", fileName);
-            newIndex.change(path);
+        return afterFileEvents(List.of(event));
+    }
+
+    /**
+     * Applies a batch of file events to a single copy of the index. Only the last
+     * event for each file is applied, so that a document touched several times
+     * within the batch is parsed once. The resulting update event only reports a
+     * change of consistency, if the state after the whole batch differs from the
+     * state before it. Inconsistent intermediate states are not published.
+     *
+     * @param events the file events in the order of their occurrence
+     * @return the index after applying all events
+     */
+    public ImmutableFileIndex afterFileEvents(List<FileEvent> events) {
+        var lastEventByPath = new LinkedHashMap<Path, FileEvent>();
+        for (var event : events) {
+            var path = event.file().toPath().toAbsolutePath();
+            lastEventByPath.remove(path);
+            lastEventByPath.put(path, event);
         }
 
+        var pathsToLoad = lastEventByPath.entrySet().stream()
+                .filter(entry -> !(entry.getValue() instanceof FileDeletedEvent)).map(Map.Entry::getKey).toList();
+        var documents   = parseDocuments(pathsToLoad);
+
+        var newIndex = new ImmutableFileIndex(this);
+        lastEventByPath.forEach((path, event) -> {
+            var fileName = event.file().getName();
+            if (event instanceof FileDeletedEvent) {
+                log.info("Unloading deleted SAPL document: {}", fileName);
+                newIndex.unload(path);
+            } else if (event instanceof FileCreatedEvent && !newIndex.containsDocumentWithPath(path.toString())) {
+                log.info("Loading new SAPL document: {}", fileName);
+                newIndex.load(documents.get(path));
+            } else { // FileChangedEvent or re-created file
+                log.info("Loading updated SAPL document: {}", fileName);
+                newIndex.unload(path);
+                newIndex.load(documents.get(path));
+            }
+        });
+
+        newIndex.saveSnapshot();
+
         if (newIndex.becameConsistentComparedTo(this)) {
             log.info("The set of documents was previously INCONSISTENT and is now CONSISTENT again.");
             newIndex.updates.add(new Update(Type.CONSISTENT, null, null));
@@ -163,8 +221,49 @@ public boolean becameInconsistentComparedTo(ImmutableFileIndex idx) {
         return idx.isConsistent() && isInconsistent();
     }
 
-    final void load(Path filePath) {
-        var newDocument = new Document(filePath, interpreter);
+    /**
+     * Reads and parses the documents, in parallel if there are at least
+     * {@link #PARALLEL_PARSING_THRESHOLD} of them. Parsing and validating dominate
+     * the time it takes to load documents, while registering them in the index is
+     * cheap. The documents are registered sequentially afterwards, so that the
+     * detection of name collisions remains deterministic.
+     * <p>
+     * The documents are parsed in a dedicated pool, which is shut down afterwards,
+     * so that parsing does not occupy the common pool shared with the application.
+     *
+     * @param paths the paths of the documents
+     * @return the documents by path in the order of the given paths
+     */
+    private Map<Path, Document> parseDocuments(List<Path> paths) {
+        List<Document> documents;
+        if (paths.size() < PARALLEL_PARSING_THRESHOLD || parsingParallelism == 1) {
+            documents = paths.stream().map(this::parseDocument).toList();
+        } else {
+            var pool = new ForkJoinPool(parsingParallelism);
+            try {
+                documents = pool.submit(() -> paths.parallelStream().map(this::parseDocument).toList()).join();
+            } finally {
+                pool.shutdown();
+            }
+        }
+        var documentsByPath = new LinkedHashMap<Path, Document>();
+        for (var i = 0; i < paths.size(); i++) {
+            documentsByPath.put(paths.get(i), documents.get(i));
+        }
+        return documentsByPath;
+    }
+
+    private Document parseDocument(Path path) {
+        log.debug("loading SAPL document: {}", path);
+        return new Document(path, interpreter, snapshot);
+    }
+
+    private void saveSnapshot() {
+        snapshot.save(documentsByPath.values().stream().filter(document -> !document.isInvalid())
+                .map(Document::getRawDocument).toList());
+    }
+
+    final void load(Document newDocument) {
         documentsByPath.put(newDocument.getAbsolutePath(), newDocument);
         if (newDocument.isInvalid()) {
             numberOfInvalidDocuments++;
@@ -190,11 +289,6 @@ final void load(Path filePath) {
         }
     }
 
-    void change(Path filePath) {
-        unload(filePath);
-        load(filePath);
-    }
-
     String getAbsolutePathAsString(Path filePath) {
         return filePath.toAbsolutePath().toString();
     }
@@ -20,7 +20,9 @@
 import java.io.File;
 import java.io.FileFilter;
 import java.io.IOException;
+import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
@@ -30,13 +32,17 @@
 import org.apache.commons.io.monitor.FileAlterationObserver;
 
 import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
 
+@Slf4j
 @UtilityClass
 public class FileMonitorUtil {
 
     private static final long   POLL_INTERVAL_IN_MS = 500;
     private static final String SAPL_FILE_EXTENSION = "sapl";
+    private static final String HIDDEN_DATA_PREFIX  = "..";
 
     public static String resolveHomeFolderIfPresent(String policyPath) {
         policyPath = policyPath.replace("/", File.separator);
@@ -51,27 +57,52 @@ static String getUserHomeProperty() {
         return System.getProperty("user.home");
     }
 
+    /**
+     * Monitors a directory tree for created, changed and deleted files. Changes are
+     * detected by the {@link java.nio.file.WatchService} of the file system. If the
+     * directory cannot be watched, e.g., because it does not exist or the file
+     * system does not support watching, the directory is polled instead.
+     *
+     * @param watchDir   the monitored directory
+     * @param fileFilter filter for files and sub-directories to monitor
+     * @return the file events
+     */
     public static Flux<FileEvent> monitorDirectory(final String watchDir, final FileFilter fileFilter) {
         return Flux.push(emitter -> {
-            var adaptor  = new FileEventAdaptor(emitter);
-            var monitor  = new FileAlterationMonitor(POLL_INTERVAL_IN_MS);
-            var observer = new FileAlterationObserver(watchDir, fileFilter);
-            monitor.addObserver(observer);
-            observer.addListener(adaptor);
-            emitter.onDispose(() -> {
-                try {
-                    monitor.stop();
-                } catch (Exception e) {
-                    emitter.error(e);
-                }
-            });
+            WatchServiceDirectoryMonitor monitor;
+            try {
+                monitor = new WatchServiceDirectoryMonitor(Paths.get(watchDir), fileFilter, emitter);
+            } catch (IOException | UnsupportedOperationException | InvalidPathException e) {
+                log.info("Cannot watch {} for changes ({}). Polling every {} ms instead.", watchDir, e.getMessage(),
+                        POLL_INTERVAL_IN_MS);
+                pollDirectory(watchDir, fileFilter, emitter);
+                return;
+            }
+            emitter.onDispose(monitor::stop);
+            monitor.start();
+        });
+    }
 
+    private static void pollDirectory(final String watchDir, final FileFilter fileFilter,
+            final FluxSink<FileEvent> emitter) {
+        var adaptor  = new FileEventAdaptor(emitter);
+        var monitor  = new FileAlterationMonitor(POLL_INTERVAL_IN_MS);
+        var observer = new FileAlterationObserver(watchDir, fileFilter);
+        monitor.addObserver(observer);
+        observer.addListener(adaptor);
+        emitter.onDispose(() -> {
             try {
-                monitor.start();
+                monitor.stop();
             } catch (Exception e) {
                 emitter.error(e);
             }
         });
+
+        try {
+            monitor.start();
+        } catch (Exception e) {
+            emitter.error(e);
+        }
     }
 
     public static List<Path> findSaplDocuments(String rawPath) throws IOException {
@@ -79,15 +110,46 @@ public static List<Path> findSaplDocuments(String rawPath) throws IOException {
         return findSaplDocuments(path);
     }
 
+    /**
+     * Finds all SAPL documents in the directory tree. Symbolic links are followed,
+     * while hidden data directories are skipped, as their documents are visible
+     * through symbolic links.
+     *
+     * @param path the directory
+     * @return the paths of the SAPL documents
+     * @throws IOException if the directory cannot be read
+     */
     public static List<Path> findSaplDocuments(Path path) throws IOException {
 
         if (!Files.isDirectory(path)) {
             throw new IOException("Provided path for policies not a path: " + path);
         }
 
-        try (Stream<Path> walk = Files.walk(path)) {
-            return walk.filter(p -> !Files.isDirectory(p) && p.toString().toLowerCase().endsWith(SAPL_FILE_EXTENSION))
-                    .toList();
+        try (Stream<Path> walk = Files.walk(path, FileVisitOption.FOLLOW_LINKS)) {
+            return walk.filter(p -> Files.isRegularFile(p) && p.toString().toLowerCase().endsWith(SAPL_FILE_EXTENSION))
+                    .filter(p -> !isInHiddenDataDirectory(path, p)).toList();
+        }
+    }
+
+    /*
+     * Entries with names starting with '..' are managed by Kubernetes for ConfigMap
+     * and Secret volumes, e.g., the '..data' link swapped on updates.
+     */
+    static boolean isHiddenDataEntry(Path path) {
+        var fileName = path.getFileName();
+        return fileName != null && fileName.toString().startsWith(HIDDEN_DATA_PREFIX);
+    }
+
+    private static boolean isInHiddenDataDirectory(Path root, Path file) {
+        var directory = root.relativize(file).getParent();
+        if (directory == null) {
+            return false;
+        }
+        for (var name : directory) {
+            if (isHiddenDataEntry(name)) {
+                return true;
+            }
         }
+        return false;
     }
 }
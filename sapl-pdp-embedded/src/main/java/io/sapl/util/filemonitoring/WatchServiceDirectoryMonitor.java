@@ -0,0 +1,259 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.util.filemonitoring;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.FileFilter;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.FluxSink;
+
+/**
+ * Monitors a directory tree with a {@link WatchService} on a dedicated daemon
+ * thread, which is blocked while nothing changes.
+ * <p>
+ * The monitor keeps a snapshot of the size and modification time of all files
+ * accepted by the filter. Each watch event is compared with the snapshot, so
+ * that repeated events for the same change are emitted once and created,
+ * changed and deleted files are reported like by the polling monitor. As with
+ * the polling monitor, the filter also applies to sub-directories, i.e.,
+ * directories rejected by the filter are not monitored. If events have been
+ * lost, the whole tree is scanned and compared with the snapshot.
+ * <p>
+ * Symbolic links are followed. Directories with names starting with {@code ..},
+ * e.g., the data directories of Kubernetes ConfigMap and Secret volumes, are
+ * not monitored themselves, as their files are visible through symbolic links.
+ * Such volumes are updated by atomically swapping the {@code ..data} link,
+ * which leaves the links to the files untouched. Hence, any change of a
+ * symbolic link or of an entry starting with {@code ..} causes a rescan of the
+ * tree, and the snapshot compares the file keys of the link targets.
+ */
+@Slf4j
+final class WatchServiceDirectoryMonitor implements Runnable {
+
+    private record FileState(Object fileKey, long lastModifiedNanos, long size) {
+    }
+
+    private final Path                 root;
+    private final FileFilter           fileFilter;
+    private final WatchService         watchService;
+    private final FluxSink<FileEvent>  emitter;
+    private final Map<WatchKey, Path>  watchKeys   = new HashMap<>();
+    private final Set<Path>            directories = new HashSet<>();
+    private final Map<Path, FileState> snapshot    = new HashMap<>();
+
+    /**
+     * Registers the directory tree and takes the initial snapshot.
+     *
+     * @throws IOException if the directory cannot be watched
+     */
+    WatchServiceDirectoryMonitor(Path root, FileFilter fileFilter, FluxSink<FileEvent> emitter) throws IOException {
+        if (!Files.isDirectory(root)) {
+            throw new IOException("Not a directory: " + root);
+        }
+        this.root         = root;
+        this.fileFilter   = fileFilter;
+        this.emitter      = emitter;
+        this.watchService = root.getFileSystem().newWatchService();
+        try {
+            registerTree(root, (file, attributes) -> snapshot.put(file, stateOf(attributes)));
+        } catch (IOException e) {
+            watchService.close();
+            throw e;
+        }
+    }
+
+    void start() {
+        var thread = new Thread(this, "sapl-directory-monitor-" + root.getFileName());
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void stop() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            log.warn("Failed to close the watch service of {}", root, e);
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                var key = watchService.take();
+                processEvents(key);
+                if (!key.reset()) {
+                    directories.remove(watchKeys.remove(key));
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            log.debug("Stopped monitoring {}", root);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            emitter.error(e);
+        }
+    }
+
+    private void processEvents(WatchKey key) {
+        var directory = watchKeys.get(key);
+        for (var event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW || directory == null) {
+                rescan();
+                return;
+            }
+            var path = directory.resolve((Path) event.context());
+            if (FileMonitorUtil.isHiddenDataEntry(path) || Files.isSymbolicLink(path)) {
+                rescan();
+            } else if (event.kind() == ENTRY_CREATE && Files.isDirectory(path)) {
+                if (fileFilter.accept(path.toFile())) {
+                    registerNewDirectory(path);
+                }
+            } else if (event.kind() == ENTRY_DELETE && !snapshot.containsKey(path)) {
+                removeDeletedDirectory(path);
+            } else {
+                compareWithSnapshot(path);
+            }
+        }
+    }
+
+    private void registerNewDirectory(Path directory) {
+        try {
+            registerTree(directory, (file, attributes) -> compareWithSnapshot(file));
+        } catch (IOException e) {
+            log.warn("Failed to monitor new directory {}. Scanning for changes.", directory, e);
+            rescan();
+        }
+    }
+
+    private void compareWithSnapshot(Path path) {
+        var previous = snapshot.get(path);
+        var current  = Files.isRegularFile(path) && fileFilter.accept(path.toFile()) ? stateOf(path) : null;
+        if (previous == null && current != null) {
+            snapshot.put(path, current);
+            emitter.next(new FileCreatedEvent(path.toFile()));
+        } else if (previous != null && current == null) {
+            snapshot.remove(path);
+            emitter.next(new FileDeletedEvent(path.toFile()));
+        } else if (previous != null && !previous.equals(current)) {
+            snapshot.put(path, current);
+            emitter.next(new FileChangedEvent(path.toFile()));
+        }
+    }
+
+    private void removeDeletedDirectory(Path directory) {
+        directories.removeIf(path -> path.startsWith(directory));
+        var deleted = snapshot.keySet().stream().filter(path -> path.startsWith(directory)).sorted().toList();
+        for (var path : deleted) {
+            snapshot.remove(path);
+            emitter.next(new FileDeletedEvent(path.toFile()));
+        }
+    }
+
+    private void rescan() {
+        directories.removeIf(directory -> !Files.isDirectory(directory));
+        var existingFiles = new HashSet<Path>();
+        try {
+            registerTree(root, (file, attributes) -> existingFiles.add(file));
+        } catch (IOException e) {
+            log.warn("Failed to rescan monitored directory {}", root, e);
+            return;
+        }
+        for (var path : new ArrayList<>(snapshot.keySet())) {
+            if (!existingFiles.contains(path)) {
+                compareWithSnapshot(path);
+            }
+        }
+        existingFiles.forEach(this::compareWithSnapshot);
+    }
+
+    /*
+     * Registers the directory and all sub-directories accepted by the filter and
+     * hands all files accepted by the filter to the file handler. Symbolic links
+     * are followed, hidden data directories are skipped.
+     */
+    private void registerTree(Path start, BiConsumer<Path, BasicFileAttributes> fileHandler) throws IOException {
+        var options = EnumSet.of(FileVisitOption.FOLLOW_LINKS);
+        Files.walkFileTree(start, options, Integer.MAX_VALUE, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes)
+                    throws IOException {
+                if (!directory.equals(root)
+                        && (FileMonitorUtil.isHiddenDataEntry(directory) || !fileFilter.accept(directory.toFile()))) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                if (directories.add(directory)) {
+                    watchKeys.put(directory.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY),
+                            directory);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                if (Files.isRegularFile(file) && fileFilter.accept(file.toFile())) {
+                    fileHandler.accept(file, attributes);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException e) {
+                log.warn("Cannot monitor {}", file, e);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private static FileState stateOf(Path file) {
+        try {
+            return stateOf(Files.readAttributes(file, BasicFileAttributes.class));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static FileState stateOf(BasicFileAttributes attributes) {
+        return new FileState(attributes.fileKey(), attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS),
+                attributes.size());
+    }
+
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.pdp;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+import io.sapl.api.pdp.AuthorizationDecision;
+import io.sapl.api.pdp.AuthorizationSubscription;
+import io.sapl.api.pdp.TracedDecision;
+import io.sapl.grammar.sapl.SAPL;
+import io.sapl.interpreter.CombinedDecision;
+import io.sapl.interpreter.DefaultSAPLInterpreter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class DecisionCacheTests {
+
+    private static final JsonNodeFactory JSON = JsonNodeFactory.instance;
+
+    private static final DecisionCacheConfiguration CACHING = new DecisionCacheConfiguration(true, 100L,
+            Duration.ofMinutes(1L));
+
+    private static final AuthorizationSubscription SUBSCRIPTION = new AuthorizationSubscription(JSON.textNode("willi"),
+            JSON.textNode("read"), JSON.textNode("something"), JSON.nullNode());
+
+    private static final SAPL DOCUMENT_WITHOUT_ATTRIBUTES = new DefaultSAPLInterpreter()
+            .parse("policy \"p1\" permit action == \"read\"");
+
+    private static final SAPL DOCUMENT_WITH_ATTRIBUTES = new DefaultSAPLInterpreter()
+            .parse("policy \"p2\" permit where subject.<test.upper> == \"WILLI\";");
+
+    private Sinks.Many<Integer> generations;
+
+    private AtomicInteger numberOfEvaluations;
+
+    private DecisionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        generations         = Sinks.many().replay().latest();
+        numberOfEvaluations = new AtomicInteger();
+        cache               = new DecisionCache(CACHING, generations::asFlux);
+        generations.tryEmitNext(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.dispose();
+    }
+
+    @Test
+    void when_documentsHaveNoAttributeFinders_then_decideOnceIsEvaluatedOnlyOnce() {
+        var decide = decide(AuthorizationDecision.PERMIT, DOCUMENT_WITHOUT_ATTRIBUTES);
+
+        StepVerifier.create(cache.decideOnce(SUBSCRIPTION, decide)).expectNext(AuthorizationDecision.PERMIT)
+                .verifyComplete();
+        StepVerifier.create(cache.decideOnce(SUBSCRIPTION, decide)).expectNext(AuthorizationDecision.PERMIT)
+                .verifyComplete();
+
+        assertThat(numberOfEvaluations.get(), is(1));
+    }
+
+    @Test
+    void when_documentHasAttributeFinders_then_decisionIsNotCached() {
+        var decide = decide(AuthorizationDecision.PERMIT, DOCUMENT_WITHOUT_ATTRIBUTES, DOCUMENT_WITH_ATTRIBUTES);
+
+        cache.decideOnce(SUBSCRIPTION, decide).block();
+        cache.decideOnce(SUBSCRIPTION, decide).block();
+
+        assertThat(numberOfEvaluations.get(), is(2));
+    }
+
+    @Test
+    void when_decisionIsIndeterminate_then_decisionIsNotCached() {
+        var decide = decide(AuthorizationDecision.INDETERMINATE);
+
+        cache.decideOnce(SUBSCRIPTION, decide).block();
+        cache.decideOnce(SUBSCRIPTION, decide).block();
+
+        assertThat(numberOfEvaluations.get(), is(2));
+    }
+
+    @Test
+    void when_newGenerationIsEmitted_then_cachedDecisionsAreDropped() {
+        var decide = decide(AuthorizationDecision.DENY, DOCUMENT_WITHOUT_ATTRIBUTES);
+
+        cache.decideOnce(SUBSCRIPTION, decide).block();
+        generations.tryEmitNext(1);
+        cache.decideOnce(SUBSCRIPTION, decide).block();
+        cache.decideOnce(SUBSCRIPTION, decide).block();
+
+        assertThat(numberOfEvaluations.get(), is(2));
+    }
+
+    @Test
+    void when_generationsFail_then_cachingIsStopped() {
+        var decide = decide(AuthorizationDecision.DENY, DOCUMENT_WITHOUT_ATTRIBUTES);
+
+        cache.decideOnce(SUBSCRIPTION, decide).block();
+        generations.tryEmitError(new IllegalStateException("lost"));
+        cache.decideOnce(SUBSCRIPTION, decide).block();
+        cache.decideOnce(SUBSCRIPTION, decide).block();
+
+        assertThat(numberOfEvaluations.get(), is(3));
+    }
+
+    @Test
+    void when_cacheIsDisabled_then_everyDecisionIsEvaluated() {
+        var disabled = new DecisionCache(DecisionCacheConfiguration.DISABLED, generations::asFlux);
+        var decide   = decide(AuthorizationDecision.PERMIT, DOCUMENT_WITHOUT_ATTRIBUTES);
+
+        disabled.decideOnce(SUBSCRIPTION, decide).block();
+        disabled.decideOnce(SUBSCRIPTION, decide).block();
+
+        assertThat(numberOfEvaluations.get(), is(2));
+    }
+
+    @Test
+    void when_equalSubscriptionsAreConcurrent_then_decisionStreamIsShared() {
+        var                                                       numberOfSubscriptions = new AtomicInteger();
+        var                                                       sink                  = Sinks.many().replay()
+                .<TracedDecision>latest();
+        Function<AuthorizationSubscription, Flux<TracedDecision>> decide                = subscription -> sink.asFlux()
+                .doOnSubscribe(s -> numberOfSubscriptions.incrementAndGet());
+
+        var equalSubscription = new AuthorizationSubscription(JSON.textNode("willi"), JSON.textNode("read"),
+                JSON.textNode("something"), JSON.nullNode());
+        var first             = cache.share(SUBSCRIPTION, false, decide).subscribe();
+        var second            = cache.share(equalSubscription, false, decide).subscribe();
+
+        assertThat(numberOfSubscriptions.get(), is(1));
+
+        first.dispose();
+        second.dispose();
+        cache.share(SUBSCRIPTION, false, decide).subscribe().dispose();
+
+        assertThat(numberOfSubscriptions.get(), is(2));
+    }
+
+    @Test
+    void when_tracedAndUntracedSubscriptionsAreConcurrent_then_decisionStreamsAreNotShared() {
+        var                                                       numberOfSubscriptions = new AtomicInteger();
+        Function<AuthorizationSubscription, Flux<TracedDecision>> decide                = subscription -> Flux
+                .<TracedDecision>never().doOnSubscribe(s -> numberOfSubscriptions.incrementAndGet());
+
+        var untraced = cache.share(SUBSCRIPTION, false, decide).subscribe();
+        var traced   = cache.share(SUBSCRIPTION, true, decide).subscribe();
+
+        assertThat(numberOfSubscriptions.get(), is(2));
+
+        untraced.dispose();
+        traced.dispose();
+    }
+
+    @Test
+    void when_sharingIsDisabled_then_eachSubscriberHasOwnDecisionStream() {
+        var                                                       numberOfSubscriptions = new AtomicInteger();
+        var                                                       unshared              = new DecisionCache(
+                DecisionCacheConfiguration.DISABLED, generations::asFlux);
+        Function<AuthorizationSubscription, Flux<TracedDecision>> decide                = subscription -> Flux
+                .<TracedDecision>never().doOnSubscribe(s -> numberOfSubscriptions.incrementAndGet());
+
+        unshared.share(SUBSCRIPTION, false, decide).subscribe();
+        unshared.share(SUBSCRIPTION, false, decide).subscribe();
+
+        assertThat(numberOfSubscriptions.get(), is(2));
+    }
+
+    @Test
+    void when_sharedDecisionStreamIsRunning_then_oneShotEvaluationJoinsIt() {
+        var                                                       numberOfSubscriptions = new AtomicInteger();
+        var                                                       sink                  = Sinks.many().replay()
+                .<TracedDecision>latest();
+        Function<AuthorizationSubscription, Flux<TracedDecision>> decide                = subscription -> sink.asFlux()
+                .doOnSubscribe(s -> numberOfSubscriptions.incrementAndGet());
+        Function<AuthorizationSubscription, Flux<TracedDecision>> decideOneShot         = decide(
+                AuthorizationDecision.DENY);
+
+        var running = cache.share(SUBSCRIPTION, false, decide).subscribe();
+        sink.tryEmitNext(PDPDecision.of(SUBSCRIPTION, CombinedDecision.of(AuthorizationDecision.PERMIT, "test")));
+
+        StepVerifier.create(cache.joinOrDecide(SUBSCRIPTION, decideOneShot).next())
+                .expectNextMatches(decision -> decision.getAuthorizationDecision().equals(AuthorizationDecision.PERMIT))
+                .verifyComplete();
+        assertThat(numberOfEvaluations.get(), is(0));
+
+        running.dispose();
+
+        StepVerifier.create(cache.joinOrDecide(SUBSCRIPTION, decideOneShot).next())
+                .expectNextMatches(decision -> decision.getAuthorizationDecision().equals(AuthorizationDecision.DENY))
+                .verifyComplete();
+        assertThat(numberOfEvaluations.get(), is(1));
+        assertThat(numberOfSubscriptions.get(), is(1));
+    }
+
+    private Function<AuthorizationSubscription, Flux<TracedDecision>> decide(AuthorizationDecision decision,
+            SAPL... matchingDocuments) {
+        return subscription -> Flux.defer(() -> {
+            numberOfEvaluations.incrementAndGet();
+            return Flux.just(
+                    PDPDecision.of(subscription, CombinedDecision.of(decision, "test"), List.of(matchingDocuments)));
+        });
+    }
+
+}
@@ -17,11 +17,15 @@
  */
 package io.sapl.pdp;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.function.UnaryOperator;
@@ -39,7 +43,11 @@
 import io.sapl.api.pdp.MultiAuthorizationDecision;
 import io.sapl.api.pdp.MultiAuthorizationSubscription;
 import io.sapl.api.pdp.PolicyDecisionPoint;
+import io.sapl.api.pdp.TracedDecision;
+import io.sapl.api.pdp.TracedDecisionInterceptor;
 import io.sapl.grammar.sapl.CombiningAlgorithm;
+import io.sapl.interpreter.DefaultSAPLInterpreter;
+import io.sapl.interpreter.InitializationException;
 import io.sapl.interpreter.functions.AnnotationFunctionContext;
 import io.sapl.interpreter.functions.FunctionContext;
 import io.sapl.interpreter.pip.AnnotationAttributeContext;
@@ -48,10 +56,15 @@
 import io.sapl.pdp.config.PDPConfigurationProvider;
 import io.sapl.pdp.config.filesystem.FileSystemVariablesAndCombinatorSource;
 import io.sapl.pdp.config.fixed.FixedFunctionsAndAttributesPDPConfigurationProvider;
+import io.sapl.pdp.config.resources.ResourcesVariablesAndCombinatorSource;
 import io.sapl.pdp.interceptors.ReportingDecisionInterceptor;
+import io.sapl.prp.GenericInMemoryIndexedPolicyRetrievalPoint;
 import io.sapl.prp.PolicyRetrievalPoint;
 import io.sapl.prp.PolicyRetrievalResult;
+import io.sapl.prp.index.naive.NaiveImmutableParsedDocumentIndex;
+import io.sapl.prp.resources.ResourcesPrpUpdateEventSource;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
 class EmbeddedPolicyDecisionPointTests {
@@ -108,6 +121,93 @@ void decide_withAllowedAction_shouldReturnPermit() {
                 .verify();
     }
 
+    @Test
+    void decideOnce_withDecisionCache_shouldReturnSameDecisions() throws InitializationException {
+        var source      = new ResourcesVariablesAndCombinatorSource("/policies", new ObjectMapper());
+        var provider    = new FixedFunctionsAndAttributesPDPConfigurationProvider(new AnnotationAttributeContext(),
+                new AnnotationFunctionContext(), source, List.of(), List.of());
+        var prp         = new GenericInMemoryIndexedPolicyRetrievalPoint(new NaiveImmutableParsedDocumentIndex(),
+                new ResourcesPrpUpdateEventSource("/policies", new DefaultSAPLInterpreter()));
+        var embeddedPdp = new EmbeddedPolicyDecisionPoint(provider, prp,
+                new DecisionCacheConfiguration(true, 10L, Duration.ofMinutes(1L)));
+
+        var subscription = new AuthorizationSubscription(JSON.textNode("willi"), JSON.textNode("write"),
+                JSON.textNode("something"), JSON.nullNode());
+        for (var i = 0; i < 3; i++) {
+            StepVerifier.create(embeddedPdp.decideOnce(subscription))
+                    .expectNextMatches(authzDecision -> authzDecision.getDecision() == Decision.DENY).verifyComplete();
+        }
+        StepVerifier.create(embeddedPdp.decide(subscription))
+                .expectNextMatches(authzDecision -> authzDecision.getDecision() == Decision.DENY).thenCancel().verify();
+        embeddedPdp.destroy();
+    }
+
+    @Test
+    void decideOnce_withDecisionCache_shouldInvalidateOnNewPolicyGeneration() throws InitializationException {
+        var source      = new ResourcesVariablesAndCombinatorSource("/policies", new ObjectMapper());
+        var provider    = new FixedFunctionsAndAttributesPDPConfigurationProvider(new AnnotationAttributeContext(),
+                new AnnotationFunctionContext(), source, List.of(), List.of());
+        var generations = Sinks.many().replay().<Integer>latest();
+        var prpMock     = mock(PolicyRetrievalPoint.class);
+        when(prpMock.generations()).thenAnswer(invocation -> generations.asFlux());
+        when(prpMock.retrievePolicies()).thenAnswer(invocation -> Flux.just(new PolicyRetrievalResult()));
+        generations.tryEmitNext(0);
+        var embeddedPdp = new EmbeddedPolicyDecisionPoint(provider, prpMock,
+                new DecisionCacheConfiguration(true, 10L, Duration.ofMinutes(1L)));
+
+        var subscription = new AuthorizationSubscription(JSON.textNode("willi"), JSON.textNode("write"),
+                JSON.textNode("something"), JSON.nullNode());
+        embeddedPdp.decideOnce(subscription).block();
+        embeddedPdp.decideOnce(subscription).block();
+        verify(prpMock, times(1)).retrievePolicies();
+
+        generations.tryEmitNext(1);
+        embeddedPdp.decideOnce(subscription).block();
+        verify(prpMock, times(2)).retrievePolicies();
+        embeddedPdp.destroy();
+    }
+
+    @Test
+    void decide_withoutInterceptorRequiringTraces_shouldSkipTracesButNotForDecideTraced()
+            throws InitializationException {
+        var interceptedDecisions = new ArrayList<TracedDecision>();
+        var interceptor          = new TracedDecisionInterceptor() {
+                                     @Override
+                                     public TracedDecision apply(TracedDecision tracedDecision) {
+                                         interceptedDecisions.add(tracedDecision);
+                                         return tracedDecision;
+                                     }
+
+                                     @Override
+                                     public boolean requiresTrace() {
+                                         return false;
+                                     }
+                                 };
+        var source               = new ResourcesVariablesAndCombinatorSource("/policies", new ObjectMapper());
+        var provider             = new FixedFunctionsAndAttributesPDPConfigurationProvider(
+                new AnnotationAttributeContext(), new AnnotationFunctionContext(), source, List.of(),
+                List.of(interceptor));
+        var prp                  = new GenericInMemoryIndexedPolicyRetrievalPoint(
+                new NaiveImmutableParsedDocumentIndex(),
+                new ResourcesPrpUpdateEventSource("/policies", new DefaultSAPLInterpreter()));
+        var embeddedPdp          = new EmbeddedPolicyDecisionPoint(provider, prp);
+
+        var subscription = new AuthorizationSubscription(JSON.textNode("willi"), JSON.textNode("write"),
+                JSON.textNode("something"), JSON.nullNode());
+        StepVerifier.create(embeddedPdp.decide(subscription))
+                .expectNextMatches(authzDecision -> authzDecision.getDecision() == Decision.DENY).thenCancel().verify();
+        StepVerifier.create(embeddedPdp.decideTraced(subscription))
+                .expectNextMatches(
+                        tracedDecision -> tracedDecision.getAuthorizationDecision().getDecision() == Decision.DENY)
+                .thenCancel().verify();
+        embeddedPdp.destroy();
+
+        var untracedTarget = interceptedDecisions.get(0).getTrace().at("/combinedDecision/evaluatedPolicies/0/target");
+        var tracedTarget   = interceptedDecisions.get(1).getTrace().at("/combinedDecision/evaluatedPolicies/0/target");
+        assertThat(untracedTarget.has("trace"), is(false));
+        assertThat(tracedTarget.get("trace").get("operator").asText(), is("Equals"));
+    }
+
     @Test
     void decide_withInvalidPrpState_shouldReturnIntermediate() {
         var prpMock   = mock(PolicyRetrievalPoint.class);
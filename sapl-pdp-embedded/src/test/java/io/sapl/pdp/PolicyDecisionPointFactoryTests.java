@@ -24,8 +24,11 @@
 
 import org.junit.jupiter.api.Test;
 
+import io.sapl.api.pdp.AuthorizationSubscription;
+import io.sapl.api.pdp.Decision;
 import io.sapl.functions.FilterFunctionLibrary;
 import io.sapl.interpreter.InitializationException;
+import reactor.test.StepVerifier;
 
 class PolicyDecisionPointFactoryTests {
 
@@ -45,4 +48,14 @@ void test_factory_methods() throws InitializationException {
                 List::of, List::of), notNullValue());
     }
 
+    @Test
+    void when_indexIsSharded_then_decisionsAreUnchanged() throws InitializationException {
+        var pdp          = PolicyDecisionPointFactory.resourcesPolicyDecisionPoint("/policies",
+                () -> List.of(new TestPIP()), List::of, List::of, List::of, List.of(), List.of(), 4);
+        var subscription = AuthorizationSubscription.of("willi", "write", "something");
+        StepVerifier.create(pdp.decide(subscription))
+                .expectNextMatches(authzDecision -> authzDecision.getDecision() == Decision.DENY).thenCancel().verify();
+        pdp.destroy();
+    }
+
 }
@@ -23,11 +23,15 @@
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.times;
 
+import java.time.Duration;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
 import io.sapl.grammar.sapl.DenyOverridesCombiningAlgorithm;
 import io.sapl.grammar.sapl.PermitUnlessDenyCombiningAlgorithm;
+import io.sapl.interpreter.pip.AttributeFinderGuardSettings;
 import io.sapl.util.filemonitoring.FileCreatedEvent;
 import io.sapl.util.filemonitoring.FileDeletedEvent;
 import io.sapl.util.filemonitoring.FileMonitorUtil;
@@ -40,10 +44,15 @@ void loadExistingConfigTest() {
         var configProvider = new FileSystemVariablesAndCombinatorSource("src/test/resources/valid_config");
         var algo           = configProvider.getCombiningAlgorithm().blockFirst();
         var variables      = configProvider.getVariables().blockFirst();
+        var pips           = configProvider.getAttributeFinderGuardSettings().blockFirst();
+        var regexLimit     = configProvider.getRegexMatchingLimit().blockFirst();
         configProvider.destroy();
 
         assertThat(algo.get() instanceof PermitUnlessDenyCombiningAlgorithm, is(true));
         assertThat(variables.get().size(), is(2));
+        assertThat(pips, is(Map.of("http", new AttributeFinderGuardSettings(Duration.ofMillis(500L), 100, 5,
+                Duration.ofSeconds(10L), "The HTTP PIP is unavailable."))));
+        assertThat(regexLimit, is(1000L));
     }
 
     @Test
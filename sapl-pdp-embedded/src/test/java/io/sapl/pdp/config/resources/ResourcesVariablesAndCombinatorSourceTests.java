@@ -22,6 +22,9 @@
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 
+import java.time.Duration;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -29,6 +32,7 @@
 import io.sapl.grammar.sapl.DenyOverridesCombiningAlgorithm;
 import io.sapl.grammar.sapl.PermitUnlessDenyCombiningAlgorithm;
 import io.sapl.interpreter.InitializationException;
+import io.sapl.interpreter.pip.AttributeFinderGuardSettings;
 
 class ResourcesVariablesAndCombinatorSourceTests {
 
@@ -45,10 +49,15 @@ void ifExecutedDuringUnitTests_thenLoadConfigurationFileFromFileSystem() throws
         var configProvider = new ResourcesVariablesAndCombinatorSource("/valid_config");
         var algo           = configProvider.getCombiningAlgorithm().blockFirst();
         var variables      = configProvider.getVariables().blockFirst();
+        var pips           = configProvider.getAttributeFinderGuardSettings().blockFirst();
+        var regexLimit     = configProvider.getRegexMatchingLimit().blockFirst();
         configProvider.destroy();
 
         assertThat(algo.get() instanceof PermitUnlessDenyCombiningAlgorithm, is(true));
         assertThat(variables.get().size(), is(2));
+        assertThat(pips, is(Map.of("http", new AttributeFinderGuardSettings(Duration.ofMillis(500L), 100, 5,
+                Duration.ofSeconds(10L), "The HTTP PIP is unavailable."))));
+        assertThat(regexLimit, is(1000L));
     }
 
     @Test
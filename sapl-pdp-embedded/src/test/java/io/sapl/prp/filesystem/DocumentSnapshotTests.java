@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.prp.filesystem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.sapl.api.interpreter.PolicyEvaluationException;
+import io.sapl.api.pdp.AuthorizationDecision;
+import io.sapl.api.pdp.AuthorizationSubscription;
+import io.sapl.interpreter.DefaultSAPLInterpreter;
+import io.sapl.interpreter.SAPLInterpreter;
+import io.sapl.interpreter.context.AuthorizationContext;
+import io.sapl.interpreter.functions.AnnotationFunctionContext;
+import io.sapl.interpreter.pip.AnnotationAttributeContext;
+import io.sapl.interpreter.DocumentEvaluationResult;
+import reactor.test.StepVerifier;
+
+class DocumentSnapshotTests {
+
+    private static final String POLICY = """
+            policy "snapshot"
+            permit action == "read"
+            where
+              subject.age > 17;
+            """;
+
+    private static final String OTHER_POLICY = "policy \"other\" deny";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void when_snapshotIsReloaded_then_unchangedDocumentsAreNotParsedAgain() {
+        var file     = directory.resolve("snapshot.bin");
+        var snapshot = DocumentSnapshot.load(file);
+        snapshot.parse(POLICY, new DefaultSAPLInterpreter());
+        snapshot.save(List.of(POLICY));
+
+        var interpreter = spy(new DefaultSAPLInterpreter());
+        var restored    = DocumentSnapshot.load(file).parse(POLICY, interpreter);
+
+        verify(interpreter, times(0)).parse(anyString());
+        assertThat(restored.getPolicyElement().getSaplName()).isEqualTo("snapshot");
+        var subscription = AuthorizationSubscription.of(new Person(18), "read", "something");
+        var decision     = restored.evaluate().map(DocumentEvaluationResult::getAuthorizationDecision)
+                .contextWrite(ctx -> AuthorizationContext.setSubscriptionVariables(ctx, subscription))
+                .contextWrite(ctx -> AuthorizationContext.setAttributeContext(ctx, new AnnotationAttributeContext()))
+                .contextWrite(ctx -> AuthorizationContext.setFunctionContext(ctx, new AnnotationFunctionContext()));
+        StepVerifier.create(decision).expectNext(AuthorizationDecision.PERMIT).verifyComplete();
+    }
+
+    @Test
+    void when_documentIsNotInUseAnymore_then_itIsRemovedFromSnapshot() {
+        var file     = directory.resolve("snapshot.bin");
+        var snapshot = DocumentSnapshot.load(file);
+        snapshot.parse(POLICY, new DefaultSAPLInterpreter());
+        snapshot.parse(OTHER_POLICY, new DefaultSAPLInterpreter());
+        snapshot.save(List.of(POLICY, OTHER_POLICY));
+        snapshot.save(List.of(OTHER_POLICY));
+
+        var interpreter = spy(new DefaultSAPLInterpreter());
+        var restored    = DocumentSnapshot.load(file);
+        restored.parse(POLICY, interpreter);
+        restored.parse(OTHER_POLICY, interpreter);
+
+        verify(interpreter, times(1)).parse(POLICY);
+        verify(interpreter, times(0)).parse(OTHER_POLICY);
+    }
+
+    @Test
+    void when_snapshotIsCorrupted_then_itIsIgnored() throws IOException {
+        var file = directory.resolve("snapshot.bin");
+        Files.write(file, new byte[] { 0x53, 0x41, 0x50, 0x4C, 0x7F, 0x7F });
+
+        var interpreter = spy(new DefaultSAPLInterpreter());
+        var sapl        = DocumentSnapshot.load(file).parse(POLICY, interpreter);
+
+        verify(interpreter, times(1)).parse(POLICY);
+        assertThat(sapl.getPolicyElement().getSaplName()).isEqualTo("snapshot");
+    }
+
+    @Test
+    void when_snapshotIsTruncated_then_itIsIgnored() throws IOException {
+        var file     = directory.resolve("snapshot.bin");
+        var snapshot = DocumentSnapshot.load(file);
+        snapshot.parse(POLICY, new DefaultSAPLInterpreter());
+        snapshot.save(List.of(POLICY));
+        var content = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(content, content.length - 1));
+
+        var interpreter = spy(new DefaultSAPLInterpreter());
+        DocumentSnapshot.load(file).parse(POLICY, interpreter);
+
+        verify(interpreter, times(1)).parse(POLICY);
+    }
+
+    @Test
+    void when_snapshotContainsHugeLength_then_itIsIgnored() throws IOException {
+        var file     = directory.resolve("snapshot.bin");
+        var snapshot = DocumentSnapshot.load(file);
+        snapshot.parse(POLICY, new DefaultSAPLInterpreter());
+        snapshot.save(List.of(POLICY));
+        var content = ByteBuffer.wrap(Files.readAllBytes(file));
+        // magic, version length, version, number of documents, hash
+        var documentLengthPosition = 2 * Integer.BYTES + content.getInt(Integer.BYTES) + Integer.BYTES + 32;
+        content.putInt(documentLengthPosition, Integer.MAX_VALUE);
+        Files.write(file, content.array());
+
+        var interpreter = spy(new DefaultSAPLInterpreter());
+        DocumentSnapshot.load(file).parse(POLICY, interpreter);
+
+        verify(interpreter, times(1)).parse(POLICY);
+    }
+
+    @Test
+    void when_documentIsInvalid_then_throwAndDoNotStoreIt() {
+        var file     = directory.resolve("snapshot.bin");
+        var snapshot = DocumentSnapshot.load(file);
+        var invalid  = "policy \"invalid\" permit where";
+        var parser   = new DefaultSAPLInterpreter();
+
+        assertThatThrownBy(() -> snapshot.parse(invalid, parser)).isInstanceOf(PolicyEvaluationException.class);
+        snapshot.save(List.of());
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    void when_disabled_then_documentsAreAlwaysParsed() {
+        SAPLInterpreter interpreter = spy(new DefaultSAPLInterpreter());
+        DocumentSnapshot.disabled().parse(POLICY, interpreter);
+        DocumentSnapshot.disabled().save(List.of(POLICY));
+        DocumentSnapshot.disabled().parse(POLICY, interpreter);
+
+        verify(interpreter, times(2)).parse(POLICY);
+    }
+
+    record Person(int age) {
+    }
+
+}
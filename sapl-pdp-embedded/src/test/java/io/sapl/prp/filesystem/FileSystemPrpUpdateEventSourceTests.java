@@ -17,24 +17,36 @@
  */
 package io.sapl.prp.filesystem;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedConstruction;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.mockito.verification.VerificationMode;
 
 import io.sapl.interpreter.DefaultSAPLInterpreter;
 import io.sapl.prp.PrpUpdateEvent;
 import io.sapl.util.filemonitoring.FileCreatedEvent;
 import io.sapl.util.filemonitoring.FileDeletedEvent;
+import io.sapl.util.filemonitoring.FileEvent;
 import io.sapl.util.filemonitoring.FileMonitorUtil;
 import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
@@ -43,8 +55,114 @@ class FileSystemPrpUpdateEventSourceTests {
 
     @Test
     void testProcessFileEvent() {
+        var source = new FileSystemPrpUpdateEventSource("src/test/resources/it/empty", new DefaultSAPLInterpreter(),
+                Duration.ZERO);
+        // initial event and one event per file event
+        assertUpdateEventCount(source, 3L, times(2));
+    }
+
+    @Test
+    void when_fileEventsOccurWithinQuietPeriod_then_theyArePublishedAsOneUpdate() {
         var source = new FileSystemPrpUpdateEventSource("src/test/resources/it/empty", new DefaultSAPLInterpreter());
+        // initial event and one event for the batch
+        assertUpdateEventCount(source, 2L, times(1));
+    }
+
+    @Test
+    void when_quietPeriodIsNegative_then_throw() {
+        var interpreter = new DefaultSAPLInterpreter();
+        var quietPeriod = Duration.ofMillis(-1L);
+        assertThrows(IllegalArgumentException.class,
+                () -> new FileSystemPrpUpdateEventSource("src/test/resources/it/empty", interpreter, quietPeriod));
+    }
+
+    @Test
+    void when_maxWaitIsNotPositive_then_throw() {
+        var interpreter = new DefaultSAPLInterpreter();
+        var quietPeriod = Duration.ofMillis(250L);
+        var snapshot    = DocumentSnapshot.disabled();
+        assertThrows(IllegalArgumentException.class,
+                () -> new FileSystemPrpUpdateEventSource("src/test/resources/it/empty", interpreter, quietPeriod,
+                        Duration.ZERO, 10, snapshot));
+    }
+
+    @Test
+    void when_maxBatchSizeIsNotPositive_then_throw() {
+        var interpreter = new DefaultSAPLInterpreter();
+        var quietPeriod = Duration.ofMillis(250L);
+        var maxWait     = Duration.ofSeconds(1L);
+        var snapshot    = DocumentSnapshot.disabled();
+        assertThrows(IllegalArgumentException.class,
+                () -> new FileSystemPrpUpdateEventSource("src/test/resources/it/empty", interpreter, quietPeriod,
+                        maxWait, 0, snapshot));
+    }
+
+    @Test
+    void when_parsingParallelismIsNotPositive_then_throw() {
+        var interpreter = new DefaultSAPLInterpreter();
+        var quietPeriod = Duration.ofMillis(250L);
+        var maxWait     = Duration.ofSeconds(1L);
+        var snapshot    = DocumentSnapshot.disabled();
+        assertThrows(IllegalArgumentException.class,
+                () -> new FileSystemPrpUpdateEventSource("src/test/resources/it/empty", interpreter, quietPeriod,
+                        maxWait, 10, 0, snapshot));
+    }
+
+    @Test
+    void when_filesAreWrittenContinuously_then_updatesArePublishedAfterMaxWait() {
+        // a file event every 70 ms never leaves a quiet period of 250 ms
+        var source  = new FileSystemPrpUpdateEventSource("src/test/resources/it/empty", new DefaultSAPLInterpreter(),
+                Duration.ofMillis(250L), Duration.ofSeconds(1L), FileSystemPrpUpdateEventSource.DEFAULT_MAX_BATCH_SIZE,
+                DocumentSnapshot.disabled());
+        var batches = continuouslyWrittenBatches(source, Duration.ofMillis(70L), Duration.ofSeconds(3L), 3L);
+
+        assertThat(batches, hasSize(3));
+        assertThat(batches, everyItem(greaterThanOrEqualTo(13)));
+    }
+
+    @Test
+    void when_filesAreWrittenContinuously_then_batchesAreLimitedToMaxBatchSize() {
+        var source  = new FileSystemPrpUpdateEventSource("src/test/resources/it/empty", new DefaultSAPLInterpreter(),
+                Duration.ofMillis(250L), Duration.ofSeconds(10L), 3, DocumentSnapshot.disabled());
+        var batches = continuouslyWrittenBatches(source, Duration.ofMillis(10L), Duration.ofMillis(100L), 3L);
+
+        assertThat(batches, everyItem(is(3)));
+        assertThat(batches, hasSize(3));
+    }
+
+    /*
+     * Returns the sizes of the batches of file events applied to the index while
+     * files are written at the given interval for the given duration.
+     */
+    private List<Integer> continuouslyWrittenBatches(FileSystemPrpUpdateEventSource source, Duration interval,
+            Duration duration, long expectedUpdates) {
+        var file = mock(File.class);
+        when(file.getAbsolutePath()).thenReturn("/file.sapl");
+        var batchSizes = new ArrayList<Integer>();
+
+        try (MockedConstruction<ImmutableFileIndex> mocked = Mockito.mockConstruction(ImmutableFileIndex.class,
+                (mock, context) -> {
+                    when(mock.afterFileEvents(any())).thenAnswer(invocation -> {
+                        List<FileEvent> batch = invocation.getArgument(0);
+                        batchSizes.add(batch.size());
+                        return mock;
+                    });
+                    when(mock.getUpdateEvent()).thenReturn(new PrpUpdateEvent(Collections.emptyList()));
+                })) {
+
+            try (MockedStatic<FileMonitorUtil> mock = mockStatic(FileMonitorUtil.class)) {
+                mock.when(() -> FileMonitorUtil.monitorDirectory(any(), any()))
+                        .thenAnswer(invocation -> Flux.interval(interval).map(i -> new FileCreatedEvent(file)));
+
+                StepVerifier.withVirtualTime(source::getUpdates).expectNextCount(1L).thenAwait(duration.plusMillis(1L))
+                        .expectNextCount(expectedUpdates).thenCancel().verify(Duration.ofSeconds(5L));
+            }
+        }
+        return batchSizes;
+    }
 
+    private void assertUpdateEventCount(FileSystemPrpUpdateEventSource source, long expectedEvents,
+            VerificationMode expectedIndexUpdates) {
         var file1 = mock(File.class);
         when(file1.getAbsolutePath()).thenReturn("/file1.sapl");
         var file2 = mock(File.class);
@@ -52,7 +170,7 @@ void testProcessFileEvent() {
 
         try (MockedConstruction<ImmutableFileIndex> mocked = Mockito.mockConstruction(ImmutableFileIndex.class,
                 (mock, context) -> {
-                    when(mock.afterFileEvent(any())).thenReturn(mock);
+                    when(mock.afterFileEvents(any())).thenReturn(mock);
                     when(mock.getUpdateEvent()).thenReturn(new PrpUpdateEvent(Collections.emptyList()));
                 })) {
 
@@ -61,9 +179,10 @@ void testProcessFileEvent() {
                         .thenReturn(Flux.just(new FileCreatedEvent(file1), new FileDeletedEvent(file2)));
 
                 var updates = source.getUpdates();
-                StepVerifier.create(updates).expectNextCount(2L).thenCancel().verify();
+                StepVerifier.create(updates).expectNextCount(expectedEvents).verifyComplete();
 
                 mock.verify(() -> FileMonitorUtil.monitorDirectory(any(), any()), times(1));
+                verify(mocked.constructed().get(0), expectedIndexUpdates).afterFileEvents(any());
             }
         }
 
@@ -22,8 +22,11 @@
 import static org.hamcrest.Matchers.arrayContaining;
 import static org.hamcrest.Matchers.arrayContainingInAnyOrder;
 import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.emptyArray;
+import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -35,9 +38,12 @@
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.MockedStatic;
 
 import com.spotify.hamcrest.pojo.IsPojo;
@@ -52,6 +58,7 @@
 import io.sapl.util.filemonitoring.FileChangedEvent;
 import io.sapl.util.filemonitoring.FileCreatedEvent;
 import io.sapl.util.filemonitoring.FileDeletedEvent;
+import io.sapl.util.filemonitoring.FileMonitorUtil;
 
 class ImmutableFileIndexTests {
 
@@ -447,6 +454,109 @@ void when_initializingWithEmptyDirectory_and_tryUnloadingNonExisting_then_nothin
         }
     }
 
+    @Test
+    void when_batchCreatesAndDeletesDocument_then_noUpdates() {
+        try (MockedStatic<Files> mockedFiles = mockStatic(Files.class)) {
+            var mockDirectoryStream = mock(DirectoryStream.class);
+            when(mockDirectoryStream.iterator()).thenReturn(List.of().iterator());
+            mockedFiles.when(() -> Files.newDirectoryStream(any(Path.class), any(String.class)))
+                    .thenReturn(mockDirectoryStream);
+
+            var mockInterpreter = mock(SAPLInterpreter.class);
+            var mockFile        = mockPolicyFile(POLICY_1, SAPL_1, POLICY_1_NAME, mockedFiles, mockInterpreter);
+            var created         = mock(FileCreatedEvent.class);
+            when(created.file()).thenReturn(mockFile);
+            var changed = mock(FileChangedEvent.class);
+            when(changed.file()).thenReturn(mockFile);
+            var deleted = mock(FileDeletedEvent.class);
+            when(deleted.file()).thenReturn(mockFile);
+
+            var sut = new ImmutableFileIndex(PATH, mockInterpreter);
+            sut = sut.afterFileEvents(List.of(created, changed, deleted));
+
+            assertThat(sut.getUpdateEvent().getUpdates(), emptyArray());
+        }
+    }
+
+    @Test
+    void when_batchResolvesNameCollisionItCreated_then_noInconsistentUpdateIsPublished() {
+        try (MockedStatic<Files> mockedFiles = mockStatic(Files.class)) {
+            var mockDirectoryStream = mock(DirectoryStream.class);
+            when(mockDirectoryStream.iterator()).thenReturn(List.of().iterator());
+            mockedFiles.when(() -> Files.newDirectoryStream(any(Path.class), any(String.class)))
+                    .thenReturn(mockDirectoryStream);
+
+            var mockInterpreter = mock(SAPLInterpreter.class);
+            var mockFile1       = mockPolicyFile(POLICY_1, SAPL_1, POLICY_1_NAME, mockedFiles, mockInterpreter);
+            var mockFile2       = mockPolicyFile(POLICY_1, SAPL_1, "alternatePath", mockedFiles, mockInterpreter);
+            var mockFile3       = mockPolicyFile(POLICY_2, SAPL_2, POLICY_2_NAME, mockedFiles, mockInterpreter);
+            var created1        = mock(FileCreatedEvent.class);
+            when(created1.file()).thenReturn(mockFile1);
+            var created2 = mock(FileCreatedEvent.class);
+            when(created2.file()).thenReturn(mockFile2);
+            var created3 = mock(FileCreatedEvent.class);
+            when(created3.file()).thenReturn(mockFile3);
+            var deleted2 = mock(FileDeletedEvent.class);
+            when(deleted2.file()).thenReturn(mockFile2);
+
+            var sut = new ImmutableFileIndex(PATH, mockInterpreter);
+            sut = sut.afterFileEvents(List.of(created1, created2, created3, deleted2));
+
+            assertThat(sut.isConsistent(), is(true));
+            // @formatter:off
+			assertThat(sut.getUpdateEvent().getUpdates(),
+					arrayContaining(
+							isUpdateWithName(PrpUpdateEvent.Type.PUBLISH, POLICY_1_NAME),
+							isUpdateWithName(PrpUpdateEvent.Type.PUBLISH, POLICY_2_NAME)
+					));
+			// @formatter:on
+        }
+    }
+
+    @Test
+    void when_initializingWithManyDocuments_then_theyAreParsedInParallelAndCollisionsAreDetectedInOrder(
+            @TempDir Path directory) throws IOException {
+        var numberOfDocuments = ImmutableFileIndex.PARALLEL_PARSING_THRESHOLD * 4;
+        for (var i = 0; i < numberOfDocuments; i++) {
+            Files.writeString(directory.resolve("policy" + i + ".sapl"), "policy \"policy" + i + "\" permit");
+        }
+        Files.writeString(directory.resolve("collision.sapl"), "policy \"policy0\" deny");
+
+        var sut       = new ImmutableFileIndex(directory.toString(), INTERPRETER);
+        var published = Arrays.stream(sut.getUpdateEvent().getUpdates())
+                .filter(update -> update.getType() == PrpUpdateEvent.Type.PUBLISH).toList();
+        var firstPath = FileMonitorUtil.findSaplDocuments(directory).stream()
+                .filter(path -> path.getFileName().toString().matches("collision.sapl|policy0.sapl")).findFirst()
+                .orElseThrow();
+        var winner    = sut.documentsByPath.get(firstPath.toAbsolutePath().toString());
+
+        assertThat(published.size(), is(numberOfDocuments));
+        assertThat(sut.isConsistent(), is(false));
+        assertThat(winner.isPublished(), is(true));
+    }
+
+    @Test
+    void when_parsingInParallel_then_theCommonPoolIsNotUsed(@TempDir Path directory) throws IOException {
+        var numberOfDocuments = ImmutableFileIndex.PARALLEL_PARSING_THRESHOLD * 2;
+        for (var i = 0; i < numberOfDocuments; i++) {
+            Files.writeString(directory.resolve("policy" + i + ".sapl"), "policy \"policy" + i + "\" permit");
+        }
+        var parsingThreads = ConcurrentHashMap.<String>newKeySet();
+        var interpreter    = new DefaultSAPLInterpreter() {
+                               @Override
+                               public SAPL parse(String saplDefinition) {
+                                   parsingThreads.add(Thread.currentThread().getName());
+                                   return super.parse(saplDefinition);
+                               }
+                           };
+
+        var sut = new ImmutableFileIndex(directory.toString(), interpreter, DocumentSnapshot.disabled(), 2);
+
+        assertThat(sut.isConsistent(), is(true));
+        assertThat(parsingThreads.isEmpty(), is(false));
+        assertThat(parsingThreads, everyItem(not(containsString("commonPool"))));
+    }
+
     private File mockPolicyFile(String document, SAPL sapl, String path, MockedStatic<Files> mockedFiles,
             SAPLInterpreter mockInterpreter) {
         var mockPath = mock(Path.class);
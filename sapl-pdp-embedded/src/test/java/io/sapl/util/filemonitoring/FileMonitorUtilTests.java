@@ -18,6 +18,7 @@
 package io.sapl.util.filemonitoring;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.doThrow;
@@ -25,13 +26,20 @@
 import static org.mockito.Mockito.verify;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
 
 import org.apache.commons.io.monitor.FileAlterationMonitor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.MockedConstruction;
 import org.mockito.Mockito;
 
+import lombok.SneakyThrows;
 import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
@@ -83,4 +91,106 @@ void throw_exception_in_monitor_start() throws Exception {
         }
     }
 
+    @Test
+    void when_filesAreCreatedChangedAndDeleted_then_eventsAreEmittedPromptly(@TempDir Path directory)
+            throws IOException {
+        var file = directory.resolve("policy.sapl");
+        StepVerifier.create(FileMonitorUtil.monitorDirectory(directory.toString(), __ -> true))
+                .then(() -> write(file, "created"))
+                .expectNextMatches(event -> event instanceof FileCreatedEvent && event.file().equals(file.toFile()))
+                .then(() -> write(file, "changed content"))
+                .expectNextMatches(event -> event instanceof FileChangedEvent && event.file().equals(file.toFile()))
+                .then(() -> delete(file))
+                // writing may be reported by more than one change
+                .thenConsumeWhile(FileChangedEvent.class::isInstance)
+                .expectNextMatches(event -> event instanceof FileDeletedEvent && event.file().equals(file.toFile()))
+                .thenCancel().verify();
+    }
+
+    @Test
+    void when_subDirectoryIsCreated_then_itsFilesAreMonitored(@TempDir Path directory) throws IOException {
+        var subDirectory = directory.resolve("sub");
+        var file         = subDirectory.resolve("policy.sapl");
+        StepVerifier.create(FileMonitorUtil.monitorDirectory(directory.toString(), __ -> true))
+                .then(() -> createDirectory(subDirectory)).then(() -> write(file, "created"))
+                .expectNextMatches(event -> event instanceof FileCreatedEvent && event.file().equals(file.toFile()))
+                .then(() -> delete(file)).thenConsumeWhile(FileChangedEvent.class::isInstance)
+                .expectNextMatches(event -> event instanceof FileDeletedEvent && event.file().equals(file.toFile()))
+                .thenCancel().verify();
+    }
+
+    @Test
+    void when_filterRejectsFilesAndDirectories_then_noEventsForThem(@TempDir Path directory) throws IOException {
+        var subDirectory = Files.createDirectory(directory.resolve("sub"));
+        var config       = directory.resolve("pdp.json");
+        // writing may be reported by an additional change
+        var created = FileMonitorUtil.monitorDirectory(directory.toString(), file -> "pdp.json".equals(file.getName()))
+                .filter(event -> !(event instanceof FileChangedEvent));
+        StepVerifier.create(created).then(() -> write(directory.resolve("ignored.txt"), "ignored"))
+                .then(() -> write(subDirectory.resolve("pdp.json"), "ignored")).then(() -> write(config, "{}"))
+                .expectNextMatches(event -> event instanceof FileCreatedEvent && event.file().equals(config.toFile()))
+                .expectNoEvent(Duration.ofMillis(200L)).thenCancel().verify();
+    }
+
+    @Test
+    void when_configMapIsSwapped_then_linkedFileIsChanged(@TempDir Path directory) throws IOException {
+        var policy = mountConfigMap(directory);
+        StepVerifier.create(FileMonitorUtil.monitorDirectory(directory.toString(), __ -> true))
+                .then(() -> swapConfigMap(directory))
+                .expectNextMatches(event -> event instanceof FileChangedEvent && event.file().equals(policy.toFile()))
+                .expectNoEvent(Duration.ofMillis(200L)).thenCancel().verify();
+    }
+
+    @Test
+    void when_configMapIsMounted_then_onlyLinkedDocumentsAreFound(@TempDir Path directory) throws IOException {
+        var policy = mountConfigMap(directory);
+        assertThat(FileMonitorUtil.findSaplDocuments(directory), contains(policy));
+    }
+
+    @Test
+    void when_directoryIsSymbolicLink_then_itsFilesAreMonitored(@TempDir Path directory, @TempDir Path target)
+            throws IOException {
+        var link = Files.createSymbolicLink(directory.resolve("linked"), target);
+        var file = link.resolve("policy.sapl");
+        StepVerifier.create(FileMonitorUtil.monitorDirectory(directory.toString(), __ -> true))
+                .then(() -> write(target.resolve("policy.sapl"), "created"))
+                .expectNextMatches(event -> event instanceof FileCreatedEvent && event.file().equals(file.toFile()))
+                .thenCancel().verify();
+    }
+
+    /*
+     * Mimics the layout of a Kubernetes ConfigMap volume.
+     */
+    private static Path mountConfigMap(Path directory) throws IOException {
+        write(Files.createDirectory(directory.resolve("..v1")).resolve("policy.sapl"), "v1");
+        Files.createSymbolicLink(directory.resolve("..data"), Path.of("..v1"));
+        return Files.createSymbolicLink(directory.resolve("policy.sapl"), Path.of("..data", "policy.sapl"));
+    }
+
+    @SneakyThrows
+    private static void swapConfigMap(Path directory) {
+        write(Files.createDirectory(directory.resolve("..v2")).resolve("policy.sapl"), "version 2");
+        var newData = Files.createSymbolicLink(directory.resolve("..data_tmp"), Path.of("..v2"));
+        Files.move(newData, directory.resolve("..data"), StandardCopyOption.ATOMIC_MOVE);
+        delete(directory.resolve("..v1").resolve("policy.sapl"));
+        delete(directory.resolve("..v1"));
+    }
+
+    @SneakyThrows
+    private static void write(Path file, String content) {
+        Files.writeString(file, content);
+    }
+
+    @SneakyThrows
+    private static void delete(Path file) {
+        Files.delete(file);
+    }
+
+    @SneakyThrows
+    private static void createDirectory(Path directory) {
+        Files.createDirectory(directory);
+        // give the monitor the chance to register the directory before files appear
+        Thread.sleep(50L);
+    }
+
 }
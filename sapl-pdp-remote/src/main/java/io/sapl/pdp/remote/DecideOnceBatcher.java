@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.pdp.remote;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import io.sapl.api.pdp.AuthorizationDecision;
+import io.sapl.api.pdp.AuthorizationSubscription;
+import io.sapl.api.pdp.IdentifiableAuthorizationDecision;
+import io.sapl.api.pdp.IdentifiableAuthorizationSubscription;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Coalesces concurrent one-shot decisions into batches. A batch is sent as soon
+ * as it contains {@code maxBatchSize} subscriptions or {@code maxDelay} has
+ * passed since its first subscription, whichever comes first. Each batch is one
+ * stream of identifiable subscriptions sent by the {@code transport}, and the
+ * decisions returned are routed back to their callers by ID. At most
+ * {@link #MAX_CONCURRENT_BATCHES} batches are in flight at a time, further
+ * subscriptions wait until a batch returns.
+ */
+@Slf4j
+final class DecideOnceBatcher {
+
+    static final String NO_DECISION_ERROR = "The remote PDP returned no decision for the authorization subscription.";
+    static final String DISPOSED_ERROR    = "The remote PDP client has been disposed.";
+
+    static final int MAX_CONCURRENT_BATCHES = 16;
+
+    private final AtomicLong nextId = new AtomicLong();
+
+    private final Sinks.Many<PendingDecision> pendingDecisions = Sinks.many().unicast().onBackpressureBuffer();
+
+    private final Disposable batching;
+
+    private record PendingDecision(String id, AuthorizationSubscription subscription,
+            Sinks.One<AuthorizationDecision> decision) {
+    }
+
+    DecideOnceBatcher(int maxBatchSize, Duration maxDelay,
+            Function<Flux<IdentifiableAuthorizationSubscription>, Flux<IdentifiableAuthorizationDecision>> transport) {
+        // fair backpressure makes the buffer wait for a free batch slot instead of
+        // failing with an overflow when all slots are in flight
+        batching = pendingDecisions.asFlux().bufferTimeout(maxBatchSize, maxDelay, true)
+                .flatMap(batch -> sendBatch(batch, transport), MAX_CONCURRENT_BATCHES)
+                .doOnDiscard(PendingDecision.class,
+                        pending -> pending.decision().tryEmitError(new IllegalStateException(DISPOSED_ERROR)))
+                .subscribe();
+    }
+
+    Mono<AuthorizationDecision> decideOnce(AuthorizationSubscription authzSubscription) {
+        return Mono.defer(() -> {
+            var pending = new PendingDecision(Long.toString(nextId.getAndIncrement()), authzSubscription, Sinks.one());
+            var result  = pendingDecisions.tryEmitNext(pending);
+            while (result == Sinks.EmitResult.FAIL_NON_SERIALIZED) {
+                Thread.onSpinWait();
+                result = pendingDecisions.tryEmitNext(pending);
+            }
+            if (result.isFailure())
+                return Mono.error(new IllegalStateException(DISPOSED_ERROR));
+            return pending.decision().asMono();
+        });
+    }
+
+    /**
+     * Stops batching. Subscriptions not yet answered fail and later one-shot
+     * decisions are rejected.
+     */
+    void dispose() {
+        batching.dispose();
+    }
+
+    private Mono<Void> sendBatch(List<PendingDecision> batch,
+            Function<Flux<IdentifiableAuthorizationSubscription>, Flux<IdentifiableAuthorizationDecision>> transport) {
+        var pendingById = new HashMap<String, PendingDecision>(batch.size() * 2);
+        for (var pending : batch) {
+            pendingById.put(pending.id(), pending);
+        }
+        var subscriptions = Flux.fromIterable(batch)
+                .map(pending -> new IdentifiableAuthorizationSubscription(pending.id(), pending.subscription()));
+        return transport.apply(subscriptions).doOnNext(decision -> {
+            var pending = pendingById.get(decision.getAuthorizationSubscriptionId());
+            if (pending != null)
+                pending.decision().tryEmitValue(decision.getAuthorizationDecision());
+        }).then().doOnError(error -> {
+            log.error("Error : {}", error.getMessage());
+            batch.forEach(pending -> pending.decision().tryEmitError(error));
+        }).onErrorResume(error -> Mono.empty()).doFinally(signal -> batch
+                .forEach(pending -> pending.decision().tryEmitError(new IllegalStateException(NO_DECISION_ERROR))));
+    }
+
+}
@@ -40,6 +40,7 @@
 import io.sapl.api.pdp.AuthorizationDecision;
 import io.sapl.api.pdp.AuthorizationSubscription;
 import io.sapl.api.pdp.IdentifiableAuthorizationDecision;
+import io.sapl.api.pdp.IdentifiableAuthorizationSubscription;
 import io.sapl.api.pdp.MultiAuthorizationDecision;
 import io.sapl.api.pdp.MultiAuthorizationSubscription;
 import io.sapl.api.pdp.PolicyDecisionPoint;
@@ -61,12 +62,23 @@ public class RemoteHttpPolicyDecisionPoint implements PolicyDecisionPoint {
 
     private static final String DECIDE_ONCE = "/api/pdp/decide-once";
 
+    private static final String DECIDE_ONCE_BATCH = "/api/pdp/decide-once-batch";
+
     private static final String MULTI_DECIDE = "/api/pdp/multi-decide";
 
     private static final String MULTI_DECIDE_ALL = "/api/pdp/multi-decide-all";
 
+    private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private static final MediaType APPLICATION_STREAM_SMILE = MediaType
+            .parseMediaType("application/stream+x-jackson-smile");
+
     private final WebClient client;
 
+    private final DecideOnceBatcher batcher;
+
+    private final boolean smile;
+
     @Setter
     @Getter
     private int firstBackoffMillis = 500;
@@ -88,12 +100,20 @@ public RemoteHttpPolicyDecisionPoint(String baseUrl, String clientKey, String cl
     }
 
     public RemoteHttpPolicyDecisionPoint(String baseUrl, String clientKey, String clientSecret, HttpClient httpClient) {
-        client = WebClient.builder().clientConnector(new ReactorClientHttpConnector(httpClient)).baseUrl(baseUrl)
+        client  = WebClient.builder().clientConnector(new ReactorClientHttpConnector(httpClient)).baseUrl(baseUrl)
                 .defaultHeaders(header -> header.setBasicAuth(clientKey, clientSecret)).build();
+        batcher = null;
+        smile   = false;
     }
 
-    private RemoteHttpPolicyDecisionPoint(WebClient client) {
+    private RemoteHttpPolicyDecisionPoint(WebClient client, int maxBatchSize, Duration maxBatchDelay,
+            boolean smile) {
         this.client = client;
+        this.smile  = smile;
+        if (maxBatchSize > 1)
+            batcher = new DecideOnceBatcher(maxBatchSize, maxBatchDelay, this::decideOnceBatch);
+        else
+            batcher = null;
     }
 
     private Repeat<?> repeat() {
@@ -107,25 +127,37 @@ private Repeat<?> repeat() {
     public Flux<AuthorizationDecision> decide(AuthorizationSubscription authzSubscription) {
         var type = new ParameterizedTypeReference<ServerSentEvent<AuthorizationDecision>>() {
         };
-        return decide(DECIDE, type, authzSubscription)
+        return decide(DECIDE, type, AuthorizationDecision.class, authzSubscription)
                 .onErrorResume(error -> Flux.just(AuthorizationDecision.INDETERMINATE)).repeatWhen(repeat())
                 .distinctUntilChanged();
     }
 
     @Override
     public Mono<AuthorizationDecision> decideOnce(AuthorizationSubscription authzSubscription) {
-        var type = new ParameterizedTypeReference<AuthorizationDecision>() {
+        if (batcher != null)
+            return batcher.decideOnce(authzSubscription);
+
+        var type      = new ParameterizedTypeReference<AuthorizationDecision>() {
         };
-        return client.post().uri(DECIDE_ONCE).accept(MediaType.APPLICATION_JSON).contentType(MediaType.APPLICATION_JSON)
-                .bodyValue(authzSubscription).retrieve().bodyToMono(type)
+        var mediaType = smile ? APPLICATION_SMILE : MediaType.APPLICATION_JSON;
+        return client.post().uri(DECIDE_ONCE).accept(mediaType).contentType(mediaType).bodyValue(authzSubscription)
+                .retrieve().bodyToMono(type)
                 .doOnError(error -> log.error("Error : {}", error.getMessage()));
     }
 
+    private Flux<IdentifiableAuthorizationDecision> decideOnceBatch(
+            Flux<IdentifiableAuthorizationSubscription> authzSubscriptions) {
+        var mediaType = smile ? APPLICATION_STREAM_SMILE : MediaType.APPLICATION_NDJSON;
+        return client.post().uri(DECIDE_ONCE_BATCH).accept(mediaType).contentType(mediaType)
+                .body(authzSubscriptions, IdentifiableAuthorizationSubscription.class).retrieve()
+                .bodyToFlux(IdentifiableAuthorizationDecision.class);
+    }
+
     @Override
     public Flux<IdentifiableAuthorizationDecision> decide(MultiAuthorizationSubscription multiAuthzSubscription) {
         var type = new ParameterizedTypeReference<ServerSentEvent<IdentifiableAuthorizationDecision>>() {
         };
-        return decide(MULTI_DECIDE, type, multiAuthzSubscription)
+        return decide(MULTI_DECIDE, type, IdentifiableAuthorizationDecision.class, multiAuthzSubscription)
                 .onErrorResume(error -> Flux.just(IdentifiableAuthorizationDecision.INDETERMINATE)).repeatWhen(repeat())
                 .distinctUntilChanged();
     }
@@ -134,27 +166,44 @@ public Flux<IdentifiableAuthorizationDecision> decide(MultiAuthorizationSubscrip
     public Flux<MultiAuthorizationDecision> decideAll(MultiAuthorizationSubscription multiAuthzSubscription) {
         var type = new ParameterizedTypeReference<ServerSentEvent<MultiAuthorizationDecision>>() {
         };
-        return decide(MULTI_DECIDE_ALL, type, multiAuthzSubscription)
+        return decide(MULTI_DECIDE_ALL, type, MultiAuthorizationDecision.class, multiAuthzSubscription)
                 .onErrorResume(error -> Flux.just(MultiAuthorizationDecision.indeterminate())).repeatWhen(repeat())
                 .distinctUntilChanged();
     }
 
     private <T> Flux<T> decide(String path, ParameterizedTypeReference<ServerSentEvent<T>> type,
-            Object authzSubscription) {
+            Class<T> decisionType, Object authzSubscription) {
+        if (smile) {
+            // Smile encoded decision streams are not framed as server-sent events
+            return client.post().uri(path).accept(APPLICATION_STREAM_SMILE).contentType(APPLICATION_SMILE)
+                    .bodyValue(authzSubscription).retrieve().bodyToFlux(decisionType)
+                    .doOnError(error -> log.error("Error : {}", error.getMessage()));
+        }
         return client.post().uri(path).accept(MediaType.APPLICATION_NDJSON).contentType(MediaType.APPLICATION_JSON)
                 .bodyValue(authzSubscription).retrieve().bodyToFlux(type).mapNotNull(ServerSentEvent::data)
                 .doOnError(error -> log.error("Error : {}", error.getMessage()));
     }
 
+    /**
+     * Stops the batching of one-shot decisions, if enabled.
+     */
+    public void dispose() {
+        if (batcher != null)
+            batcher.dispose();
+    }
+
     public static RemoteHttpPolicyDecisionPointBuilder builder() {
         return new RemoteHttpPolicyDecisionPointBuilder();
     }
 
     @NoArgsConstructor
     public static class RemoteHttpPolicyDecisionPointBuilder {
-        private String                                         baseUrl    = "https://localhost:8443";
-        private HttpClient                                     httpClient = HttpClient.create();
+        private String                                         baseUrl       = "https://localhost:8443";
+        private HttpClient                                     httpClient    = HttpClient.create();
         private Function<WebClient.Builder, WebClient.Builder> authenticationCustomizer;
+        private int                                            maxBatchSize  = 0;
+        private Duration                                       maxBatchDelay = Duration.ZERO;
+        private boolean                                        smile         = false;
 
         public RemoteHttpPolicyDecisionPointBuilder withUnsecureSSL() throws SSLException {
             log.warn("------------------------------------------------------------------");
@@ -225,6 +274,40 @@ public RemoteHttpPolicyDecisionPointBuilder oauth2(
             return this;
         }
 
+        /**
+         * Coalesces concurrent calls of
+         * {@link RemoteHttpPolicyDecisionPoint#decideOnce(AuthorizationSubscription)}
+         * into batches which are sent to the decide-once-batch endpoint of the server
+         * in one request each. This requires a server providing this endpoint.
+         *
+         * @param maxBatchSize  the maximal number of subscriptions in one batch
+         * @param maxBatchDelay the maximal time a subscription waits for the batch to
+         *                      fill up
+         * @return the builder
+         */
+        public RemoteHttpPolicyDecisionPointBuilder batchDecideOnce(int maxBatchSize, Duration maxBatchDelay) {
+            if (maxBatchSize < 2)
+                throw new IllegalArgumentException("The maximal batch size must be at least 2.");
+            if (maxBatchDelay.isNegative() || maxBatchDelay.isZero())
+                throw new IllegalArgumentException("The maximal batch delay must be positive.");
+            this.maxBatchSize  = maxBatchSize;
+            this.maxBatchDelay = maxBatchDelay;
+            return this;
+        }
+
+        /**
+         * Encodes subscriptions and decisions in the binary Smile format instead of
+         * JSON. The binary encoding is smaller and cheaper to read and write,
+         * especially for large subjects and resources. This requires a server
+         * supporting Smile.
+         *
+         * @return the builder
+         */
+        public RemoteHttpPolicyDecisionPointBuilder smile() {
+            this.smile = true;
+            return this;
+        }
+
         public RemoteHttpPolicyDecisionPoint build() {
             WebClient.Builder builder = WebClient.builder()
                     .clientConnector(new ReactorClientHttpConnector(this.httpClient)).baseUrl(this.baseUrl);
@@ -232,7 +315,7 @@ public RemoteHttpPolicyDecisionPoint build() {
             if (this.authenticationCustomizer != null) {
                 builder = authenticationCustomizer.apply(builder);
             }
-            return new RemoteHttpPolicyDecisionPoint(builder.build());
+            return new RemoteHttpPolicyDecisionPoint(builder.build(), maxBatchSize, maxBatchDelay, smile);
         }
     }
 }
@@ -24,6 +24,9 @@
 import javax.net.ssl.SSLException;
 
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
 import org.springframework.http.codec.json.Jackson2JsonDecoder;
 import org.springframework.http.codec.json.Jackson2JsonEncoder;
 import org.springframework.messaging.rsocket.RSocketRequester;
@@ -50,6 +53,7 @@
 import io.rsocket.transport.netty.client.TcpClientTransport;
 import io.sapl.api.pdp.AuthorizationDecision;
 import io.sapl.api.pdp.AuthorizationSubscription;
+import io.sapl.api.pdp.AuthorizationSubscriptionCommand;
 import io.sapl.api.pdp.IdentifiableAuthorizationDecision;
 import io.sapl.api.pdp.MultiAuthorizationDecision;
 import io.sapl.api.pdp.MultiAuthorizationSubscription;
@@ -68,9 +72,10 @@ public class RemoteRsocketPolicyDecisionPoint implements PolicyDecisionPoint {
 
     private static final String DECIDE = "decide";
 
-    private static final String DECIDE_ONCE      = "decide-once";
-    private static final String MULTI_DECIDE     = "multi-decide";
-    private static final String MULTI_DECIDE_ALL = "multi-decide-all";
+    private static final String DECIDE_ONCE          = "decide-once";
+    private static final String MULTI_DECIDE         = "multi-decide";
+    private static final String MULTI_DECIDE_ALL     = "multi-decide-all";
+    private static final String MULTI_DECIDE_CHANNEL = "multi-decide-channel";
 
     private final RSocketRequester rSocketRequester;
 
@@ -123,6 +128,28 @@ public Flux<IdentifiableAuthorizationDecision> decide(MultiAuthorizationSubscrip
                 .distinctUntilChanged();
     }
 
+    /**
+     * Opens a request channel on which the set of subscriptions can be changed
+     * while it is being evaluated. Each emitted command adds, replaces or removes
+     * one identifiable subscription. Decisions for the currently added
+     * subscriptions are emitted as they change, without re-evaluating the
+     * subscriptions that were not touched by a command.
+     * <p>
+     * Unlike the other methods, the channel is not re-established after a
+     * connection loss, as the commands already sent cannot be replayed. Instead,
+     * an INDETERMINATE decision is emitted and the flux completes, after which the
+     * caller has to open a new channel adding all subscriptions again.
+     *
+     * @param commands the commands changing the set of subscriptions.
+     * @return a flux emitting the decisions of the individual subscriptions.
+     */
+    public Flux<IdentifiableAuthorizationDecision> decide(Flux<AuthorizationSubscriptionCommand> commands) {
+        return rSocketRequester.route(MULTI_DECIDE_CHANNEL).data(commands, AuthorizationSubscriptionCommand.class)
+                .retrieveFlux(IdentifiableAuthorizationDecision.class)
+                .doOnError(error -> log.error("RSocket Connect Error : error {}", error.getMessage(), error))
+                .onErrorResume(error -> Flux.just(IdentifiableAuthorizationDecision.INDETERMINATE));
+    }
+
     @Override
     public Flux<MultiAuthorizationDecision> decideAll(MultiAuthorizationSubscription multiAuthzSubscription) {
         var type = new ParameterizedTypeReference<MultiAuthorizationDecision>() {
@@ -148,8 +175,9 @@ public static RemoteRsocketPolicyDecisionPointBuilder builder() {
     public static class RemoteRsocketPolicyDecisionPointBuilder {
         private TcpClient                                                    tcpClient;
         private Function<RSocketRequester.Builder, RSocketRequester.Builder> authenticationCustomizer;
-        private Duration                                                     keepAlive   = Duration.ofSeconds(20);
-        private Duration                                                     maxLifeTime = Duration.ofSeconds(90);
+        private Duration                                                     keepAlive    = Duration.ofSeconds(20);
+        private Duration                                                     maxLifeTime  = Duration.ofSeconds(90);
+        private MimeType                                                     dataMimeType = MediaType.APPLICATION_JSON;
 
         public RemoteRsocketPolicyDecisionPointBuilder() {
             tcpClient = TcpClient.create();
@@ -246,11 +274,26 @@ public RemoteRsocketPolicyDecisionPointBuilder keepAlive(Duration keepAlive, Dur
             return this;
         }
 
+        /**
+         * Encodes subscriptions and decisions as CBOR instead of JSON. The binary
+         * encoding is smaller and cheaper to read and write, especially for large
+         * subjects and resources. The data MIME type is announced when connecting,
+         * the server must support CBOR, as servers based on Spring Boot do by
+         * default.
+         *
+         * @return the builder
+         */
+        public RemoteRsocketPolicyDecisionPointBuilder cbor() {
+            this.dataMimeType = MediaType.APPLICATION_CBOR;
+            return this;
+        }
+
         public RemoteRsocketPolicyDecisionPoint build() {
             RSocketStrategies rSocketStrategies = RSocketStrategies.builder().encoder(new Jackson2JsonEncoder())
-                    .encoder(new SimpleAuthenticationEncoder()).decoder(new Jackson2JsonDecoder()).build();
+                    .encoder(new Jackson2CborEncoder()).encoder(new SimpleAuthenticationEncoder())
+                    .decoder(new Jackson2JsonDecoder()).decoder(new Jackson2CborDecoder()).build();
 
-            var builder = RSocketRequester.builder().rsocketStrategies(rSocketStrategies);
+            var builder = RSocketRequester.builder().rsocketStrategies(rSocketStrategies).dataMimeType(dataMimeType);
             // apply auhentication settings if required
             if (authenticationCustomizer != null) {
                 builder = authenticationCustomizer.apply(builder);
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.pdp.remote;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.sapl.api.pdp.AuthorizationDecision;
+import io.sapl.api.pdp.AuthorizationSubscription;
+import io.sapl.api.pdp.IdentifiableAuthorizationDecision;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class DecideOnceBatcherTests {
+
+    private static final AuthorizationSubscription SUBSCRIPTION = AuthorizationSubscription.of("subject", "action",
+            "resource");
+
+    @Test
+    void whenMoreSubscriptionsThanBatchesInFlight_thenAllAreDecided() {
+        var inFlight    = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+        var batcher     = new DecideOnceBatcher(2, Duration.ofMillis(5), subscriptions -> subscriptions
+                .map(subscription -> new IdentifiableAuthorizationDecision(subscription.authorizationSubscriptionId(),
+                        AuthorizationDecision.PERMIT))
+                .delaySubscription(Duration.ofMillis(20))
+                .doOnSubscribe(subscription -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                .doOnTerminate(inFlight::decrementAndGet));
+        var requests    = 2 * DecideOnceBatcher.MAX_CONCURRENT_BATCHES * 4;
+
+        StepVerifier.create(Flux.range(0, requests).flatMap(i -> batcher.decideOnce(SUBSCRIPTION), requests))
+                .expectNextCount(requests).verifyComplete();
+        assertThat(maxInFlight.get(), lessThanOrEqualTo(DecideOnceBatcher.MAX_CONCURRENT_BATCHES));
+        batcher.dispose();
+    }
+
+    @Test
+    void whenDisposed_thenPendingAndLaterSubscriptionsFail() {
+        var batcher  = new DecideOnceBatcher(1, Duration.ofSeconds(10),
+                subscriptions -> Flux.<IdentifiableAuthorizationDecision>never());
+        var requests = DecideOnceBatcher.MAX_CONCURRENT_BATCHES + 1;
+        var errors   = Flux.range(0, requests).flatMap(i -> batcher.decideOnce(SUBSCRIPTION).then(Mono.<String>empty())
+                .onErrorResume(error -> Mono.just(error.getMessage())), requests);
+
+        var expected = new ArrayList<String>(
+                Collections.nCopies(DecideOnceBatcher.MAX_CONCURRENT_BATCHES, DecideOnceBatcher.NO_DECISION_ERROR));
+        expected.add(DecideOnceBatcher.DISPOSED_ERROR);
+        StepVerifier.create(errors).then(batcher::dispose).recordWith(ArrayList::new).expectNextCount(requests)
+                .consumeRecordedWith(messages -> assertThat(messages, containsInAnyOrder(expected.toArray())))
+                .verifyComplete();
+        StepVerifier.create(batcher.decideOnce(SUBSCRIPTION)).expectErrorMessage(DecideOnceBatcher.DISPOSED_ERROR)
+                .verify();
+    }
+
+}
@@ -23,6 +23,7 @@
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import java.io.IOException;
+import java.time.Duration;
 
 import javax.net.ssl.SSLException;
 
@@ -37,6 +38,7 @@
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 
 import io.netty.handler.ssl.SslContextBuilder;
@@ -48,6 +50,8 @@
 import io.sapl.api.pdp.MultiAuthorizationSubscription;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okio.Buffer;
+import reactor.core.publisher.Mono;
 import reactor.netty.http.client.HttpClient;
 import reactor.test.StepVerifier;
 
@@ -163,6 +167,64 @@ private void prepareDecisions(Object[] decisions) throws JsonProcessingException
         server.enqueue(response);
     }
 
+    @Test
+    void whenDecideOnceIsBatched_thenConcurrentSubscriptionsShareOneRequest()
+            throws JsonProcessingException, InterruptedException {
+        var batchingPdp = RemotePolicyDecisionPoint.builder().http().baseUrl(this.server.url("/").toString())
+                .withHttpClient(HttpClient.create()).basicAuth("secret", "key")
+                .batchDecideOnce(2, Duration.ofSeconds(10)).build();
+        prepareBatchDecisions(new IdentifiableAuthorizationDecision("1", AuthorizationDecision.DENY),
+                new IdentifiableAuthorizationDecision("0", AuthorizationDecision.PERMIT));
+
+        var first  = batchingPdp.decideOnce(AuthorizationSubscription.of(SUBJECT, ACTION, RESOURCE));
+        var second = batchingPdp.decideOnce(AuthorizationSubscription.of(SUBJECT, ACTION, "other resource"));
+
+        StepVerifier.create(Mono.zip(first, second))
+                .expectNextMatches(decisions -> decisions.getT1().equals(AuthorizationDecision.PERMIT)
+                        && decisions.getT2().equals(AuthorizationDecision.DENY))
+                .verifyComplete();
+        var request = server.takeRequest();
+        assertAll(() -> assertThat(server.getRequestCount(), is(1)),
+                () -> assertThat(request.getPath(), is("/api/pdp/decide-once-batch")),
+                () -> assertThat(request.getBody().readUtf8().lines().count(), is(2L)));
+    }
+
+    @Test
+    void whenBatchResponseLacksDecision_thenDecideOnceErrors() throws JsonProcessingException {
+        var batchingPdp = RemotePolicyDecisionPoint.builder().http().baseUrl(this.server.url("/").toString())
+                .withHttpClient(HttpClient.create()).basicAuth("secret", "key")
+                .batchDecideOnce(2, Duration.ofMillis(50)).build();
+        prepareBatchDecisions();
+
+        StepVerifier.create(batchingPdp.decideOnce(AuthorizationSubscription.of(SUBJECT, ACTION, RESOURCE)))
+                .expectErrorMessage(DecideOnceBatcher.NO_DECISION_ERROR).verify();
+    }
+
+    private void prepareBatchDecisions(IdentifiableAuthorizationDecision... decisions) throws JsonProcessingException {
+        StringBuilder body = new StringBuilder();
+        for (var decision : decisions) {
+            body.append(MAPPER.writeValueAsString(decision)).append('\n');
+        }
+        server.enqueue(new MockResponse().setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_NDJSON_VALUE)
+                .setResponseCode(HttpStatus.OK.value()).setBody(body.toString()));
+    }
+
+    @Test
+    void whenUsingSmile_thenDecideOnceExchangesSmileEncodedBodies() throws IOException, InterruptedException {
+        var smilePdp = RemotePolicyDecisionPoint.builder().http().baseUrl(this.server.url("/").toString())
+                .withHttpClient(HttpClient.create()).basicAuth("secret", "key").smile().build();
+        var smile    = SmileMapper.builder().addModule(new Jdk8Module()).build();
+        var body     = new Buffer().write(smile.writeValueAsBytes(AuthorizationDecision.PERMIT));
+        server.enqueue(new MockResponse().setHeader(HttpHeaders.CONTENT_TYPE, "application/x-jackson-smile")
+                .setResponseCode(HttpStatus.OK.value()).setBody(body));
+
+        StepVerifier.create(smilePdp.decideOnce(AuthorizationSubscription.of(SUBJECT, ACTION, RESOURCE)))
+                .expectNext(AuthorizationDecision.PERMIT).verifyComplete();
+        var request = server.takeRequest();
+        assertAll(() -> assertThat(request.getPath(), is("/api/pdp/decide-once")),
+                () -> assertThat(request.getHeader(HttpHeaders.CONTENT_TYPE), is("application/x-jackson-smile")));
+    }
+
     @Test
     void construct() {
         var pdp = RemotePolicyDecisionPoint.builder().http().baseUrl("http://localhost").basicAuth("secret", "key")
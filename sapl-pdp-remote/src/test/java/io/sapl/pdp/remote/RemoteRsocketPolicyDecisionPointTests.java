@@ -34,6 +34,8 @@
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
 import org.springframework.http.codec.json.Jackson2JsonDecoder;
 import org.springframework.http.codec.json.Jackson2JsonEncoder;
 import org.springframework.messaging.handler.annotation.MessageMapping;
@@ -50,10 +52,12 @@
 import io.rsocket.transport.netty.server.TcpServerTransport;
 import io.sapl.api.pdp.AuthorizationDecision;
 import io.sapl.api.pdp.AuthorizationSubscription;
+import io.sapl.api.pdp.AuthorizationSubscriptionCommand;
 import io.sapl.api.pdp.IdentifiableAuthorizationDecision;
 import io.sapl.api.pdp.MultiAuthorizationDecision;
 import io.sapl.api.pdp.MultiAuthorizationSubscription;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 public class RemoteRsocketPolicyDecisionPointTests {
@@ -150,6 +154,29 @@ void whenSubscribingMultiDecide_thenGetResults() {
                 .expectNext(decision1, decision2, indeterminate, decision1, decision2).thenCancel().verify();
     }
 
+    @Test
+    void whenUsingCbor_thenSubscriptionAndDecisionAreExchanged() {
+        var cborPdp = RemotePolicyDecisionPoint.builder().rsocket().host("localhost")
+                .port(server.address().getPort()).cbor().build();
+
+        StepVerifier.create(cborPdp.decideOnce(AuthorizationSubscription.of(SUBJECT, ACTION, RESOURCE)))
+                .expectNext(AuthorizationDecision.PERMIT).verifyComplete();
+        cborPdp.dispose();
+    }
+
+    @Test
+    void whenChangingSubscriptionsOverChannel_thenDecisionsForAddedSubscriptionsAreReceived() {
+        var subscription = AuthorizationSubscription.of(SUBJECT, ACTION, RESOURCE);
+        var commands     = Flux.just(AuthorizationSubscriptionCommand.add("id1", subscription),
+                AuthorizationSubscriptionCommand.remove("id1"),
+                AuthorizationSubscriptionCommand.add("id2", subscription));
+
+        StepVerifier.create(pdp.decide(commands))
+                .expectNext(new IdentifiableAuthorizationDecision("id1", AuthorizationDecision.PERMIT),
+                        new IdentifiableAuthorizationDecision("id2", AuthorizationDecision.PERMIT))
+                .verifyComplete();
+    }
+
     /**
      * Fake Spring @Controller class which is a stand-in 'test rig' for our real
      * server. It contains a custom @ConnectMapping that tests if our ClientHandler
@@ -168,11 +195,26 @@ Flux<AuthorizationDecision> fakeDecide() {
             return Flux.fromArray((AuthorizationDecision[]) decisionsQueue.remove());
         }
 
+        @MessageMapping("decide-once")
+        Mono<AuthorizationDecision> fakeDecideOnce(AuthorizationSubscription subscription) {
+            if (SUBJECT.equals(subscription.getSubject().asText()))
+                return Mono.just(AuthorizationDecision.PERMIT);
+            return Mono.just(AuthorizationDecision.DENY);
+        }
+
         @MessageMapping("multi-decide")
         public Flux<IdentifiableAuthorizationDecision> fakeMultiDecide() {
             return Flux.fromArray((IdentifiableAuthorizationDecision[]) decisionsQueue.remove());
         }
 
+        @MessageMapping("multi-decide-channel")
+        public Flux<IdentifiableAuthorizationDecision> fakeMultiDecideChannel(
+                Flux<AuthorizationSubscriptionCommand> commands) {
+            return commands.filter(command -> command.type() == AuthorizationSubscriptionCommand.Type.ADD)
+                    .map(command -> new IdentifiableAuthorizationDecision(command.authorizationSubscriptionId(),
+                            AuthorizationDecision.PERMIT));
+        }
+
         @MessageMapping("multi-decide-all")
         public Flux<MultiAuthorizationDecision> fakeMultiDecideAll() {
             return Flux.fromArray((MultiAuthorizationDecision[]) decisionsQueue.remove());
@@ -198,7 +240,8 @@ ServerController serverController() {
         RSocketMessageHandler serverMessageHandler() {
             RSocketMessageHandler handler    = new RSocketMessageHandler();
             var                   strategies = RSocketStrategies.builder().encoder(new Jackson2JsonEncoder())
-                    .encoder(new SimpleAuthenticationEncoder()).decoder(new Jackson2JsonDecoder()).build();
+                    .encoder(new Jackson2CborEncoder()).encoder(new SimpleAuthenticationEncoder())
+                    .decoder(new Jackson2JsonDecoder()).decoder(new Jackson2CborDecoder()).build();
             handler.setRSocketStrategies(strategies);
             return handler;
         }
@@ -22,12 +22,15 @@
 
 import io.sapl.api.pdp.AuthorizationDecision;
 import io.sapl.api.pdp.AuthorizationSubscription;
+import io.sapl.api.pdp.AuthorizationSubscriptionCommand;
+import io.sapl.api.pdp.AuthorizationSubscriptionCommand.Type;
 import io.sapl.api.pdp.IdentifiableAuthorizationDecision;
 import io.sapl.api.pdp.MultiAuthorizationDecision;
 import io.sapl.api.pdp.MultiAuthorizationSubscription;
 import io.sapl.api.pdp.PolicyDecisionPoint;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.GroupedFlux;
 import reactor.core.publisher.Mono;
 
 @Controller
@@ -79,6 +82,42 @@ public Flux<IdentifiableAuthorizationDecision> decide(MultiAuthorizationSubscrip
                 .onErrorResume(error -> Flux.just(IdentifiableAuthorizationDecision.INDETERMINATE));
     }
 
+    /**
+     * Request-channel variant of {@code multi-decide}. The client streams commands
+     * adding or removing identifiable authorization subscriptions and the server
+     * streams back the decisions of all currently added subscriptions. Each
+     * subscription is evaluated by
+     * {@link PolicyDecisionPoint#decide(AuthorizationSubscription)} on its own, so
+     * adding, replacing or removing one subscription leaves the live evaluations
+     * of all others untouched.
+     *
+     * @param commands the commands changing the set of subscriptions.
+     * @return a flux emitting authorization decisions related to the individual
+     *         subscriptions as soon as they are available.
+     */
+    @MessageMapping("multi-decide-channel")
+    public Flux<IdentifiableAuthorizationDecision> decide(Flux<AuthorizationSubscriptionCommand> commands) {
+        // each added subscription keeps its group open, so the number of groups must
+        // not be limited by the default concurrency of flatMap
+        return commands.groupBy(AuthorizationSubscriptionCommand::authorizationSubscriptionId)
+                .flatMap(this::decideUntilRemoved, Integer.MAX_VALUE);
+    }
+
+    private Flux<IdentifiableAuthorizationDecision> decideUntilRemoved(
+            GroupedFlux<String, AuthorizationSubscriptionCommand> commandsForId) {
+        var id = commandsForId.key();
+        // a REMOVE cancels the current evaluation and closes the group, a later ADD
+        // with the same ID opens a new one
+        return commandsForId.takeUntil(command -> command.type() == Type.REMOVE).switchMap(command -> {
+            if (command.type() == Type.REMOVE)
+                return Flux.empty();
+            return pdp.decide(command.authorizationSubscription())
+                    .map(decision -> new IdentifiableAuthorizationDecision(id, decision))
+                    .onErrorResume(error -> Flux
+                            .just(new IdentifiableAuthorizationDecision(id, AuthorizationDecision.INDETERMINATE)));
+        });
+    }
+
     /**
      * Delegates to
      * {@link PolicyDecisionPoint#decideAll(MultiAuthorizationSubscription)}.
@@ -17,11 +17,15 @@
  */
 package io.sapl.server;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -29,6 +33,9 @@
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
 import org.springframework.http.codec.json.Jackson2JsonDecoder;
 import org.springframework.http.codec.json.Jackson2JsonEncoder;
 import org.springframework.messaging.rsocket.RSocketRequester;
@@ -44,6 +51,7 @@
 import io.rsocket.transport.netty.server.TcpServerTransport;
 import io.sapl.api.pdp.AuthorizationDecision;
 import io.sapl.api.pdp.AuthorizationSubscription;
+import io.sapl.api.pdp.AuthorizationSubscriptionCommand;
 import io.sapl.api.pdp.IdentifiableAuthorizationDecision;
 import io.sapl.api.pdp.MultiAuthorizationDecision;
 import io.sapl.api.pdp.MultiAuthorizationSubscription;
@@ -51,6 +59,7 @@
 import io.sapl.server.pdpcontroller.RSocketPDPController;
 import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
 import reactor.netty.tcp.TcpClient;
 import reactor.test.StepVerifier;
 
@@ -65,8 +74,11 @@ class RsocketPDPControllerTests {
     @MockBean
     private PolicyDecisionPoint pdp;
 
-    final RSocketStrategies  rSocketStrategies = RSocketStrategies.builder().encoder(new Jackson2JsonEncoder())
-            .decoder(new Jackson2JsonDecoder()).build();
+    // Like Spring Boot's RSocket auto-configuration, the server understands CBOR
+    // and JSON
+    final RSocketStrategies  rSocketStrategies = RSocketStrategies.builder().encoder(new Jackson2CborEncoder())
+            .encoder(new Jackson2JsonEncoder()).decoder(new Jackson2CborDecoder()).decoder(new Jackson2JsonDecoder())
+            .build();
     private RSocketRequester requester;
 
     @BeforeAll
@@ -79,7 +91,14 @@ public void startRsocketServer() {
     }
 
     RSocketRequester createRSocketRequester() {
-        var builder = RSocketRequester.builder().rsocketStrategies(rSocketStrategies);
+        var builder = RSocketRequester.builder().rsocketStrategies(rSocketStrategies)
+                .dataMimeType(MediaType.APPLICATION_JSON);
+        return builder.transport(TcpClientTransport.create(TcpClient.create().port(serverPort)));
+    }
+
+    RSocketRequester createCborRSocketRequester() {
+        var builder = RSocketRequester.builder().rsocketStrategies(rSocketStrategies)
+                .dataMimeType(MediaType.APPLICATION_CBOR);
         return builder.transport(TcpClientTransport.create(TcpClient.create().port(serverPort)));
     }
 
@@ -114,6 +133,22 @@ void decideOnceValidPayload() {
         verify(pdp, times(1)).decide(subscription);
     }
 
+    @Test
+    void decideOnceWithCborPayload() {
+        when(pdp.decide(any(AuthorizationSubscription.class)))
+                .thenReturn(Flux.just(AuthorizationDecision.PERMIT, AuthorizationDecision.DENY));
+
+        var cborRequester = createCborRSocketRequester();
+        var subscription  = AuthorizationSubscription.of("subject", "action", "resource");
+        var result        = cborRequester.route("decide-once").data(subscription)
+                .retrieveMono(AuthorizationDecision.class);
+
+        StepVerifier.create(result).expectNext(AuthorizationDecision.PERMIT).verifyComplete();
+
+        verify(pdp, times(1)).decide(subscription);
+        cborRequester.dispose();
+    }
+
     @Test
     void decideWithValidProcessingError() {
         when(pdp.decide(any(AuthorizationSubscription.class))).thenReturn(Flux.error(new RuntimeException()));
@@ -188,6 +223,50 @@ void subscribeToMultiDecisionsInvalidBody() {
         StepVerifier.create(result).expectError().verify();
     }
 
+    @Test
+    void whenChangingSubscriptionsOverChannel_thenOtherEvaluationsKeepRunning() {
+        var firstCancelled = new AtomicBoolean();
+        var first          = AuthorizationSubscription.of("subject", "action1", "resource");
+        var second         = AuthorizationSubscription.of("subject", "action2", "resource");
+        when(pdp.decide(first)).thenReturn(Flux.concat(Flux.just(AuthorizationDecision.PERMIT),
+                Flux.<AuthorizationDecision>never()).doOnCancel(() -> firstCancelled.set(true)));
+        when(pdp.decide(second)).thenReturn(
+                Flux.concat(Flux.just(AuthorizationDecision.DENY), Flux.<AuthorizationDecision>never()));
+
+        var commands = Sinks.many().unicast().<AuthorizationSubscriptionCommand>onBackpressureBuffer();
+        var result   = requester.route("multi-decide-channel")
+                .data(commands.asFlux(), AuthorizationSubscriptionCommand.class)
+                .retrieveFlux(IdentifiableAuthorizationDecision.class);
+
+        StepVerifier.create(result).then(() -> commands.tryEmitNext(AuthorizationSubscriptionCommand.add("id1", first)))
+                .expectNext(new IdentifiableAuthorizationDecision("id1", AuthorizationDecision.PERMIT))
+                .then(() -> commands.tryEmitNext(AuthorizationSubscriptionCommand.add("id2", second)))
+                .expectNext(new IdentifiableAuthorizationDecision("id2", AuthorizationDecision.DENY))
+                .then(() -> commands.tryEmitNext(AuthorizationSubscriptionCommand.remove("id1")))
+                .then(() -> commands.tryEmitNext(AuthorizationSubscriptionCommand.add("id1", first)))
+                .expectNext(new IdentifiableAuthorizationDecision("id1", AuthorizationDecision.PERMIT)).thenCancel()
+                .verify();
+
+        verify(pdp, times(2)).decide(first);
+        verify(pdp, times(1)).decide(second);
+        assertThat(firstCancelled.get(), is(true));
+    }
+
+    @Test
+    void whenSubscriptionOverChannelFails_thenIndeterminateForItsId() {
+        when(pdp.decide(any(AuthorizationSubscription.class))).thenReturn(Flux.error(new RuntimeException()));
+
+        var command = AuthorizationSubscriptionCommand.add("id1",
+                AuthorizationSubscription.of("subject", "action", "resource"));
+        var result  = requester.route("multi-decide-channel")
+                .data(Flux.just(command), AuthorizationSubscriptionCommand.class)
+                .retrieveFlux(IdentifiableAuthorizationDecision.class);
+
+        StepVerifier.create(result)
+                .expectNext(new IdentifiableAuthorizationDecision("id1", AuthorizationDecision.INDETERMINATE))
+                .verifyComplete();
+    }
+
     @Test
     void subscribeToMultiAllDecisions() {
         when(pdp.decideAll(any(MultiAuthorizationSubscription.class)))
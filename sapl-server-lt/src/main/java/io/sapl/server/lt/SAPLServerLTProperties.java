@@ -17,6 +17,7 @@
  */
 package io.sapl.server.lt;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -44,6 +45,10 @@ public class SAPLServerLTProperties {
     private String       apiKeyHeaderName = "API_KEY";
     private List<String> allowedApiKeys   = List.of();
 
+    // HTTP policy information point
+    private int      httpPipMaxConnections = 500;
+    private Duration httpPipMaxIdleTime    = Duration.ofSeconds(30L);
+
     public List<String> getAllowedApiKeys() {
         return Collections.unmodifiableList(allowedApiKeys);
     }
@@ -32,13 +32,20 @@
 import io.sapl.extensions.mqtt.MqttPolicyInformationPoint;
 import io.sapl.pip.http.HttpPolicyInformationPoint;
 import io.sapl.pip.http.ReactiveWebClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
 public class SaplExtensionsConfig {
 
+    @Bean(destroyMethod = "dispose")
+    ConnectionProvider httpPipConnectionPool(SAPLServerLTProperties properties) {
+        return ReactiveWebClient.connectionPool(properties.getHttpPipMaxConnections(),
+                properties.getHttpPipMaxIdleTime());
+    }
+
     @Bean
-    ReactiveWebClient reactiveWebClient(ObjectMapper mapper) {
-        return new ReactiveWebClient(mapper);
+    ReactiveWebClient reactiveWebClient(ObjectMapper mapper, ConnectionProvider httpPipConnectionPool) {
+        return new ReactiveWebClient(mapper, httpPipConnectionPool);
     }
 
     @Bean
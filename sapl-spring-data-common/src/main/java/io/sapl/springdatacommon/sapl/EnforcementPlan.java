@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.springdatacommon.sapl;
+
+/**
+ * The decisions of a repository proxy interceptor which only depend on the
+ * repository method. They are derived once per method by
+ * {@link EnforcementPlans}, so that repository calls neither inspect
+ * annotations nor generic types.
+ *
+ * @param strategy          the kind of enforcement point to apply
+ * @param enforceAnnotation the converted enforce annotation of the method, if
+ *                          any
+ * @param domainType        the domain type of the repository, null if it could
+ *                          not be determined
+ * @param returnType        the return type of the repository method
+ * @param <T>               the domain type
+ */
+public record EnforcementPlan<T>(EnforcementStrategy strategy, Enforce enforceAnnotation, Class<T> domainType,
+        Class<?> returnType) {
+
+    public enum EnforcementStrategy {
+        PROCEED, ANNOTATION_QUERY, METHOD_NAME_QUERY, PROCEEDED_DATA_FILTER
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.springdatacommon.sapl;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import io.sapl.springdatacommon.sapl.EnforcementPlan.EnforcementStrategy;
+import io.sapl.springdatacommon.sapl.utils.Utilities;
+
+/**
+ * Derives the {@link EnforcementPlan} of repository methods and keeps it per
+ * {@link Method}. The database specific annotations are supplied by the
+ * repository proxy interceptors.
+ *
+ * @param <T> the domain type
+ */
+public class EnforcementPlans<T> {
+
+    private final Map<Method, EnforcementPlan<T>> plans = new ConcurrentHashMap<>();
+    private final Predicate<Method>               isProtected;
+    private final Predicate<Method>               hasQueryAnnotation;
+    private final Function<Method, Enforce>       enforceAnnotation;
+    private final List<String>                    repositoryTypeNames;
+
+    /**
+     * @param isProtected         checks whether the repository method or its
+     *                            repository requests enforcement
+     * @param hasQueryAnnotation  checks whether the repository method has a query
+     *                            annotation
+     * @param enforceAnnotation   converts the enforce annotation of the repository
+     *                            method, null if absent
+     * @param repositoryTypeNames the names of the repository interfaces whose first
+     *                            type argument is the domain type
+     */
+    public EnforcementPlans(Predicate<Method> isProtected, Predicate<Method> hasQueryAnnotation,
+            Function<Method, Enforce> enforceAnnotation, String... repositoryTypeNames) {
+        this.isProtected         = isProtected;
+        this.hasQueryAnnotation  = hasQueryAnnotation;
+        this.enforceAnnotation   = enforceAnnotation;
+        this.repositoryTypeNames = List.of(repositoryTypeNames);
+    }
+
+    /**
+     * @param repositoryMethod a repository method
+     * @return the enforcement plan of the method, derived on first use
+     */
+    public EnforcementPlan<T> of(Method repositoryMethod) {
+        return plans.computeIfAbsent(repositoryMethod, this::enforcementPlan);
+    }
+
+    private EnforcementPlan<T> enforcementPlan(Method repositoryMethod) {
+        if (!isProtected.test(repositoryMethod)) {
+            return new EnforcementPlan<>(EnforcementStrategy.PROCEED, null, null, null);
+        }
+
+        var enforce    = enforceAnnotation.apply(repositoryMethod);
+        var domainType = extractDomainType(repositoryMethod.getDeclaringClass());
+        var returnType = repositoryMethod.getReturnType();
+
+        /*
+         * The query from the annotation is extended with the conditions of the
+         * obligation.
+         */
+        if (hasQueryAnnotation.test(repositoryMethod)) {
+            return new EnforcementPlan<>(EnforcementStrategy.ANNOTATION_QUERY, enforce, domainType, returnType);
+        }
+
+        /*
+         * The query is derived from the name of the method and extended with the
+         * conditions of the obligation.
+         */
+        if (Utilities.isMethodNameValid(repositoryMethod.getName())) {
+            return new EnforcementPlan<>(EnforcementStrategy.METHOD_NAME_QUERY, enforce, domainType, returnType);
+        }
+
+        /*
+         * The method is executed and the conditions of the obligation are applied to
+         * the received data.
+         */
+        return new EnforcementPlan<>(EnforcementStrategy.PROCEEDED_DATA_FILTER, enforce, domainType, returnType);
+    }
+
+    @SuppressWarnings("unchecked") // casting domain type from Class<?> to Class<T>
+    private Class<T> extractDomainType(Class<?> repository) {
+        var repositoryTypes = repository.getGenericInterfaces();
+
+        for (Type interfaceType : repositoryTypes) {
+            var typeName = interfaceType.getTypeName();
+            if (repositoryTypeNames.stream().anyMatch(typeName::contains)) {
+                var parameterizedType = (ParameterizedType) interfaceType;
+                return (Class<T>) parameterizedType.getActualTypeArguments()[0];
+            }
+        }
+
+        return null;
+    }
+
+}
@@ -24,16 +24,14 @@
 import io.sapl.api.pdp.PolicyDecisionPoint;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.Setter;
 
 @Getter
-@Setter
 @AllArgsConstructor
 public class QueryManipulationEnforcementData<T> {
 
-    private MethodInvocation          methodInvocation;
-    private BeanFactory               beanFactory;
-    private Class<T>                  domainType;
-    private PolicyDecisionPoint       pdp;
-    private AuthorizationSubscription authSub;
+    private final MethodInvocation          methodInvocation;
+    private final BeanFactory               beanFactory;
+    private final Class<T>                  domainType;
+    private final PolicyDecisionPoint       pdp;
+    private final AuthorizationSubscription authSub;
 }
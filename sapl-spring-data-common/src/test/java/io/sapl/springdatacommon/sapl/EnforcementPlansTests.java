@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.springdatacommon.sapl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.r2dbc.repository.Query;
+
+import io.sapl.springdatacommon.database.Person;
+import io.sapl.springdatacommon.database.R2dbcPersonRepository;
+import io.sapl.springdatacommon.sapl.EnforcementPlan.EnforcementStrategy;
+import reactor.core.publisher.Flux;
+
+class EnforcementPlansTests {
+
+    private static final String R2DBC_REPOSITORY_PATH = "org.springframework.data.r2dbc.repository.R2dbcRepository";
+
+    private final AtomicInteger protectionChecks = new AtomicInteger();
+
+    private EnforcementPlans<Person> enforcementPlans;
+
+    @BeforeEach
+    void beforeEach() {
+        enforcementPlans = new EnforcementPlans<>(this::isProtected, method -> method.isAnnotationPresent(Query.class),
+                method -> method.getAnnotation(Enforce.class), R2DBC_REPOSITORY_PATH);
+    }
+
+    private boolean isProtected(Method method) {
+        protectionChecks.incrementAndGet();
+        return method.isAnnotationPresent(SaplProtected.class) || method.isAnnotationPresent(Enforce.class);
+    }
+
+    @Test
+    void when_methodIsNotProtected_then_proceed() throws NoSuchMethodException {
+        var method = R2dbcPersonRepository.class.getMethod("findAllByAge", int.class);
+
+        var plan = enforcementPlans.of(method);
+
+        assertEquals(EnforcementStrategy.PROCEED, plan.strategy());
+        assertNull(plan.domainType());
+    }
+
+    @Test
+    void when_methodHasQueryAnnotation_then_annotationQuery() throws NoSuchMethodException {
+        var method = R2dbcPersonRepository.class.getMethod("findAllUsersTest", int.class, String.class);
+
+        var plan = enforcementPlans.of(method);
+
+        assertEquals(EnforcementStrategy.ANNOTATION_QUERY, plan.strategy());
+        assertEquals(Person.class, plan.domainType());
+        assertEquals(Flux.class, plan.returnType());
+    }
+
+    @Test
+    void when_methodIsQueryMethod_then_methodNameQueryWithEnforceAnnotation() throws NoSuchMethodException {
+        var method = R2dbcPersonRepository.class.getMethod("findAllByFirstname", String.class);
+
+        var plan = enforcementPlans.of(method);
+
+        assertEquals(EnforcementStrategy.METHOD_NAME_QUERY, plan.strategy());
+        assertEquals("general_protection_reactive_r2dbc_repository", plan.enforceAnnotation().action());
+        assertEquals(Person.class, plan.domainType());
+    }
+
+    @Test
+    void when_methodIsNeitherQueryNorQueryMethod_then_proceededDataFilter() throws NoSuchMethodException {
+        var method = R2dbcPersonRepository.class.getMethod("methodTestWithAge", int.class);
+
+        var plan = enforcementPlans.of(method);
+
+        assertEquals(EnforcementStrategy.PROCEEDED_DATA_FILTER, plan.strategy());
+        assertNull(plan.enforceAnnotation());
+    }
+
+    @Test
+    void when_planIsRequestedRepeatedly_then_itIsDerivedOnce() throws NoSuchMethodException {
+        var method = R2dbcPersonRepository.class.getMethod("findAllByFirstname", String.class);
+
+        var plan = enforcementPlans.of(method);
+
+        assertSame(plan, enforcementPlans.of(method));
+        assertEquals(1, protectionChecks.get());
+    }
+
+}
@@ -20,12 +20,9 @@
 import static io.sapl.springdatacommon.sapl.utils.Utilities.convertReturnTypeIfNecessary;
 import static io.sapl.springdatamongoreactive.sapl.utils.annotation.AnnotationUtilities.convertToEnforce;
 import static io.sapl.springdatamongoreactive.sapl.utils.annotation.AnnotationUtilities.hasAnnotationEnforce;
-import static io.sapl.springdatamongoreactive.sapl.utils.annotation.AnnotationUtilities.hasAnnotationQuery;
 import static io.sapl.springdatamongoreactive.sapl.utils.annotation.AnnotationUtilities.hasAnnotationSaplProtected;
 
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
-import java.util.Objects;
+import java.lang.reflect.Method;
 
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
@@ -39,9 +36,11 @@
 import io.sapl.api.pdp.AuthorizationSubscription;
 import io.sapl.api.pdp.PolicyDecisionPoint;
 import io.sapl.springdatacommon.handlers.AuthorizationSubscriptionHandlerProvider;
+import io.sapl.springdatacommon.sapl.EnforcementPlan.EnforcementStrategy;
+import io.sapl.springdatacommon.sapl.EnforcementPlans;
 import io.sapl.springdatacommon.sapl.QueryManipulationEnforcementData;
-import io.sapl.springdatacommon.sapl.utils.Utilities;
 import io.sapl.springdatamongoreactive.sapl.QueryManipulationEnforcementPointFactory;
+import io.sapl.springdatamongoreactive.sapl.utils.annotation.AnnotationUtilities;
 import io.sapl.springdatamongoreactive.sapl.utils.annotation.EnforceMongoReactive;
 import lombok.SneakyThrows;
 
@@ -69,108 +68,67 @@
 @Service
 public class MongoProxyInterceptor<T> implements MethodInterceptor {
     private final AuthorizationSubscriptionHandlerProvider authSubHandler;
-    private final QueryManipulationEnforcementData<T>      enforcementData;
+    private final BeanFactory                              beanFactory;
+    private final PolicyDecisionPoint                      pdp;
     private final QueryManipulationEnforcementPointFactory factory;
+    private final EnforcementPlans<T>                      enforcementPlans;
 
     private static final String REACTIVE_MONGO_REPOSITORY_PATH = "org.springframework.data.mongodb.repository.ReactiveMongoRepository";
     private static final String REACTIVE_CRUD_REPOSITORY_PATH  = "org.springframework.data.repository.reactive.ReactiveCrudRepository";
 
     public MongoProxyInterceptor(AuthorizationSubscriptionHandlerProvider authSubHandler, BeanFactory beanFactory,
             PolicyDecisionPoint pdp, QueryManipulationEnforcementPointFactory factory) {
-        this.authSubHandler  = authSubHandler;
-        this.factory         = factory;
-        this.enforcementData = new QueryManipulationEnforcementData<>(null, beanFactory, null, pdp, null);
+        this.authSubHandler   = authSubHandler;
+        this.beanFactory      = beanFactory;
+        this.pdp              = pdp;
+        this.factory          = factory;
+        this.enforcementPlans = new EnforcementPlans<>(MongoProxyInterceptor::isProtected,
+                AnnotationUtilities::hasAnnotationQuery,
+                method -> convertToEnforce(AnnotationUtils.findAnnotation(method, EnforceMongoReactive.class)),
+                REACTIVE_MONGO_REPOSITORY_PATH, REACTIVE_CRUD_REPOSITORY_PATH);
     }
 
     @SneakyThrows // // Throwable by proceed() method, ClassNotFoundException
     public Object invoke(MethodInvocation methodInvocation) {
 
         var repositoryMethod = methodInvocation.getMethod();
-        var repository       = methodInvocation.getMethod().getDeclaringClass();
-
-        if (hasAnnotationSaplProtected(repository) || hasAnnotationSaplProtected(repositoryMethod)
-                || hasAnnotationEnforce(repositoryMethod)) {
-
-            var returnClassOfMethod  = Objects.requireNonNull(repositoryMethod).getReturnType();
-            var enforceMongoReactive = AnnotationUtils.findAnnotation(repositoryMethod, EnforceMongoReactive.class);
-            var enforceAnnotation    = convertToEnforce(enforceMongoReactive);
-            var authSub              = this.authSubHandler.getAuthSub(repository, methodInvocation, enforceAnnotation);
-
-            if (authSub == null) {
-                throw new IllegalStateException(
-                        "The Sapl implementation for the manipulation of the database queries was recognised, but no AuthorizationSubscription was found.");
-            }
-
-            var domainType = extractDomainType(repository);
-
-            enforcementData.setMethodInvocation(methodInvocation);
-            enforcementData.setDomainType(domainType);
-            enforcementData.setAuthSub(authSub);
-
-            /*
-             * Introduce {@link MongoAnnotationQueryManipulationEnforcementPoint} if method
-             * has {@link Query} annotation. In this enforcement point, the query from the
-             * annotation is only extended with the conditions that were specified in the
-             * policy's obligation.
-             */
-            if (hasAnnotationQuery(repositoryMethod)) {
-                var annotationQueryEnforcementPoint = factory
-                        .createMongoAnnotationQueryManipulationEnforcementPoint(enforcementData);
-
-                return convertReturnTypeIfNecessary(annotationQueryEnforcementPoint.enforce(), returnClassOfMethod);
-            }
+        var repository       = repositoryMethod.getDeclaringClass();
+        var plan             = enforcementPlans.of(repositoryMethod);
 
+        if (plan.strategy() == EnforcementStrategy.PROCEED) {
             /*
-             * Introduce {@link MongoMethodNameQueryManipulationEnforcementPoint} if the
-             * query can be derived from the name of the repository method. Spring Data JPA
-             * enables the use of query methods. The query is built from the name of the
-             * method. The domain class and its attributes are inspected, which is passed to
-             * the repository as a generic. Spring Data JPA uses the {@link
-             * org.springframework.data.repository.query.parser.PartTree} class, among
-             * others, to translate the query methods. This EnforcementPoint makes use of
-             * these classes from Spring Data JPA to rebuild the queries. Example of a query
-             * method with the domain object attribute 'firstname':
-             * findAllByFirstname(String firstname)
+             * If no filtering of the data is desired, the call to the method is merely
+             * forwarded.
              */
-            if (Utilities.isMethodNameValid(repositoryMethod.getName())) {
-                var methodNameQueryEnforcementPoint = factory
-                        .createMongoMethodNameQueryManipulationEnforcementPoint(enforcementData);
+            return methodInvocation.proceed();
+        }
 
-                return convertReturnTypeIfNecessary(methodNameQueryEnforcementPoint.enforce(), returnClassOfMethod);
-            }
+        var authSub = this.authSubHandler.getAuthSub(repository, methodInvocation, plan.enforceAnnotation());
 
-            /*
-             * Introduce {@link ProceededDataFilterEnforcementPoint} if none of the previous
-             * cases apply. The corresponding database method is executed and the received
-             * data is intercepted. The sapl conditions from the {@link PolicyDecisionPoint}
-             * are converted to filters and applied to the received data. The filtered data
-             * is then returned.
-             */
-            var filterEnforcementPoint = factory.createProceededDataFilterEnforcementPoint(enforcementData);
-            return convertReturnTypeIfNecessary(filterEnforcementPoint.enforce(), returnClassOfMethod);
+        if (authSub == null) {
+            throw new IllegalStateException(
+                    "The Sapl implementation for the manipulation of the database queries was recognised, but no AuthorizationSubscription was found.");
         }
 
-        /*
-         * If no filtering of the data is desired, the call to the method is merely
-         * forwarded.
-         */
-        return methodInvocation.proceed();
-    }
+        if (plan.domainType() == null) {
+            throw new ClassNotFoundException("The " + ReactiveMongoRepository.class + " or "
+                    + ReactiveCrudRepository.class + " could not be found as an extension of the " + repository);
+        }
 
-    @SuppressWarnings("unchecked") // casting domain type from Class<?> to Class<T>
-    private Class<T> extractDomainType(Class<?> repository) throws ClassNotFoundException {
-        var repositoryTypes = repository.getGenericInterfaces();
+        var enforcementData = new QueryManipulationEnforcementData<>(methodInvocation, beanFactory, plan.domainType(),
+                pdp, authSub);
 
-        for (Type interfaceType : repositoryTypes) {
-            if ((interfaceType.getTypeName().contains(REACTIVE_MONGO_REPOSITORY_PATH)
-                    || interfaceType.getTypeName().contains(REACTIVE_CRUD_REPOSITORY_PATH))) {
-                var parameterizedType = (ParameterizedType) interfaceType;
-                return (Class<T>) parameterizedType.getActualTypeArguments()[0];
-            }
-        }
+        var enforcementPoint = switch (plan.strategy()) {
+        case ANNOTATION_QUERY -> factory.createMongoAnnotationQueryManipulationEnforcementPoint(enforcementData);
+        case METHOD_NAME_QUERY -> factory.createMongoMethodNameQueryManipulationEnforcementPoint(enforcementData);
+        default -> factory.createProceededDataFilterEnforcementPoint(enforcementData);
+        };
+        return convertReturnTypeIfNecessary(enforcementPoint.enforce(), plan.returnType());
+    }
 
-        throw new ClassNotFoundException("The " + ReactiveMongoRepository.class + " or " + ReactiveCrudRepository.class
-                + " could not be found as an extension of the " + repository);
+    private static boolean isProtected(Method repositoryMethod) {
+        return hasAnnotationSaplProtected(repositoryMethod.getDeclaringClass())
+                || hasAnnotationSaplProtected(repositoryMethod) || hasAnnotationEnforce(repositoryMethod);
     }
 
 }
@@ -20,12 +20,15 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -33,6 +36,7 @@
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.BeanFactory;
 
 import io.sapl.api.pdp.AuthorizationSubscription;
@@ -46,6 +50,7 @@
 import io.sapl.springdatamongoreactive.sapl.database.MethodInvocationForTestingWithReactiveMongoRepository;
 import io.sapl.springdatamongoreactive.sapl.database.TestUser;
 import io.sapl.springdatamongoreactive.sapl.database.repositoryerror.MethodInvocationForRepositoryError;
+import io.sapl.springdatamongoreactive.sapl.utils.annotation.AnnotationUtilities;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -355,4 +360,33 @@ void when_customRepositoryDoesNotExtendSpringDataRepository_then_throwClassCastE
                 thrown.getMessage());
     }
 
+    @Test
+    void when_repositoryMethodIsInvokedRepeatedly_then_planIsReusedAndEnforcementDataIsNotShared() {
+        // GIVEN
+        var authSub          = AuthorizationSubscription.of("subject", "permitTest", "resource", "environment");
+        var firstInvocation  = new MethodInvocationForTesting("findAllByFirstname",
+                new ArrayList<>(List.of(String.class)), null, null);
+        var secondInvocation = new MethodInvocationForTesting("findAllByFirstname",
+                new ArrayList<>(List.of(String.class)), null, null);
+        var enforcementData  = ArgumentCaptor.forClass(QueryManipulationEnforcementData.class);
+
+        // WHEN
+        when(authSubHandlerMock.getAuthSub(any(Class.class), any(MethodInvocation.class), any())).thenReturn(authSub);
+        when(factoryMock
+                .createMongoMethodNameQueryManipulationEnforcementPoint(any(QueryManipulationEnforcementData.class)))
+                .thenReturn(queryManipulationEnforcementPointMock);
+        when(queryManipulationEnforcementPointMock.enforce()).thenReturn(data);
+
+        var proxyMongoHandler = new MongoProxyInterceptor<>(authSubHandlerMock, beanFactoryMock, pdpMock, factoryMock);
+        try (var annotationUtilities = mockStatic(AnnotationUtilities.class, CALLS_REAL_METHODS)) {
+            proxyMongoHandler.invoke(firstInvocation);
+            proxyMongoHandler.invoke(secondInvocation);
+
+            // THEN
+            annotationUtilities.verify(() -> AnnotationUtilities.hasAnnotationQuery(any(Method.class)), times(1));
+        }
+        verify(factoryMock, times(2)).createMongoMethodNameQueryManipulationEnforcementPoint(enforcementData.capture());
+        assertEquals(firstInvocation, enforcementData.getAllValues().get(0).getMethodInvocation());
+        assertEquals(secondInvocation, enforcementData.getAllValues().get(1).getMethodInvocation());
+    }
 }
@@ -18,6 +18,7 @@
 package io.sapl.springdatar2dbc.sapl;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.BeanFactory;
@@ -29,6 +30,7 @@
 public class QueryManipulationExecutor {
 
     private final R2dbcEntityTemplateExecutor r2dbcEntityTemplateExecutor;
+    private final Map<Class<?>, String>       tableNames = new ConcurrentHashMap<>();
 
     public QueryManipulationExecutor(BeanFactory beanFactory) {
         var r2dbcEntityTemplate = beanFactory.getBean(R2dbcEntityTemplate.class);
@@ -36,18 +38,32 @@ public QueryManipulationExecutor(BeanFactory beanFactory) {
     }
 
     public <T> Flux<Map<String, Object>> execute(String query, Class<T> domainType) {
+        return r2dbcEntityTemplateExecutor.executeQuery(completeQuery(query, domainType));
+    }
 
-        if (query.toLowerCase().contains("where")) {
-            return r2dbcEntityTemplateExecutor.executeQuery(query);
-        } else {
-            String tableName           = getTableName(domainType);
-            var    queryWithSelectPart = "SELECT * FROM %s WHERE %s".formatted(tableName, query);
+    /**
+     * Executes a query whose values are bound to named bind markers instead of
+     * being part of the sql text.
+     *
+     * @param query      the query or condition containing named bind markers.
+     * @param parameters the values of the bind markers by name.
+     * @param domainType the domain type.
+     * @param <T>        the domain type.
+     * @return the rows returned by the database.
+     */
+    public <T> Flux<Map<String, Object>> execute(String query, Map<String, Object> parameters, Class<T> domainType) {
+        return r2dbcEntityTemplateExecutor.executeQuery(completeQuery(query, domainType), parameters);
+    }
 
-            return r2dbcEntityTemplateExecutor.executeQuery(queryWithSelectPart);
+    private <T> String completeQuery(String query, Class<T> domainType) {
+        if (StringUtils.containsIgnoreCase(query, "where")) {
+            return query;
         }
+
+        return "SELECT * FROM " + tableNames.computeIfAbsent(domainType, this::getTableName) + " WHERE " + query;
     }
 
-    private <T> String getTableName(Class<T> domainType) {
+    private String getTableName(Class<?> domainType) {
         boolean hasTableAnnotation = domainType.isAnnotationPresent(Table.class);
 
         if (hasTableAnnotation) {
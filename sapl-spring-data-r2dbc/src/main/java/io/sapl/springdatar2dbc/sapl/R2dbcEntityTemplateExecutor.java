@@ -35,4 +35,14 @@ Flux<Map<String, Object>> executeQuery(String sqlQuery) {
         return r2dbcEntityTemplate.getDatabaseClient().sql(sqlQuery).fetch().all();
     }
 
+    Flux<Map<String, Object>> executeQuery(String sqlQuery, Map<String, Object> parameters) {
+        var executeSpec = r2dbcEntityTemplate.getDatabaseClient().sql(sqlQuery);
+
+        for (var parameter : parameters.entrySet()) {
+            executeSpec = executeSpec.bind(parameter.getKey(), parameter.getValue());
+        }
+
+        return executeSpec.fetch().all();
+    }
+
 }
@@ -20,12 +20,9 @@
 import static io.sapl.springdatacommon.sapl.utils.Utilities.convertReturnTypeIfNecessary;
 import static io.sapl.springdatar2dbc.sapl.utils.annotation.AnnotationUtilities.convertToEnforce;
 import static io.sapl.springdatar2dbc.sapl.utils.annotation.AnnotationUtilities.hasAnnotationEnforce;
-import static io.sapl.springdatar2dbc.sapl.utils.annotation.AnnotationUtilities.hasAnnotationQuery;
 import static io.sapl.springdatar2dbc.sapl.utils.annotation.AnnotationUtilities.hasAnnotationSaplProtected;
 
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
-import java.util.Objects;
+import java.lang.reflect.Method;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
 import org.springframework.beans.factory.BeanFactory;
@@ -38,9 +35,11 @@
 import io.sapl.api.pdp.AuthorizationSubscription;
 import io.sapl.api.pdp.PolicyDecisionPoint;
 import io.sapl.springdatacommon.handlers.AuthorizationSubscriptionHandlerProvider;
+import io.sapl.springdatacommon.sapl.EnforcementPlan.EnforcementStrategy;
+import io.sapl.springdatacommon.sapl.EnforcementPlans;
 import io.sapl.springdatacommon.sapl.QueryManipulationEnforcementData;
-import io.sapl.springdatacommon.sapl.utils.Utilities;
 import io.sapl.springdatar2dbc.sapl.QueryManipulationEnforcementPointFactory;
+import io.sapl.springdatar2dbc.sapl.utils.annotation.AnnotationUtilities;
 import io.sapl.springdatar2dbc.sapl.utils.annotation.EnforceR2dbc;
 import lombok.SneakyThrows;
 
@@ -68,95 +67,67 @@
 @Service
 public class R2dbcProxyInterceptor<T> implements MethodInterceptor {
     private final AuthorizationSubscriptionHandlerProvider authSubHandler;
-    private final QueryManipulationEnforcementData<T>      enforcementData;
+    private final BeanFactory                              beanFactory;
+    private final PolicyDecisionPoint                      pdp;
     private final QueryManipulationEnforcementPointFactory factory;
+    private final EnforcementPlans<T>                      enforcementPlans;
 
     private static final String REACTIVE_CRUD_REPOSITORY_PATH = "org.springframework.data.repository.reactive.ReactiveCrudRepository";
     private static final String R2DBC_REPOSITORY_PATH         = "org.springframework.data.r2dbc.repository.R2dbcRepository";
 
     public R2dbcProxyInterceptor(AuthorizationSubscriptionHandlerProvider authSubHandler, BeanFactory beanFactory,
             PolicyDecisionPoint pdp, QueryManipulationEnforcementPointFactory factory) {
-        this.authSubHandler  = authSubHandler;
-        this.factory         = factory;
-        this.enforcementData = new QueryManipulationEnforcementData<>(null, beanFactory, null, pdp, null);
+        this.authSubHandler   = authSubHandler;
+        this.beanFactory      = beanFactory;
+        this.pdp              = pdp;
+        this.factory          = factory;
+        this.enforcementPlans = new EnforcementPlans<>(R2dbcProxyInterceptor::isProtected,
+                AnnotationUtilities::hasAnnotationQuery,
+                method -> convertToEnforce(AnnotationUtils.findAnnotation(method, EnforceR2dbc.class)),
+                R2DBC_REPOSITORY_PATH, REACTIVE_CRUD_REPOSITORY_PATH);
     }
 
     @SneakyThrows // Throwable by proceed() method, ClassNotFoundException
     public Object invoke(MethodInvocation methodInvocation) {
 
         var repositoryMethod = methodInvocation.getMethod();
-        var repository       = methodInvocation.getMethod().getDeclaringClass();
-
-        if (hasAnnotationSaplProtected(repository) || hasAnnotationSaplProtected(repositoryMethod)
-                || hasAnnotationEnforce(repositoryMethod)) {
-
-            var returnClassOfMethod = Objects.requireNonNull(repositoryMethod).getReturnType();
-            var enforceR2dbc        = AnnotationUtils.findAnnotation(repositoryMethod, EnforceR2dbc.class);
-            var enforceAnnotation   = convertToEnforce(enforceR2dbc);
-            var authSub             = this.authSubHandler.getAuthSub(repository, methodInvocation, enforceAnnotation);
-
-            if (authSub == null) {
-                throw new IllegalStateException(
-                        "The Sapl implementation for the manipulation of the database queries was recognised, but no AuthorizationSubscription was found.");
-            }
-
-            var domainType = extractDomainType(repository);
-
-            enforcementData.setMethodInvocation(methodInvocation);
-            enforcementData.setDomainType(domainType);
-            enforcementData.setAuthSub(authSub);
-
-            /*
-             * Introduce RelationalAtQueryImplementation if method has @Query-Annotation.
-             */
-            if (hasAnnotationQuery(repositoryMethod)) {
-                var annotationQueryEnforcementPoint = factory
-                        .createR2dbcAnnotationQueryManipulationEnforcementPoint(enforcementData);
-
-                return convertReturnTypeIfNecessary(annotationQueryEnforcementPoint.enforce(), returnClassOfMethod);
-            }
+        var repository       = repositoryMethod.getDeclaringClass();
+        var plan             = enforcementPlans.of(repositoryMethod);
 
+        if (plan.strategy() == EnforcementStrategy.PROCEED) {
             /*
-             * Introduce MethodBasedImplementation if the query can be derived from the name
-             * of the method.
+             * If no filtering or transforming of the data is desired, the call to the
+             * method is merely forwarded.
              */
-            if (Utilities.isMethodNameValid(repositoryMethod.getName())) {
-                var methodNameQueryEnforcementPoint = factory
-                        .createR2dbcMethodNameQueryManipulationEnforcementPoint(enforcementData);
+            return methodInvocation.proceed();
+        }
 
-                return convertReturnTypeIfNecessary(methodNameQueryEnforcementPoint.enforce(), returnClassOfMethod);
-            }
+        var authSub = this.authSubHandler.getAuthSub(repository, methodInvocation, plan.enforceAnnotation());
 
-            /*
-             * Introduce ProceededDataFilterEnforcementPoint if none of the previous cases
-             * apply. The requested method is executed and the corresponding condition from
-             * the obligation are applied to the received data.
-             */
-            var filterEnforcementPoint = factory.createProceededDataFilterEnforcementPoint(enforcementData);
-            return convertReturnTypeIfNecessary(filterEnforcementPoint.enforce(), returnClassOfMethod);
+        if (authSub == null) {
+            throw new IllegalStateException(
+                    "The Sapl implementation for the manipulation of the database queries was recognised, but no AuthorizationSubscription was found.");
         }
 
-        /*
-         * If no filtering or transforming of the data is desired, the call to the
-         * method is merely forwarded.
-         */
-        return methodInvocation.proceed();
-    }
+        if (plan.domainType() == null) {
+            throw new ClassNotFoundException("The " + R2dbcRepository.class + " or " + ReactiveCrudRepository.class
+                    + " could not be found as an extension of the " + repository);
+        }
 
-    @SuppressWarnings("unchecked") // casting domain type from Class<?> to Class<T>
-    private Class<T> extractDomainType(Class<?> repository) throws ClassNotFoundException {
-        var repositoryTypes = repository.getGenericInterfaces();
+        var enforcementData = new QueryManipulationEnforcementData<>(methodInvocation, beanFactory, plan.domainType(),
+                pdp, authSub);
 
-        for (Type interfaceType : repositoryTypes) {
-            if ((interfaceType.getTypeName().contains(R2DBC_REPOSITORY_PATH)
-                    || interfaceType.getTypeName().contains(REACTIVE_CRUD_REPOSITORY_PATH))) {
-                var parameterizedType = (ParameterizedType) interfaceType;
-                return (Class<T>) parameterizedType.getActualTypeArguments()[0];
-            }
-        }
+        var enforcementPoint = switch (plan.strategy()) {
+        case ANNOTATION_QUERY -> factory.createR2dbcAnnotationQueryManipulationEnforcementPoint(enforcementData);
+        case METHOD_NAME_QUERY -> factory.createR2dbcMethodNameQueryManipulationEnforcementPoint(enforcementData);
+        default -> factory.createProceededDataFilterEnforcementPoint(enforcementData);
+        };
+        return convertReturnTypeIfNecessary(enforcementPoint.enforce(), plan.returnType());
+    }
 
-        throw new ClassNotFoundException("The " + R2dbcRepository.class + " or " + ReactiveCrudRepository.class
-                + " could not be found as an extension of the " + repository);
+    private static boolean isProtected(Method repositoryMethod) {
+        return hasAnnotationSaplProtected(repositoryMethod.getDeclaringClass())
+                || hasAnnotationSaplProtected(repositoryMethod) || hasAnnotationEnforce(repositoryMethod);
     }
 
 }
@@ -0,0 +1,30 @@
+/*
+ * Copyright (C) 2017-2024 Dominic Heutelbeck (dominic@heutelbeck.com)
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sapl.springdatar2dbc.sapl.queries.enforcement;
+
+import java.util.Map;
+
+/**
+ * A sql condition whose values are not part of the sql text but are bound by
+ * name when the query is executed.
+ *
+ * @param sql        the sql condition containing named bind markers.
+ * @param parameters the values of the bind markers by name.
+ */
+public record ParameterizedSqlQuery(String sql, Map<String, Object> parameters) {
+}
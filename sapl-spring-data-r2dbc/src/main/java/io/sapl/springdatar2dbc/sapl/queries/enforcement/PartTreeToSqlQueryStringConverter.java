@@ -20,9 +20,11 @@
 import static io.sapl.springdatacommon.sapl.utils.Utilities.isString;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.query.parser.Part;
@@ -35,10 +37,45 @@
 
 /**
  * This class is responsible for translating a PartTree into a Sql-Query.
+ * <p>
+ * The {@link PartTree} of a method only depends on the method name and the
+ * domain type. It is therefore parsed once into a {@link SqlQueryTemplate} and
+ * only the values of the method arguments are inserted per invocation.
  */
 @UtilityClass
 public class PartTreeToSqlQueryStringConverter {
 
+    private static final String PARAMETER_PREFIX = "sapl_p";
+
+    private static final Map<TemplateKey, SqlQueryTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
+    private record TemplateKey(String methodName, Class<?> domainType) {
+    }
+
+    /**
+     * The conditions and the sort order derived from a {@link PartTree}.
+     *
+     * @param conditions       the condition of each {@link Part}.
+     * @param orderBy          the ORDER BY clause, or an empty string.
+     * @param parameterizedSql the sql query with a named bind marker for each
+     *                         argument.
+     */
+    private record SqlQueryTemplate(List<ConditionTemplate> conditions, String orderBy, String parameterizedSql) {
+    }
+
+    /**
+     * The condition of a single {@link Part} without its value.
+     *
+     * @param conjunction   links the condition to the previous one.
+     * @param prefix        the property and the sql operator.
+     * @param isString      whether the property is a string.
+     * @param isArray       whether the operator expects a list of values.
+     * @param parameterName the name of the bind marker of the value.
+     */
+    private record ConditionTemplate(Conjunction conjunction, String prefix, boolean isString, boolean isArray,
+            String parameterName) {
+    }
+
     /**
      * Builds the corresponding Sql-Query with the information of a
      * {@link QueryManipulationEnforcementData} object.
@@ -48,60 +85,107 @@ public class PartTreeToSqlQueryStringConverter {
      * @return SQL query of a {@link PartTree}.
      */
     public <T> String createSqlBaseQuery(QueryManipulationEnforcementData<T> enforcementData) {
-        var methodName       = enforcementData.getMethodInvocation().getMethod().getName();
-        var arguments        = enforcementData.getMethodInvocation().getArguments();
-        var domainType       = enforcementData.getDomainType();
-        var partTree         = new PartTree(methodName, domainType);
-        var baseConditions   = new ArrayList<SqlCondition>();
-        var argumentIterator = Arrays.stream(arguments).iterator();
+        var template      = getTemplate(enforcementData);
+        var arguments     = enforcementData.getMethodInvocation().getArguments();
+        var conditions    = template.conditions();
+        var stringBuilder = new StringBuilder();
+
+        for (int i = 0; i < conditions.size(); i++) {
+            var condition = conditions.get(i);
+
+            if (i != 0) {
+                stringBuilder.append(' ').append(condition.conjunction()).append(' ');
+            }
+            stringBuilder.append(condition.prefix()).append(toSqlValue(condition, getArgument(arguments, i)));
+        }
+
+        return stringBuilder.append(template.orderBy()).toString();
+    }
+
+    /**
+     * Builds the corresponding Sql-Query with the information of a
+     * {@link QueryManipulationEnforcementData} object. In contrast to
+     * {@link #createSqlBaseQuery(QueryManipulationEnforcementData)} the values of
+     * the method arguments are not part of the query but bound by name, so the sql
+     * text of a method is the same for every invocation.
+     *
+     * @param enforcementData which contains the necessary information.
+     * @param <T>             the domain type
+     * @return parameterized SQL query of a {@link PartTree}.
+     */
+    public <T> ParameterizedSqlQuery createParameterizedSqlBaseQuery(
+            QueryManipulationEnforcementData<T> enforcementData) {
+        var template   = getTemplate(enforcementData);
+        var arguments  = enforcementData.getMethodInvocation().getArguments();
+        var conditions = template.conditions();
+        var parameters = new HashMap<String, Object>();
+
+        for (int i = 0; i < conditions.size(); i++) {
+            var condition = conditions.get(i);
+            parameters.put(condition.parameterName(), toBindValue(condition, getArgument(arguments, i)));
+        }
+
+        return new ParameterizedSqlQuery(template.parameterizedSql(), parameters);
+    }
+
+    private <T> SqlQueryTemplate getTemplate(QueryManipulationEnforcementData<T> enforcementData) {
+        var methodName = enforcementData.getMethodInvocation().getMethod().getName();
+        var key        = new TemplateKey(methodName, enforcementData.getDomainType());
+
+        return TEMPLATES.computeIfAbsent(key, PartTreeToSqlQueryStringConverter::createTemplate);
+    }
+
+    /**
+     * Parses the {@link PartTree} of a method and derives the conditions and the
+     * sort order of the query.
+     *
+     * @param key the method name and the domain type.
+     * @return the template of the query.
+     */
+    private SqlQueryTemplate createTemplate(TemplateKey key) {
+        var partTree   = new PartTree(key.methodName(), key.domainType());
+        var conditions = new ArrayList<ConditionTemplate>();
 
         for (PartTree.OrPart node : partTree) {
 
+            var isFirstOrPart = conditions.isEmpty();
             var partsIterator = node.iterator();
 
-            var currentOrPart = new ArrayList<SqlCondition>();
-            currentOrPart.add(and(partsIterator.next(), argumentIterator.next(), domainType));
-
             while (partsIterator.hasNext()) {
-                currentOrPart.add(and(partsIterator.next(), argumentIterator.next(), domainType));
-            }
+                var part        = partsIterator.next();
+                var conjunction = !isFirstOrPart && !partsIterator.hasNext() ? Conjunction.OR : Conjunction.AND;
 
-            baseConditions = baseConditions.isEmpty() ? currentOrPart : or(baseConditions, currentOrPart);
+                conditions.add(createConditionTemplate(part, key.domainType(), conjunction, conditions.size()));
+            }
         }
 
-        return toString(baseConditions, partTree.getSort().get());
+        var orderBy          = toOrderByString(partTree.getSort().toList());
+        var parameterizedSql = toParameterizedString(conditions) + orderBy;
+
+        return new SqlQueryTemplate(List.copyOf(conditions), orderBy, parameterizedSql);
     }
 
     /**
-     * Converts {@link SqlCondition}s to a Sql-Query.
+     * Converts the conditions of a template to a Sql-Query with named bind markers
+     * instead of values.
      *
      * @param conditions built from a {@link PartTree}
      * @return sql query.
      */
-    private String toString(List<SqlCondition> conditions, Stream<Sort.Order> sortOrders) {
+    private String toParameterizedString(List<ConditionTemplate> conditions) {
         var stringBuilder = new StringBuilder();
-        var orders        = sortOrders.toList();
 
         for (int i = 0; i < conditions.size(); i++) {
-            if (i == 0) {
-                stringBuilder.append(conditions.get(i).getCondition());
-            }
+            var condition = conditions.get(i);
+
             if (i != 0) {
-                stringBuilder.append(' ').append(conditions.get(i).getConjunction()).append(' ')
-                        .append(conditions.get(i).getCondition());
+                stringBuilder.append(' ').append(condition.conjunction()).append(' ');
             }
-        }
-
-        if (!orders.isEmpty()) {
-            stringBuilder.append(" ORDER BY");
-            for (int i = 0; i < orders.size(); i++) {
-                if (i == 0) {
-                    stringBuilder.append(' ').append(orders.get(i).getProperty()).append(' ')
-                            .append(orders.get(i).getDirection());
-                } else {
-                    stringBuilder.append(", ").append(orders.get(i).getProperty()).append(' ')
-                            .append(orders.get(i).getDirection());
-                }
+            stringBuilder.append(condition.prefix());
+            if (condition.isArray()) {
+                stringBuilder.append("(:").append(condition.parameterName()).append(')');
+            } else {
+                stringBuilder.append(':').append(condition.parameterName());
             }
         }
 
@@ -109,20 +193,31 @@ private String toString(List<SqlCondition> conditions, Stream<Sort.Order> sortOr
     }
 
     /**
-     * If the {@link PartTree} has {@link PartTree.OrPart}, respectively if the
-     * query method has an Or-Conjunction, the corresponding {@link SqlCondition} is
-     * adjusted here.
+     * Converts the sort orders of a {@link PartTree} to an ORDER BY clause.
      *
-     * @param baseConditions the already built {@link SqlCondition}s.
-     * @param currentOrPart  the current SqlConditions, where the last
-     *                       {@link SqlCondition} is adjusted.
-     * @return the composite {@link SqlCondition}s.
+     * @param orders the sort orders.
+     * @return the ORDER BY clause, or an empty string if there is no sort order.
      */
-    private ArrayList<SqlCondition> or(ArrayList<SqlCondition> baseConditions, ArrayList<SqlCondition> currentOrPart) {
-        var conditionsSize = currentOrPart.size();
-        currentOrPart.get(conditionsSize - 1).setConjunction(Conjunction.OR);
-        baseConditions.addAll(currentOrPart);
-        return baseConditions;
+    private String toOrderByString(List<Sort.Order> orders) {
+        if (orders.isEmpty()) {
+            return "";
+        }
+
+        var stringBuilder = new StringBuilder(" ORDER BY");
+
+        for (int i = 0; i < orders.size(); i++) {
+            stringBuilder.append(i == 0 ? " " : ", ").append(orders.get(i).getProperty()).append(' ')
+                    .append(orders.get(i).getDirection());
+        }
+
+        return stringBuilder.toString();
+    }
+
+    private Object getArgument(Object[] arguments, int index) {
+        if (index >= arguments.length) {
+            throw new NoSuchElementException("The appropriate argument is missing for this part of the method. ");
+        }
+        return arguments[index];
     }
 
     /**
@@ -144,6 +239,23 @@ private String toSqlConditionString(String value) {
      * @return the transformed list as string.
      */
     private String createSqlArgumentArray(Object arg) {
+        var arrayList = new ArrayList<String>();
+
+        for (String argument : getStringArguments(arg)) {
+            arrayList.add(toSqlConditionString(argument));
+        }
+
+        return replaceSquareBracketsWithRoundBrackets(arrayList);
+    }
+
+    /**
+     * Accepts an object which is supposed to be a list and returns the strings it
+     * contains.
+     *
+     * @param arg which is supposed to be a list of strings.
+     * @return the strings of the list.
+     */
+    private List<String> getStringArguments(Object arg) {
         if (!(arg instanceof List<?> arguments)) {
             throw new IllegalStateException("Operator requires array of arguments.");
         }
@@ -152,11 +264,11 @@ private String createSqlArgumentArray(Object arg) {
 
         for (Object argument : arguments) {
             if (argument instanceof String stringArgument) {
-                arrayList.add(toSqlConditionString(stringArgument));
+                arrayList.add(stringArgument);
             }
         }
 
-        return replaceSquareBracketsWithRoundBrackets(arrayList);
+        return arrayList;
     }
 
     /**
@@ -171,34 +283,92 @@ private String replaceSquareBracketsWithRoundBrackets(Object arrayList) {
     }
 
     /**
-     * Builds a {@link SqlCondition} from the available parameters.
+     * Converts the argument of a condition to its representation within a sql
+     * query.
      *
-     * @param part       is the current {@link Part}
-     * @param argument   is the corresponding value of the part.
-     * @param domainType is the domain type.
-     * @return created {@link SqlCondition}.
+     * @param condition the condition the argument belongs to.
+     * @param argument  is the corresponding value of the condition.
+     * @return the argument as it is written into the sql query.
      */
-    @SneakyThrows // NoSuchFieldException, NullPointerException
-    public <T> SqlCondition and(Part part, Object argument, Class<T> domainType) {
+    private Object toSqlValue(ConditionTemplate condition, Object argument) {
+        if (argument == null) {
+            throw new NullPointerException("The appropriate argument is missing for this part of the method. ");
+        }
+
+        if (condition.isString() && condition.isArray()) {
+            return createSqlArgumentArray(argument);
+        }
+
+        if (condition.isArray()) {
+            return replaceSquareBracketsWithRoundBrackets(argument);
+        }
+
+        if (condition.isString()) {
+            return toSqlConditionString(argument.toString());
+        }
+
+        return argument;
+    }
+
+    /**
+     * Converts the argument of a condition to the value which is bound to its bind
+     * marker. Collections are expanded to a list of bind markers by R2DBC.
+     *
+     * @param condition the condition the argument belongs to.
+     * @param argument  is the corresponding value of the condition.
+     * @return the value to bind.
+     */
+    private Object toBindValue(ConditionTemplate condition, Object argument) {
         if (argument == null) {
             throw new NullPointerException("The appropriate argument is missing for this part of the method. ");
         }
-        var operator  = OperatorR2dbc.valueOf(part.getType().name());
-        var fieldType = domainType.getDeclaredField(part.getProperty().toDotPath()).getType();
 
-        if (isString(fieldType) && operator.isArray()) {
-            argument = createSqlArgumentArray(argument);
+        if (condition.isString() && condition.isArray()) {
+            return getStringArguments(argument);
         }
 
-        if (!isString(fieldType) && operator.isArray()) {
-            argument = replaceSquareBracketsWithRoundBrackets(argument);
+        if (condition.isString()) {
+            return argument.toString();
         }
 
-        if (isString(fieldType) && !operator.isArray()) {
-            argument = toSqlConditionString(argument.toString());
+        return argument;
+    }
+
+    /**
+     * Derives the condition of a {@link Part} without its value.
+     *
+     * @param part        is the current {@link Part}
+     * @param domainType  is the domain type.
+     * @param conjunction links the condition to the previous one.
+     * @param index       is the position of the condition within the query.
+     * @return created {@link ConditionTemplate}.
+     */
+    @SneakyThrows // NoSuchFieldException
+    private <T> ConditionTemplate createConditionTemplate(Part part, Class<T> domainType, Conjunction conjunction,
+            int index) {
+        var property  = part.getProperty().toDotPath();
+        var operator  = OperatorR2dbc.valueOf(part.getType().name());
+        var fieldType = domainType.getDeclaredField(property).getType();
+        var prefix    = property + " " + operator.getSqlQueryBasedKeywords().get(0) + " ";
+
+        return new ConditionTemplate(conjunction, prefix, isString(fieldType), operator.isArray(),
+                PARAMETER_PREFIX + index);
+    }
+
+    /**
+     * Builds a {@link SqlCondition} from the available parameters.
+     *
+     * @param part       is the current {@link Part}
+     * @param argument   is the corresponding value of the part.
+     * @param domainType is the domain type.
+     * @return created {@link SqlCondition}.
+     */
+    public <T> SqlCondition and(Part part, Object argument, Class<T> domainType) {
+        if (argument == null) {
+            throw new NullPointerException("The appropriate argument is missing for this part of the method. ");
         }
+        var condition = createConditionTemplate(part, domainType, Conjunction.AND, 0);
 
-        return new SqlCondition(Conjunction.AND,
-                part.getProperty().toDotPath() + " " + operator.getSqlQueryBasedKeywords().get(0) + " " + argument);
+        return new SqlCondition(Conjunction.AND, condition.prefix() + toSqlValue(condition, argument));
     }
 }
@@ -117,16 +117,18 @@ private Flux<T> retrieveData(ArrayNode obligations) {
     }
 
     /**
-     * Calling the database with the manipulated query.
+     * Calling the database with the manipulated query. The values of the method
+     * arguments are bound to the query instead of being written into it.
      *
      * @param obligations are the obligations from the {@link Decision}.
      * @return objects from the database that were queried with the manipulated
      *         query.
      */
     private Flux<T> enforceQueryManipulation(ArrayNode obligations) {
-        var manipulatedCondition = createSqlQuery(obligations);
+        var manipulatedQuery = createSqlQuery(obligations);
 
-        return queryManipulationExecutor.execute(manipulatedCondition, enforcementData.getDomainType())
+        return queryManipulationExecutor
+                .execute(manipulatedQuery.sql(), manipulatedQuery.parameters(), enforcementData.getDomainType())
                 .map(dataManipulationHandler.toDomainObject(true));
     }
 
@@ -138,15 +140,17 @@ private Flux<T> enforceQueryManipulation(ArrayNode obligations) {
      * @param obligations are the obligations from the {@link Decision}.
      * @return created sql query.
      */
-    private String createSqlQuery(ArrayNode obligations) {
+    private ParameterizedSqlQuery createSqlQuery(ArrayNode obligations) {
         var r2dbcQueryManipulationObligation = queryManipulationObligationProvider.getObligation(obligations,
                 R2DBC_QUERY_MANIPULATION_TYPE);
         var condition                        = queryManipulationObligationProvider
                 .getConditions(r2dbcQueryManipulationObligation);
-        var sqlConditionFromDecision         = addMissingConjunction(condition.get(0).asText());
-        var baseQuery                        = PartTreeToSqlQueryStringConverter.createSqlBaseQuery(enforcementData);
+        var sqlConditionFromDecision         = condition.get(0).asText();
+        var baseQuery                        = PartTreeToSqlQueryStringConverter
+                .createParameterizedSqlBaseQuery(enforcementData);
 
-        return baseQuery + sqlConditionFromDecision;
+        return new ParameterizedSqlQuery(baseQuery.sql() + getConjunction(sqlConditionFromDecision)
+                + sqlConditionFromDecision, baseQuery.parameters());
     }
 
     /**
@@ -154,17 +158,35 @@ private String createSqlQuery(ArrayNode obligations) {
      * conjunction is automatically assumed and appended to the base query.
      *
      * @param sqlConditionFromDecision represents the condition
-     * @return the condition with conjunction or not
+     * @return the separator between the base query and the condition
      */
-    private String addMissingConjunction(String sqlConditionFromDecision) {
-        var conditionStartsWithConjunction = sqlConditionFromDecision.toLowerCase().trim().startsWith("and ")
-                || sqlConditionFromDecision.toLowerCase().trim().startsWith("or ");
+    private String getConjunction(String sqlConditionFromDecision) {
+        var conditionStartsWithConjunction = startsWithIgnoreCase(sqlConditionFromDecision, "and ")
+                || startsWithIgnoreCase(sqlConditionFromDecision, "or ");
 
         if (conditionStartsWithConjunction) {
-            return " " + sqlConditionFromDecision;
+            return " ";
         } else {
-            return " AND " + sqlConditionFromDecision;
+            return " AND ";
         }
     }
 
+    /**
+     * Checks whether the condition starts with the keyword, ignoring leading
+     * whitespace and case, without creating a lowercased copy of the condition.
+     *
+     * @param condition is the condition of the sql-query.
+     * @param keyword   is the keyword.
+     * @return true, if the condition starts with the keyword.
+     */
+    private static boolean startsWithIgnoreCase(String condition, String keyword) {
+        var start = 0;
+
+        while (start < condition.length() && condition.charAt(start) <= ' ') {
+            start++;
+        }
+
+        return condition.regionMatches(true, start, keyword, 0, keyword.length());
+    }
+
 }
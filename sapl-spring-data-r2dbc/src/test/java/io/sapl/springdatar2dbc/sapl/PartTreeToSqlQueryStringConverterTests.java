@@ -27,6 +27,7 @@
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.stream.Stream;
 
@@ -81,6 +82,74 @@ void when_sqlQueryCanBeDerivedFromMethodName_then_createSqlBaseQuery(String meth
         assertEquals(sqlQueryResult, result);
     }
 
+    @ParameterizedTest
+    @MethodSource("methodNameToParameterizedSqlQuery")
+    void when_sqlQueryCanBeDerivedFromMethodName_then_createParameterizedSqlBaseQuery(String methodName,
+            Object[] arguments, String sqlQueryResult, Map<String, Object> parametersResult) {
+        // GIVEN
+        var enforcementData = new QueryManipulationEnforcementData<>(methodInvocationMock, beanFactoryMock,
+                Person.class, pdpMock, authSubPermit);
+
+        // WHEN
+        when(methodInvocationMock.getMethod().getName()).thenReturn(methodName);
+        when(methodInvocationMock.getArguments()).thenReturn(arguments);
+
+        var result = PartTreeToSqlQueryStringConverter.createParameterizedSqlBaseQuery(enforcementData);
+
+        // THEN
+        assertEquals(sqlQueryResult, result.sql());
+        assertEquals(parametersResult, result.parameters());
+    }
+
+    @Test
+    void when_sameMethodIsCalledWithDifferentArguments_then_onlyValuesOfParametersDiffer() {
+        // GIVEN
+        var enforcementData = new QueryManipulationEnforcementData<>(methodInvocationMock, beanFactoryMock,
+                Person.class, pdpMock, authSubPermit);
+
+        // WHEN
+        when(methodInvocationMock.getMethod().getName()).thenReturn("findAllByFirstnameAndAgeBefore");
+        when(methodInvocationMock.getArguments()).thenReturn(new Object[] { "Aaron", 30 });
+        var first = PartTreeToSqlQueryStringConverter.createParameterizedSqlBaseQuery(enforcementData);
+        when(methodInvocationMock.getArguments()).thenReturn(new Object[] { "Brian", 40 });
+        var second = PartTreeToSqlQueryStringConverter.createParameterizedSqlBaseQuery(enforcementData);
+
+        // THEN
+        assertEquals(first.sql(), second.sql());
+        assertEquals(Map.of("sapl_p0", "Aaron", "sapl_p1", 30), first.parameters());
+        assertEquals(Map.of("sapl_p0", "Brian", "sapl_p1", 40), second.parameters());
+    }
+
+    @Test
+    void when_parameterizedPartTreeHasMissingArgument_then_throwNoSuchElementException() {
+        // GIVEN
+        var enforcementData = new QueryManipulationEnforcementData<>(methodInvocationMock, beanFactoryMock,
+                Person.class, pdpMock, authSubPermit);
+
+        // WHEN
+        when(methodInvocationMock.getMethod().getName()).thenReturn("findAllByAge");
+        when(methodInvocationMock.getArguments()).thenReturn(new Object[] {});
+
+        // THEN
+        assertThrows(NoSuchElementException.class,
+                () -> PartTreeToSqlQueryStringConverter.createParameterizedSqlBaseQuery(enforcementData));
+    }
+
+    @Test
+    void when_parameterizedOperatorRequiresArrayOfArgumentsButItIsNoArray_then_throwIllegalStateException() {
+        // GIVEN
+        var enforcementData = new QueryManipulationEnforcementData<>(methodInvocationMock, beanFactoryMock,
+                Person.class, pdpMock, authSubPermit);
+
+        // WHEN
+        when(methodInvocationMock.getMethod().getName()).thenReturn("findAllByFirstnameIn");
+        when(methodInvocationMock.getArguments()).thenReturn(new Object[] { "Aaron" });
+
+        // THEN
+        assertThrows(IllegalStateException.class,
+                () -> PartTreeToSqlQueryStringConverter.createParameterizedSqlBaseQuery(enforcementData));
+    }
+
     @Test
     void when_partTreeHasNoOrPartAtAll_then_throwNoSuchElementException() {
         // GIVEN
@@ -153,4 +222,21 @@ private static Stream<Arguments> methodNameToSqlQuery() {
                 arguments("streamAllByFirstnameIsNotIn", new Object[] { List.of("Aaron", 123, "Brian", "Cathrin") },
                         "firstname NIN ('Aaron', 'Brian', 'Cathrin')"));
     }
+
+    private static Stream<Arguments> methodNameToParameterizedSqlQuery() {
+
+        return Stream.of(arguments("readByAgeIs", new Object[] { 30 }, "age = :sapl_p0", Map.of("sapl_p0", 30)),
+                arguments("findByFirstnameIsNot", new Object[] { "Aaron" }, "firstname <> :sapl_p0",
+                        Map.of("sapl_p0", "Aaron")),
+                arguments("streamAllByAgeIn", new Object[] { List.of(20, 30, 40) }, "age IN (:sapl_p0)",
+                        Map.of("sapl_p0", List.of(20, 30, 40))),
+                arguments("findAllByFirstnameAndAgeBefore", new Object[] { '2', 30 },
+                        "firstname = :sapl_p0 AND age < :sapl_p1", Map.of("sapl_p0", "2", "sapl_p1", 30)),
+                arguments("findAllByAgeOrderByAgeAscFirstnameDesc", new Object[] { 30 },
+                        "age = :sapl_p0 ORDER BY age ASC, firstname DESC", Map.of("sapl_p0", 30)),
+                arguments("queryByAgeIsGreaterThanEqualOrFirstnameIs", new Object[] { 30, "Aaron" },
+                        "age >= :sapl_p0 OR firstname = :sapl_p1", Map.of("sapl_p0", 30, "sapl_p1", "Aaron")),
+                arguments("streamAllByFirstnameIsNotIn", new Object[] { List.of("Aaron", 123, "Brian", "Cathrin") },
+                        "firstname NIN (:sapl_p0)", Map.of("sapl_p0", List.of("Aaron", "Brian", "Cathrin"))));
+    }
 }
@@ -98,6 +98,35 @@ void when_r2dbcEntityTemplateWasFound_then_executeQuery() {
         }
     }
 
+    @Test
+    void when_r2dbcEntityTemplateWasFoundAndQueryHasParameters_then_executeQueryWithParameters() {
+        // GIVEN
+        var query           = "firstname = :sapl_p0";
+        var completeQuery   = "SELECT * FROM person WHERE " + query;
+        var parameters      = Map.<String, Object>of("sapl_p0", "Malinda");
+        var beanFactoryMock = mock(BeanFactory.class);
+
+        try (MockedConstruction<R2dbcEntityTemplateExecutor> r2dbcEntityTemplateExecutorMockedConstruction = Mockito
+                .mockConstruction(R2dbcEntityTemplateExecutor.class)) {
+
+            // WHEN
+            when(beanFactoryMock.getBean(R2dbcEntityTemplate.class)).thenReturn(r2dbcEntityTemplateMock);
+
+            var queryManipulationExecutor   = new QueryManipulationExecutor(beanFactoryMock);
+            var r2dbcEntityTemplateExecutor = r2dbcEntityTemplateExecutorMockedConstruction.constructed().get(0);
+
+            when(r2dbcEntityTemplateExecutor.executeQuery(completeQuery, parameters))
+                    .thenReturn(Flux.just(userHashMap));
+
+            var result = queryManipulationExecutor.execute(query, parameters, Person.class);
+
+            // THEN
+            StepVerifier.create(result).expectNext(userHashMap).verifyComplete();
+
+            Mockito.verify(r2dbcEntityTemplateExecutor, times(1)).executeQuery(completeQuery, parameters);
+        }
+    }
+
     @Test
     void when_r2dbcEntityTemplateWasFoundAndPersonHasNoAtTableAnnotation_then_executeQuery() {
         // GIVEN
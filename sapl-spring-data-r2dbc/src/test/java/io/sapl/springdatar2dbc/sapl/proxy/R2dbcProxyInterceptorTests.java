@@ -20,18 +20,22 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.aopalliance.intercept.MethodInvocation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.BeanFactory;
 
 import io.sapl.api.pdp.AuthorizationDecision;
@@ -50,6 +54,7 @@
 import io.sapl.springdatar2dbc.sapl.database.repositoryerror.MethodInvocationForRepositoryError;
 import io.sapl.springdatar2dbc.sapl.queries.enforcement.R2dbcAnnotationQueryManipulationEnforcementPoint;
 import io.sapl.springdatar2dbc.sapl.queries.enforcement.R2dbcMethodNameQueryManipulationEnforcementPoint;
+import io.sapl.springdatar2dbc.sapl.utils.annotation.AnnotationUtilities;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -332,4 +337,34 @@ void when_customRepositoryDoesNotExtendSpringDataRepository_then_throwClassCastE
                 "The interface org.springframework.data.r2dbc.repository.R2dbcRepository or interface org.springframework.data.repository.reactive.ReactiveCrudRepository could not be found as an extension of the interface io.sapl.springdatar2dbc.sapl.database.repositoryerror.RepositoryNotFoundException",
                 thrown.getMessage());
     }
+
+    @Test
+    void when_repositoryMethodIsInvokedRepeatedly_then_planIsReusedAndEnforcementDataIsNotShared() {
+        // GIVEN
+        var authSub          = AuthorizationSubscription.of("subject", "permitTest", "resource", "environment");
+        var firstInvocation  = new MethodInvocationForTesting("findAllByFirstname",
+                new ArrayList<>(List.of(String.class)), null, null);
+        var secondInvocation = new MethodInvocationForTesting("findAllByFirstname",
+                new ArrayList<>(List.of(String.class)), null, null);
+        var enforcementData  = ArgumentCaptor.forClass(QueryManipulationEnforcementData.class);
+
+        // WHEN
+        when(authSubHandlerMock.getAuthSub(any(Class.class), any(MethodInvocation.class), any())).thenReturn(authSub);
+        when(factoryMock
+                .createR2dbcMethodNameQueryManipulationEnforcementPoint(any(QueryManipulationEnforcementData.class)))
+                .thenReturn(r2dbcMethodNameQueryManipulationEnforcementPointMock);
+        when(r2dbcMethodNameQueryManipulationEnforcementPointMock.enforce()).thenReturn(data);
+
+        var proxyHandler = new R2dbcProxyInterceptor<>(authSubHandlerMock, beanFactoryMock, pdpMock, factoryMock);
+        try (var annotationUtilities = mockStatic(AnnotationUtilities.class, CALLS_REAL_METHODS)) {
+            proxyHandler.invoke(firstInvocation);
+            proxyHandler.invoke(secondInvocation);
+
+            // THEN
+            annotationUtilities.verify(() -> AnnotationUtilities.hasAnnotationQuery(any(Method.class)), times(1));
+        }
+        verify(factoryMock, times(2)).createR2dbcMethodNameQueryManipulationEnforcementPoint(enforcementData.capture());
+        assertEquals(firstInvocation, enforcementData.getAllValues().get(0).getMethodInvocation());
+        assertEquals(secondInvocation, enforcementData.getAllValues().get(1).getMethodInvocation());
+    }
 }
@@ -82,6 +82,8 @@ class R2dbcMethodNameQueryManipulationEnforcementPointTests {
     private static ArrayNode                   CONDITIONS_WITH_CONJUNCTION_OR;
     private static EmbeddedPolicyDecisionPoint PDP;
     private static final String                R2DBC_QUERY_MANIPULATION_TYPE = "r2dbcQueryManipulation";
+    private static final ParameterizedSqlQuery BASE_QUERY                    = new ParameterizedSqlQuery(
+            "firstname = :sapl_p0", Map.of("sapl_p0", "Cathrin"));
 
     final Person    malinda        = new Person(1, "Malinda", "Perrot", 53, Role.ADMIN, true);
     final ArrayNode emptyArrayNode = MAPPER.createArrayNode();
@@ -253,8 +255,8 @@ void when_thereAreConditionsInTheDecision_then_enforce() {
                             .when(() -> ConstraintHandlerUtils.getObligations(any(AuthorizationDecision.class)))
                             .thenReturn(OBLIGATIONS);
                     partTreeToSqlQueryStringConverterMock
-                            .when(() -> PartTreeToSqlQueryStringConverter.createSqlBaseQuery(enforcementData))
-                            .thenReturn("firstname = 'Cathrin'");
+                            .when(() -> PartTreeToSqlQueryStringConverter.createParameterizedSqlBaseQuery(enforcementData))
+                            .thenReturn(BASE_QUERY);
 
                     var r2dbcMethodNameQueryManipulationEnforcementPoint = new R2dbcMethodNameQueryManipulationEnforcementPoint<>(
                             enforcementData);
@@ -273,7 +275,8 @@ void when_thereAreConditionsInTheDecision_then_enforce() {
                     when(dataManipulationHandler.toDomainObject(true)).thenReturn(obligations -> Flux.just(malinda));
 
                     var queryManipulationExecutor = queryManipulationExecutorMockedConstruction.constructed().get(0);
-                    when(queryManipulationExecutor.execute(anyString(), eq(Person.class))).thenReturn(fluxMap);
+                    when(queryManipulationExecutor.execute(anyString(), eq(BASE_QUERY.parameters()), eq(Person.class)))
+                            .thenReturn(fluxMap);
 
                     // THEN
                     var result = r2dbcMethodNameQueryManipulationEnforcementPoint.enforce();
@@ -281,6 +284,8 @@ void when_thereAreConditionsInTheDecision_then_enforce() {
                     StepVerifier.create(result).expectNext(malinda).expectComplete().verify();
 
                     verify(dataManipulationHandler, times(1)).manipulate(OBLIGATIONS);
+                    verify(queryManipulationExecutor, times(1)).execute("firstname = :sapl_p0 AND role IN('USER')",
+                            BASE_QUERY.parameters(), Person.class);
                     verify(QueryManipulationObligationProvider, times(1)).isResponsible(OBLIGATIONS,
                             R2DBC_QUERY_MANIPULATION_TYPE);
                     verify(QueryManipulationObligationProvider, times(1)).getObligation(OBLIGATIONS,
@@ -322,8 +327,8 @@ void when_thereAreConditionsInTheDecisionWithConjunctionAnd_then_enforce() {
                             .when(() -> ConstraintHandlerUtils.getObligations(any(AuthorizationDecision.class)))
                             .thenReturn(OBLIGATION_WITH_CONJUNCTION_AND);
                     partTreeToSqlQueryStringConverterMock
-                            .when(() -> PartTreeToSqlQueryStringConverter.createSqlBaseQuery(enforcementData))
-                            .thenReturn("firstname = 'Cathrin'");
+                            .when(() -> PartTreeToSqlQueryStringConverter.createParameterizedSqlBaseQuery(enforcementData))
+                            .thenReturn(BASE_QUERY);
 
                     var r2dbcMethodNameQueryManipulationEnforcementPoint = new R2dbcMethodNameQueryManipulationEnforcementPoint<>(
                             enforcementData);
@@ -343,7 +348,8 @@ void when_thereAreConditionsInTheDecisionWithConjunctionAnd_then_enforce() {
                     when(dataManipulationHandler.toDomainObject(true)).thenReturn(obligations -> Flux.just(malinda));
 
                     var queryManipulationExecutor = queryManipulationExecutorMockedConstruction.constructed().get(0);
-                    when(queryManipulationExecutor.execute(anyString(), eq(Person.class))).thenReturn(fluxMap);
+                    when(queryManipulationExecutor.execute(anyString(), eq(BASE_QUERY.parameters()), eq(Person.class)))
+                            .thenReturn(fluxMap);
 
                     // THEN
                     var result = r2dbcMethodNameQueryManipulationEnforcementPoint.enforce();
@@ -351,6 +357,8 @@ void when_thereAreConditionsInTheDecisionWithConjunctionAnd_then_enforce() {
                     StepVerifier.create(result).expectNext(malinda).expectComplete().verify();
 
                     verify(dataManipulationHandler, times(1)).manipulate(OBLIGATION_WITH_CONJUNCTION_AND);
+                    verify(queryManipulationExecutor, times(1)).execute("firstname = :sapl_p0 AND role IN('USER')",
+                            BASE_QUERY.parameters(), Person.class);
                     verify(QueryManipulationObligationProvider, times(1)).isResponsible(OBLIGATION_WITH_CONJUNCTION_AND,
                             R2DBC_QUERY_MANIPULATION_TYPE);
                     verify(QueryManipulationObligationProvider, times(1)).getObligation(OBLIGATION_WITH_CONJUNCTION_AND,
@@ -392,8 +400,8 @@ void when_thereAreConditionsInTheDecisionWithConjunctionOr_then_enforce() {
                             .when(() -> ConstraintHandlerUtils.getObligations(any(AuthorizationDecision.class)))
                             .thenReturn(OBLIGATION_WITH_CONJUNCTION_OR);
                     partTreeToSqlQueryStringConverterMock
-                            .when(() -> PartTreeToSqlQueryStringConverter.createSqlBaseQuery(enforcementData))
-                            .thenReturn("firstname = 'Cathrin'");
+                            .when(() -> PartTreeToSqlQueryStringConverter.createParameterizedSqlBaseQuery(enforcementData))
+                            .thenReturn(BASE_QUERY);
 
                     var r2dbcMethodNameQueryManipulationEnforcementPoint = new R2dbcMethodNameQueryManipulationEnforcementPoint<>(
                             enforcementData);
@@ -413,7 +421,8 @@ void when_thereAreConditionsInTheDecisionWithConjunctionOr_then_enforce() {
                     when(dataManipulationHandler.toDomainObject(true)).thenReturn(obligations -> Flux.just(malinda));
 
                     var queryManipulationExecutor = queryManipulationExecutorMockedConstruction.constructed().get(0);
-                    when(queryManipulationExecutor.execute(anyString(), eq(Person.class))).thenReturn(fluxMap);
+                    when(queryManipulationExecutor.execute(anyString(), eq(BASE_QUERY.parameters()), eq(Person.class)))
+                            .thenReturn(fluxMap);
 
                     // THEN
                     var result = r2dbcMethodNameQueryManipulationEnforcementPoint.enforce();
@@ -421,6 +430,8 @@ void when_thereAreConditionsInTheDecisionWithConjunctionOr_then_enforce() {
                     StepVerifier.create(result).expectNext(malinda).expectComplete().verify();
 
                     verify(dataManipulationHandler, times(1)).manipulate(OBLIGATION_WITH_CONJUNCTION_OR);
+                    verify(queryManipulationExecutor, times(1)).execute("firstname = :sapl_p0 OR role IN('USER')",
+                            BASE_QUERY.parameters(), Person.class);
                     verify(QueryManipulationObligationProvider, times(1)).isResponsible(OBLIGATION_WITH_CONJUNCTION_OR,
                             R2DBC_QUERY_MANIPULATION_TYPE);
                     verify(QueryManipulationObligationProvider, times(1)).getObligation(OBLIGATION_WITH_CONJUNCTION_OR,
@@ -529,7 +540,7 @@ void when_r2dbcQueryManipulationObligationIsResponsibleIsFalse_then_proceedWitho
                     constraintHandlerUtilsMock.verify(
                             () -> ConstraintHandlerUtils.getObligations(any(AuthorizationDecision.class)), times(1));
                     partTreeToSqlQueryStringConverterMock.verify(() -> PartTreeToSqlQueryStringConverter
-                            .createSqlBaseQuery(any(QueryManipulationEnforcementData.class)), never());
+                            .createParameterizedSqlBaseQuery(any(QueryManipulationEnforcementData.class)), never());
                 }
             }
         }
@@ -590,7 +601,7 @@ void when_r2dbcQueryManipulationObligationIsResponsibleIsFalseAndReturnTypeIsMon
                     constraintHandlerUtilsMock.verify(
                             () -> ConstraintHandlerUtils.getObligations(any(AuthorizationDecision.class)), times(1));
                     partTreeToSqlQueryStringConverterMock.verify(() -> PartTreeToSqlQueryStringConverter
-                            .createSqlBaseQuery(any(QueryManipulationEnforcementData.class)), never());
+                            .createParameterizedSqlBaseQuery(any(QueryManipulationEnforcementData.class)), never());
                 }
             }
         }
@@ -649,7 +660,7 @@ void when_r2dbcQueryManipulationObligationIsResponsibleIsFalseAndReturnTypeIsMon
                     constraintHandlerUtilsMock.verify(
                             () -> ConstraintHandlerUtils.getObligations(any(AuthorizationDecision.class)), times(1));
                     partTreeToSqlQueryStringConverterMock.verify(() -> PartTreeToSqlQueryStringConverter
-                            .createSqlBaseQuery(any(QueryManipulationEnforcementData.class)), never());
+                            .createParameterizedSqlBaseQuery(any(QueryManipulationEnforcementData.class)), never());
                 }
             }
         }
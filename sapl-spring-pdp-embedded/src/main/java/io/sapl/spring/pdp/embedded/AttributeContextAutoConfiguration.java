@@ -23,6 +23,7 @@
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Role;
@@ -33,6 +34,7 @@
 import io.sapl.interpreter.InitializationException;
 import io.sapl.interpreter.pip.AnnotationAttributeContext;
 import io.sapl.interpreter.pip.AttributeContext;
+import io.sapl.interpreter.pip.AttributeStreamBroker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -40,17 +42,19 @@
 @AutoConfiguration
 @RequiredArgsConstructor
 @AutoConfigureAfter(PolicyInformationPointsAutoConfiguration.class)
+@EnableConfigurationProperties(EmbeddedPDPProperties.class)
 public class AttributeContextAutoConfiguration {
 
     private final Collection<PolicyInformationPointSupplier>       pipSuppliers;
     private final Collection<StaticPolicyInformationPointSupplier> staticPipSuppliers;
     private final ConfigurableApplicationContext                   applicationContext;
+    private final EmbeddedPDPProperties                            pdpProperties;
 
     @Bean
     @ConditionalOnMissingBean
     @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
     AttributeContext attributeContext() throws InitializationException {
-        var ctx = new AnnotationAttributeContext();
+        var ctx = new AnnotationAttributeContext(attributeStreamBroker());
         for (var supplier : pipSuppliers) {
             for (var pip : supplier.get()) {
                 log.trace("loading Policy Information Point: {}", pip.getClass().getSimpleName());
@@ -71,4 +75,12 @@ AttributeContext attributeContext() throws InitializationException {
         return ctx;
     }
 
+    private AttributeStreamBroker attributeStreamBroker() {
+        if (!pdpProperties.isShareAttributeStreams())
+            return AttributeStreamBroker.unshared();
+        log.info("sharing attribute streams between subscriptions with a grace period of {}",
+                pdpProperties.getAttributeStreamGracePeriod());
+        return new AttributeStreamBroker(pdpProperties.getAttributeStreamGracePeriod());
+    }
+
 }
@@ -17,11 +17,15 @@
  */
 package io.sapl.spring.pdp.embedded;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.Data;
 
 /**
@@ -64,6 +68,14 @@ public class EmbeddedPDPProperties {
     @NotNull
     private IndexType index = IndexType.NAIVE;
 
+    /**
+     * Number of shards the documents are partitioned into. The shards are indexed
+     * with the selected index type and are matched against subscriptions in
+     * parallel. A value of 1 uses a single index.
+     */
+    @Positive
+    private int indexShards = 1;
+
     /**
      * This property sets the path to the folder where the pdp.json configuration
      * file is located.
@@ -84,6 +96,45 @@ public class EmbeddedPDPProperties {
     @NotEmpty
     private String policiesPath = "/policies";
 
+    /**
+     * If the pdpConfigType is set to FILESYSTEM, changes to documents are collected
+     * until no further change occurred for this period. Then all changes are
+     * applied to the index at once. A value of 0 applies each change individually.
+     */
+    @NotNull
+    private Duration policiesUpdateQuietPeriod = Duration.ofMillis(250L);
+
+    /**
+     * If the pdpConfigType is set to FILESYSTEM, changes collected during the quiet
+     * period are applied at the latest after this time, even if further changes
+     * keep occurring.
+     */
+    @NotNull
+    private Duration policiesUpdateMaxWait = Duration.ofSeconds(5L);
+
+    /**
+     * If the pdpConfigType is set to FILESYSTEM, at most this number of changes is
+     * applied to the index at once.
+     */
+    @Positive
+    private int policiesUpdateMaxBatchSize = 1000;
+
+    /**
+     * If the pdpConfigType is set to FILESYSTEM, many documents are parsed in
+     * parallel by a dedicated pool of this number of threads. Defaults to the
+     * number of available processors.
+     */
+    @Positive
+    private int policiesParsingParallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * If the pdpConfigType is set to FILESYSTEM, the parsed documents are stored in
+     * a snapshot file at this path. After a restart, unchanged documents are
+     * restored from the snapshot instead of being parsed again. If no path is set,
+     * no snapshot is used.
+     */
+    private String policiesSnapshotPath;
+
     /**
      * Indicate whether to load policies from the resources or the file system.
      */
@@ -141,4 +192,39 @@ public enum IndexType {
      */
     private boolean printTextReport = false;
 
+    /**
+     * If this property is set to true, concurrent subscriptions with equal
+     * authorization subscriptions share a single stream of decisions.
+     */
+    private boolean shareDecisionStreams = false;
+
+    /**
+     * If this property is set to true, all subscriptions share the streams of
+     * attribute finders invoked with equal left-hand values and arguments. Each
+     * attribute finder is then invoked once for all of them, and late subscribers
+     * receive the latest value of the attribute.
+     */
+    private boolean shareAttributeStreams = false;
+
+    /**
+     * Time for which a shared attribute stream is kept alive after its last
+     * subscriber left.
+     */
+    @NotNull
+    private Duration attributeStreamGracePeriod = Duration.ofSeconds(1L);
+
+    /**
+     * Maximum number of cached results of one-shot decisions. Only decisions which
+     * do not depend on attribute finders are cached. The cache is cleared whenever
+     * policies or the PDP configuration change. A value of 0 disables the cache.
+     */
+    @PositiveOrZero
+    private long decisionCacheSize = 0L;
+
+    /**
+     * Time after which a cached decision is evicted.
+     */
+    @NotNull
+    private Duration decisionCacheTimeToLive = Duration.ofSeconds(30L);
+
 }
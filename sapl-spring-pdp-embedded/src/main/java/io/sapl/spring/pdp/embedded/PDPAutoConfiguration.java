@@ -21,10 +21,12 @@
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Role;
 
 import io.sapl.api.pdp.PolicyDecisionPoint;
+import io.sapl.pdp.DecisionCacheConfiguration;
 import io.sapl.pdp.EmbeddedPolicyDecisionPoint;
 import io.sapl.pdp.config.PDPConfigurationProvider;
 import io.sapl.prp.PolicyRetrievalPoint;
@@ -34,9 +36,12 @@
 @Slf4j
 @AutoConfiguration
 @RequiredArgsConstructor
+@EnableConfigurationProperties(EmbeddedPDPProperties.class)
 @AutoConfigureAfter({ FunctionLibrariesAutoConfiguration.class, PolicyInformationPointsAutoConfiguration.class })
 public class PDPAutoConfiguration {
 
+    private final EmbeddedPDPProperties pdpProperties;
+
     private final PolicyRetrievalPoint policyRetrievalPoint;
 
     private final PDPConfigurationProvider configurationProvider;
@@ -47,7 +52,9 @@ public class PDPAutoConfiguration {
     PolicyDecisionPoint policyDecisionPoint() {
         log.info("Deploying embedded Policy Decision Point. ConfigProvider: {} PRP: {}",
                 configurationProvider.getClass().getSimpleName(), policyRetrievalPoint.getClass().getSimpleName());
-        return new EmbeddedPolicyDecisionPoint(configurationProvider, policyRetrievalPoint);
+        var decisionCacheConfiguration = new DecisionCacheConfiguration(pdpProperties.isShareDecisionStreams(),
+                pdpProperties.getDecisionCacheSize(), pdpProperties.getDecisionCacheTimeToLive());
+        return new EmbeddedPolicyDecisionPoint(configurationProvider, policyRetrievalPoint, decisionCacheConfiguration);
     }
 
 }
@@ -33,6 +33,7 @@
 import io.sapl.prp.index.ImmutableParsedDocumentIndex;
 import io.sapl.prp.index.canonical.CanonicalImmutableParsedDocumentIndex;
 import io.sapl.prp.index.naive.NaiveImmutableParsedDocumentIndex;
+import io.sapl.prp.index.sharded.ShardedImmutableParsedDocumentIndex;
 import io.sapl.spring.pdp.embedded.EmbeddedPDPProperties.IndexType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -54,17 +55,26 @@ public class PRPAutoConfiguration {
     PolicyRetrievalPoint policyRetrievalPoint() throws PolicyEvaluationException {
         log.info("Using index type: {}", pdpProperties.getIndex());
         ImmutableParsedDocumentIndex seedIndex;
-        if (pdpProperties.getIndex() == IndexType.NAIVE) {
-            seedIndex = new NaiveImmutableParsedDocumentIndex();
+        var                          indexShards = pdpProperties.getIndexShards();
+        if (indexShards > 1) {
+            log.info("Partitioning the index into {} shards", indexShards);
+            seedIndex = new ShardedImmutableParsedDocumentIndex(indexShards, this::seedIndex);
         } else {
-            // This index type has to normalize function calls based on import statements
-            // Variables do not need to be bound here. Thus, this hind of static PDP
-            // scoped
-            // evaluation context is sufficient. Variables will be bound later in the
-            // subscription scoped EvaluationContext handed over for lookup.
-            seedIndex = new CanonicalImmutableParsedDocumentIndex(attributeContext, functionContext);
+            seedIndex = seedIndex();
         }
         return new GenericInMemoryIndexedPolicyRetrievalPoint(seedIndex, eventSource);
     }
 
+    private ImmutableParsedDocumentIndex seedIndex() {
+        if (pdpProperties.getIndex() == IndexType.NAIVE) {
+            return new NaiveImmutableParsedDocumentIndex();
+        }
+        // This index type has to normalize function calls based on import statements
+        // Variables do not need to be bound here. Thus, this hind of static PDP
+        // scoped
+        // evaluation context is sufficient. Variables will be bound later in the
+        // subscription scoped EvaluationContext handed over for lookup.
+        return new CanonicalImmutableParsedDocumentIndex(attributeContext, functionContext);
+    }
+
 }
@@ -17,17 +17,22 @@
  */
 package io.sapl.spring.pdp.embedded;
 
+import java.nio.file.Path;
+
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Role;
+import org.springframework.util.StringUtils;
 
 import io.sapl.interpreter.SAPLInterpreter;
 import io.sapl.prp.PrpUpdateEventSource;
+import io.sapl.prp.filesystem.DocumentSnapshot;
 import io.sapl.prp.filesystem.FileSystemPrpUpdateEventSource;
 import io.sapl.prp.resources.ResourcesPrpUpdateEventSource;
+import io.sapl.util.filemonitoring.FileMonitorUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -49,10 +54,20 @@ PrpUpdateEventSource prpUpdateSource() {
         if (pdpProperties.getPdpConfigType() == EmbeddedPDPProperties.PDPDataSource.FILESYSTEM) {
             log.info("creating embedded PDP sourcing and monitoring access policies from the filesystem: {}",
                     policiesFolder);
-            return new FileSystemPrpUpdateEventSource(policiesFolder, interpreter);
+            return new FileSystemPrpUpdateEventSource(policiesFolder, interpreter,
+                    pdpProperties.getPoliciesUpdateQuietPeriod(), pdpProperties.getPoliciesUpdateMaxWait(),
+                    pdpProperties.getPoliciesUpdateMaxBatchSize(), pdpProperties.getPoliciesParsingParallelism(),
+                    documentSnapshot());
         }
         log.info("creating embedded PDP sourcing access policies from fixed bundled resources at: {}", policiesFolder);
         return new ResourcesPrpUpdateEventSource(policiesFolder, interpreter);
     }
 
+    private DocumentSnapshot documentSnapshot() {
+        var snapshotPath = pdpProperties.getPoliciesSnapshotPath();
+        if (!StringUtils.hasText(snapshotPath))
+            return DocumentSnapshot.disabled();
+        return DocumentSnapshot.load(Path.of(FileMonitorUtil.resolveHomeFolderIfPresent(snapshotPath)));
+    }
+
 }
@@ -31,6 +31,7 @@
 import io.sapl.api.pip.PolicyInformationPointSupplier;
 import io.sapl.interpreter.pip.AnnotationAttributeContext;
 import io.sapl.interpreter.pip.AttributeContext;
+import io.sapl.interpreter.pip.AttributeStreamBroker;
 
 class AttributeContextAutoConfigurationTests {
 
@@ -64,6 +65,24 @@ void whenDefaultLibrariesArePresent_thenAFunctionContextIsPresentAndLoadedThem()
                 });
     }
 
+    @Test
+    void whenAttributeStreamsAreShared_thenTheAttributeContextSharesThem() {
+        contextRunner.withPropertyValues("io.sapl.pdp.embedded.shareAttributeStreams=true").run(context -> {
+            assertThat(context).hasNotFailed();
+            var attributeContext = (AnnotationAttributeContext) context.getBean(AttributeContext.class);
+            assertThat(attributeContext.getAttributeStreamBroker()).isNotSameAs(AttributeStreamBroker.unshared());
+        });
+    }
+
+    @Test
+    void whenAttributeStreamsAreNotShared_thenTheAttributeContextDoesNotShareThem() {
+        contextRunner.run(context -> {
+            assertThat(context).hasNotFailed();
+            var attributeContext = (AnnotationAttributeContext) context.getBean(AttributeContext.class);
+            assertThat(attributeContext.getAttributeStreamBroker()).isSameAs(AttributeStreamBroker.unshared());
+        });
+    }
+
     @Test
     void whenBadLibraryIsPresent_thenContextFailsToLoad() {
         contextRunner
@@ -20,6 +20,7 @@
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.File;
+import java.time.Duration;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -59,6 +60,25 @@ void whenValidPropertiesWithMissingPathsArePresent_thenPropertiesFallBackToDefau
                 });
     }
 
+    @Test
+    void whenDecisionCachePropertiesArePresent_thenPropertiesLoad() {
+        contextRunner.withPropertyValues("io.sapl.pdp.embedded.shareDecisionStreams=true",
+                "io.sapl.pdp.embedded.decisionCacheSize=1000", "io.sapl.pdp.embedded.decisionCacheTimeToLive=5m")
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    var properties = context.getBean(EmbeddedPDPProperties.class);
+                    assertThat(properties.isShareDecisionStreams()).isTrue();
+                    assertThat(properties.getDecisionCacheSize()).isEqualTo(1000L);
+                    assertThat(properties.getDecisionCacheTimeToLive()).isEqualTo(Duration.ofMinutes(5L));
+                });
+    }
+
+    @Test
+    void whenDecisionCacheSizeIsNegative_thenContextFailsLoading() {
+        contextRunner.withPropertyValues("io.sapl.pdp.embedded.decisionCacheSize=-1")
+                .run(context -> assertThat(context).hasFailed());
+    }
+
     @Test
     void whenPathsAreSetToNull_thenContextFailsLoading() {
         contextRunner
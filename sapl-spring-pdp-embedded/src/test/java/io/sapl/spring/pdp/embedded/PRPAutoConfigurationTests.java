@@ -61,6 +61,16 @@ void whenPrpWithCanonicalIndexIsConfigured_thenOneIsCreated() {
         });
     }
 
+    @Test
+    void whenPrpWithShardedIndexIsConfigured_thenOneIsCreated() {
+        contextRunner.withPropertyValues("io.sapl.pdp.embedded.index=CANONICAL", "io.sapl.pdp.embedded.index-shards=4")
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    assertThat(context).hasSingleBean(PolicyRetrievalPoint.class);
+                    assertThat(context).hasSingleBean(GenericInMemoryIndexedPolicyRetrievalPoint.class);
+                });
+    }
+
     @Test
     void whenAnotherPRPIsAlreadyPresent_thenDoNotLoadANewOne() {
         contextRunner.withBean(PolicyRetrievalPoint.class, () -> mock(PolicyRetrievalPoint.class)).run(context -> {
@@ -21,12 +21,15 @@
 import static org.mockito.Mockito.mock;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 
+import io.sapl.interpreter.DefaultSAPLInterpreter;
 import io.sapl.interpreter.SAPLInterpreter;
 import io.sapl.prp.PrpUpdateEventSource;
 import io.sapl.prp.filesystem.FileSystemPrpUpdateEventSource;
@@ -43,9 +46,9 @@ class PrpUpdateEventSourceAutoConfigurationTests {
 
     @Test
     void whenFilesystemPrpIsConfigured_thenOneIsCreated() {
-        contextRunner
-                .withPropertyValues("io.sapl.pdp.embedded.pdpConfigType=FILESYSTEM", "io.sapl.pdp.embedded.index=NAIVE",
-                        "io.sapl.pdp.embedded.configPath=" + tempDir, "io.sapl.pdp.embedded.policiesPath=" + tempDir)
+        contextRunner.withPropertyValues("io.sapl.pdp.embedded.pdpConfigType=FILESYSTEM",
+                "io.sapl.pdp.embedded.index=NAIVE", "io.sapl.pdp.embedded.configPath=" + tempDir,
+                "io.sapl.pdp.embedded.policiesPath=" + tempDir, "io.sapl.pdp.embedded.policiesUpdateQuietPeriod=100ms")
                 .run(context -> {
                     assertThat(context).hasNotFailed();
                     assertThat(context).hasSingleBean(PrpUpdateEventSource.class);
@@ -53,6 +56,23 @@ void whenFilesystemPrpIsConfigured_thenOneIsCreated() {
                 });
     }
 
+    @Test
+    void whenFilesystemPrpWithSnapshotIsConfigured_thenSnapshotIsWritten() throws IOException {
+        var snapshot = new File(tempDir, "snapshot.bin");
+        Files.writeString(tempDir.toPath().resolve("policy.sapl"), "policy \"policy\" permit");
+        new ApplicationContextRunner().withBean(SAPLInterpreter.class, DefaultSAPLInterpreter::new)
+                .withConfiguration(AutoConfigurations.of(PrpUpdateEventSourceAutoConfiguration.class))
+                .withPropertyValues("io.sapl.pdp.embedded.pdpConfigType=FILESYSTEM", "io.sapl.pdp.embedded.index=NAIVE",
+                        "io.sapl.pdp.embedded.configPath=" + tempDir, "io.sapl.pdp.embedded.policiesPath=" + tempDir,
+                        "io.sapl.pdp.embedded.policiesSnapshotPath=" + snapshot)
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    assertThat(context).hasSingleBean(FileSystemPrpUpdateEventSource.class);
+                    context.getBean(PrpUpdateEventSource.class).getUpdates().blockFirst();
+                    assertThat(snapshot).exists();
+                });
+    }
+
     @Test
     void whenResourcesPrpIsConfigured_thenOneIsCreated() {
         contextRunner
@@ -39,7 +39,7 @@ public class RemotePDPAutoConfiguration {
 
     private final RemotePDPProperties configuration;
 
-    @Bean
+    @Bean(destroyMethod = "dispose")
     @ConditionalOnMissingBean
     PolicyDecisionPoint policyDecisionPoint() throws SSLException {
         log.info("Binding to remote PDP server: {}", configuration.getHost());
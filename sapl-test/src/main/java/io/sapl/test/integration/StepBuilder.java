@@ -22,7 +22,9 @@
 import java.util.Map;
 
 import io.sapl.api.interpreter.Val;
+import io.sapl.api.pdp.AuthorizationDecision;
 import io.sapl.api.pdp.AuthorizationSubscription;
+import io.sapl.api.pdp.TracedDecision;
 import io.sapl.interpreter.functions.FunctionContext;
 import io.sapl.interpreter.pip.AttributeContext;
 import io.sapl.pdp.EmbeddedPolicyDecisionPoint;
@@ -35,6 +37,7 @@
 import io.sapl.test.steps.GivenStep;
 import io.sapl.test.steps.StepsDefaultImpl;
 import io.sapl.test.steps.WhenStep;
+import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
 public class StepBuilder {
@@ -91,9 +94,9 @@ protected void createStepVerifier(AuthorizationSubscription authzSub) {
             var pdp                   = new EmbeddedPolicyDecisionPoint(configurationProvider, this.prp);
 
             if (this.withVirtualTime) {
-                this.steps = StepVerifier.withVirtualTime(() -> pdp.decide(authzSub));
+                this.steps = StepVerifier.withVirtualTime(() -> decideTraced(pdp, authzSub));
             } else {
-                this.steps = StepVerifier.create(pdp.decide(authzSub));
+                this.steps = StepVerifier.create(decideTraced(pdp, authzSub));
             }
 
             for (AttributeMockReturnValues mock : this.mockedAttributeValues) {
@@ -104,6 +107,16 @@ protected void createStepVerifier(AuthorizationSubscription authzSub) {
             }
         }
 
+        /*
+         * Without decision interceptors requiring traces, decide would skip their
+         * construction. Tests always evaluate with full traces, like the unit test
+         * steps do.
+         */
+        private static Flux<AuthorizationDecision> decideTraced(EmbeddedPolicyDecisionPoint pdp,
+                AuthorizationSubscription authzSub) {
+            return pdp.decideTraced(authzSub).map(TracedDecision::getAuthorizationDecision).distinctUntilChanged();
+        }
+
     }
 
 }
@@ -18,12 +18,14 @@
 
 package io.sapl.test.integration;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -250,6 +252,12 @@ class DocumentStringsTests {
                 where
                 	test == 1;""";
 
+        private static final String policyWithFunctionOfSubject = """
+                policy "policy function of subject"
+                permit
+                where
+                	time.dayOfWeek(subject) == "MONDAY";""";
+
         private static final String pdpConfig = """
                 {
                 	"algorithm": "PERMIT_OVERRIDES",
@@ -296,6 +304,18 @@ void test_givenVariablesAndCombiningAlgorithmOverridesConfig() {
                     .verify();
         }
 
+        @Test
+        void test_evaluatesWithTraces() {
+            var untracedArgument = new AtomicBoolean(true);
+            var fixture          = new SaplIntegrationTestFixture(List.of(policyWithFunctionOfSubject, policy_A),
+                    pdpConfig);
+            fixture.constructTestCaseWithMocks().givenFunction("time.dayOfWeek", (Val[] call) -> {
+                untracedArgument.set(call[0].isUntraced());
+                return Val.of("MONDAY");
+            }).when(AuthorizationSubscription.of("2021-02-08T16:16:33.616Z", "read", "foo")).expectPermit().verify();
+            assertThat(untracedArgument).isFalse();
+        }
+
         @Nested
         @DisplayName("Error cases")
         class ErrorCases {
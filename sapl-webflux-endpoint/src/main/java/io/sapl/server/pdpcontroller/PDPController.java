@@ -30,6 +30,7 @@
 import io.sapl.api.pdp.AuthorizationDecision;
 import io.sapl.api.pdp.AuthorizationSubscription;
 import io.sapl.api.pdp.IdentifiableAuthorizationDecision;
+import io.sapl.api.pdp.IdentifiableAuthorizationSubscription;
 import io.sapl.api.pdp.MultiAuthorizationDecision;
 import io.sapl.api.pdp.MultiAuthorizationSubscription;
 import io.sapl.api.pdp.PolicyDecisionPoint;
@@ -41,15 +42,28 @@
 /**
  * REST controller providing endpoints for a policy decision point. The
  * endpoints can be connected using the client in the module sapl-pdp-client.
+ * <p>
+ * Besides JSON, all endpoints accept and return the binary Smile encoding,
+ * which is selected by the Content-Type and Accept headers. Decision streams
+ * are only encoded in Smile for Smile encoded subscriptions. They consist of
+ * the plain decisions, without server-sent event framing and keep-alive
+ * comments.
  */
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/pdp")
 public class PDPController {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    public static final String APPLICATION_STREAM_SMILE_VALUE = "application/stream+x-jackson-smile";
+
     private final PolicyDecisionPoint pdp;
     @Value("#{'${io.sapl.server.keep-alive:${io.sapl.server-lt.keep-alive:0}}'}")
     private long                      keepAliveSeconds = 0;
+    @Value("#{'${io.sapl.server.batch-concurrency:${io.sapl.server-lt.batch-concurrency:256}}'}")
+    private int                       batchConcurrency = 256;
 
     /**
      * Enables keep alive comments to keep tcp connection active. This is usually
@@ -80,8 +94,24 @@ private <T> Flux<ServerSentEvent<T>> wrapWithKeepAlive(Flux<T> flux) {
     @PostMapping(value = "/decide", produces = MediaType.APPLICATION_NDJSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
     public Flux<ServerSentEvent<AuthorizationDecision>> decide(
             @Valid @RequestBody AuthorizationSubscription authzSubscription) {
-        return wrapWithKeepAlive(
-                pdp.decide(authzSubscription).onErrorResume(error -> Flux.just(AuthorizationDecision.INDETERMINATE)));
+        return wrapWithKeepAlive(decideOrIndeterminate(authzSubscription));
+    }
+
+    /**
+     * Smile encoded variant of {@link #decide(AuthorizationSubscription)}.
+     *
+     * @param authzSubscription the authorization subscription to be processed by
+     *                          the PDP.
+     * @return a flux emitting the current authorization decisions.
+     * @see PolicyDecisionPoint#decide(AuthorizationSubscription)
+     */
+    @PostMapping(value = "/decide", produces = APPLICATION_STREAM_SMILE_VALUE, consumes = APPLICATION_SMILE_VALUE)
+    public Flux<AuthorizationDecision> decideSmile(@Valid @RequestBody AuthorizationSubscription authzSubscription) {
+        return decideOrIndeterminate(authzSubscription);
+    }
+
+    private Flux<AuthorizationDecision> decideOrIndeterminate(AuthorizationSubscription authzSubscription) {
+        return pdp.decide(authzSubscription).onErrorResume(error -> Flux.just(AuthorizationDecision.INDETERMINATE));
     }
 
     /**
@@ -92,12 +122,45 @@ public Flux<ServerSentEvent<AuthorizationDecision>> decide(
      * @return a Mono for the initial decision.
      * @see PolicyDecisionPoint#decide(AuthorizationSubscription)
      */
-    @PostMapping(value = "/decide-once", produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PostMapping(value = "/decide-once", produces = { MediaType.APPLICATION_JSON_VALUE,
+            APPLICATION_SMILE_VALUE }, consumes = { MediaType.APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE })
     public Mono<AuthorizationDecision> decideOnce(@Valid @RequestBody AuthorizationSubscription authzSubscription) {
         return pdp.decide(authzSubscription).onErrorResume(error -> Flux.just(AuthorizationDecision.INDETERMINATE))
                 .next();
     }
 
+    /**
+     * Delegates each subscription of the request stream to
+     * {@link PolicyDecisionPoint#decideOnce(AuthorizationSubscription)}. The
+     * request body is an unbounded stream of identifiable subscriptions, one per
+     * line. Decisions are emitted in the order they are made, which may differ from
+     * the order of the subscriptions. At most
+     * {@code io.sapl.server.batch-concurrency} decisions are pending at once; no
+     * further subscriptions are read from the request until one of them is emitted.
+     *
+     * @param authzSubscriptions the identifiable authorization subscriptions to be
+     *                           processed by the PDP.
+     * @return a flux emitting one decision for each subscription, tagged with the
+     *         ID of the subscription.
+     * @see PolicyDecisionPoint#decideOnce(AuthorizationSubscription)
+     */
+    @PostMapping(value = "/decide-once-batch", produces = { MediaType.APPLICATION_NDJSON_VALUE,
+            APPLICATION_STREAM_SMILE_VALUE }, consumes = { MediaType.APPLICATION_NDJSON_VALUE,
+                    APPLICATION_STREAM_SMILE_VALUE })
+    public Flux<IdentifiableAuthorizationDecision> decideOnceBatch(
+            @Valid @RequestBody Flux<IdentifiableAuthorizationSubscription> authzSubscriptions) {
+        return authzSubscriptions.flatMap(this::decideOnce, batchConcurrency);
+    }
+
+    private Mono<IdentifiableAuthorizationDecision> decideOnce(
+            IdentifiableAuthorizationSubscription authzSubscription) {
+        var id = authzSubscription.authorizationSubscriptionId();
+        return pdp.decideOnce(authzSubscription.authorizationSubscription())
+                .defaultIfEmpty(AuthorizationDecision.INDETERMINATE)
+                .onErrorResume(error -> Mono.just(AuthorizationDecision.INDETERMINATE))
+                .map(decision -> new IdentifiableAuthorizationDecision(id, decision));
+    }
+
     /**
      * Delegates to
      * {@link PolicyDecisionPoint#decide(MultiAuthorizationSubscription)}.
@@ -112,8 +175,29 @@ public Mono<AuthorizationDecision> decideOnce(@Valid @RequestBody AuthorizationS
     @PostMapping(value = "/multi-decide", produces = MediaType.APPLICATION_NDJSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
     public Flux<ServerSentEvent<IdentifiableAuthorizationDecision>> decide(
             @Valid @RequestBody MultiAuthorizationSubscription multiAuthzSubscription) {
-        return wrapWithKeepAlive(pdp.decide(multiAuthzSubscription)
-                .onErrorResume(error -> Flux.just(IdentifiableAuthorizationDecision.INDETERMINATE)));
+        return wrapWithKeepAlive(decideOrIndeterminate(multiAuthzSubscription));
+    }
+
+    /**
+     * Smile encoded variant of {@link #decide(MultiAuthorizationSubscription)}.
+     *
+     * @param multiAuthzSubscription the authorization multi-subscription to be
+     *                               processed by the PDP.
+     * @return a flux emitting authorization decisions related to the individual
+     *         subscriptions contained in the given {@code multiAuthzSubscription}
+     *         as soon as they are available.
+     * @see PolicyDecisionPoint#decide(MultiAuthorizationSubscription)
+     */
+    @PostMapping(value = "/multi-decide", produces = APPLICATION_STREAM_SMILE_VALUE, consumes = APPLICATION_SMILE_VALUE)
+    public Flux<IdentifiableAuthorizationDecision> decideSmile(
+            @Valid @RequestBody MultiAuthorizationSubscription multiAuthzSubscription) {
+        return decideOrIndeterminate(multiAuthzSubscription);
+    }
+
+    private Flux<IdentifiableAuthorizationDecision> decideOrIndeterminate(
+            MultiAuthorizationSubscription multiAuthzSubscription) {
+        return pdp.decide(multiAuthzSubscription)
+                .onErrorResume(error -> Flux.just(IdentifiableAuthorizationDecision.INDETERMINATE));
     }
 
     /**
@@ -130,8 +214,29 @@ public Flux<ServerSentEvent<IdentifiableAuthorizationDecision>> decide(
     @PostMapping(value = "/multi-decide-all", produces = MediaType.APPLICATION_NDJSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
     public Flux<ServerSentEvent<MultiAuthorizationDecision>> decideAll(
             @Valid @RequestBody MultiAuthorizationSubscription multiAuthzSubscription) {
-        return wrapWithKeepAlive(pdp.decideAll(multiAuthzSubscription)
-                .onErrorResume(error -> Flux.just(MultiAuthorizationDecision.indeterminate())));
+        return wrapWithKeepAlive(decideAllOrIndeterminate(multiAuthzSubscription));
+    }
+
+    /**
+     * Smile encoded variant of {@link #decideAll(MultiAuthorizationSubscription)}.
+     *
+     * @param multiAuthzSubscription the authorization multi-subscription to be
+     *                               processed by the PDP.
+     * @return a flux emitting multi-decisions containing authorization decisions
+     *         for all the individual authorization subscriptions contained in the
+     *         given {@code multiAuthzSubscription}.
+     * @see PolicyDecisionPoint#decideAll(MultiAuthorizationSubscription)
+     */
+    @PostMapping(value = "/multi-decide-all", produces = APPLICATION_STREAM_SMILE_VALUE, consumes = APPLICATION_SMILE_VALUE)
+    public Flux<MultiAuthorizationDecision> decideAllSmile(
+            @Valid @RequestBody MultiAuthorizationSubscription multiAuthzSubscription) {
+        return decideAllOrIndeterminate(multiAuthzSubscription);
+    }
+
+    private Flux<MultiAuthorizationDecision> decideAllOrIndeterminate(
+            MultiAuthorizationSubscription multiAuthzSubscription) {
+        return pdp.decideAll(multiAuthzSubscription)
+                .onErrorResume(error -> Flux.just(MultiAuthorizationDecision.indeterminate()));
     }
 
     /**
@@ -145,7 +250,8 @@ public Flux<ServerSentEvent<MultiAuthorizationDecision>> decideAll(
      *         contained in the given {@code multiAuthzSubscription}.
      * @see PolicyDecisionPoint#decideAll(MultiAuthorizationSubscription)
      */
-    @PostMapping(value = "/multi-decide-all-once", produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PostMapping(value = "/multi-decide-all-once", produces = { MediaType.APPLICATION_JSON_VALUE,
+            APPLICATION_SMILE_VALUE }, consumes = { MediaType.APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE })
     public Mono<MultiAuthorizationDecision> decideAllOnce(
             @Valid @RequestBody MultiAuthorizationSubscription multiAuthzSubscription) {
         return pdp.decideAll(multiAuthzSubscription)
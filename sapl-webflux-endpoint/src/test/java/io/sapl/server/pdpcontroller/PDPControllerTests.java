@@ -17,6 +17,7 @@
  */
 package io.sapl.server.pdpcontroller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -36,10 +37,12 @@
 import io.sapl.api.pdp.AuthorizationDecision;
 import io.sapl.api.pdp.AuthorizationSubscription;
 import io.sapl.api.pdp.IdentifiableAuthorizationDecision;
+import io.sapl.api.pdp.IdentifiableAuthorizationSubscription;
 import io.sapl.api.pdp.MultiAuthorizationDecision;
 import io.sapl.api.pdp.MultiAuthorizationSubscription;
 import io.sapl.api.pdp.PolicyDecisionPoint;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 @Import(PolicyDecisionPoint.class)
@@ -88,6 +91,43 @@ void decideOnceValidBody() {
         verify(pdp, times(1)).decide(subscription);
     }
 
+    @Test
+    void decideWithSmileEncoding() {
+        when(pdp.decide((AuthorizationSubscription) any(AuthorizationSubscription.class))).thenReturn(Flux
+                .just(AuthorizationDecision.DENY, AuthorizationDecision.PERMIT, AuthorizationDecision.INDETERMINATE));
+
+        var subscription = AuthorizationSubscription.of("subject", "action", "resource");
+
+        var result = webClient.post().uri("/api/pdp/decide")
+                .contentType(MediaType.parseMediaType(PDPController.APPLICATION_SMILE_VALUE))
+                .header(HttpHeaders.ACCEPT, PDPController.APPLICATION_STREAM_SMILE_VALUE)
+                .body(BodyInserters.fromValue(subscription)).exchange().expectStatus().isOk()
+                .returnResult(AuthorizationDecision.class);
+
+        StepVerifier.create(result.getResponseBody()).expectNext(AuthorizationDecision.DENY,
+                AuthorizationDecision.PERMIT, AuthorizationDecision.INDETERMINATE).verifyComplete();
+
+        verify(pdp, times(1)).decide(subscription);
+    }
+
+    @Test
+    void decideOnceWithSmileEncoding() {
+        when(pdp.decide((AuthorizationSubscription) any(AuthorizationSubscription.class))).thenReturn(Flux
+                .just(AuthorizationDecision.DENY, AuthorizationDecision.PERMIT, AuthorizationDecision.INDETERMINATE));
+
+        var subscription = AuthorizationSubscription.of("subject", "action", "resource");
+
+        var result = webClient.post().uri("/api/pdp/decide-once")
+                .contentType(MediaType.parseMediaType(PDPController.APPLICATION_SMILE_VALUE))
+                .header(HttpHeaders.ACCEPT, PDPController.APPLICATION_SMILE_VALUE)
+                .body(BodyInserters.fromValue(subscription)).exchange().expectStatus().isOk()
+                .returnResult(AuthorizationDecision.class);
+
+        StepVerifier.create(result.getResponseBody()).expectNext(AuthorizationDecision.DENY).verifyComplete();
+
+        verify(pdp, times(1)).decide(subscription);
+    }
+
     @Test
     void decideWithValidProcessingError() {
         when(pdp.decide((AuthorizationSubscription) any(AuthorizationSubscription.class)))
@@ -273,4 +313,47 @@ void subscribeToMultiDecisionsAllInvalidBody() {
                 .returnResult(IdentifiableAuthorizationDecision.class);
     }
 
+    @Test
+    void decideOnceBatch() {
+        var permitted = AuthorizationSubscription.of("subject", "action", "resource");
+        var denied    = AuthorizationSubscription.of("subject", "action", "other resource");
+        var failing   = AuthorizationSubscription.of("subject", "action", "broken resource");
+        when(pdp.decideOnce(permitted)).thenReturn(Mono.just(AuthorizationDecision.PERMIT));
+        when(pdp.decideOnce(denied)).thenReturn(Mono.just(AuthorizationDecision.DENY));
+        when(pdp.decideOnce(failing)).thenReturn(Mono.error(new RuntimeException()));
+
+        var subscriptions = Flux.just(new IdentifiableAuthorizationSubscription("id1", permitted),
+                new IdentifiableAuthorizationSubscription("id2", denied),
+                new IdentifiableAuthorizationSubscription("id3", failing));
+
+        var result = webClient.post().uri("/api/pdp/decide-once-batch").contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_NDJSON_VALUE)
+                .body(subscriptions, IdentifiableAuthorizationSubscription.class).exchange().expectStatus().isOk()
+                .returnResult(IdentifiableAuthorizationDecision.class);
+
+        var decisions = result.getResponseBody().collectList().block();
+        assertThat(decisions).containsExactlyInAnyOrder(
+                new IdentifiableAuthorizationDecision("id1", AuthorizationDecision.PERMIT),
+                new IdentifiableAuthorizationDecision("id2", AuthorizationDecision.DENY),
+                new IdentifiableAuthorizationDecision("id3", AuthorizationDecision.INDETERMINATE));
+    }
+
+    @Test
+    void decideOnceBatchInvalidBody() {
+        webClient.post().uri("/api/pdp/decide-once-batch").contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_NDJSON_VALUE)
+                .body(BodyInserters.fromValue("{\"authorizationSubscriptionId\":\"id1\"}\n")).exchange().expectStatus()
+                .isBadRequest();
+    }
+
+    @Test
+    void decideOnceBatchInvalidSubscription() {
+        var body = "{\"authorizationSubscriptionId\":\"id1\",\"authorizationSubscription\":{\"subject\":\"subject\",\"resource\":\"resource\"}}\n";
+        webClient.post().uri("/api/pdp/decide-once-batch").contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_NDJSON_VALUE).body(BodyInserters.fromValue(body))
+                .exchange().expectStatus().isBadRequest();
+
+        verify(pdp, times(0)).decideOnce(any(AuthorizationSubscription.class));
+    }
+
 }